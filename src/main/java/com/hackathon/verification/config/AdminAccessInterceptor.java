@@ -0,0 +1,54 @@
+package com.hackathon.verification.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Lets a request through only with HTTP Basic credentials matching the configured admin user. With no admin
+ * password configured, every request is refused.
+ */
+public class AdminAccessInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminAccessInterceptor.class);
+
+    private static final String BASIC = "Basic ";
+
+    private final byte[] expected;
+
+    public AdminAccessInterceptor(String username, String password) {
+        this.expected = password == null || password.isEmpty() ? null
+                : (username + ":" + password).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (expected != null && MessageDigest.isEqual(expected, credentials(request))) {
+            return true;
+        }
+        logger.warn("Refused admin request {} {} from {}", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"admin\", charset=\"UTF-8\"");
+        return false;
+    }
+
+    private static byte[] credentials(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BASIC, 0, BASIC.length())) {
+            return new byte[0];
+        }
+        try {
+            return Base64.getDecoder().decode(header.substring(BASIC.length()).trim());
+        } catch (IllegalArgumentException e) {
+            return new byte[0];
+        }
+    }
+}
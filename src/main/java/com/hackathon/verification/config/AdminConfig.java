@@ -0,0 +1,25 @@
+package com.hackathon.verification.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Restricts {@code /api/v1/admin/**}, the profiling and diagnostics APIs, to the credentials configured under
+ * {@code admin.api}, which come from the environment and have no default password.
+ */
+@Configuration
+public class AdminConfig implements WebMvcConfigurer {
+
+    @Value("${admin.api.username:admin}")
+    private String username;
+
+    @Value("${admin.api.password:}")
+    private String password;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdminAccessInterceptor(username, password)).addPathPatterns("/api/v1/admin/**");
+    }
+}
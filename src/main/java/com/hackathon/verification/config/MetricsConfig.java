@@ -0,0 +1,145 @@
+package com.hackathon.verification.config;
+
+import com.hackathon.verification.features.service.RiskFeatureStore;
+import com.hackathon.verification.jobs.service.JobManager;
+import com.hackathon.verification.land.ocr.OcrEnginePool;
+import com.hackathon.verification.land.ocr.OcrResultCache;
+import com.hackathon.verification.land.service.LandDocumentVerificationService;
+import com.hackathon.verification.metrics.SlowQueryLog;
+import com.hackathon.verification.metrics.SqlStatementMetricsInterceptor;
+import com.hackathon.verification.metrics.TimedDataSource;
+import com.hackathon.verification.rental.service.fetch.FetchExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer wiring: latency histograms for the verify endpoints, per-request SQL statement counts, and gauges over
+ * the queues and caches the services already keep statistics for. The Hikari pool registers its own gauges.
+ * Statement execution times go to the {@link SlowQueryLog} through a timing wrapper around the data source.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    // 100ms, 500ms, 1s and 5s in nanoseconds
+    private static final double[] COARSE_BUCKETS = {1e8, 5e8, 1e9, 5e9};
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementMetricsInterceptor(meterRegistry)).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Publishes percentile histograms for requests to any verify endpoint, so p95/p99 can be computed per URI
+     * in Prometheus. Every series of one Prometheus metric must have the same type, so other endpoints get a
+     * histogram too, but only a handful of SLO buckets.
+     */
+    // Static so that configuring the registry does not need this class, which itself needs the registry
+    @Bean
+    public static MeterFilter verifyEndpointHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!"http.server.requests".equals(id.getName())) {
+                    return config;
+                }
+                String uri = id.getTag("uri");
+                if (uri != null && uri.startsWith("/api/") && uri.contains("/verify")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(COARSE_BUCKETS)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor timedDataSource(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TimedDataSource)) {
+                    SlowQueryLog log = slowQueryLog.getObject();
+                    return log.isEnabled() ? new TimedDataSource(dataSource, log) : bean;
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder verificationQueueMetrics(OcrEnginePool ocrEnginePool, OcrResultCache ocrResultCache,
+                                                LandDocumentVerificationService landDocumentVerificationService,
+                                                RiskFeatureStore riskFeatureStore, FetchExecutor fetchExecutor,
+                                                JobManager jobManager) {
+        return registry -> {
+            gauge(registry, "verification.ocr.queue.size", "Documents waiting for an OCR engine", Tags.empty(),
+                    () -> ocrEnginePool.getStats().get("queued"));
+            gauge(registry, "verification.ocr.workers.active", "OCR engines currently recognizing", Tags.empty(),
+                    () -> ocrEnginePool.getStats().get("activeWorkers"));
+            gauge(registry, "verification.ocr.documents.in.flight", "Distinct documents being recognized", Tags.empty(),
+                    () -> landDocumentVerificationService.getOcrStats().get("inFlightDocuments"));
+            gauge(registry, "verification.ocr.cache.entries", "OCR results cached in memory", Tags.of("tier", "memory"),
+                    () -> ocrResultCache.getStats().get("memoryEntries"));
+            gauge(registry, "verification.ocr.cache.entries", "OCR results cached on disk", Tags.of("tier", "disk"),
+                    () -> ocrResultCache.getStats().get("diskEntries"));
+            gauge(registry, "verification.ocr.cache.hit.ratio", "Share of OCR lookups served from cache", Tags.empty(),
+                    () -> ocrResultCache.getStats().get("hitRatio"));
+            gauge(registry, "verification.features.cache.entries", "Subjects with cached risk features", Tags.empty(),
+                    () -> riskFeatureStore.getStats().get("cachedSubjects"));
+            gauge(registry, "verification.features.cache.hit.ratio", "Share of feature reads served from cache", Tags.empty(),
+                    () -> riskFeatureStore.getStats().get("hitRatio"));
+            gauge(registry, "verification.fetch.queue.size", "Fetch lanes waiting for a pool thread", Tags.empty(),
+                    () -> fetchExecutor.getStats().get("queued"));
+            gauge(registry, "verification.fetch.threads.active", "Pool threads running fetch lanes", Tags.empty(),
+                    () -> fetchExecutor.getStats().get("activeThreads"));
+            for (String type : jobManager.getStats().keySet()) {
+                gauge(registry, "verification.jobs.queue.size", "Jobs waiting for a worker", Tags.of("type", type),
+                        () -> jobStat(jobManager, type, "queued"));
+                gauge(registry, "verification.jobs.running", "Jobs currently running", Tags.of("type", type),
+                        () -> jobStat(jobManager, type, "running"));
+            }
+        };
+    }
+
+    private static void gauge(MeterRegistry registry, String name, String description, Tags tags, Supplier<Object> stat) {
+        Gauge.builder(name, () -> {
+                    Object value = stat.get();
+                    return value instanceof Number ? (Number) value : Double.NaN;
+                })
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object jobStat(JobManager jobManager, String type, String name) {
+        Object typeStats = jobManager.getStats().get(type);
+        return typeStats instanceof Map ? ((Map<String, Object>) typeStats).get(name) : null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.hackathon.verification.config;
+
+import com.hackathon.verification.threads.ConnectionLimitedDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Opt-in virtual thread mode. {@code spring.threads.virtual.enabled=true} on Java 21 or later makes Tomcat run each
+ * request on its own virtual thread, and Spring's task executors and schedulers too; the OCR, fetch, KYC and job
+ * pools keep their platform threads and queues. Since nothing then bounds how many requests wait on the database,
+ * the data source is wrapped in a {@link ConnectionLimitedDataSource} sized to the Hikari pool.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitedDataSource(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitedDataSource)
+                        && Threading.VIRTUAL.isActive(environment)
+                        && environment.getProperty("virtual-threads.connection-limiter.enabled", Boolean.class, true)) {
+                    int permits = environment.getProperty("virtual-threads.connection-limiter.permits", Integer.class,
+                            environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                    long acquireTimeoutMillis = environment.getProperty(
+                            "virtual-threads.connection-limiter.acquire-timeout-ms", Long.class, 10_000L);
+                    return new ConnectionLimitedDataSource(dataSource, permits, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
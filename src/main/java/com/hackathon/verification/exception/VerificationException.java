@@ -132,4 +132,21 @@ public class VerificationException extends RuntimeException {
                 "VERIFICATION_FAILED"
         );
     }
-}
\ No newline at end of file
+    
+    /**
+     * Factory method for creating a "service unavailable" exception, used when a bounded resource is exhausted.
+     *
+     * @param entityType the type of entity
+     * @param identifier the identifier of the entity
+     * @param details details about why the service is unavailable
+     * @return a new VerificationException
+     */
+    public static VerificationException serviceUnavailable(String entityType, String identifier, String details) {
+        return new VerificationException(
+                "Verification of " + entityType + " is temporarily unavailable: " + details,
+                entityType,
+                identifier,
+                "SERVICE_UNAVAILABLE"
+        );
+    }
+}
@@ -45,6 +45,9 @@ public class VerificationExceptionHandler {
             case "VERIFICATION_FAILED":
                 status = HttpStatus.UNPROCESSABLE_ENTITY;
                 break;
+            case "SERVICE_UNAVAILABLE":
+                status = HttpStatus.SERVICE_UNAVAILABLE;
+                break;
             default:
                 status = HttpStatus.INTERNAL_SERVER_ERROR;
         }
@@ -0,0 +1,114 @@
+package com.hackathon.verification.features.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One precomputed risk counter: a feature of a subject (an owner, stand, chassis or make/model/year cohort),
+ * either a running total (period 0) or the count for one calendar month.
+ */
+@Entity
+@Table(name = "risk_features", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_risk_features_subject_feature_period",
+                columnNames = {"subject_type", "subject_key", "feature", "period"})
+})
+public class RiskFeature {
+
+    // Period of a running total; monthly counters use year * 12 + month - 1
+    public static final int ALL_TIME = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subject_type", nullable = false, length = 16)
+    private String subjectType;
+
+    @Column(name = "subject_key", nullable = false, length = 191)
+    private String subjectKey;
+
+    @Column(name = "feature", nullable = false, length = 32)
+    private String feature;
+
+    @Column(name = "period", nullable = false)
+    private int period;
+
+    @Column(name = "feature_value", nullable = false)
+    private long value;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Default constructor
+    public RiskFeature() {
+    }
+
+    // Constructor with fields
+    public RiskFeature(String subjectType, String subjectKey, String feature, int period, long value) {
+        this.subjectType = subjectType;
+        this.subjectKey = subjectKey;
+        this.feature = feature;
+        this.period = period;
+        this.value = value;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSubjectType() {
+        return subjectType;
+    }
+
+    public void setSubjectType(String subjectType) {
+        this.subjectType = subjectType;
+    }
+
+    public String getSubjectKey() {
+        return subjectKey;
+    }
+
+    public void setSubjectKey(String subjectKey) {
+        this.subjectKey = subjectKey;
+    }
+
+    public String getFeature() {
+        return feature;
+    }
+
+    public void setFeature(String feature) {
+        this.feature = feature;
+    }
+
+    public int getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(int period) {
+        this.period = period;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public void setValue(long value) {
+        this.value = value;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
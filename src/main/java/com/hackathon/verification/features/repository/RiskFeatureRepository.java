@@ -0,0 +1,34 @@
+package com.hackathon.verification.features.repository;
+
+import com.hackathon.verification.features.entity.RiskFeature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RiskFeatureRepository extends JpaRepository<RiskFeature, Long> {
+
+    // Find every counter of a subject, one indexed range read
+    List<RiskFeature> findBySubjectTypeAndSubjectKey(String subjectType, String subjectKey);
+
+    // Add to a counter in place, returning 0 when it does not exist yet
+    @Modifying
+    @Query("update RiskFeature f set f.value = f.value + :delta, f.updatedAt = CURRENT_TIMESTAMP "
+            + "where f.subjectType = :subjectType and f.subjectKey = :subjectKey and f.feature = :feature and f.period = :period")
+    int increment(@Param("subjectType") String subjectType, @Param("subjectKey") String subjectKey,
+                  @Param("feature") String feature, @Param("period") int period, @Param("delta") long delta);
+
+    // Delete every counter of a subject
+    @Modifying
+    @Query("delete from RiskFeature f where f.subjectType = :subjectType and f.subjectKey = :subjectKey")
+    int deleteBySubject(@Param("subjectType") String subjectType, @Param("subjectKey") String subjectKey);
+
+    // Delete monthly counters that have fallen out of every window
+    @Modifying
+    @Query("delete from RiskFeature f where f.period > 0 and f.period < :before")
+    int deleteMonthlyBefore(@Param("before") int before);
+}
@@ -0,0 +1,181 @@
+package com.hackathon.verification.features.service;
+
+import com.hackathon.verification.features.entity.RiskFeature;
+import com.hackathon.verification.features.repository.RiskFeatureRepository;
+import com.hackathon.verification.land.repository.LandRepository;
+import com.hackathon.verification.vehicle.entity.VehicleEvent;
+import com.hackathon.verification.vehicle.repository.VehicleEventRepository;
+import com.hackathon.verification.vehicle.repository.VehicleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds the risk feature store from the registry tables the first time it starts, with one grouped query per
+ * feature; afterwards the services keep it up to date. Stand ownership changes have no history to rebuild from and
+ * start counting from the first update. On later starts, monthly counters that have aged out are dropped.
+ * <p>
+ * It runs once every bean exists and before the web server starts, so no increment can commit during the build
+ * and be counted twice. A marker row records that the build started and that it finished: a build cut short by a
+ * crash is redone from scratch, and a store that merely has counters is never mistaken for a built one. Counters
+ * are written in chunks of {@code features.backfill.chunk-size}, each in its own transaction.
+ */
+@Component
+public class RiskFeatureBackfill implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(RiskFeatureBackfill.class);
+
+    // The marker is a counter of a subject no verification reads
+    private static final String MARKER_SUBJECT = "STORE";
+    private static final String MARKER_KEY = "RISK_FEATURES";
+    private static final String MARKER_FEATURE = "BACKFILL";
+    private static final long STARTED = 0;
+    private static final long COMPLETED = 1;
+
+    private final RiskFeatureStore riskFeatureStore;
+    private final RiskFeatureRepository riskFeatureRepository;
+    private final LandRepository landRepository;
+    private final VehicleRepository vehicleRepository;
+    private final VehicleEventRepository vehicleEventRepository;
+    private final TransactionTemplate transaction;
+
+    @Value("${features.backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    @Autowired
+    public RiskFeatureBackfill(RiskFeatureStore riskFeatureStore, RiskFeatureRepository riskFeatureRepository,
+                               LandRepository landRepository, VehicleRepository vehicleRepository,
+                               VehicleEventRepository vehicleEventRepository, PlatformTransactionManager transactionManager) {
+        this.riskFeatureStore = riskFeatureStore;
+        this.riskFeatureRepository = riskFeatureRepository;
+        this.landRepository = landRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.vehicleEventRepository = vehicleEventRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfill();
+    }
+
+    /**
+     * Builds the store unless a build has finished before, then drops expired monthly counters.
+     */
+    public void backfill() {
+        LocalDate today = LocalDate.now();
+        RiskFeature marker = transaction.execute(status -> findMarker());
+        if (marker == null && !riskFeatureStore.isEmpty()) {
+            // Built before builds were marked
+            transaction.executeWithoutResult(status -> riskFeatureRepository.save(newMarker(COMPLETED)));
+        } else if (marker == null || marker.getValue() != COMPLETED) {
+            if (marker != null) {
+                logger.warn("The previous risk feature build did not finish, rebuilding");
+            }
+            rebuild(today);
+            return;
+        }
+        int pruned = riskFeatureStore.pruneMonthly(today);
+        if (pruned > 0) {
+            logger.info("Dropped {} expired monthly risk feature counters", pruned);
+        }
+    }
+
+    /**
+     * Drops every counter and builds the store again from the registry tables. Only safe while nothing else writes
+     * to the registry.
+     */
+    public void rebuild() {
+        rebuild(LocalDate.now());
+    }
+
+    private void rebuild(LocalDate today) {
+        transaction.executeWithoutResult(status -> {
+            riskFeatureRepository.deleteAllInBatch();
+            riskFeatureRepository.save(newMarker(STARTED));
+        });
+
+        long written = 0;
+        written += write(landRepository.countByOwnerIdNumber(), count ->
+                row(RiskFeatureStore.OWNER, (String) count[0], RiskFeatureStore.STANDS_HELD, RiskFeature.ALL_TIME, (Long) count[1]));
+        written += write(vehicleRepository.countByCohort(), count ->
+                row(RiskFeatureStore.COHORT, cohortKey(count), RiskFeatureStore.VEHICLES, RiskFeature.ALL_TIME, (Long) count[3]));
+        written += write(vehicleEventRepository.countByCohort(VehicleEvent.TAMPER_REPORT), count ->
+                row(RiskFeatureStore.COHORT, cohortKey(count), RiskFeatureStore.TAMPER_REPORTS, RiskFeature.ALL_TIME, (Long) count[3]));
+        written += write(vehicleEventRepository.countByChassisNumber(VehicleEvent.TAMPER_REPORT), count ->
+                row(RiskFeatureStore.CHASSIS, (String) count[0], RiskFeatureStore.TAMPER_REPORTS, RiskFeature.ALL_TIME, (Long) count[1]));
+        written += write(vehicleEventRepository.countByChassisNumber(VehicleEvent.STOLEN_REPORT), count ->
+                row(RiskFeatureStore.CHASSIS, (String) count[0], RiskFeatureStore.STOLEN_REPORTS, RiskFeature.ALL_TIME, (Long) count[1]));
+        LocalDate since = today.withDayOfMonth(1).minusMonths(11);
+        written += write(vehicleEventRepository.countByChassisNumberAndMonth(VehicleEvent.OWNERSHIP_TRANSFER, since.atStartOfDay()), count ->
+                row(RiskFeatureStore.CHASSIS, (String) count[0], RiskFeatureStore.OWNER_CHANGES,
+                        ((Number) count[1]).intValue() * 12 + ((Number) count[2]).intValue() - 1, (Long) count[3]));
+
+        transaction.executeWithoutResult(status -> {
+            RiskFeature marker = findMarker();
+            marker.setValue(COMPLETED);
+            riskFeatureRepository.save(marker);
+        });
+        logger.info("Built risk feature store with {} counters", written);
+    }
+
+    /**
+     * Writes the counters of one grouped query in chunks. Normalizing identifiers can fold several registry values
+     * into one subject, so rows are merged within a chunk and added to any counter an earlier chunk created.
+     */
+    private long write(List<Object[]> counts, Function<Object[], RiskFeature> toRow) {
+        long written = 0;
+        for (int from = 0; from < counts.size(); from += chunkSize) {
+            Map<String, RiskFeature> rows = new LinkedHashMap<>();
+            for (Object[] count : counts.subList(from, Math.min(from + chunkSize, counts.size()))) {
+                RiskFeature row = toRow.apply(count);
+                if (row != null) {
+                    rows.merge(row.getSubjectType() + ':' + row.getSubjectKey() + ':' + row.getFeature() + ':' + row.getPeriod(),
+                            row, (existing, added) -> {
+                                existing.setValue(existing.getValue() + added.getValue());
+                                return existing;
+                            });
+                }
+            }
+            transaction.executeWithoutResult(status -> {
+                for (RiskFeature row : rows.values()) {
+                    if (riskFeatureRepository.increment(row.getSubjectType(), row.getSubjectKey(), row.getFeature(),
+                            row.getPeriod(), row.getValue()) == 0) {
+                        riskFeatureRepository.save(row);
+                    }
+                }
+            });
+            written += rows.size();
+        }
+        return written;
+    }
+
+    private RiskFeature findMarker() {
+        List<RiskFeature> markers = riskFeatureRepository.findBySubjectTypeAndSubjectKey(MARKER_SUBJECT, MARKER_KEY);
+        return markers.isEmpty() ? null : markers.get(0);
+    }
+
+    private static RiskFeature newMarker(long state) {
+        return new RiskFeature(MARKER_SUBJECT, MARKER_KEY, MARKER_FEATURE, RiskFeature.ALL_TIME, state);
+    }
+
+    private static String cohortKey(Object[] count) {
+        return RiskFeatureStore.cohortKey((String) count[0], (String) count[1], (Integer) count[2]);
+    }
+
+    private static RiskFeature row(String subjectType, String subjectKey, String feature, int period, long value) {
+        String key = RiskFeatureStore.normalize(subjectKey);
+        return key == null ? null : new RiskFeature(subjectType, key, feature, period, value);
+    }
+}
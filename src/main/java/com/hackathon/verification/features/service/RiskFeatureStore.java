@@ -0,0 +1,260 @@
+package com.hackathon.verification.features.service;
+
+import com.hackathon.verification.features.entity.RiskFeature;
+import com.hackathon.verification.features.repository.RiskFeatureRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Precomputed risk counters for owners, stands, chassis numbers and make/model/year cohorts, kept in the
+ * risk_features table and read through a bounded in-memory LRU. A verification reads one cached snapshot per
+ * subject instead of aggregating registry tables on every request.
+ * <p>
+ * Counters are maintained incrementally by the services that change the registry. Increments are applied once the
+ * surrounding transaction has committed, in their own transaction, so a rolled-back write never counts and a
+ * counter conflict can never fail a registry write. A counter drifts only if the process dies between the two commits.
+ */
+@Component
+public class RiskFeatureStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RiskFeatureStore.class);
+
+    // Subjects
+    public static final String OWNER = "OWNER";
+    public static final String STAND = "STAND";
+    public static final String CHASSIS = "CHASSIS";
+    public static final String COHORT = "COHORT";
+
+    // Features
+    public static final String STANDS_HELD = "STANDS_HELD";
+    public static final String OWNER_CHANGES = "OWNER_CHANGES";
+    public static final String VEHICLES = "VEHICLES";
+    public static final String TAMPER_REPORTS = "TAMPER_REPORTS";
+    public static final String STOLEN_REPORTS = "STOLEN_REPORTS";
+
+    private final RiskFeatureRepository riskFeatureRepository;
+    private final TransactionTemplate writeTransaction;
+
+    @Value("${features.cache.max-entries:100000}")
+    private int maxCachedSubjects;
+
+    private Map<String, RiskFeatures> cache;
+    // Bumped by every write; a load that overlapped a write is returned but not cached, so the cache is never stale
+    private final AtomicLong writes = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder failedWrites = new LongAdder();
+
+    public RiskFeatureStore(RiskFeatureRepository riskFeatureRepository, PlatformTransactionManager transactionManager) {
+        this.riskFeatureRepository = riskFeatureRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void start() {
+        cache = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RiskFeatures> eldest) {
+                return size() > maxCachedSubjects;
+            }
+        };
+    }
+
+    /**
+     * The counters of a subject; one map lookup when cached, one indexed query otherwise.
+     */
+    public RiskFeatures get(String subjectType, String subjectKey) {
+        String key = normalize(subjectKey);
+        if (key == null) {
+            return RiskFeatures.EMPTY;
+        }
+        String cacheKey = subjectType + ':' + key;
+        synchronized (cache) {
+            RiskFeatures cached = cache.get(cacheKey);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        long writesBefore = writes.get();
+        RiskFeatures loaded = RiskFeatures.of(riskFeatureRepository.findBySubjectTypeAndSubjectKey(subjectType, key));
+        synchronized (cache) {
+            if (writes.get() == writesBefore) {
+                cache.put(cacheKey, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Adds to a running total after commit.
+     */
+    public void add(String subjectType, String subjectKey, String feature, long delta) {
+        increment(subjectType, subjectKey, feature, RiskFeature.ALL_TIME, delta);
+    }
+
+    /**
+     * Adds to the count of the calendar month containing {@code date} after commit.
+     */
+    public void addMonthly(String subjectType, String subjectKey, String feature, LocalDate date, long delta) {
+        increment(subjectType, subjectKey, feature, monthPeriod(date), delta);
+    }
+
+    /**
+     * Moves every counter of a subject to a new key after commit, adding to any counters already kept there.
+     */
+    public void move(String subjectType, String fromKey, String toKey) {
+        String from = normalize(fromKey);
+        String to = normalize(toKey);
+        if (from == null || to == null || from.equals(to)) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                try {
+                    transfer(subjectType, from, to);
+                } catch (DataIntegrityViolationException e) {
+                    // Another writer created a counter under the new key first; it exists now, so the update succeeds
+                    transfer(subjectType, from, to);
+                }
+            } catch (RuntimeException e) {
+                failedWrites.increment();
+                logger.warn("Could not move risk features of {} {} to {}: {}", subjectType, from, to, e.toString());
+            } finally {
+                invalidate(subjectType + ':' + from);
+                invalidate(subjectType + ':' + to);
+            }
+        });
+    }
+
+    /**
+     * Drops monthly counters older than any window read from them.
+     */
+    public int pruneMonthly(LocalDate today) {
+        return writeTransaction.execute(status -> riskFeatureRepository.deleteMonthlyBefore(monthPeriod(today) - 12));
+    }
+
+    public boolean isEmpty() {
+        return riskFeatureRepository.count() == 0;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long lookups = hits.sum() + misses.sum();
+        synchronized (cache) {
+            stats.put("cachedSubjects", cache.size());
+        }
+        stats.put("maxCachedSubjects", maxCachedSubjects);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) hits.sum() / lookups);
+        stats.put("failedWrites", failedWrites.sum());
+        return stats;
+    }
+
+    public static String cohortKey(String make, String model, Integer year) {
+        if (make == null || model == null || year == null) {
+            return null;
+        }
+        return make.trim() + '|' + model.trim() + '|' + year;
+    }
+
+    static int monthPeriod(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    // Identifiers are compared without spaces or dashes and ignoring case, as the vehicle flag registry does
+    public static String normalize(String subjectKey) {
+        if (subjectKey == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(subjectKey.length());
+        for (int i = 0; i < subjectKey.length(); i++) {
+            char c = subjectKey.charAt(i);
+            if (c != ' ' && c != '-') {
+                builder.append(c);
+            }
+        }
+        return builder.length() == 0 ? null : builder.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private void increment(String subjectType, String subjectKey, String feature, int period, long delta) {
+        String key = normalize(subjectKey);
+        if (key == null || delta == 0) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                try {
+                    write(subjectType, key, feature, period, delta);
+                } catch (DataIntegrityViolationException e) {
+                    // Another writer created the counter first; it exists now, so the update succeeds
+                    write(subjectType, key, feature, period, delta);
+                }
+            } catch (RuntimeException e) {
+                failedWrites.increment();
+                logger.warn("Could not update risk feature {} of {} {}: {}", feature, subjectType, key, e.toString());
+            } finally {
+                invalidate(subjectType + ':' + key);
+            }
+        });
+    }
+
+    private void write(String subjectType, String key, String feature, int period, long delta) {
+        writeTransaction.executeWithoutResult(status -> {
+            if (riskFeatureRepository.increment(subjectType, key, feature, period, delta) == 0) {
+                riskFeatureRepository.save(new RiskFeature(subjectType, key, feature, period, delta));
+            }
+        });
+    }
+
+    private void transfer(String subjectType, String from, String to) {
+        writeTransaction.executeWithoutResult(status -> {
+            for (RiskFeature counter : riskFeatureRepository.findBySubjectTypeAndSubjectKey(subjectType, from)) {
+                if (riskFeatureRepository.increment(subjectType, to, counter.getFeature(), counter.getPeriod(), counter.getValue()) == 0) {
+                    riskFeatureRepository.save(new RiskFeature(subjectType, to, counter.getFeature(), counter.getPeriod(), counter.getValue()));
+                }
+            }
+            riskFeatureRepository.deleteBySubject(subjectType, from);
+        });
+    }
+
+    private void invalidate(String cacheKey) {
+        synchronized (cache) {
+            writes.incrementAndGet();
+            cache.remove(cacheKey);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.hackathon.verification.features.service;
+
+import com.hackathon.verification.features.entity.RiskFeature;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of one subject's risk counters, as cached by {@link RiskFeatureStore}.
+ */
+public class RiskFeatures {
+
+    public static final RiskFeatures EMPTY = new RiskFeatures(Collections.emptyMap());
+
+    // Feature -> period -> value; a subject has a handful of features and at most a year of monthly periods each
+    private final Map<String, Map<Integer, Long>> values;
+
+    private RiskFeatures(Map<String, Map<Integer, Long>> values) {
+        this.values = values;
+    }
+
+    static RiskFeatures of(List<RiskFeature> rows) {
+        if (rows.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Map<Integer, Long>> values = new HashMap<>();
+        for (RiskFeature row : rows) {
+            values.computeIfAbsent(row.getFeature(), feature -> new HashMap<>()).put(row.getPeriod(), row.getValue());
+        }
+        return new RiskFeatures(values);
+    }
+
+    /**
+     * The running total of a feature, 0 when it was never recorded.
+     */
+    public long total(String feature) {
+        Map<Integer, Long> periods = values.get(feature);
+        Long value = periods != null ? periods.get(RiskFeature.ALL_TIME) : null;
+        return value != null ? value : 0;
+    }
+
+    /**
+     * The sum of a monthly feature over the twelve calendar months ending with the month of {@code today}.
+     */
+    public long lastTwelveMonths(String feature, LocalDate today) {
+        Map<Integer, Long> periods = values.get(feature);
+        if (periods == null) {
+            return 0;
+        }
+        int current = RiskFeatureStore.monthPeriod(today);
+        long sum = 0;
+        for (Map.Entry<Integer, Long> entry : periods.entrySet()) {
+            int period = entry.getKey();
+            if (period != RiskFeature.ALL_TIME && period > current - 12 && period <= current) {
+                sum += entry.getValue();
+            }
+        }
+        return sum;
+    }
+}
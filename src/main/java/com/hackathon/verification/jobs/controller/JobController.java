@@ -0,0 +1,74 @@
+package com.hackathon.verification.jobs.controller;
+
+import com.hackathon.verification.jobs.dto.JobDTO;
+import com.hackathon.verification.jobs.service.JobManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@CrossOrigin
+@RequestMapping("/api/v1/jobs")
+@Tag(name = "Jobs API", description = "API for starting, following and cancelling background jobs")
+public class JobController {
+
+    @Autowired
+    private JobManager jobManager;
+
+    @PostMapping("/{type}")
+    @Operation(summary = "Start a job", description = "Queues a job of the given type with optional string parameters")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job queued"),
+            @ApiResponse(responseCode = "400", description = "Unknown job type, or one only the application starts"),
+            @ApiResponse(responseCode = "503", description = "Too many jobs of this type queued")
+    })
+    public ResponseEntity<JobDTO> submit(@PathVariable String type, @RequestBody(required = false) Map<String, String> parameters) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobManager.submit(type, parameters));
+    }
+
+    @GetMapping
+    @Operation(summary = "List recent jobs", description = "Returns the 100 most recent jobs, optionally of one type")
+    public ResponseEntity<List<JobDTO>> list(@RequestParam(required = false) String type) {
+        return ResponseEntity.ok(jobManager.list(type));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get job statistics", description = "Returns, per job type, pool size, queue depth, outcomes and throughput")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(jobManager.getStats());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a job", description = "Returns the current state and progress of a job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found"),
+            @ApiResponse(responseCode = "404", description = "Unknown job")
+    })
+    public ResponseEntity<JobDTO> get(@PathVariable String id) {
+        return ResponseEntity.ok(jobManager.get(id));
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "Cancel a job", description = "Cancels a queued job at once and a running job at its next progress check")
+    public ResponseEntity<JobDTO> cancel(@PathVariable String id) {
+        return ResponseEntity.ok(jobManager.cancel(id));
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream job progress",
+            description = "Server-Sent Events: 'status' on subscribe and when the job starts, 'progress' as it advances "
+                    + "and 'finished' with the final state, after which the stream closes")
+    public SseEmitter events(@PathVariable String id) {
+        return jobManager.subscribe(id);
+    }
+}
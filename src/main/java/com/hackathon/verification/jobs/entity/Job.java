@@ -0,0 +1,192 @@
+package com.hackathon.verification.jobs.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A background job and its last persisted progress. The row is the source of truth across restarts;
+ * live progress between persists is held by the job manager.
+ */
+@Entity
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_status", columnList = "status"),
+        @Index(name = "idx_jobs_type_created", columnList = "job_type, created_at")
+})
+public class Job {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String SUCCEEDED = "SUCCEEDED";
+    public static final String FAILED = "FAILED";
+    public static final String CANCELLED = "CANCELLED";
+    // Was running when the application stopped and cannot be resumed
+    public static final String INTERRUPTED = "INTERRUPTED";
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Column(name = "job_type", nullable = false, length = 64)
+    private String type;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status;
+
+    // Handler parameters as a JSON object of strings
+    @Column(name = "parameters", columnDefinition = "TEXT")
+    private String parameters;
+
+    // Where a restartable handler resumes from
+    @Column(name = "checkpoint")
+    private String checkpoint;
+
+    @Column(name = "total_items")
+    private long total;
+
+    @Column(name = "processed_items")
+    private long processed;
+
+    @Column(name = "failed_items")
+    private long failed;
+
+    @Column(name = "attempts")
+    private int attempts;
+
+    @Column(name = "message", length = 1000)
+    private String message;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+
+    // Default constructor
+    public Job() {
+    }
+
+    public Job(String id, String type, String parameters) {
+        this.id = id;
+        this.type = type;
+        this.parameters = parameters;
+        this.status = QUEUED;
+    }
+
+    public boolean isFinished() {
+        return SUCCEEDED.equals(status) || FAILED.equals(status) || CANCELLED.equals(status) || INTERRUPTED.equals(status);
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(String parameters) {
+        this.parameters = parameters;
+    }
+
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    public void setCheckpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
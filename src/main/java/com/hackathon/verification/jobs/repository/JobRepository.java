@@ -0,0 +1,68 @@
+package com.hackathon.verification.jobs.repository;
+
+import com.hackathon.verification.jobs.entity.Job;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Job rows are changed with conditional updates rather than entity saves, so a cancellation and a worker
+ * reporting progress at the same moment cannot overwrite each other's state.
+ */
+@Repository
+public interface JobRepository extends JpaRepository<Job, String> {
+
+    // Find jobs in any of the given states, oldest first
+    List<Job> findByStatusInOrderByCreatedAtAsc(Collection<String> statuses);
+
+    // Most recent jobs, optionally of one type
+    List<Job> findTop100ByOrderByCreatedAtDesc();
+
+    List<Job> findTop100ByTypeOrderByCreatedAtDesc(String type);
+
+    // Move a job from one state to another; 0 when it was no longer in the expected state
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.status = :to where j.id = :id and j.status = :from")
+    int transition(@Param("id") String id, @Param("from") String from, @Param("to") String to);
+
+    // Claim a queued job for a worker
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.status = 'RUNNING', j.startedAt = :startedAt, j.attempts = j.attempts + 1 "
+            + "where j.id = :id and j.status = 'QUEUED'")
+    int markRunning(@Param("id") String id, @Param("startedAt") LocalDateTime startedAt);
+
+    // Persist the progress of a running job
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.total = :total, j.processed = :processed, j.failed = :failed, j.checkpoint = :checkpoint "
+            + "where j.id = :id and j.status = 'RUNNING'")
+    int updateProgress(@Param("id") String id, @Param("total") long total, @Param("processed") long processed,
+                       @Param("failed") long failed, @Param("checkpoint") String checkpoint);
+
+    // Record the outcome of a job that was running
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.status = :status, j.total = :total, j.processed = :processed, j.failed = :failed, "
+            + "j.checkpoint = :checkpoint, j.message = :message, j.finishedAt = :finishedAt "
+            + "where j.id = :id and j.status = 'RUNNING'")
+    int finish(@Param("id") String id, @Param("status") String status, @Param("total") long total,
+               @Param("processed") long processed, @Param("failed") long failed, @Param("checkpoint") String checkpoint,
+               @Param("message") String message, @Param("finishedAt") LocalDateTime finishedAt);
+
+    // Close a job that never ran or cannot resume
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.status = :to, j.message = :message, j.finishedAt = :finishedAt "
+            + "where j.id = :id and j.status = :from")
+    int close(@Param("id") String id, @Param("from") String from, @Param("to") String to,
+              @Param("message") String message, @Param("finishedAt") LocalDateTime finishedAt);
+}
@@ -0,0 +1,97 @@
+package com.hackathon.verification.jobs.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The live state of one queued or running job, handed to its {@link JobHandler}.
+ * Progress is persisted and streamed to subscribers at most every {@code jobs.progress-interval-ms},
+ * and whenever a checkpoint is recorded.
+ */
+public final class JobContext {
+
+    private final JobManager jobManager;
+    final String id;
+    final String type;
+    final Map<String, String> parameters;
+    final LocalDateTime createdAt;
+    final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    final AtomicLong processed = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+    final long queuedAtNanos = System.nanoTime();
+    volatile long total;
+    volatile String checkpoint;
+    volatile String status;
+    volatile String message;
+    volatile int attempts;
+    volatile LocalDateTime startedAt;
+    volatile LocalDateTime finishedAt;
+    volatile long startedAtNanos;
+    volatile long lastPublishedNanos;
+    volatile boolean cancelled;
+
+    JobContext(JobManager jobManager, String id, String type, Map<String, String> parameters, LocalDateTime createdAt) {
+        this.jobManager = jobManager;
+        this.id = id;
+        this.type = type;
+        this.parameters = Collections.unmodifiableMap(parameters);
+        this.createdAt = createdAt;
+    }
+
+    public String getJobId() {
+        return id;
+    }
+
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
+    public String getParameter(String name, String defaultValue) {
+        return parameters.getOrDefault(name, defaultValue);
+    }
+
+    /**
+     * The last checkpoint recorded, when a restartable job is resumed after a restart; null on a first run.
+     */
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Adds to the processed and failed item counts.
+     */
+    public void progress(long processedItems, long failedItems) {
+        processed.addAndGet(processedItems);
+        failed.addAndGet(failedItems);
+        jobManager.onProgress(this, false);
+    }
+
+    /**
+     * Records how far the job has come, together with the progress so far, so that a restart resumes from here.
+     */
+    public void checkpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+        jobManager.onProgress(this, true);
+    }
+
+    /**
+     * True once the job has been cancelled or the application is shutting down; handlers should stop promptly.
+     */
+    public boolean isCancelled() {
+        return cancelled || jobManager.isStopping() || Thread.currentThread().isInterrupted();
+    }
+}
@@ -0,0 +1,34 @@
+package com.hackathon.verification.jobs.service;
+
+/**
+ * A kind of background job. Handlers are Spring beans and are picked up by the {@link JobManager};
+ * each type gets its own bounded worker pool, sized by {@code jobs.types.<type>.threads}.
+ */
+public interface JobHandler {
+
+    /**
+     * Short, URL-safe name of the job type, e.g. {@code vehicle-vin-reindex}.
+     */
+    String getType();
+
+    /**
+     * Whether a job that was running when the application stopped can be run again from its last checkpoint.
+     * Jobs that cannot are marked INTERRUPTED instead.
+     */
+    default boolean isRestartable() {
+        return false;
+    }
+
+    /**
+     * Whether clients may start jobs of this type through the jobs API. Types whose parameters point at
+     * application state, such as a spooled upload, return false and are only started by the application.
+     */
+    default boolean isSubmittable() {
+        return true;
+    }
+
+    /**
+     * Does the work, reporting progress through the context and returning early once it is cancelled.
+     */
+    void run(JobContext context) throws Exception;
+}
@@ -0,0 +1,491 @@
+package com.hackathon.verification.jobs.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon.verification.exception.VerificationException;
+import com.hackathon.verification.jobs.dto.JobDTO;
+import com.hackathon.verification.jobs.entity.Job;
+import com.hackathon.verification.jobs.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * In-process background jobs: a row per job in the {@code jobs} table, a bounded worker pool per job type,
+ * cooperative cancellation and progress streamed to Server-Sent Event subscribers.
+ * <p>
+ * On startup, queued jobs are queued again and jobs that were running are resumed from their last checkpoint
+ * when their handler is restartable, or marked INTERRUPTED otherwise. This assumes a single application instance.
+ */
+@Component
+public class JobManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobManager.class);
+
+    private static final TypeReference<Map<String, String>> PARAMETERS = new TypeReference<>() {
+    };
+
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+    private final Map<String, JobHandler> handlers = new LinkedHashMap<>();
+
+    @Value("${jobs.default-threads:2}")
+    private int defaultThreads;
+
+    @Value("${jobs.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${jobs.progress-interval-ms:1000}")
+    private long progressIntervalMillis;
+
+    @Value("${jobs.sse-timeout-ms:1800000}")
+    private long sseTimeoutMillis;
+
+    private final Map<String, TypePool> pools = new LinkedHashMap<>();
+    // Queued and running jobs
+    private final Map<String, JobContext> live = new ConcurrentHashMap<>();
+    private volatile boolean stopping;
+
+    public JobManager(JobRepository jobRepository, ObjectMapper objectMapper, Environment environment,
+                      List<JobHandler> jobHandlers) {
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+        for (JobHandler handler : jobHandlers) {
+            if (handlers.put(handler.getType(), handler) != null) {
+                throw new IllegalStateException("Duplicate job type: " + handler.getType());
+            }
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        for (JobHandler handler : handlers.values()) {
+            int threads = environment.getProperty("jobs.types." + handler.getType() + ".threads", Integer.class, defaultThreads);
+            pools.put(handler.getType(), new TypePool(handler, threads, queueCapacity));
+        }
+        logger.info("Job manager started for job types {}", handlers.keySet());
+    }
+
+    @PreDestroy
+    public void stop() {
+        // Running jobs stay RUNNING in the table and are recovered on the next start
+        stopping = true;
+        pools.values().forEach(pool -> pool.executor.shutdownNow());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<Job> unfinished = jobRepository.findByStatusInOrderByCreatedAtAsc(Arrays.asList(Job.QUEUED, Job.RUNNING));
+        for (Job job : unfinished) {
+            JobHandler handler = handlers.get(job.getType());
+            if (handler == null) {
+                jobRepository.close(job.getId(), job.getStatus(), Job.FAILED, "No handler for job type " + job.getType(), LocalDateTime.now());
+                continue;
+            }
+            if (Job.RUNNING.equals(job.getStatus())) {
+                if (!handler.isRestartable()) {
+                    jobRepository.close(job.getId(), Job.RUNNING, Job.INTERRUPTED,
+                            "The application stopped while the job was running", LocalDateTime.now());
+                    continue;
+                }
+                jobRepository.transition(job.getId(), Job.RUNNING, Job.QUEUED);
+            }
+            JobContext context = newContext(job);
+            try {
+                enqueue(context);
+            } catch (RejectedExecutionException e) {
+                live.remove(context.id);
+                jobRepository.close(job.getId(), Job.QUEUED, Job.FAILED, "Job queue was full on restart", LocalDateTime.now());
+            }
+        }
+        if (!unfinished.isEmpty()) {
+            logger.info("Recovered {} unfinished jobs", unfinished.size());
+        }
+    }
+
+    public boolean isStopping() {
+        return stopping;
+    }
+
+    /**
+     * Records a job requested through the jobs API and queues it on its type's pool.
+     *
+     * @throws VerificationException with BAD_REQUEST for an unknown or internal type, SERVICE_UNAVAILABLE when the
+     *                               queue is full
+     */
+    public JobDTO submit(String type, Map<String, String> parameters) {
+        JobHandler handler = handlers.get(type);
+        if (handler != null && !handler.isSubmittable()) {
+            throw VerificationException.invalidInput("job", type, "jobs of this type are started by the application only");
+        }
+        return start(type, parameters);
+    }
+
+    /**
+     * Records a job started by the application itself, of any type, and queues it on its type's pool.
+     *
+     * @throws VerificationException with BAD_REQUEST for an unknown type, SERVICE_UNAVAILABLE when the queue is full
+     */
+    public JobDTO start(String type, Map<String, String> parameters) {
+        if (!handlers.containsKey(type)) {
+            throw VerificationException.invalidInput("job", type, "unknown job type, expected one of " + handlers.keySet());
+        }
+        Map<String, String> safeParameters = parameters != null ? parameters : new HashMap<>();
+        Job job = new Job(UUID.randomUUID().toString(), type, writeParameters(safeParameters));
+        job = jobRepository.save(job);
+
+        JobContext context = newContext(job);
+        try {
+            enqueue(context);
+        } catch (RejectedExecutionException e) {
+            live.remove(context.id);
+            jobRepository.deleteById(job.getId());
+            throw VerificationException.serviceUnavailable("job", type, "too many " + type + " jobs queued");
+        }
+        logger.info("Queued {} job {}", type, job.getId());
+        return toDto(context);
+    }
+
+    public JobDTO get(String id) {
+        JobContext context = live.get(id);
+        if (context != null) {
+            return toDto(context);
+        }
+        return toDto(findJob(id));
+    }
+
+    public List<JobDTO> list(String type) {
+        List<Job> jobs = type != null ? jobRepository.findTop100ByTypeOrderByCreatedAtDesc(type)
+                : jobRepository.findTop100ByOrderByCreatedAtDesc();
+        return jobs.stream().map(job -> {
+            JobContext context = live.get(job.getId());
+            return context != null ? toDto(context) : toDto(job);
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Cancels a job: a queued job is closed at once, a running job when its handler next checks for cancellation.
+     */
+    public JobDTO cancel(String id) {
+        JobContext context = live.get(id);
+        if (context == null) {
+            return toDto(findJob(id));
+        }
+        context.cancelled = true;
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.close(id, Job.QUEUED, Job.CANCELLED, "Cancelled before it started", now) == 1) {
+            context.message = "Cancelled before it started";
+            finished(context, Job.CANCELLED, now);
+        }
+        logger.info("Cancellation requested for {} job {}", context.type, id);
+        return toDto(context);
+    }
+
+    /**
+     * Streams {@code status} and {@code progress} events, then a {@code finished} event when the job ends.
+     * A job that has already ended gets its final state and the stream is closed.
+     */
+    public SseEmitter subscribe(String id) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        JobContext context = live.get(id);
+        if (context != null) {
+            context.subscribers.add(emitter);
+            emitter.onCompletion(() -> context.subscribers.remove(emitter));
+            emitter.onTimeout(() -> context.subscribers.remove(emitter));
+            emitter.onError(error -> context.subscribers.remove(emitter));
+            send(emitter, "status", toDto(context));
+            // The job may have ended while subscribing, after its final event was sent
+            if (context.finishedAt == null) {
+                return emitter;
+            }
+            context.subscribers.remove(emitter);
+        }
+        send(emitter, "finished", get(id));
+        emitter.complete();
+        return emitter;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (TypePool pool : pools.values()) {
+            Map<String, Object> typeStats = new LinkedHashMap<>();
+            long runMillis = pool.runMillis.sum();
+            typeStats.put("threads", pool.executor.getCorePoolSize());
+            typeStats.put("running", pool.executor.getActiveCount());
+            typeStats.put("queued", pool.executor.getQueue().size());
+            typeStats.put("queueCapacity", queueCapacity);
+            typeStats.put("submitted", pool.submitted.sum());
+            typeStats.put("succeeded", pool.succeeded.sum());
+            typeStats.put("failed", pool.failed.sum());
+            typeStats.put("cancelled", pool.cancelled.sum());
+            typeStats.put("rejected", pool.rejected.sum());
+            typeStats.put("itemsProcessed", pool.items.sum());
+            typeStats.put("itemsPerSecond", runMillis == 0 ? 0.0 : pool.items.sum() * 1000.0 / runMillis);
+            typeStats.put("averageQueueWaitMillis", pool.started.sum() == 0 ? 0 : pool.queueWaitMillis.sum() / pool.started.sum());
+            typeStats.put("averageRunMillis", pool.started.sum() == 0 ? 0 : runMillis / pool.started.sum());
+            stats.put(pool.handler.getType(), typeStats);
+        }
+        return stats;
+    }
+
+    void onProgress(JobContext context, boolean force) {
+        long now = System.nanoTime();
+        if (!force && now - context.lastPublishedNanos < TimeUnit.MILLISECONDS.toNanos(progressIntervalMillis)) {
+            return;
+        }
+        context.lastPublishedNanos = now;
+        jobRepository.updateProgress(context.id, context.total, context.processed.get(), context.failed.get(), context.checkpoint);
+        publish(context, "progress");
+    }
+
+    private void enqueue(JobContext context) {
+        TypePool pool = pools.get(context.type);
+        live.put(context.id, context);
+        try {
+            pool.executor.execute(() -> run(pool, context));
+            pool.submitted.increment();
+        } catch (RejectedExecutionException e) {
+            pool.rejected.increment();
+            throw e;
+        }
+    }
+
+    private void run(TypePool pool, JobContext context) {
+        if (context.cancelled || stopping) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (jobRepository.markRunning(context.id, startedAt) == 0) {
+            // Cancelled while queued
+            live.remove(context.id);
+            return;
+        }
+        pool.started.increment();
+        pool.queueWaitMillis.add((System.nanoTime() - context.queuedAtNanos) / 1_000_000);
+        context.status = Job.RUNNING;
+        context.startedAt = startedAt;
+        context.startedAtNanos = System.nanoTime();
+        context.attempts++;
+        long processedBefore = context.processed.get();
+        publish(context, "status");
+
+        String status;
+        try {
+            pool.handler.run(context);
+            status = context.cancelled ? Job.CANCELLED : Job.SUCCEEDED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = context.cancelled ? Job.CANCELLED : null;
+        } catch (Exception e) {
+            status = context.cancelled ? Job.CANCELLED : Job.FAILED;
+            context.message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            logger.warn("{} job {} failed", context.type, context.id, e);
+        } finally {
+            pool.items.add(context.processed.get() - processedBefore);
+            pool.runMillis.add((System.nanoTime() - context.startedAtNanos) / 1_000_000);
+        }
+
+        if (stopping && !context.cancelled) {
+            // Leave the job RUNNING with its progress so the next start can resume or interrupt it
+            jobRepository.updateProgress(context.id, context.total, context.processed.get(), context.failed.get(), context.checkpoint);
+            live.remove(context.id);
+            return;
+        }
+        if (status == null) {
+            status = Job.FAILED;
+            context.message = "Interrupted";
+        }
+        LocalDateTime finishedAt = LocalDateTime.now();
+        jobRepository.finish(context.id, status, context.total, context.processed.get(), context.failed.get(),
+                context.checkpoint, truncate(context.message), finishedAt);
+        switch (status) {
+            case Job.SUCCEEDED -> pool.succeeded.increment();
+            case Job.CANCELLED -> pool.cancelled.increment();
+            default -> pool.failed.increment();
+        }
+        logger.info("{} job {} {} after {} items ({} failed)", context.type, context.id, status.toLowerCase(),
+                context.processed.get(), context.failed.get());
+        finished(context, status, finishedAt);
+    }
+
+    private void finished(JobContext context, String status, LocalDateTime finishedAt) {
+        context.status = status;
+        context.finishedAt = finishedAt;
+        live.remove(context.id);
+        if (Job.CANCELLED.equals(status) && context.startedAt == null) {
+            pools.get(context.type).cancelled.increment();
+        }
+        publish(context, "finished");
+        for (SseEmitter emitter : context.subscribers) {
+            emitter.complete();
+        }
+        context.subscribers.clear();
+    }
+
+    private void publish(JobContext context, String event) {
+        if (context.subscribers.isEmpty()) {
+            return;
+        }
+        JobDTO job = toDto(context);
+        for (SseEmitter emitter : context.subscribers) {
+            if (!send(emitter, event, job)) {
+                context.subscribers.remove(emitter);
+            }
+        }
+    }
+
+    private static boolean send(SseEmitter emitter, String event, JobDTO job) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(job, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            return false;
+        }
+    }
+
+    private JobContext newContext(Job job) {
+        JobContext context = new JobContext(this, job.getId(), job.getType(), readParameters(job.getParameters()), job.getCreatedAt());
+        context.status = job.getStatus();
+        context.total = job.getTotal();
+        context.processed.set(job.getProcessed());
+        context.failed.set(job.getFailed());
+        context.checkpoint = job.getCheckpoint();
+        context.attempts = job.getAttempts();
+        return context;
+    }
+
+    private Job findJob(String id) {
+        return jobRepository.findById(id).orElseThrow(() -> VerificationException.notFound("Job", id));
+    }
+
+    private JobDTO toDto(JobContext context) {
+        JobDTO dto = new JobDTO();
+        dto.setId(context.id);
+        dto.setType(context.type);
+        dto.setStatus(context.status);
+        dto.setParameters(context.parameters);
+        dto.setTotal(context.total);
+        dto.setProcessed(context.processed.get());
+        dto.setFailed(context.failed.get());
+        dto.setAttempts(context.attempts);
+        dto.setMessage(context.message);
+        dto.setCreatedAt(context.createdAt);
+        dto.setStartedAt(context.startedAt);
+        dto.setFinishedAt(context.finishedAt);
+        if (context.startedAtNanos != 0) {
+            long elapsedMillis = (System.nanoTime() - context.startedAtNanos) / 1_000_000;
+            dto.setItemsPerSecond(elapsedMillis == 0 ? 0.0 : context.processed.get() * 1000.0 / elapsedMillis);
+        }
+        setPercentComplete(dto);
+        return dto;
+    }
+
+    private JobDTO toDto(Job job) {
+        JobDTO dto = new JobDTO();
+        dto.setId(job.getId());
+        dto.setType(job.getType());
+        dto.setStatus(job.getStatus());
+        dto.setParameters(readParameters(job.getParameters()));
+        dto.setTotal(job.getTotal());
+        dto.setProcessed(job.getProcessed());
+        dto.setFailed(job.getFailed());
+        dto.setAttempts(job.getAttempts());
+        dto.setMessage(job.getMessage());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        if (job.getStartedAt() != null && job.getFinishedAt() != null) {
+            long elapsedMillis = Duration.between(job.getStartedAt(), job.getFinishedAt()).toMillis();
+            dto.setItemsPerSecond(elapsedMillis == 0 ? 0.0 : job.getProcessed() * 1000.0 / elapsedMillis);
+        }
+        setPercentComplete(dto);
+        return dto;
+    }
+
+    private static void setPercentComplete(JobDTO dto) {
+        if (dto.getTotal() > 0) {
+            dto.setPercentComplete(Math.min(100.0, dto.getProcessed() * 100.0 / dto.getTotal()));
+        }
+    }
+
+    private String writeParameters(Map<String, String> parameters) {
+        try {
+            return objectMapper.writeValueAsString(parameters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Job parameters are not serializable", e);
+        }
+    }
+
+    private Map<String, String> readParameters(String parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return new HashMap<>();
+        }
+        try {
+            return objectMapper.readValue(parameters, PARAMETERS);
+        } catch (JsonProcessingException e) {
+            logger.warn("Unreadable job parameters {}: {}", parameters, e.toString());
+            return new HashMap<>();
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private static final class TypePool {
+        final JobHandler handler;
+        final ThreadPoolExecutor executor;
+        final LongAdder submitted = new LongAdder();
+        final LongAdder started = new LongAdder();
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder cancelled = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder items = new LongAdder();
+        final LongAdder runMillis = new LongAdder();
+        final LongAdder queueWaitMillis = new LongAdder();
+
+        TypePool(JobHandler handler, int threads, int queueCapacity) {
+            this.handler = handler;
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "job-" + handler.getType() + "-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+}
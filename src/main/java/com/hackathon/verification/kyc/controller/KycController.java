@@ -0,0 +1,37 @@
+package com.hackathon.verification.kyc.controller;
+
+import com.hackathon.verification.kyc.dto.KycVerificationRequest;
+import com.hackathon.verification.kyc.dto.KycVerificationResponse;
+import com.hackathon.verification.kyc.service.KycVerificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@CrossOrigin
+@RequestMapping("/api/v1/kyc")
+@Tag(name = "KYC API", description = "API for verifying a person across the rental, land and vehicle registries")
+public class KycController {
+
+    @Autowired
+    private KycVerificationService kycVerificationService;
+
+    @PostMapping("/verify")
+    @Operation(summary = "Verify a person across all registries",
+            description = "Looks a national ID number up in the tenant, landlord, land and vehicle registries concurrently. "
+                    + "Each section reports its own status and timing; sections that do not answer in time are marked TIMED_OUT "
+                    + "and the rest are still returned.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Verification completed, possibly with partial results"),
+            @ApiResponse(responseCode = "400", description = "Missing ID number"),
+            @ApiResponse(responseCode = "503", description = "Too many verifications in progress")
+    })
+    public ResponseEntity<KycVerificationResponse> verify(@Valid @RequestBody KycVerificationRequest request) {
+        return ResponseEntity.ok(kycVerificationService.verify(request));
+    }
+}
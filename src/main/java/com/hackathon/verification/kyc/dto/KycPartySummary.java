@@ -0,0 +1,99 @@
+package com.hackathon.verification.kyc.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * The parts of a tenant or landlord record relevant to onboarding, as last assessed by their verification.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KycPartySummary {
+
+    private Long id;
+    private String name;
+    private String phone;
+    private String address;
+    private String verificationStatus;
+    private Integer trustScore;
+    private String classification;
+    private Double averageRating;
+    private List<String> redFlags;
+
+    // Default constructor
+    public KycPartySummary() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public String getVerificationStatus() {
+        return verificationStatus;
+    }
+
+    public void setVerificationStatus(String verificationStatus) {
+        this.verificationStatus = verificationStatus;
+    }
+
+    public Integer getTrustScore() {
+        return trustScore;
+    }
+
+    public void setTrustScore(Integer trustScore) {
+        this.trustScore = trustScore;
+    }
+
+    public String getClassification() {
+        return classification;
+    }
+
+    public void setClassification(String classification) {
+        this.classification = classification;
+    }
+
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(Double averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    public List<String> getRedFlags() {
+        return redFlags;
+    }
+
+    public void setRedFlags(List<String> redFlags) {
+        this.redFlags = redFlags;
+    }
+}
@@ -0,0 +1,65 @@
+package com.hackathon.verification.kyc.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The outcome of one registry lookup in a KYC verification.
+ * Data is only present when the registry answered in time.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KycSection<T> {
+
+    public static final String FOUND = "FOUND";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String TIMED_OUT = "TIMED_OUT";
+    public static final String FAILED = "FAILED";
+
+    private String status;
+    private long elapsedMillis;
+    private T data;
+    private String error;
+
+    // Default constructor
+    public KycSection() {
+    }
+
+    public KycSection(String status, long elapsedMillis, T data, String error) {
+        this.status = status;
+        this.elapsedMillis = elapsedMillis;
+        this.data = data;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hackathon.verification.kyc.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.NotBlank;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KycVerificationRequest {
+
+    @NotBlank(message = "National ID number is required")
+    private String idNumber;
+
+    // Default constructor
+    public KycVerificationRequest() {
+    }
+
+    public KycVerificationRequest(String idNumber) {
+        this.idNumber = idNumber;
+    }
+
+    // Getters and Setters
+    public String getIdNumber() {
+        return idNumber;
+    }
+
+    public void setIdNumber(String idNumber) {
+        this.idNumber = idNumber;
+    }
+}
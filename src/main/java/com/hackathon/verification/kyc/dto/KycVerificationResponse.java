@@ -0,0 +1,88 @@
+package com.hackathon.verification.kyc.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hackathon.verification.land.dto.LandDTO;
+import com.hackathon.verification.vehicle.dto.VehicleDTO;
+
+import java.util.List;
+
+/**
+ * One person across the tenant, landlord, land and vehicle registries.
+ * {@code complete} is false when at least one section timed out or failed; the other sections are still returned.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KycVerificationResponse {
+
+    private String idNumber;
+    private boolean complete;
+    private long totalMillis;
+    private KycSection<KycPartySummary> tenant;
+    private KycSection<KycPartySummary> landlord;
+    private KycSection<List<LandDTO>> lands;
+    private KycSection<List<VehicleDTO>> vehicles;
+
+    // Default constructor
+    public KycVerificationResponse() {
+    }
+
+    public KycVerificationResponse(String idNumber) {
+        this.idNumber = idNumber;
+    }
+
+    // Getters and Setters
+    public String getIdNumber() {
+        return idNumber;
+    }
+
+    public void setIdNumber(String idNumber) {
+        this.idNumber = idNumber;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    public void setTotalMillis(long totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+
+    public KycSection<KycPartySummary> getTenant() {
+        return tenant;
+    }
+
+    public void setTenant(KycSection<KycPartySummary> tenant) {
+        this.tenant = tenant;
+    }
+
+    public KycSection<KycPartySummary> getLandlord() {
+        return landlord;
+    }
+
+    public void setLandlord(KycSection<KycPartySummary> landlord) {
+        this.landlord = landlord;
+    }
+
+    public KycSection<List<LandDTO>> getLands() {
+        return lands;
+    }
+
+    public void setLands(KycSection<List<LandDTO>> lands) {
+        this.lands = lands;
+    }
+
+    public KycSection<List<VehicleDTO>> getVehicles() {
+        return vehicles;
+    }
+
+    public void setVehicles(KycSection<List<VehicleDTO>> vehicles) {
+        this.vehicles = vehicles;
+    }
+}
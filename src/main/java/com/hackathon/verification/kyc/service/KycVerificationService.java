@@ -0,0 +1,12 @@
+package com.hackathon.verification.kyc.service;
+
+import com.hackathon.verification.kyc.dto.KycVerificationRequest;
+import com.hackathon.verification.kyc.dto.KycVerificationResponse;
+
+public interface KycVerificationService {
+
+    /**
+     * Looks the national ID number up in every registry at once and returns whatever answered within the deadline.
+     */
+    KycVerificationResponse verify(KycVerificationRequest request);
+}
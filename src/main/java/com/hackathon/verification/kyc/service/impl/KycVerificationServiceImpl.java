@@ -0,0 +1,205 @@
+package com.hackathon.verification.kyc.service.impl;
+
+import com.hackathon.verification.exception.VerificationException;
+import com.hackathon.verification.kyc.dto.KycPartySummary;
+import com.hackathon.verification.kyc.dto.KycSection;
+import com.hackathon.verification.kyc.dto.KycVerificationRequest;
+import com.hackathon.verification.kyc.dto.KycVerificationResponse;
+import com.hackathon.verification.kyc.service.KycVerificationService;
+import com.hackathon.verification.land.dto.LandDTO;
+import com.hackathon.verification.land.mapper.LandMapper;
+import com.hackathon.verification.land.repository.LandRepository;
+import com.hackathon.verification.metrics.SqlStatementCounter;
+import com.hackathon.verification.rental.entity.Landlord;
+import com.hackathon.verification.rental.entity.Tenant;
+import com.hackathon.verification.rental.repository.LandlordRepository;
+import com.hackathon.verification.rental.repository.TenantRepository;
+import com.hackathon.verification.vehicle.dto.VehicleDTO;
+import com.hackathon.verification.vehicle.mapper.VehicleMapper;
+import com.hackathon.verification.vehicle.repository.VehicleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Queries the four registries for one ID number at the same time, each on its own pool thread, and waits for all
+ * of them against a single deadline, so a verification takes about as long as its slowest registry and never
+ * longer than the deadline. Sections still running at the deadline are cancelled and reported as timed out.
+ */
+@Service
+public class KycVerificationServiceImpl implements KycVerificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KycVerificationServiceImpl.class);
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private LandlordRepository landlordRepository;
+
+    @Autowired
+    private LandRepository landRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private LandMapper landMapper;
+
+    @Autowired
+    private VehicleMapper vehicleMapper;
+
+    @Value("${kyc.pool-size:16}")
+    private int poolSize;
+
+    @Value("${kyc.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${kyc.section-timeout-ms:2000}")
+    private long sectionTimeoutMillis;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void startExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "kyc-section-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public KycVerificationResponse verify(KycVerificationRequest request) {
+        String idNumber = request.getIdNumber().trim();
+        logger.info("KYC verification for ID number: {}", idNumber);
+        long start = System.nanoTime();
+
+        List<Future<?>> submitted = new ArrayList<>();
+        try {
+            Future<KycSection<KycPartySummary>> tenant = submit(submitted, () -> toSummary(tenantRepository.findByIdNumber(idNumber)));
+            Future<KycSection<KycPartySummary>> landlord = submit(submitted, () -> landlordRepository.findByIdNumber(idNumber).map(this::toSummary).orElse(null));
+            Future<KycSection<List<LandDTO>>> lands = submit(submitted, () -> landMapper.toDtoList(landRepository.findByOwnerIdNumber(idNumber)));
+            Future<KycSection<List<VehicleDTO>>> vehicles = submit(submitted, () -> vehicleMapper.toDtoList(vehicleRepository.findByCurrentOwnerId(idNumber)));
+
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMillis);
+            KycVerificationResponse response = new KycVerificationResponse(idNumber);
+            response.setTenant(await(tenant, deadline, "tenant"));
+            response.setLandlord(await(landlord, deadline, "landlord"));
+            response.setLands(await(lands, deadline, "land"));
+            response.setVehicles(await(vehicles, deadline, "vehicle"));
+            response.setComplete(isAnswered(response.getTenant()) && isAnswered(response.getLandlord())
+                    && isAnswered(response.getLands()) && isAnswered(response.getVehicles()));
+            response.setTotalMillis((System.nanoTime() - start) / 1_000_000);
+            return response;
+        } catch (RejectedExecutionException e) {
+            submitted.forEach(future -> future.cancel(true));
+            throw VerificationException.serviceUnavailable("KYC", idNumber, "too many verifications in progress");
+        }
+    }
+
+    private <T> Future<KycSection<T>> submit(List<Future<?>> submitted, Callable<T> lookup) {
+        Callable<T> counted = SqlStatementCounter.propagate(lookup);
+        Future<KycSection<T>> future = executor.submit(() -> {
+            long start = System.nanoTime();
+            T data = counted.call();
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            boolean found = data != null && !(data instanceof Collection && ((Collection<?>) data).isEmpty());
+            return new KycSection<>(found ? KycSection.FOUND : KycSection.NOT_FOUND, elapsed, found ? data : null, null);
+        });
+        submitted.add(future);
+        return future;
+    }
+
+    private <T> KycSection<T> await(Future<KycSection<T>> future, long deadline, String registry) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("KYC {} lookup did not answer within {} ms", registry, sectionTimeoutMillis);
+            return new KycSection<>(KycSection.TIMED_OUT, sectionTimeoutMillis, null,
+                    "No answer from the " + registry + " registry within " + sectionTimeoutMillis + " ms");
+        } catch (ExecutionException e) {
+            logger.warn("KYC {} lookup failed: {}", registry, e.getCause().toString());
+            return new KycSection<>(KycSection.FAILED, 0, null, "The " + registry + " registry lookup failed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new KycSection<>(KycSection.FAILED, 0, null, "Interrupted");
+        }
+    }
+
+    private static boolean isAnswered(KycSection<?> section) {
+        return KycSection.FOUND.equals(section.getStatus()) || KycSection.NOT_FOUND.equals(section.getStatus());
+    }
+
+    private KycPartySummary toSummary(Tenant tenant) {
+        if (tenant == null) {
+            return null;
+        }
+        KycPartySummary summary = new KycPartySummary();
+        summary.setId(tenant.getId());
+        summary.setName(tenant.getName());
+        summary.setPhone(tenant.getPhone());
+        summary.setAddress(tenant.getCurrentAddress());
+        summary.setVerificationStatus(tenant.getVerificationStatus());
+        summary.setTrustScore(tenant.getTrustScore());
+        summary.setClassification(tenant.getClassification());
+        summary.setAverageRating(tenant.getAverageRating());
+        summary.setRedFlags(splitRedFlags(tenant.getRedFlags()));
+        return summary;
+    }
+
+    private KycPartySummary toSummary(Landlord landlord) {
+        KycPartySummary summary = new KycPartySummary();
+        summary.setId(landlord.getId());
+        summary.setName(landlord.getName());
+        summary.setPhone(landlord.getPhone());
+        summary.setAddress(landlord.getAddress());
+        summary.setVerificationStatus(landlord.getVerificationStatus());
+        summary.setTrustScore(landlord.getTrustScore());
+        summary.setClassification(landlord.getClassification());
+        summary.setAverageRating(landlord.getAverageRating());
+        summary.setRedFlags(splitRedFlags(landlord.getRedFlags()));
+        return summary;
+    }
+
+    // Red flags are stored comma-separated
+    private static List<String> splitRedFlags(String redFlags) {
+        if (redFlags == null || redFlags.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(redFlags.split(","))
+                .map(String::trim)
+                .filter(flag -> !flag.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
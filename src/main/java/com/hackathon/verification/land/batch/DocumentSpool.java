@@ -0,0 +1,182 @@
+package com.hackathon.verification.land.batch;
+
+import com.hackathon.verification.land.ocr.OcrResultCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Documents of one batch upload, copied to a private directory as they stream in and hashed on the way,
+ * so neither an archive nor any of its entries is ever held on the heap. ZIP archives are expanded entry by
+ * entry; files are named by position, never by the entry name, so archive paths cannot escape the directory.
+ */
+public class DocumentSpool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentSpool.class);
+
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+    private static final String MANIFEST = "manifest.tsv";
+
+    private final Path directory;
+    private final int maxDocuments;
+    private final long maxDocumentBytes;
+    private final List<SpooledDocument> documents = new ArrayList<>();
+
+    public DocumentSpool(Path directory, int maxDocuments, long maxDocumentBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxDocuments = maxDocuments;
+        this.maxDocumentBytes = maxDocumentBytes;
+    }
+
+    private DocumentSpool(Path directory, List<SpooledDocument> documents) {
+        this.directory = directory;
+        this.maxDocuments = documents.size();
+        this.maxDocumentBytes = 0;
+        this.documents.addAll(documents);
+    }
+
+    /**
+     * Reopens a spool written earlier, read-only.
+     */
+    public static DocumentSpool open(Path directory) throws IOException {
+        List<SpooledDocument> documents = new ArrayList<>();
+        try (Stream<String> lines = Files.lines(directory.resolve(MANIFEST), StandardCharsets.UTF_8)) {
+            lines.forEach(line -> {
+                // index, hash, size, name; the name goes last as the only field that may hold a tab
+                String[] fields = line.split("\t", 4);
+                int index = Integer.parseInt(fields[0]);
+                String name = fields[3].isEmpty() ? null : fields[3];
+                documents.add(new SpooledDocument(index, name, file(directory, index), fields[1], Long.parseLong(fields[2])));
+            });
+        }
+        return new DocumentSpool(directory, documents);
+    }
+
+    public List<SpooledDocument> getDocuments() {
+        return Collections.unmodifiableList(documents);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Spools an uploaded file: every document inside it when it is a ZIP archive, otherwise the file itself.
+     */
+    public void addUpload(String name, InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input);
+        buffered.mark(ZIP_MAGIC.length);
+        byte[] head = buffered.readNBytes(ZIP_MAGIC.length);
+        buffered.reset();
+        if (Arrays.equals(head, ZIP_MAGIC)) {
+            addArchive(buffered);
+        } else {
+            add(name, buffered);
+        }
+    }
+
+    /**
+     * Spools every file entry of a ZIP stream, skipping directories and operating system metadata.
+     */
+    public void addArchive(InputStream input) throws IOException {
+        ZipInputStream zip = new ZipInputStream(input);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (!entry.isDirectory() && !isMetadata(entry.getName())) {
+                add(entry.getName(), zip);
+            }
+            zip.closeEntry();
+        }
+    }
+
+    /**
+     * Copies one document to disk up to the end of the stream, which is left open.
+     *
+     * @throws IllegalArgumentException when the batch or the document is over its limit
+     */
+    public SpooledDocument add(String name, InputStream input) throws IOException {
+        if (documents.size() >= maxDocuments) {
+            throw new IllegalArgumentException("Batch holds more than " + maxDocuments + " documents");
+        }
+        int index = documents.size();
+        Path file = file(directory, index);
+        MessageDigest digest = OcrResultCache.newDigest();
+        byte[] buffer = new byte[64 * 1024];
+        long size = 0;
+        try (OutputStream output = Files.newOutputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                size += read;
+                if (size > maxDocumentBytes) {
+                    throw new IllegalArgumentException("Document " + name + " is larger than "
+                            + maxDocumentBytes / (1024 * 1024) + " MB");
+                }
+                digest.update(buffer, 0, read);
+                output.write(buffer, 0, read);
+            }
+        }
+        SpooledDocument document = new SpooledDocument(index, name, file, OcrResultCache.toHex(digest.digest()), size);
+        String entry = index + "\t" + document.getSha256() + "\t" + size + "\t" + manifestName(name) + "\n";
+        Files.writeString(directory.resolve(MANIFEST), entry, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        documents.add(document);
+        return document;
+    }
+
+    /**
+     * Deletes the spooled documents.
+     */
+    public void delete() {
+        deleteDirectory(directory);
+    }
+
+    public static void deleteDirectory(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    logger.debug("Could not delete {}: {}", path, e.toString());
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Could not delete directory {}: {}", directory, e.toString());
+        }
+    }
+
+    private static String manifestName(String name) {
+        return name != null ? name.replaceAll("[\\r\\n]", " ") : "";
+    }
+
+    private static Path file(Path directory, int index) {
+        return directory.resolve(String.format("%06d.bin", index));
+    }
+
+    // Finder and resource-fork entries added by macOS archivers, and other hidden files
+    private static boolean isMetadata(String entryName) {
+        if (entryName.startsWith("__MACOSX/")) {
+            return true;
+        }
+        int slash = entryName.lastIndexOf('/');
+        return entryName.startsWith(".", slash + 1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.hackathon.verification.land.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * One document of a batch upload, copied to disk and hashed while it streamed in.
+ */
+public class SpooledDocument {
+
+    private final int index;
+    private final String name;
+    private final Path file;
+    private final String sha256;
+    private final long sizeBytes;
+
+    public SpooledDocument(int index, String name, Path file, String sha256, long sizeBytes) {
+        this.index = index;
+        this.name = name;
+        this.file = file;
+        this.sha256 = sha256;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public InputStream open() throws IOException {
+        return Files.newInputStream(file);
+    }
+}
@@ -1,5 +1,7 @@
 package com.hackathon.verification.land.controller;
 
+import com.hackathon.verification.jobs.dto.JobDTO;
+import com.hackathon.verification.land.dto.LandDocumentVerificationJob;
 import com.hackathon.verification.land.dto.LandDocumentVerificationRequest;
 import com.hackathon.verification.land.dto.LandDocumentVerificationResponse;
 import com.hackathon.verification.land.service.LandDocumentVerificationService;
@@ -13,11 +15,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Controller for land document verification.
  * Provides endpoints for verifying land ownership documents using OCR.
@@ -30,18 +41,24 @@ public class LandDocumentVerificationController {
 
     private static final Logger logger = LoggerFactory.getLogger(LandDocumentVerificationController.class);
     
+    private static final String NDJSON = "application/x-ndjson";
+    
     @Autowired
     private LandDocumentVerificationService landDocumentVerificationService;
     
-    @Operation(summary = "Verify land document", description = "Verifies a land document by extracting information using OCR and comparing with database records")
+    @Operation(summary = "Verify land document", description = "Verifies a land document by extracting information using OCR and comparing with database records. "
+            + "With async=true the document is queued and a job is returned immediately")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Document verification completed",
                 content = @Content(mediaType = "application/json", schema = @Schema(implementation = LandDocumentVerificationResponse.class))),
-        @ApiResponse(responseCode = "400", description = "Invalid input or missing document")
+        @ApiResponse(responseCode = "202", description = "Document queued for asynchronous verification",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = LandDocumentVerificationJob.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input or missing document"),
+        @ApiResponse(responseCode = "503", description = "OCR unavailable or queue full, retry later")
     })
     @PostMapping(value = "/verify/land-document", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<LandDocumentVerificationResponse> verifyLandDocument(
-            @Parameter(description = "Document image file", required = true) 
+    public ResponseEntity<?> verifyLandDocument(
+            @Parameter(description = "Document image, or a multi-page PDF", required = true) 
             @RequestParam("document") MultipartFile document,
             
             @Parameter(description = "Stand number (optional, if known)") 
@@ -51,7 +68,10 @@ public class LandDocumentVerificationController {
             @RequestParam(value = "ownerName", required = false) String ownerName,
             
             @Parameter(description = "Owner ID number (optional, if known)") 
-            @RequestParam(value = "ownerIdNumber", required = false) String ownerIdNumber) {
+            @RequestParam(value = "ownerIdNumber", required = false) String ownerIdNumber,
+            
+            @Parameter(description = "Queue the document and return a job id instead of waiting for OCR") 
+            @RequestParam(value = "async", defaultValue = "false") boolean async) {
         
         logger.info("Received land document verification request for file: {}", document.getOriginalFilename());
         
@@ -60,9 +80,100 @@ public class LandDocumentVerificationController {
             document, standNumber, ownerName, ownerIdNumber
         );
         
+        if (async) {
+            LandDocumentVerificationJob job = landDocumentVerificationService.submitVerificationJob(request);
+            return ResponseEntity.accepted().body(job);
+        }
+        
         // Process the verification request
         LandDocumentVerificationResponse response = landDocumentVerificationService.verifyLandDocument(request);
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+    
+    @Operation(summary = "Get land document verification job", description = "Returns the status of an asynchronous land document verification and its result once completed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job found",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = LandDocumentVerificationJob.class))),
+        @ApiResponse(responseCode = "404", description = "Job not found or expired")
+    })
+    @GetMapping("/verify/land-document/jobs/{jobId}")
+    public ResponseEntity<LandDocumentVerificationJob> getVerificationJob(
+            @Parameter(description = "Job id returned by the async verification", required = true) @PathVariable String jobId) {
+        return ResponseEntity.ok(landDocumentVerificationService.getVerificationJob(jobId));
+    }
+    
+    @Operation(summary = "Get OCR statistics", description = "Returns OCR pool size, queue depth, throughput, average stage times and result cache hit ratios")
+    @GetMapping("/verify/land-document/ocr-stats")
+    public ResponseEntity<Map<String, Object>> getOcrStats() {
+        return ResponseEntity.ok(landDocumentVerificationService.getOcrStats());
+    }
+    
+    @Operation(summary = "Clear OCR result cache", description = "Drops all cached OCR results so the next upload of every document is recognized again")
+    @ApiResponse(responseCode = "204", description = "Cache cleared")
+    @DeleteMapping("/verify/land-document/ocr-cache")
+    public ResponseEntity<Void> clearOcrCache() {
+        landDocumentVerificationService.clearOcrCache();
+        return ResponseEntity.noContent().build();
+    }
+    
+    @Operation(summary = "Verify a batch of land documents", description = "Accepts document files and ZIP archives of documents. "
+            + "The upload is spooled to disk and verified by a background job; follow the job for progress and download its NDJSON report")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Batch queued",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobDTO.class))),
+        @ApiResponse(responseCode = "400", description = "No documents in the upload, or a document over the size limit"),
+        @ApiResponse(responseCode = "503", description = "OCR unavailable, or too many batches queued")
+    })
+    @PostMapping(value = "/verify/land-documents/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<JobDTO> submitBatch(
+            @Parameter(description = "Document images, PDFs or ZIP archives of them", required = true) 
+            @RequestParam("documents") List<MultipartFile> documents) {
+        logger.info("Received land document batch of {} files", documents.size());
+        return ResponseEntity.accepted().body(landDocumentVerificationService.submitBatch(documents));
+    }
+    
+    @Operation(summary = "Verify a ZIP archive of land documents", description = "Streams a ZIP archive sent as the request body to disk, "
+            + "entry by entry, and verifies its documents in the background. Suited to archives beyond the multipart size limit")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Batch queued",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Not a ZIP archive, no documents in it, or a document over the size limit"),
+        @ApiResponse(responseCode = "503", description = "OCR unavailable, or too many batches queued")
+    })
+    @PostMapping(value = "/verify/land-documents/batch", consumes = {"application/zip", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<JobDTO> submitBatchArchive(InputStream archive) {
+        logger.info("Received land document batch archive");
+        return ResponseEntity.accepted().body(landDocumentVerificationService.submitBatchArchive(archive));
+    }
+    
+    @Operation(summary = "Get land document batch progress", description = "Returns the batch job with documents processed so far and failures. "
+            + "Progress can also be streamed from /api/v1/jobs/{jobId}/events, and the batch cancelled through the jobs API")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch found",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Batch not found")
+    })
+    @GetMapping("/verify/land-documents/batch/{jobId}")
+    public ResponseEntity<JobDTO> getBatchJob(
+            @Parameter(description = "Job id returned when the batch was submitted", required = true) @PathVariable String jobId) {
+        return ResponseEntity.ok(landDocumentVerificationService.getBatchJob(jobId));
+    }
+    
+    @Operation(summary = "Download land document batch report", description = "Returns one JSON verification result per line, in the order documents finished. "
+            + "While the batch runs the report holds the results so far")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "NDJSON report", content = @Content(mediaType = NDJSON)),
+        @ApiResponse(responseCode = "404", description = "Batch not found, expired or not started")
+    })
+    @GetMapping(value = "/verify/land-documents/batch/{jobId}/report", produces = NDJSON)
+    public ResponseEntity<Resource> getBatchReport(
+            @Parameter(description = "Job id returned when the batch was submitted", required = true) @PathVariable String jobId) {
+        Path report = landDocumentVerificationService.getBatchReport(jobId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("land-documents-" + jobId + ".ndjson").build().toString())
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(new FileSystemResource(report));
+    }
+}
@@ -0,0 +1,59 @@
+package com.hackathon.verification.land.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of a batch NDJSON report: the verification of one document, or why it could not be verified.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LandDocumentBatchResult {
+    
+    // Position of the document in the upload, and its file or archive entry name
+    private int index;
+    private String fileName;
+    private LandDocumentVerificationResponse result;
+    private String error;
+    
+    // Default constructor
+    public LandDocumentBatchResult() {
+    }
+    
+    // Constructor with essential fields
+    public LandDocumentBatchResult(int index, String fileName) {
+        this.index = index;
+        this.fileName = fileName;
+    }
+    
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+    
+    public void setIndex(int index) {
+        this.index = index;
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+    
+    public LandDocumentVerificationResponse getResult() {
+        return result;
+    }
+    
+    public void setResult(LandDocumentVerificationResponse result) {
+        this.result = result;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+}
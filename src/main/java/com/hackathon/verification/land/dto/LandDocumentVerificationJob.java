@@ -0,0 +1,100 @@
+package com.hackathon.verification.land.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status of an asynchronous land document verification.
+ * The result is only present once the status is COMPLETED.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LandDocumentVerificationJob {
+    
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    
+    private String jobId;
+    private String fileName;
+    private volatile String status;
+    private LocalDateTime submittedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile LandDocumentVerificationResponse result;
+    private volatile String error;
+    
+    // Default constructor
+    public LandDocumentVerificationJob() {
+    }
+    
+    // Constructor with essential fields
+    public LandDocumentVerificationJob(String jobId, String fileName) {
+        this.jobId = jobId;
+        this.fileName = fileName;
+        this.status = QUEUED;
+        this.submittedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public String getJobId() {
+        return jobId;
+    }
+    
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+    
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+    
+    public LandDocumentVerificationResponse getResult() {
+        return result;
+    }
+    
+    public void setResult(LandDocumentVerificationResponse result) {
+        this.result = result;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    // Helper method to check whether the job has finished, successfully or not
+    public boolean isFinished() {
+        return COMPLETED.equals(status) || FAILED.equals(status);
+    }
+}
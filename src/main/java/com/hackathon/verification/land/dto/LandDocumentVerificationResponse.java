@@ -25,9 +25,26 @@ public class LandDocumentVerificationResponse {
     private String recordOwnerName;
     private String recordIdNumber;
     
+    // Document layout the fields were extracted with (DEEDS_OFFICE, COUNCIL_LEASE, COOPERATIVE_CERTIFICATE, GENERIC)
+    private String documentTemplate;
+    
     // Confidence scores for OCR extraction (0-100)
     private Map<String, Integer> confidenceScores;
     
+    // Mean OCR confidence over the whole document (0-100)
+    private Integer ocrMeanConfidence;
+    
+    // For PDF documents: pages in the document and pages recognized before all fields were found
+    private Integer pageCount;
+    private Integer pagesProcessed;
+    
+    // SHA-256 of the uploaded document and whether its OCR result came from the cache
+    private String documentSha256;
+    private Boolean ocrCacheHit;
+    
+    // Milliseconds spent in each processing stage (decode, queueWait, ocr, parse, verify)
+    private Map<String, Long> stageTimingsMillis;
+    
     // Default constructor
     public LandDocumentVerificationResponse() {
         this.confidenceScores = new HashMap<>();
@@ -114,6 +131,14 @@ public class LandDocumentVerificationResponse {
         this.recordIdNumber = recordIdNumber;
     }
     
+    public String getDocumentTemplate() {
+        return documentTemplate;
+    }
+    
+    public void setDocumentTemplate(String documentTemplate) {
+        this.documentTemplate = documentTemplate;
+    }
+    
     public Map<String, Integer> getConfidenceScores() {
         return confidenceScores;
     }
@@ -122,6 +147,54 @@ public class LandDocumentVerificationResponse {
         this.confidenceScores = confidenceScores;
     }
     
+    public Integer getOcrMeanConfidence() {
+        return ocrMeanConfidence;
+    }
+    
+    public void setOcrMeanConfidence(Integer ocrMeanConfidence) {
+        this.ocrMeanConfidence = ocrMeanConfidence;
+    }
+    
+    public Integer getPageCount() {
+        return pageCount;
+    }
+    
+    public void setPageCount(Integer pageCount) {
+        this.pageCount = pageCount;
+    }
+    
+    public Integer getPagesProcessed() {
+        return pagesProcessed;
+    }
+    
+    public void setPagesProcessed(Integer pagesProcessed) {
+        this.pagesProcessed = pagesProcessed;
+    }
+    
+    public String getDocumentSha256() {
+        return documentSha256;
+    }
+    
+    public void setDocumentSha256(String documentSha256) {
+        this.documentSha256 = documentSha256;
+    }
+    
+    public Boolean getOcrCacheHit() {
+        return ocrCacheHit;
+    }
+    
+    public void setOcrCacheHit(Boolean ocrCacheHit) {
+        this.ocrCacheHit = ocrCacheHit;
+    }
+    
+    public Map<String, Long> getStageTimingsMillis() {
+        return stageTimingsMillis;
+    }
+    
+    public void setStageTimingsMillis(Map<String, Long> stageTimingsMillis) {
+        this.stageTimingsMillis = stageTimingsMillis;
+    }
+    
     // Helper method to add a confidence score
     public void addConfidenceScore(String field, Integer score) {
         this.confidenceScores.put(field, score);
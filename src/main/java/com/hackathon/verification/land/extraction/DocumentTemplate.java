@@ -0,0 +1,41 @@
+package com.hackathon.verification.land.extraction;
+
+import java.util.List;
+
+/**
+ * A known land document layout: the phrases that identify it and the rules for each of its fields.
+ */
+public class DocumentTemplate {
+
+    private final String name;
+    private final String[] fingerprints;
+    private final List<FieldRule> rules;
+
+    public DocumentTemplate(String name, String[] fingerprints, List<FieldRule> rules) {
+        this.name = name;
+        this.fingerprints = fingerprints;
+        this.rules = rules;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<FieldRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Number of fingerprint phrases that start within the first {@code limit} characters of upper-cased text.
+     */
+    int score(String upper, int limit) {
+        int score = 0;
+        for (String fingerprint : fingerprints) {
+            int index = upper.indexOf(fingerprint);
+            if (index >= 0 && index < limit) {
+                score++;
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,97 @@
+package com.hackathon.verification.land.extraction;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.hackathon.verification.land.extraction.FieldExtractor.ID_NUMBER;
+import static com.hackathon.verification.land.extraction.FieldExtractor.OWNER_NAME;
+import static com.hackathon.verification.land.extraction.FieldExtractor.STAND_NUMBER;
+
+/**
+ * The land document layouts we know how to read. Detection only looks at the top of the document,
+ * where issuers print their headings, and falls back to the generic layout when nothing matches.
+ */
+@Component
+public class DocumentTemplateRegistry {
+
+    public static final String DEEDS_OFFICE = "DEEDS_OFFICE";
+    public static final String COUNCIL_LEASE = "COUNCIL_LEASE";
+    public static final String COOPERATIVE_CERTIFICATE = "COOPERATIVE_CERTIFICATE";
+    public static final String GENERIC = "GENERIC";
+
+    // Characters from the top of the page searched for fingerprints
+    private static final int FINGERPRINT_WINDOW = 1500;
+
+    // Zimbabwean national ID, e.g. 63-123456X42, tolerating OCR spacing
+    private static final String NATIONAL_ID = "\\d{2}[- ]?\\d{6,7}[- ]?[A-Z][- ]?\\d{2}\\b";
+    // Stand numbers are alphanumeric with optional separators and always contain a digit
+    private static final String STAND_VALUE = "(?=[A-Z0-9/\\-]*\\d)[A-Z0-9][A-Z0-9/\\-]*";
+    // Up to six capitalized name tokens; lowercase words end the name
+    private static final String NAME_VALUE = "[A-Z][A-Za-z'\\-]*\\.?(?:[ \\t]+[A-Z][A-Za-z'\\-]*\\.?){0,5}";
+
+    private static final String[] ID_LABELS = {"ID", "IDENTITY"};
+    private static final String NUMBER_SUFFIX = "(?:\\s*(?:NUMBER|NO\\b\\.?|#))?";
+    private static final String NONE = "";
+
+    private final List<DocumentTemplate> templates;
+    private final DocumentTemplate generic;
+
+    public DocumentTemplateRegistry() {
+        templates = List.of(
+            new DocumentTemplate(DEEDS_OFFICE,
+                new String[] {"DEED OF TRANSFER", "DEEDS REGISTRY", "REGISTRAR OF DEEDS", "TITLE DEED", "CONSOLIDATED TITLE"},
+                List.of(
+                    new FieldRule(STAND_NUMBER, new String[] {"STAND", "LOT"}, NUMBER_SUFFIX, STAND_VALUE, false, 90),
+                    new FieldRule(OWNER_NAME, new String[] {"TRANSFEREE", "IN FAVOUR OF", "IN FAVOR OF", "OWNER"},
+                        "(?:'S)?(?:\\s+NAME)?", NAME_VALUE, true, 85),
+                    new FieldRule(ID_NUMBER, ID_LABELS, NUMBER_SUFFIX, NATIONAL_ID, false, 100))),
+            new DocumentTemplate(COUNCIL_LEASE,
+                new String[] {"CITY OF", "MUNICIPALITY", "TOWN COUNCIL", "LEASE AGREEMENT", "AGREEMENT OF SALE", "LESSEE"},
+                List.of(
+                    new FieldRule(STAND_NUMBER, new String[] {"STAND", "HOUSE", "PLOT"}, NUMBER_SUFFIX, STAND_VALUE, false, 90),
+                    new FieldRule(OWNER_NAME, new String[] {"LESSEE", "PURCHASER"}, "(?:'S)?(?:\\s+NAME)?", NAME_VALUE, true, 85),
+                    new FieldRule(ID_NUMBER, ID_LABELS, NUMBER_SUFFIX, NATIONAL_ID, false, 100))),
+            new DocumentTemplate(COOPERATIVE_CERTIFICATE,
+                new String[] {"CO-OPERATIVE", "COOPERATIVE", "CERTIFICATE OF MEMBERSHIP", "MEMBERSHIP NUMBER", "HOUSING SCHEME"},
+                List.of(
+                    new FieldRule(STAND_NUMBER, new String[] {"STAND", "PLOT"}, NUMBER_SUFFIX, STAND_VALUE, false, 85),
+                    new FieldRule(OWNER_NAME, new String[] {"MEMBER NAME", "MEMBER'S NAME", "NAME OF MEMBER", "CERTIFY THAT"},
+                        NONE, NAME_VALUE, true, 85),
+                    new FieldRule(ID_NUMBER, ID_LABELS, NUMBER_SUFFIX, NATIONAL_ID, false, 100)))
+        );
+        // The original single-layout rules, kept for documents from unknown issuers
+        generic = new DocumentTemplate(GENERIC, new String[0], List.of(
+            new FieldRule(STAND_NUMBER, new String[] {"STAND"}, NUMBER_SUFFIX, STAND_VALUE, false, 80),
+            new FieldRule(OWNER_NAME, new String[] {"OWNER"}, "(?:'S)?(?:\\s+NAME)?", NAME_VALUE, true, 75),
+            new FieldRule(ID_NUMBER, ID_LABELS, NUMBER_SUFFIX, NATIONAL_ID + "|[A-Z0-9][A-Z0-9\\-]{3,}", false, 80)));
+    }
+
+    /**
+     * Picks the template whose fingerprints occur most often near the top of the text.
+     */
+    public DocumentTemplate detect(String text) {
+        return detectUpper(new String(FieldExtractor.toUpperAscii(text, new char[text.length()])));
+    }
+
+    DocumentTemplate detectUpper(String upper) {
+        DocumentTemplate best = generic;
+        int bestScore = 0;
+        for (DocumentTemplate template : templates) {
+            int score = template.score(upper, FINGERPRINT_WINDOW);
+            if (score > bestScore) {
+                best = template;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    public DocumentTemplate getGeneric() {
+        return generic;
+    }
+
+    public List<DocumentTemplate> getTemplates() {
+        return templates;
+    }
+}
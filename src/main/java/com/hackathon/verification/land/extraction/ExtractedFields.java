@@ -0,0 +1,74 @@
+package com.hackathon.verification.land.extraction;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fields extracted from a land document, the template that matched and a confidence (0-100) per field.
+ */
+public class ExtractedFields {
+
+    private final String template;
+    private String standNumber;
+    private String ownerName;
+    private String idNumber;
+    private final Map<String, Integer> confidenceScores = new HashMap<>(4);
+
+    public ExtractedFields(String template) {
+        this.template = template;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public String getStandNumber() {
+        return standNumber;
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public String getIdNumber() {
+        return idNumber;
+    }
+
+    public Map<String, Integer> getConfidenceScores() {
+        return confidenceScores;
+    }
+
+    public boolean isComplete() {
+        return standNumber != null && ownerName != null && idNumber != null;
+    }
+
+    String get(String field) {
+        switch (field) {
+            case FieldExtractor.STAND_NUMBER:
+                return standNumber;
+            case FieldExtractor.OWNER_NAME:
+                return ownerName;
+            case FieldExtractor.ID_NUMBER:
+                return idNumber;
+            default:
+                throw new IllegalArgumentException("Unknown land document field: " + field);
+        }
+    }
+
+    void set(String field, String value, int confidence) {
+        switch (field) {
+            case FieldExtractor.STAND_NUMBER:
+                standNumber = value;
+                break;
+            case FieldExtractor.OWNER_NAME:
+                ownerName = value;
+                break;
+            case FieldExtractor.ID_NUMBER:
+                idNumber = value;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown land document field: " + field);
+        }
+        confidenceScores.put(field, confidence);
+    }
+}
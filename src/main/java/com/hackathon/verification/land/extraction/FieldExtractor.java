@@ -0,0 +1,102 @@
+package com.hackathon.verification.land.extraction;
+
+import com.hackathon.verification.land.ocr.OcrResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Extracts stand number, owner name and ID number from OCR text using the detected document template.
+ * A field's confidence is the mean OCR confidence of the words its value spans, scaled by how specific
+ * the template's value pattern is. Fields the detected template misses are retried with the generic rules.
+ */
+@Component
+public class FieldExtractor {
+
+    public static final String STAND_NUMBER = "standNumber";
+    public static final String OWNER_NAME = "ownerName";
+    public static final String ID_NUMBER = "idNumber";
+
+    // Bumped whenever templates or rules change, so cached extractions are recomputed from their text
+    public static final int VERSION = 2;
+
+    private final DocumentTemplateRegistry registry;
+
+    @Autowired
+    public FieldExtractor(DocumentTemplateRegistry registry) {
+        this.registry = registry;
+    }
+
+    // Upper-cased copy of the text being extracted, reused by each thread
+    private static final ThreadLocal<char[]> UPPER = ThreadLocal.withInitial(() -> new char[4096]);
+
+    public ExtractedFields extract(OcrResult ocrResult) {
+        String text = ocrResult.getText() != null ? ocrResult.getText() : "";
+        char[] buffer = UPPER.get();
+        if (buffer.length < text.length()) {
+            buffer = new char[Math.max(text.length(), buffer.length * 2)];
+            UPPER.set(buffer);
+        }
+        toUpperAscii(text, buffer);
+        // String matching is several times faster than over a CharBuffer view, which is worth one copy
+        String upper = new String(buffer, 0, text.length());
+
+        DocumentTemplate template = registry.detectUpper(upper);
+        ExtractedFields fields = new ExtractedFields(template.getName());
+        apply(template, text, upper, ocrResult, fields);
+        if (!fields.isComplete() && template != registry.getGeneric()) {
+            apply(registry.getGeneric(), text, upper, ocrResult, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Extracts fields from text that did not come with word confidences, weighting every word at {@code confidence}.
+     */
+    public ExtractedFields extract(String text, int confidence) {
+        return extract(new OcrResult(text, confidence, 0));
+    }
+
+    private static void apply(DocumentTemplate template, String text, String upper, OcrResult ocrResult, ExtractedFields fields) {
+        for (FieldRule rule : template.getRules()) {
+            if (fields.getConfidenceScores().containsKey(rule.getField())) {
+                continue;
+            }
+            long span = rule.find(text, upper);
+            if (span < 0) {
+                continue;
+            }
+            int start = (int) (span >>> 32);
+            int end = (int) span;
+            int confidence = ocrResult.confidenceOf(start, end) * rule.getStrength() / 100;
+            fields.set(rule.getField(), normalize(rule, text, upper, start, end), confidence);
+        }
+    }
+
+    /**
+     * Copies the text into {@code target} with ASCII letters upper-cased; every other character, and so every
+     * offset, is unchanged.
+     */
+    static char[] toUpperAscii(String text, char[] target) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            target[i] = c >= 'a' && c <= 'z' ? (char) (c - 32) : c;
+        }
+        return target;
+    }
+
+    // Case-insensitive values are returned upper-cased, and ID numbers lose the spaces OCR tends to insert
+    private static String normalize(FieldRule rule, String text, String upper, int start, int end) {
+        String source = rule.isCaseSensitiveValue() ? text : upper;
+        if (!ID_NUMBER.equals(rule.getField())) {
+            return source.substring(start, end);
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c != ' ' && c != '\t') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,147 @@
+package com.hackathon.verification.land.extraction;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * How one field is found in a template: a label, then a value that must start right after it on the same line,
+ * or at the start of the next non-blank line when the label ends its line (form layouts).
+ * A label is one of a few literal upper-case phrases, located with {@link String#indexOf(String, int)} in an
+ * upper-cased copy of the text, followed by an optional suffix pattern such as {@code NO.} or {@code NUMBER}.
+ * Regular expressions only ever run anchored at those candidates, never as a scan over the whole page.
+ * Values are matched against the upper-cased copy unless their case carries meaning.
+ * Patterns are compiled once; matchers are reused per thread.
+ */
+public class FieldRule {
+
+    private final String field;
+    private final String[] labels;
+    private final Pattern labelSuffix;
+    private final Pattern value;
+    // How specific the value pattern is (0-100); a strict ID format is more trustworthy than any word
+    private final int strength;
+    private final boolean caseSensitiveValue;
+    private final ThreadLocal<Matcher> suffixMatcher;
+    private final ThreadLocal<Matcher> valueMatcher;
+
+    public FieldRule(String field, String[] labels, String labelSuffixRegex, String valueRegex,
+                     boolean caseSensitiveValue, int strength) {
+        this.field = field;
+        this.labels = labels;
+        this.labelSuffix = Pattern.compile(labelSuffixRegex);
+        this.value = Pattern.compile(valueRegex);
+        this.strength = strength;
+        this.caseSensitiveValue = caseSensitiveValue;
+        this.suffixMatcher = ThreadLocal.withInitial(() -> labelSuffix.matcher(""));
+        this.valueMatcher = ThreadLocal.withInitial(() -> value.matcher(""));
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public boolean isCaseSensitiveValue() {
+        return caseSensitiveValue;
+    }
+
+    /**
+     * Finds the labelled value that appears first in the text.
+     *
+     * @param text  the OCR text
+     * @param upper the same text with ASCII letters upper-cased, so offsets are shared
+     * @return {@code start << 32 | end} of the value, or -1 when the field is not present
+     */
+    long find(String text, String upper) {
+        Matcher suffix = suffixMatcher.get().reset(upper);
+        Matcher values = valueMatcher.get().reset(caseSensitiveValue ? text : upper);
+        long best = -1;
+        int bestLabel = Integer.MAX_VALUE;
+        for (String label : labels) {
+            int from = 0;
+            int labelStart;
+            while ((labelStart = upper.indexOf(label, from)) >= 0 && labelStart < bestLabel) {
+                from = labelStart + 1;
+                long span = valueAfter(text, upper, labelStart, labelStart + label.length(), suffix, values);
+                if (span >= 0) {
+                    best = span;
+                    bestLabel = labelStart;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static long valueAfter(String text, String upper, int labelStart, int labelEnd, Matcher suffix, Matcher values) {
+        int length = text.length();
+        // Labels are whole words: nothing alphanumeric directly before or after the phrase
+        if ((labelStart > 0 && Character.isLetterOrDigit(upper.charAt(labelStart - 1)))
+                || (labelEnd < length && Character.isLetterOrDigit(upper.charAt(labelEnd)))) {
+            return -1;
+        }
+        int position = labelEnd;
+        suffix.region(position, length);
+        if (suffix.lookingAt()) {
+            position = suffix.end();
+        }
+
+        int lineEnd = lineEnd(text, position);
+        position = skipSeparators(text, position, lineEnd);
+        if (position == lineEnd && lineEnd < length) {
+            // Label on a line of its own: the value is on the next non-blank line
+            position = lineEnd + 1;
+            while (position < length && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            lineEnd = lineEnd(text, position);
+        }
+        values.region(position, lineEnd);
+        if (!values.lookingAt()) {
+            return -1;
+        }
+        int end = values.end();
+        while (end > position && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        // A capitalized word followed by a colon is the next label, not a value
+        if (end == position || followedByColon(text, values.end())) {
+            return -1;
+        }
+        return ((long) position << 32) | end;
+    }
+
+    private static boolean followedByColon(String text, int from) {
+        int position = from;
+        while (position < text.length() && (text.charAt(position) == ' ' || text.charAt(position) == '\t')) {
+            position++;
+        }
+        return position < text.length() && text.charAt(position) == ':';
+    }
+
+    private static int lineEnd(String text, int from) {
+        int length = text.length();
+        for (int i = from; i < length; i++) {
+            if (text.charAt(i) == '\n') {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static int skipSeparators(String text, int from, int to) {
+        int position = from;
+        while (position < to) {
+            char c = text.charAt(position);
+            if (c == ' ' || c == '\t' || c == '\r' || c == ':' || c == '-' || c == '.' || c == '#' || c == '=') {
+                position++;
+            } else {
+                break;
+            }
+        }
+        return position;
+    }
+}
@@ -0,0 +1,56 @@
+package com.hackathon.verification.land.extraction;
+
+import java.util.Map;
+
+/**
+ * Combines fields extracted from the pages of one document as the pages complete, in any order.
+ * Each field keeps its most confident value; the template is the one detected on the earliest page
+ * that matched a specific layout.
+ */
+public class MultiPageExtraction {
+
+    private static final String[] FIELDS = {FieldExtractor.STAND_NUMBER, FieldExtractor.OWNER_NAME, FieldExtractor.ID_NUMBER};
+
+    private final ExtractedFields best = new ExtractedFields(DocumentTemplateRegistry.GENERIC);
+    private String template = DocumentTemplateRegistry.GENERIC;
+    private int templatePage = Integer.MAX_VALUE;
+
+    public synchronized void add(int pageIndex, ExtractedFields page) {
+        if (!DocumentTemplateRegistry.GENERIC.equals(page.getTemplate()) && pageIndex < templatePage) {
+            template = page.getTemplate();
+            templatePage = pageIndex;
+        }
+        Map<String, Integer> scores = page.getConfidenceScores();
+        for (String field : FIELDS) {
+            Integer confidence = scores.get(field);
+            Integer current = best.getConfidenceScores().get(field);
+            if (confidence != null && (current == null || confidence > current)) {
+                best.set(field, page.get(field), confidence);
+            }
+        }
+    }
+
+    /**
+     * Whether every field has been found with at least the given confidence.
+     */
+    public synchronized boolean isConfident(int minimumConfidence) {
+        for (String field : FIELDS) {
+            Integer confidence = best.getConfidenceScores().get(field);
+            if (confidence == null || confidence < minimumConfidence) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized ExtractedFields result() {
+        ExtractedFields result = new ExtractedFields(template);
+        for (String field : FIELDS) {
+            Integer confidence = best.getConfidenceScores().get(field);
+            if (confidence != null) {
+                result.set(field, best.get(field), confidence);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package com.hackathon.verification.land.mapper;
+
+import com.hackathon.verification.land.dto.LandDTO;
+import com.hackathon.verification.land.entity.Land;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/**
+ * Compile-time generated mapping between {@link Land} and {@link LandDTO}.
+ * Any target property without a source fails the build instead of being silently skipped.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface LandMapper {
+
+    LandDTO toDto(Land land);
+
+    List<LandDTO> toDtoList(List<Land> lands);
+}
@@ -0,0 +1,405 @@
+package com.hackathon.verification.land.ocr;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Turns an uploaded document photo into a small, clean bilevel page before OCR:
+ * subsampled streaming decode, grayscale, downscale to the target DPI, adaptive (Bradley) binarization,
+ * deskew and crop to the printed area. Each stage is recorded in the caller's {@link StageTimings}.
+ * Working buffers are kept per thread; OCR workers are a fixed pool, so they are reused across documents.
+ */
+@Component
+public class ImagePreprocessor {
+
+    // Bradley binarization: a pixel is black when it is this many percent darker than its neighbourhood mean
+    private static final int BINARIZE_THRESHOLD_PERCENT = 15;
+    // ...and at least this many gray levels darker, so sensor noise in dark, flat areas stays white
+    private static final int BINARIZE_MIN_CONTRAST = 24;
+    private static final double MAX_SKEW_DEGREES = 5.0;
+    private static final double SKEW_STEP_DEGREES = 0.25;
+    private static final double MIN_CORRECTED_SKEW_DEGREES = 0.2;
+    private static final int CROP_MARGIN_PIXELS = 12;
+    // Rows or columns with fewer ink edges than this hold at most a border line, not text
+    private static final int MIN_TEXT_TRANSITIONS = 6;
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private final boolean enabled;
+    private final int targetDpi;
+    private final int sourceDpi;
+    private final double pageLongEdgeInches;
+
+    public ImagePreprocessor(@Value("${ocr.preprocess.enabled:true}") boolean enabled,
+                             @Value("${ocr.preprocess.target-dpi:300}") int targetDpi,
+                             @Value("${ocr.source-dpi:300}") int sourceDpi,
+                             @Value("${ocr.preprocess.page-long-edge-inches:11.69}") double pageLongEdgeInches) {
+        this.enabled = enabled;
+        this.targetDpi = targetDpi;
+        this.sourceDpi = sourceDpi;
+        this.pageLongEdgeInches = pageLongEdgeInches;
+    }
+
+    /**
+     * Decodes and, when enabled, preprocesses a document image.
+     *
+     * @return the page image with the resolution Tesseract should assume for it
+     */
+    public PreprocessedImage process(InputStream input, StageTimings timings) throws IOException {
+        if (!enabled) {
+            long start = System.nanoTime();
+            BufferedImage image = ImageIO.read(input);
+            timings.record("decode", elapsedMillis(start));
+            if (image == null) {
+                throw new IllegalArgumentException("Unsupported document image format");
+            }
+            return new PreprocessedImage(image, sourceDpi);
+        }
+
+        int targetLongEdge = (int) Math.round(pageLongEdgeInches * targetDpi);
+
+        long start = System.nanoTime();
+        BufferedImage decoded = decodeSubsampled(input, targetLongEdge);
+        timings.record("decode", elapsedMillis(start));
+        return clean(decoded, targetLongEdge, 0, timings);
+    }
+
+    /**
+     * Preprocesses a page already rasterized at a known resolution, such as a rendered PDF page.
+     */
+    public PreprocessedImage process(BufferedImage page, int dpi, StageTimings timings) {
+        if (!enabled) {
+            return new PreprocessedImage(page, dpi);
+        }
+        int longEdge = Math.max(page.getWidth(), page.getHeight());
+        int targetLongEdge = dpi > targetDpi ? (int) Math.round((double) longEdge * targetDpi / dpi) : longEdge;
+        return clean(page, targetLongEdge, Math.min(dpi, targetDpi), timings);
+    }
+
+    // Grayscale, downscale, binarize, deskew and crop; a dpi of 0 means it is inferred from the page size
+    private PreprocessedImage clean(BufferedImage decoded, int targetLongEdge, int knownDpi, StageTimings timings) {
+        Buffers buffers = BUFFERS.get();
+        int decodedWidth = decoded.getWidth();
+        int decodedHeight = decoded.getHeight();
+
+        long start = System.nanoTime();
+        byte[] source = buffers.source(decodedWidth * decodedHeight);
+        toGray(decoded, source);
+        timings.record("grayscale", elapsedMillis(start));
+
+        start = System.nanoTime();
+        double scale = Math.min(1.0, (double) targetLongEdge / Math.max(decodedWidth, decodedHeight));
+        int width = Math.max(1, (int) Math.round(decodedWidth * scale));
+        int height = Math.max(1, (int) Math.round(decodedHeight * scale));
+        byte[] gray = source;
+        if (width != decodedWidth || height != decodedHeight) {
+            gray = buffers.gray(width * height);
+            downscale(source, decodedWidth, decodedHeight, gray, width, height);
+        }
+        timings.record("downscale", elapsedMillis(start));
+        // Otherwise assume the photo shows a full page edge to edge
+        int dpi = knownDpi > 0 ? knownDpi : (int) Math.round(Math.max(width, height) / pageLongEdgeInches);
+
+        start = System.nanoTime();
+        byte[] binary = buffers.binary(width * height);
+        binarize(gray, binary, width, height, buffers);
+        timings.record("binarize", elapsedMillis(start));
+
+        start = System.nanoTime();
+        double skew = estimateSkew(binary, width, height, buffers);
+        if (Math.abs(skew) >= MIN_CORRECTED_SKEW_DEGREES) {
+            // The gray buffer is no longer needed and receives the rotated page
+            rotate(binary, gray, width, height, Math.toRadians(skew));
+            binary = gray;
+        }
+        timings.record("deskew", elapsedMillis(start));
+
+        start = System.nanoTime();
+        BufferedImage page = cropToText(binary, width, height);
+        timings.record("crop", elapsedMillis(start));
+
+        return new PreprocessedImage(page, dpi);
+    }
+
+    // Decode with source subsampling so a 12 MP photo is never fully materialized when a quarter of it will do
+    private static BufferedImage decodeSubsampled(InputStream input, int targetLongEdge) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            if (imageInput == null) {
+                throw new IOException("Could not open document image stream");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Unsupported document image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longEdge / Math.max(1, targetLongEdge));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Bilinear resampling of an 8-bit gray buffer in 8-bit fixed point; subsampled decoding leaves at most 2:1 here
+    private static void downscale(byte[] source, int sourceWidth, int sourceHeight, byte[] target, int width, int height) {
+        int[] columns = BUFFERS.get().columns(width);
+        int xStep = (int) (((long) (sourceWidth - 1) << 8) / Math.max(1, width - 1));
+        for (int x = 0; x < width; x++) {
+            columns[x] = x * xStep;
+        }
+        int yStep = (int) (((long) (sourceHeight - 1) << 8) / Math.max(1, height - 1));
+        for (int y = 0; y < height; y++) {
+            int sy = y * yStep;
+            int top = (sy >> 8) * sourceWidth;
+            int bottom = Math.min(sourceHeight - 1, (sy >> 8) + 1) * sourceWidth;
+            int fy = sy & 0xFF;
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                int sx = columns[x];
+                int x0 = sx >> 8;
+                int x1 = Math.min(sourceWidth - 1, x0 + 1);
+                int fx = sx & 0xFF;
+                int upper = (source[top + x0] & 0xFF) * (256 - fx) + (source[top + x1] & 0xFF) * fx;
+                int lower = (source[bottom + x0] & 0xFF) * (256 - fx) + (source[bottom + x1] & 0xFF) * fx;
+                target[offset + x] = (byte) ((upper * (256 - fy) + lower * fy) >> 16);
+            }
+        }
+    }
+
+    private static void toGray(BufferedImage image, byte[] gray) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+            image.getRaster().getDataElements(0, 0, width, height, gray);
+            return;
+        }
+        if (image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            // Read the JPEG decoder's interleaved buffer directly instead of going through getRGB
+            byte[] bgr = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+            for (int i = 0, p = 0; i < width * height; i++, p += 3) {
+                gray[i] = (byte) (((bgr[p + 2] & 0xFF) * 77 + (bgr[p + 1] & 0xFF) * 150 + (bgr[p] & 0xFF) * 29) >> 8);
+            }
+            return;
+        }
+        int[] row = BUFFERS.get().row(width);
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                gray[offset + x] = (byte) ((((rgb >> 16) & 0xFF) * 77 + ((rgb >> 8) & 0xFF) * 150 + (rgb & 0xFF) * 29) >> 8);
+            }
+        }
+    }
+
+    // Bradley-Roth adaptive thresholding over an integral image; int sums may wrap but window differences stay exact
+    private static void binarize(byte[] gray, byte[] binary, int width, int height, Buffers buffers) {
+        int stride = width + 1;
+        int[] integral = buffers.integral(stride * (height + 1));
+        for (int x = 0; x < stride; x++) {
+            integral[x] = 0;
+        }
+        for (int y = 0; y < height; y++) {
+            int rowSum = 0;
+            int row = (y + 1) * stride;
+            integral[row] = 0;
+            for (int x = 0; x < width; x++) {
+                rowSum += gray[y * width + x] & 0xFF;
+                integral[row + x + 1] = integral[row - stride + x + 1] + rowSum;
+            }
+        }
+
+        int half = Math.max(4, width / 16) / 2;
+        for (int y = 0; y < height; y++) {
+            int y1 = Math.max(0, y - half);
+            int y2 = Math.min(height - 1, y + half);
+            for (int x = 0; x < width; x++) {
+                int x1 = Math.max(0, x - half);
+                int x2 = Math.min(width - 1, x + half);
+                int count = (x2 - x1 + 1) * (y2 - y1 + 1);
+                int sum = integral[(y2 + 1) * stride + x2 + 1] - integral[y1 * stride + x2 + 1]
+                        - integral[(y2 + 1) * stride + x1] + integral[y1 * stride + x1];
+                int value = gray[y * width + x] & 0xFF;
+                boolean black = (long) value * count * 100 <= (long) sum * (100 - BINARIZE_THRESHOLD_PERCENT)
+                        && (long) (value + BINARIZE_MIN_CONTRAST) * count <= sum;
+                binary[y * width + x] = black ? 0 : (byte) 0xFF;
+            }
+        }
+    }
+
+    // Projection-profile skew estimate on a sample of black pixels: text lines give the sharpest row histogram
+    private static double estimateSkew(byte[] binary, int width, int height, Buffers buffers) {
+        int step = Math.max(2, Math.min(width, height) / 400);
+        int diagonal = (int) Math.ceil(Math.sqrt((double) width * width + (double) height * height));
+        int[] bins = buffers.bins(2 * diagonal + 1);
+
+        double bestAngle = 0;
+        long bestScore = -1;
+        for (double angle = -MAX_SKEW_DEGREES; angle <= MAX_SKEW_DEGREES + 1e-9; angle += SKEW_STEP_DEGREES) {
+            double radians = Math.toRadians(angle);
+            double sin = Math.sin(radians);
+            double cos = Math.cos(radians);
+            Arrays.fill(bins, 0, 2 * diagonal + 1, 0);
+            for (int y = 0; y < height; y += step) {
+                int offset = y * width;
+                for (int x = 0; x < width; x += step) {
+                    if (binary[offset + x] == 0) {
+                        int bin = (int) Math.round(y * cos - x * sin) + diagonal;
+                        bins[bin]++;
+                    }
+                }
+            }
+            long score = 0;
+            for (int i = 0; i < 2 * diagonal + 1; i++) {
+                score += (long) bins[i] * bins[i];
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestAngle = angle;
+            }
+        }
+        return bestAngle;
+    }
+
+    // Nearest-neighbour rotation about the centre; uncovered pixels become white
+    private static void rotate(byte[] source, byte[] target, int width, int height, double radians) {
+        double sin = Math.sin(radians);
+        double cos = Math.cos(radians);
+        double cx = width / 2.0;
+        double cy = height / 2.0;
+        for (int y = 0; y < height; y++) {
+            double dy = y - cy;
+            for (int x = 0; x < width; x++) {
+                double dx = x - cx;
+                int sx = (int) Math.round(dx * cos - dy * sin + cx);
+                int sy = (int) Math.round(dx * sin + dy * cos + cy);
+                target[y * width + x] = sx >= 0 && sx < width && sy >= 0 && sy < height
+                        ? source[sy * width + sx]
+                        : (byte) 0xFF;
+            }
+        }
+    }
+
+    // Crop to rows and columns crossed by text, plus a small margin. Counting white-to-black transitions rather than
+    // black pixels ignores the solid band that binarization leaves along the edge of the paper
+    private static BufferedImage cropToText(byte[] binary, int width, int height) {
+        Buffers buffers = BUFFERS.get();
+        int[] rowCounts = buffers.row(height);
+        Arrays.fill(rowCounts, 0, height, 0);
+        int[] columnCounts = buffers.columns(width);
+        Arrays.fill(columnCounts, 0, width, 0);
+        for (int y = 1; y < height; y++) {
+            int offset = y * width;
+            for (int x = 1; x < width; x++) {
+                if (binary[offset + x] == 0) {
+                    if (binary[offset + x - 1] != 0) {
+                        rowCounts[y]++;
+                    }
+                    if (binary[offset - width + x] != 0) {
+                        columnCounts[x]++;
+                    }
+                }
+            }
+        }
+
+        int rowThreshold = MIN_TEXT_TRANSITIONS;
+        int columnThreshold = MIN_TEXT_TRANSITIONS;
+        int top = 0;
+        while (top < height && rowCounts[top] <= rowThreshold) top++;
+        int bottom = height - 1;
+        while (bottom > top && rowCounts[bottom] <= rowThreshold) bottom--;
+        int left = 0;
+        while (left < width && columnCounts[left] <= columnThreshold) left++;
+        int right = width - 1;
+        while (right > left && columnCounts[right] <= columnThreshold) right--;
+
+        if (top >= height || left >= width) {
+            top = 0;
+            left = 0;
+            bottom = height - 1;
+            right = width - 1;
+        } else {
+            top = Math.max(0, top - CROP_MARGIN_PIXELS);
+            left = Math.max(0, left - CROP_MARGIN_PIXELS);
+            bottom = Math.min(height - 1, bottom + CROP_MARGIN_PIXELS);
+            right = Math.min(width - 1, right + CROP_MARGIN_PIXELS);
+        }
+
+        int cropWidth = right - left + 1;
+        int cropHeight = bottom - top + 1;
+        BufferedImage page = new BufferedImage(cropWidth, cropHeight, BufferedImage.TYPE_BYTE_GRAY);
+        byte[] pixels = ((DataBufferByte) page.getRaster().getDataBuffer()).getData();
+        for (int y = 0; y < cropHeight; y++) {
+            System.arraycopy(binary, (top + y) * width + left, pixels, y * cropWidth, cropWidth);
+        }
+        return page;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Per-thread scratch arrays, grown on demand and reused for every following document.
+     */
+    private static final class Buffers {
+        private byte[] source = new byte[0];
+        private byte[] gray = new byte[0];
+        private byte[] binary = new byte[0];
+        private int[] integral = new int[0];
+        private int[] bins = new int[0];
+        private int[] row = new int[0];
+        private int[] columns = new int[0];
+
+        byte[] source(int size) {
+            if (source.length < size) source = new byte[size];
+            return source;
+        }
+
+        byte[] gray(int size) {
+            if (gray.length < size) gray = new byte[size];
+            return gray;
+        }
+
+        byte[] binary(int size) {
+            if (binary.length < size) binary = new byte[size];
+            return binary;
+        }
+
+        int[] integral(int size) {
+            if (integral.length < size) integral = new int[size];
+            return integral;
+        }
+
+        int[] bins(int size) {
+            if (bins.length < size) bins = new int[size];
+            return bins;
+        }
+
+        int[] row(int size) {
+            if (row.length < size) row = new int[size];
+            return row;
+        }
+
+        int[] columns(int size) {
+            if (columns.length < size) columns = new int[size];
+            return columns;
+        }
+    }
+}
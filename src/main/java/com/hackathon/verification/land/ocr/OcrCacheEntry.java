@@ -0,0 +1,125 @@
+package com.hackathon.verification.land.ocr;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OCR text and extracted fields for one document, stored under the SHA-256 of its bytes.
+ */
+public class OcrCacheEntry {
+
+    private String sha256;
+    private String text;
+    private int meanConfidence;
+    private String standNumber;
+    private String ownerName;
+    private String idNumber;
+    private Map<String, Integer> confidenceScores = new HashMap<>();
+    private String documentTemplate;
+    // Set for PDF documents only
+    private Integer pageCount;
+    private Integer pagesProcessed;
+    private int extractionVersion;
+    private long createdAtEpochMillis;
+
+    // Default constructor
+    public OcrCacheEntry() {
+    }
+
+    // Getters and Setters
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public int getMeanConfidence() {
+        return meanConfidence;
+    }
+
+    public void setMeanConfidence(int meanConfidence) {
+        this.meanConfidence = meanConfidence;
+    }
+
+    public String getStandNumber() {
+        return standNumber;
+    }
+
+    public void setStandNumber(String standNumber) {
+        this.standNumber = standNumber;
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    public String getIdNumber() {
+        return idNumber;
+    }
+
+    public void setIdNumber(String idNumber) {
+        this.idNumber = idNumber;
+    }
+
+    public Map<String, Integer> getConfidenceScores() {
+        return confidenceScores;
+    }
+
+    public void setConfidenceScores(Map<String, Integer> confidenceScores) {
+        this.confidenceScores = confidenceScores;
+    }
+
+    public String getDocumentTemplate() {
+        return documentTemplate;
+    }
+
+    public void setDocumentTemplate(String documentTemplate) {
+        this.documentTemplate = documentTemplate;
+    }
+
+    public Integer getPageCount() {
+        return pageCount;
+    }
+
+    public void setPageCount(Integer pageCount) {
+        this.pageCount = pageCount;
+    }
+
+    public Integer getPagesProcessed() {
+        return pagesProcessed;
+    }
+
+    public void setPagesProcessed(Integer pagesProcessed) {
+        this.pagesProcessed = pagesProcessed;
+    }
+
+    public int getExtractionVersion() {
+        return extractionVersion;
+    }
+
+    public void setExtractionVersion(int extractionVersion) {
+        this.extractionVersion = extractionVersion;
+    }
+
+    public long getCreatedAtEpochMillis() {
+        return createdAtEpochMillis;
+    }
+
+    public void setCreatedAtEpochMillis(long createdAtEpochMillis) {
+        this.createdAtEpochMillis = createdAtEpochMillis;
+    }
+}
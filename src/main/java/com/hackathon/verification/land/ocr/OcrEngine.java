@@ -0,0 +1,126 @@
+package com.hackathon.verification.land.ocr;
+
+import com.sun.jna.Pointer;
+import net.sourceforge.tess4j.ITessAPI.TessBaseAPI;
+import net.sourceforge.tess4j.ITessAPI.TessPageIteratorLevel;
+import net.sourceforge.tess4j.ITessAPI.TessResultIterator;
+import net.sourceforge.tess4j.TessAPI1;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.WritableRaster;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A single native Tesseract handle, initialized once with its traineddata and reused for every page.
+ * Not thread-safe: callers must hold it exclusively, which {@link OcrEnginePool} guarantees.
+ */
+public class OcrEngine implements PageRecognizer, AutoCloseable {
+
+    private final TessBaseAPI handle;
+    // Direct buffer reused for every page's 8-bit gray pixels so a multi-megabyte native copy is not allocated per page
+    private ByteBuffer grayPixels;
+
+    public OcrEngine(String dataPath, String language) {
+        handle = TessAPI1.TessBaseAPICreate();
+        if (TessAPI1.TessBaseAPIInit3(handle, dataPath, language) != 0) {
+            TessAPI1.TessBaseAPIDelete(handle);
+            throw new IllegalStateException("Could not initialize Tesseract with language '" + language + "' from " + dataPath);
+        }
+    }
+
+    @Override
+    public OcrResult recognize(BufferedImage image, int dpi) {
+        long start = System.nanoTime();
+        try {
+            // Always one byte per pixel with no row padding, whatever the layout of the image handed in
+            TessAPI1.TessBaseAPISetImage(handle, toGray(image), image.getWidth(), image.getHeight(), 1, image.getWidth());
+            if (dpi > 0) {
+                TessAPI1.TessBaseAPISetSourceResolution(handle, dpi);
+            }
+
+            Pointer textPointer = TessAPI1.TessBaseAPIGetUTF8Text(handle);
+            String text = "";
+            if (textPointer != null) {
+                text = textPointer.getString(0, StandardCharsets.UTF_8.name());
+                TessAPI1.TessDeleteText(textPointer);
+            }
+            int meanConfidence = TessAPI1.TessBaseAPIMeanTextConf(handle);
+            OcrResult result = new OcrResult(text, meanConfidence, (System.nanoTime() - start) / 1_000_000);
+            collectWords(text, result);
+            return result;
+        } finally {
+            TessAPI1.TessBaseAPIClear(handle);
+        }
+    }
+
+    // Locate every recognized word in the page text so field confidences can be computed from the words they span
+    private void collectWords(String text, OcrResult result) {
+        TessResultIterator iterator = TessAPI1.TessBaseAPIGetIterator(handle);
+        if (iterator == null) {
+            return;
+        }
+        try {
+            int cursor = 0;
+            do {
+                Pointer wordPointer = TessAPI1.TessResultIteratorGetUTF8Text(iterator, TessPageIteratorLevel.RIL_WORD);
+                if (wordPointer == null) {
+                    continue;
+                }
+                String word = wordPointer.getString(0, StandardCharsets.UTF_8.name());
+                TessAPI1.TessDeleteText(wordPointer);
+                int offset = text.indexOf(word, cursor);
+                if (offset >= 0) {
+                    float confidence = TessAPI1.TessResultIteratorConfidence(iterator, TessPageIteratorLevel.RIL_WORD);
+                    result.addWord(offset, offset + word.length(), confidence);
+                    cursor = offset + word.length();
+                }
+            } while (TessAPI1.TessResultIteratorNext(iterator, TessPageIteratorLevel.RIL_WORD) != 0);
+        } finally {
+            TessAPI1.TessResultIteratorDelete(iterator);
+        }
+    }
+
+    /*
+     * The preprocessor already produces 8-bit gray, which is copied as is. Anything else (colour, indexed or 16-bit
+     * images, which is what arrives with preprocessing disabled) is converted by luminance, so palette images yield
+     * gray levels rather than palette indices.
+     */
+    private ByteBuffer toGray(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int size = width * height;
+        if (grayPixels == null || grayPixels.capacity() < size) {
+            grayPixels = ByteBuffer.allocateDirect(size);
+        }
+        grayPixels.clear();
+        if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+            WritableRaster raster = image.getRaster();
+            if (raster.getParent() == null && raster.getDataBuffer() instanceof DataBufferByte buffer
+                    && buffer.getData().length == size) {
+                grayPixels.put(buffer.getData(), 0, size);
+            } else {
+                // A sub-image shares a larger buffer with its own row stride
+                grayPixels.put((byte[]) raster.getDataElements(0, 0, width, height, null));
+            }
+        } else {
+            int[] row = new int[width];
+            for (int y = 0; y < height; y++) {
+                image.getRGB(0, y, width, 1, row, 0, width);
+                for (int x = 0; x < width; x++) {
+                    int rgb = row[x];
+                    grayPixels.put((byte) ((((rgb >> 16) & 0xFF) * 77 + ((rgb >> 8) & 0xFF) * 150 + (rgb & 0xFF) * 29) >> 8));
+                }
+            }
+        }
+        grayPixels.flip();
+        return grayPixels;
+    }
+
+    @Override
+    public void close() {
+        TessAPI1.TessBaseAPIEnd(handle);
+        TessAPI1.TessBaseAPIDelete(handle);
+    }
+}
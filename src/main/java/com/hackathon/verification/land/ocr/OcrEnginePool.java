@@ -0,0 +1,166 @@
+package com.hackathon.verification.land.ocr;
+
+import com.hackathon.verification.exception.VerificationException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size pool of Tesseract engines, one per worker thread, in front of a bounded work queue.
+ * Engines are initialized once at startup; when the queue is full new work is rejected with
+ * SERVICE_UNAVAILABLE so callers can back off instead of piling up servlet threads.
+ */
+@Component
+public class OcrEnginePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(OcrEnginePool.class);
+
+    /**
+     * Work run on an OCR worker while it exclusively holds an engine.
+     */
+    @FunctionalInterface
+    public interface Job<T> {
+        T run(PageRecognizer recognizer) throws Exception;
+    }
+
+    @Value("${ocr.datapath:/usr/share/tesseract-ocr/4.00/tessdata}")
+    private String dataPath;
+
+    @Value("${ocr.language:eng}")
+    private String language;
+
+    @Value("${ocr.pool-size:2}")
+    private int poolSize;
+
+    @Value("${ocr.queue-capacity:16}")
+    private int queueCapacity;
+
+    private final List<OcrEngine> allEngines = new ArrayList<>();
+    private BlockingQueue<OcrEngine> idleEngines;
+    private ThreadPoolExecutor executor;
+    private volatile boolean available;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueWaitMillis = new LongAdder();
+    private final LongAdder runMillis = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        idleEngines = new ArrayBlockingQueue<>(poolSize);
+        try {
+            for (int i = 0; i < poolSize; i++) {
+                OcrEngine engine = new OcrEngine(dataPath, language);
+                allEngines.add(engine);
+                idleEngines.add(engine);
+            }
+            available = true;
+        } catch (Throwable e) {
+            // Missing native libraries or traineddata must not prevent the rest of the application from starting
+            logger.warn("OCR engine pool unavailable, land document verification will be rejected: {}", e.toString());
+            allEngines.forEach(OcrEngine::close);
+            allEngines.clear();
+            idleEngines.clear();
+            available = false;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ocr-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        logger.info("OCR engine pool started with {} engines and a queue of {} (available: {})", poolSize, queueCapacity, available);
+    }
+
+    /**
+     * Queues a job for the next free engine.
+     *
+     * @throws VerificationException with SERVICE_UNAVAILABLE when OCR is not available or the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Job<T> job, StageTimings timings) {
+        if (!available) {
+            throw VerificationException.serviceUnavailable("land document", null, "OCR engine is not available");
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long waited = (System.nanoTime() - queuedAt) / 1_000_000;
+                queueWaitMillis.add(waited);
+                timings.record("queueWait", waited);
+
+                OcrEngine engine = idleEngines.poll();
+                long start = System.nanoTime();
+                try {
+                    future.complete(job.run(engine));
+                    completed.increment();
+                } catch (Throwable e) {
+                    failed.increment();
+                    future.completeExceptionally(e);
+                } finally {
+                    runMillis.add((System.nanoTime() - start) / 1_000_000);
+                    idleEngines.offer(engine);
+                }
+            });
+            submitted.increment();
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw VerificationException.serviceUnavailable("land document", null,
+                    "OCR queue is full (" + queueCapacity + " documents waiting), retry later");
+        }
+        return future;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long finished = completed.sum() + failed.sum();
+        stats.put("available", available);
+        stats.put("poolSize", poolSize);
+        stats.put("activeWorkers", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("submitted", submitted.sum());
+        stats.put("completed", completed.sum());
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("avgQueueWaitMillis", finished == 0 ? 0 : queueWaitMillis.sum() / finished);
+        stats.put("avgRunMillis", finished == 0 ? 0 : runMillis.sum() / finished);
+        return stats;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        allEngines.forEach(OcrEngine::close);
+    }
+}
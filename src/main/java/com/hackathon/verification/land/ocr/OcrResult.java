@@ -0,0 +1,83 @@
+package com.hackathon.verification.land.ocr;
+
+import java.util.Arrays;
+
+/**
+ * Text recognized from a single image together with Tesseract's mean confidence (0-100)
+ * and, when the engine reports them, the character span and confidence of every word.
+ */
+public class OcrResult {
+
+    private final String text;
+    private final int meanConfidence;
+    private final long ocrMillis;
+
+    // Parallel arrays of word start/end offsets into text and word confidences, in text order
+    private int[] wordStarts = new int[0];
+    private int[] wordEnds = new int[0];
+    private float[] wordConfidences = new float[0];
+    private int wordCount;
+
+    public OcrResult(String text, int meanConfidence, long ocrMillis) {
+        this.text = text;
+        this.meanConfidence = meanConfidence;
+        this.ocrMillis = ocrMillis;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int getMeanConfidence() {
+        return meanConfidence;
+    }
+
+    public long getOcrMillis() {
+        return ocrMillis;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Records a word spanning {@code [start, end)} of the text; words must be added in text order.
+     */
+    public void addWord(int start, int end, float confidence) {
+        if (wordCount == wordStarts.length) {
+            int capacity = Math.max(64, wordCount * 2);
+            wordStarts = Arrays.copyOf(wordStarts, capacity);
+            wordEnds = Arrays.copyOf(wordEnds, capacity);
+            wordConfidences = Arrays.copyOf(wordConfidences, capacity);
+        }
+        wordStarts[wordCount] = start;
+        wordEnds[wordCount] = end;
+        wordConfidences[wordCount] = confidence;
+        wordCount++;
+    }
+
+    /**
+     * Mean confidence of the words overlapping {@code [start, end)} of the text,
+     * or the page mean when no word information is available for that span.
+     */
+    public int confidenceOf(int start, int end) {
+        // First word that ends after the span starts
+        int low = 0;
+        int high = wordCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (wordEnds[middle] <= start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        float sum = 0;
+        int words = 0;
+        for (int i = low; i < wordCount && wordStarts[i] < end; i++) {
+            sum += wordConfidences[i];
+            words++;
+        }
+        return words == 0 ? meanConfidence : Math.round(sum / words);
+    }
+}
@@ -0,0 +1,317 @@
+package com.hackathon.verification.land.ocr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Two-tier cache of OCR results keyed by the SHA-256 of the uploaded document: a bounded in-memory LRU
+ * in front of a directory of JSON files, itself bounded by total size and evicted least recently used first.
+ * Entries are immutable, so a document only ever has to be recognized once.
+ */
+@Component
+public class OcrResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(OcrResultCache.class);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${ocr.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ocr.cache.memory-max-entries:1000}")
+    private int memoryMaxEntries;
+
+    @Value("${ocr.cache.directory:${java.io.tmpdir}/land-ocr-cache}")
+    private String directory;
+
+    @Value("${ocr.cache.disk-max-megabytes:256}")
+    private long diskMaxMegabytes;
+
+    private Path root;
+    private Map<String, OcrCacheEntry> memory;
+    // Sizes of the files on disk in access order, guarded by itself
+    private final LinkedHashMap<String, Long> diskIndex = new LinkedHashMap<>(256, 0.75f, true);
+    private long diskBytes;
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder memoryEvictions = new LongAdder();
+    private final LongAdder diskEvictions = new LongAdder();
+
+    public OcrResultCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        memory = new LinkedHashMap<>(Math.min(memoryMaxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OcrCacheEntry> eldest) {
+                if (size() > memoryMaxEntries) {
+                    memoryEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        if (!enabled) {
+            return;
+        }
+
+        root = Paths.get(directory);
+        try {
+            Files.createDirectories(root);
+            // Rebuild the LRU order from file access times so eviction survives restarts
+            List<Path> files = new ArrayList<>();
+            try (Stream<Path> walk = Files.walk(root, 2)) {
+                walk.filter(path -> path.getFileName().toString().endsWith(".json")).forEach(files::add);
+            }
+            files.sort((a, b) -> lastModified(a).compareTo(lastModified(b)));
+            synchronized (diskIndex) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    long size = Files.size(file);
+                    diskIndex.put(name.substring(0, name.length() - ".json".length()), size);
+                    diskBytes += size;
+                }
+            }
+            logger.info("OCR result cache at {} holds {} documents ({} bytes)", root, diskIndex.size(), diskBytes);
+        } catch (IOException e) {
+            logger.warn("OCR result cache directory {} is not usable, caching in memory only: {}", root, e.toString());
+            root = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Streams the document through SHA-256 and returns the lowercase hex digest.
+     */
+    public static String sha256(InputStream input) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    public static String sha256(byte[] content) {
+        return toHex(newDigest().digest(content));
+    }
+
+    /**
+     * Looks the document up in memory, then on disk; a disk hit is promoted into memory.
+     */
+    public OcrCacheEntry get(String sha256) {
+        if (!enabled) {
+            return null;
+        }
+        synchronized (memory) {
+            OcrCacheEntry entry = memory.get(sha256);
+            if (entry != null) {
+                memoryHits.increment();
+                return entry;
+            }
+        }
+
+        OcrCacheEntry entry = readFromDisk(sha256);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        diskHits.increment();
+        synchronized (memory) {
+            memory.put(sha256, entry);
+        }
+        return entry;
+    }
+
+    public void put(OcrCacheEntry entry) {
+        if (!enabled) {
+            return;
+        }
+        puts.increment();
+        synchronized (memory) {
+            memory.put(entry.getSha256(), entry);
+        }
+        writeToDisk(entry);
+    }
+
+    public void clear() {
+        synchronized (memory) {
+            memory.clear();
+        }
+        List<String> keys;
+        synchronized (diskIndex) {
+            keys = new ArrayList<>(diskIndex.keySet());
+            diskIndex.clear();
+            diskBytes = 0;
+        }
+        if (root != null) {
+            keys.forEach(key -> deleteQuietly(fileFor(key)));
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long hits = memoryHits.sum() + diskHits.sum();
+        long lookups = hits + misses.sum();
+        stats.put("enabled", enabled);
+        synchronized (memory) {
+            stats.put("memoryEntries", memory.size());
+        }
+        stats.put("memoryMaxEntries", memoryMaxEntries);
+        synchronized (diskIndex) {
+            stats.put("diskEntries", diskIndex.size());
+            stats.put("diskBytes", diskBytes);
+        }
+        stats.put("diskMaxBytes", diskMaxMegabytes * 1024 * 1024);
+        stats.put("memoryHits", memoryHits.sum());
+        stats.put("diskHits", diskHits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) hits / lookups);
+        stats.put("puts", puts.sum());
+        stats.put("memoryEvictions", memoryEvictions.sum());
+        stats.put("diskEvictions", diskEvictions.sum());
+        return stats;
+    }
+
+    private OcrCacheEntry readFromDisk(String sha256) {
+        if (root == null) {
+            return null;
+        }
+        synchronized (diskIndex) {
+            if (diskIndex.get(sha256) == null) {
+                return null;
+            }
+        }
+        Path file = fileFor(sha256);
+        try {
+            OcrCacheEntry entry = objectMapper.readValue(file.toFile(), OcrCacheEntry.class);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return entry;
+        } catch (IOException e) {
+            // A file deleted by eviction or truncated by a crash is just a miss
+            logger.debug("Could not read cached OCR result {}: {}", file, e.toString());
+            forget(sha256);
+            return null;
+        }
+    }
+
+    private void writeToDisk(OcrCacheEntry entry) {
+        if (root == null) {
+            return;
+        }
+        Path file = fileFor(entry.getSha256());
+        try {
+            Files.createDirectories(file.getParent());
+            // Write then rename so readers never see a partial file
+            Path temporary = Files.createTempFile(file.getParent(), entry.getSha256(), ".tmp");
+            objectMapper.writeValue(temporary.toFile(), entry);
+            long size = Files.size(temporary);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            synchronized (diskIndex) {
+                Long previous = diskIndex.put(entry.getSha256(), size);
+                diskBytes += size - (previous != null ? previous : 0);
+            }
+            evictFromDisk();
+        } catch (IOException e) {
+            logger.warn("Could not write cached OCR result {}: {}", file, e.toString());
+        }
+    }
+
+    private void evictFromDisk() {
+        long maxBytes = diskMaxMegabytes * 1024 * 1024;
+        List<String> evicted = new ArrayList<>();
+        synchronized (diskIndex) {
+            Iterator<Map.Entry<String, Long>> eldest = diskIndex.entrySet().iterator();
+            while (diskBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                diskBytes -= entry.getValue();
+                evicted.add(entry.getKey());
+                eldest.remove();
+            }
+        }
+        for (String key : evicted) {
+            deleteQuietly(fileFor(key));
+            diskEvictions.increment();
+        }
+    }
+
+    private void forget(String sha256) {
+        synchronized (diskIndex) {
+            Long size = diskIndex.remove(sha256);
+            if (size != null) {
+                diskBytes -= size;
+            }
+        }
+    }
+
+    // Two-character fan-out keeps directories small
+    private Path fileFor(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256 + ".json");
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.debug("Could not delete cached OCR result {}: {}", path, e.toString());
+        }
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hackathon.verification.land.ocr;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Runs OCR on one page image. Instances handed out by {@link OcrEnginePool} are only valid inside the job they were passed to.
+ */
+public interface PageRecognizer {
+
+    OcrResult recognize(BufferedImage image, int dpi);
+}
@@ -0,0 +1,154 @@
+package com.hackathon.verification.land.ocr;
+
+import com.hackathon.verification.metrics.jfr.OcrPageEvent;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OCR for multi-page PDF documents. Pages are rasterized one at a time, just before they are recognized,
+ * by a few page workers on the {@link OcrEnginePool}; each worker holds one engine and one page image at a time,
+ * so memory stays bounded however long the document is. A {@link PageListener} sees every page as it completes
+ * and can stop the remaining pages early.
+ */
+@Component
+public class PdfDocumentOcr {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfDocumentOcr.class);
+
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F', '-'};
+    // The PDF header may be preceded by up to this many bytes of junk
+    private static final int HEADER_SEARCH_BYTES = 1024;
+
+    /**
+     * Called on an OCR worker after each page is recognized, possibly concurrently for different pages.
+     */
+    @FunctionalInterface
+    public interface PageListener {
+        /**
+         * @return true when enough has been found and pages not yet started should be skipped
+         */
+        boolean onPage(int pageIndex, OcrResult page);
+    }
+
+    @Autowired
+    private OcrEnginePool ocrEnginePool;
+
+    @Autowired
+    private ImagePreprocessor imagePreprocessor;
+
+    @Value("${ocr.pdf.render-dpi:300}")
+    private int renderDpi;
+
+    @Value("${ocr.pdf.max-pages:50}")
+    private int maxPages;
+
+    @Value("${ocr.pdf.parallelism:${ocr.pool-size:2}}")
+    private int parallelism;
+
+    /**
+     * Whether the stream starts with a PDF header; reads at most the first kilobyte.
+     */
+    public static boolean isPdf(InputStream input) throws IOException {
+        byte[] head = input.readNBytes(HEADER_SEARCH_BYTES);
+        search:
+        for (int i = 0; i + PDF_MAGIC.length <= head.length; i++) {
+            for (int j = 0; j < PDF_MAGIC.length; j++) {
+                if (head[i + j] != PDF_MAGIC[j]) {
+                    continue search;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Opens the PDF and queues page workers; the returned future completes once every worker has finished.
+     * The document is parsed on the calling thread, with its buffers in a temporary file rather than on the heap.
+     */
+    public CompletableFuture<PdfOcrResult> recognize(String sha256, InputStream input, StageTimings timings,
+                                                     PageListener listener) throws IOException {
+        long start = System.nanoTime();
+        PDDocument document = PDDocument.load(input, MemoryUsageSetting.setupTempFileOnly());
+        timings.record("pdfLoad", (System.nanoTime() - start) / 1_000_000);
+
+        int pageCount = document.getNumberOfPages();
+        int pagesToRead = Math.min(pageCount, maxPages);
+        if (pagesToRead == 0) {
+            document.close();
+            throw new IllegalArgumentException("PDF document has no pages");
+        }
+
+        PDFRenderer renderer = new PDFRenderer(document);
+        OcrResult[] pages = new OcrResult[pagesToRead];
+        AtomicInteger nextPage = new AtomicInteger();
+        AtomicBoolean stop = new AtomicBoolean();
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        try {
+            for (int i = 0; i < Math.min(Math.max(1, parallelism), pagesToRead); i++) {
+                workers.add(ocrEnginePool.submit(recognizer -> {
+                    int pageIndex;
+                    while (!stop.get() && (pageIndex = nextPage.getAndIncrement()) < pagesToRead) {
+                        OcrPageEvent event = new OcrPageEvent();
+                        event.begin();
+                        PreprocessedImage page = imagePreprocessor.process(render(renderer, pageIndex, timings), renderDpi, timings);
+                        OcrResult result = recognizer.recognize(page.getImage(), page.getDpi());
+                        timings.record("ocr", result.getOcrMillis());
+                        event.finish(sha256, pageIndex, page.getDpi(), result.getMeanConfidence(), result.getWordCount(),
+                                result.getText().length());
+                        pages[pageIndex] = result;
+                        if (listener.onPage(pageIndex, result)) {
+                            stop.set(true);
+                        }
+                    }
+                    return null;
+                }, timings));
+            }
+        } catch (RuntimeException e) {
+            // Queue full part way through: let the workers already queued wind down, then release the document
+            stop.set(true);
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> closeQuietly(document));
+            throw e;
+        }
+
+        return CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) -> closeQuietly(document))
+                .thenApply(ignored -> new PdfOcrResult(pageCount, pages));
+    }
+
+    // PDFBox documents are not thread-safe, so rendering is serialized; recognition, the expensive part, is not
+    private BufferedImage render(PDFRenderer renderer, int pageIndex, StageTimings timings) throws IOException {
+        long start = System.nanoTime();
+        try {
+            synchronized (renderer) {
+                return renderer.renderImageWithDPI(pageIndex, renderDpi, ImageType.GRAY);
+            }
+        } finally {
+            timings.record("render", (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static void closeQuietly(PDDocument document) {
+        try {
+            document.close();
+        } catch (IOException e) {
+            logger.warn("Could not close PDF document: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hackathon.verification.land.ocr;
+
+/**
+ * Per-page OCR results of a PDF document, in page order. Pages skipped after an early stop, or beyond the
+ * page limit, have no result.
+ */
+public class PdfOcrResult {
+
+    private final int pageCount;
+    private final OcrResult[] pages;
+
+    public PdfOcrResult(int pageCount, OcrResult[] pages) {
+        this.pageCount = pageCount;
+        this.pages = pages;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public OcrResult[] getPages() {
+        return pages;
+    }
+
+    public int getPagesProcessed() {
+        int processed = 0;
+        for (OcrResult page : pages) {
+            if (page != null) {
+                processed++;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Text of the recognized pages separated by form feeds.
+     */
+    public String getText() {
+        StringBuilder text = new StringBuilder();
+        for (OcrResult page : pages) {
+            if (page != null) {
+                if (text.length() > 0) {
+                    text.append('\f');
+                }
+                text.append(page.getText());
+            }
+        }
+        return text.toString();
+    }
+
+    public int getMeanConfidence() {
+        int sum = 0;
+        int processed = 0;
+        for (OcrResult page : pages) {
+            if (page != null) {
+                sum += page.getMeanConfidence();
+                processed++;
+            }
+        }
+        return processed == 0 ? 0 : sum / processed;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hackathon.verification.land.ocr;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * A page image ready for OCR and the resolution it should be recognized at.
+ */
+public class PreprocessedImage {
+
+    private final BufferedImage image;
+    private final int dpi;
+
+    public PreprocessedImage(BufferedImage image, int dpi) {
+        this.image = image;
+        this.dpi = dpi;
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    public int getDpi() {
+        return dpi;
+    }
+}
@@ -0,0 +1,32 @@
+package com.hackathon.verification.land.ocr;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Wall-clock milliseconds spent in each stage of a document verification, in the order the stages ran.
+ * Stages may be recorded from different threads as a job moves from the request thread to an OCR worker.
+ */
+public class StageTimings {
+
+    private final Map<String, Long> millis = new LinkedHashMap<>();
+
+    public synchronized void record(String stage, long elapsedMillis) {
+        millis.merge(stage, elapsedMillis, Long::sum);
+    }
+
+    public <T> T time(String stage, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(stage, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    public synchronized Map<String, Long> asMap() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(millis));
+    }
+}
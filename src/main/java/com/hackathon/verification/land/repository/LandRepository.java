@@ -2,8 +2,10 @@ package com.hackathon.verification.land.repository;
 
 import com.hackathon.verification.land.entity.Land;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +27,16 @@ public interface LandRepository extends JpaRepository<Land, Long> {
     // Find lands by owner ID number
     List<Land> findByOwnerIdNumber(String ownerIdNumber);
     
+    // Find lands by any of the given stand numbers, one query for a whole batch of documents
+    List<Land> findByStandNumberIn(Collection<String> standNumbers);
+    
+    // Find lands owned by any of the given owner ID numbers
+    List<Land> findByOwnerIdNumberIn(Collection<String> ownerIdNumbers);
+    
+    // Count lands per owner ID number, for rebuilding the risk feature store
+    @Query("select l.ownerIdNumber, count(l) from Land l where l.ownerIdNumber is not null group by l.ownerIdNumber")
+    List<Object[]> countByOwnerIdNumber();
+    
     // Find lands by allocation status
     List<Land> findByIsAllocated(boolean isAllocated);
     
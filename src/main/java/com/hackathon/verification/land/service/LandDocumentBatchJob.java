@@ -0,0 +1,41 @@
+package com.hackathon.verification.land.service;
+
+import com.hackathon.verification.jobs.service.JobContext;
+import com.hackathon.verification.jobs.service.JobHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verifies the documents of one batch upload, spooled to disk by
+ * {@link LandDocumentVerificationService#submitBatch}. Not restartable: a batch that was running when the
+ * application stopped is marked INTERRUPTED and has to be uploaded again.
+ */
+@Component
+public class LandDocumentBatchJob implements JobHandler {
+
+    public static final String TYPE = "land-document-batch";
+    public static final String BATCH_ID = "batchId";
+
+    // The service submits batches to the job manager, which is built with this handler, so it is looked up when a job runs
+    private final ObjectProvider<LandDocumentVerificationService> landDocumentVerificationService;
+
+    public LandDocumentBatchJob(ObjectProvider<LandDocumentVerificationService> landDocumentVerificationService) {
+        this.landDocumentVerificationService = landDocumentVerificationService;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    // The batch ID names a spool on disk, so only the service that wrote it may start the job
+    @Override
+    public boolean isSubmittable() {
+        return false;
+    }
+
+    @Override
+    public void run(JobContext context) throws Exception {
+        landDocumentVerificationService.getObject().verifyBatch(context.getParameter(BATCH_ID, null), context);
+    }
+}
@@ -1,9 +1,18 @@
 package com.hackathon.verification.land.service;
 
+import com.hackathon.verification.jobs.dto.JobDTO;
+import com.hackathon.verification.jobs.service.JobContext;
+import com.hackathon.verification.land.dto.LandDocumentVerificationJob;
 import com.hackathon.verification.land.dto.LandDocumentVerificationRequest;
 import com.hackathon.verification.land.dto.LandDocumentVerificationResponse;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Service interface for land document verification.
  * Provides methods for OCR processing and verification of land documents.
@@ -43,4 +52,74 @@ public interface LandDocumentVerificationService {
      * @return A verification response with the verification result
      */
     LandDocumentVerificationResponse verifyOwnership(String extractedStandNumber, String extractedOwnerName, String extractedIdNumber);
-}
\ No newline at end of file
+    
+    /**
+     * Queue a land document for verification on the OCR worker pool and return immediately.
+     * 
+     * @param request The verification request containing the document image
+     * @return The queued job, whose id can be polled with {@link #getVerificationJob(String)}
+     */
+    LandDocumentVerificationJob submitVerificationJob(LandDocumentVerificationRequest request);
+    
+    /**
+     * Get the status, and once completed the result, of an asynchronous verification.
+     * 
+     * @param jobId The id returned by {@link #submitVerificationJob(LandDocumentVerificationRequest)}
+     * @return The job
+     */
+    LandDocumentVerificationJob getVerificationJob(String jobId);
+    
+    /**
+     * Get OCR pool and result cache statistics (pool size, queue depth, throughput, average stage times, hit ratio).
+     * 
+     * @return The statistics by name
+     */
+    Map<String, Object> getOcrStats();
+    
+    /**
+     * Drop every cached OCR result, in memory and on disk.
+     */
+    void clearOcrCache();
+    
+    /**
+     * Spool a batch upload to disk and queue a {@link LandDocumentBatchJob} to verify its documents.
+     * Each uploaded file may be a single document or a ZIP archive of documents.
+     * 
+     * @param documents The uploaded files
+     * @return The queued job, whose progress can be polled with {@link #getBatchJob(String)}
+     */
+    JobDTO submitBatch(List<MultipartFile> documents);
+    
+    /**
+     * Spool a ZIP archive streamed as the request body and queue a job to verify its documents.
+     * 
+     * @param archive The ZIP stream
+     * @return The queued job
+     */
+    JobDTO submitBatchArchive(InputStream archive);
+    
+    /**
+     * Get the progress of a batch verification.
+     * 
+     * @param jobId The id of the job returned when the batch was submitted
+     * @return The job
+     */
+    JobDTO getBatchJob(String jobId);
+    
+    /**
+     * Get the NDJSON report of a batch, one verification result per line in completion order.
+     * The report grows while the batch runs.
+     * 
+     * @param jobId The id of the job returned when the batch was submitted
+     * @return The report file
+     */
+    Path getBatchReport(String jobId);
+    
+    /**
+     * Verify the documents of a spooled batch on behalf of its job, appending each result to the batch report.
+     * 
+     * @param batchId The spool the batch was written to
+     * @param context The running job, which receives progress and may be cancelled
+     */
+    void verifyBatch(String batchId, JobContext context) throws IOException, InterruptedException;
+}
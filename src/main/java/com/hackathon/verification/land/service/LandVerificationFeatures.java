@@ -0,0 +1,104 @@
+package com.hackathon.verification.land.service;
+
+import com.hackathon.verification.features.service.RiskFeatureStore;
+import com.hackathon.verification.features.service.RiskFeatures;
+import com.hackathon.verification.land.dto.LandVerificationRequest;
+import com.hackathon.verification.land.entity.Land;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Features of a land verification scored by the {@value #MODEL} model, derived from the request, the registry
+ * record it matched and the precomputed owner and stand counters. Every feature is scaled to 0..1, in the order
+ * of {@link #NAMES}.
+ */
+public final class LandVerificationFeatures {
+
+    public static final String MODEL = "land-verification";
+
+    /**
+     * The model's inputs. Their order here is the order of the feature vector and of {@link #NAMES}.
+     */
+    private enum Feature {
+        EXISTS("exists"),
+        ALLOCATED("allocated"),
+        OWNER_NAME_PRESENT("ownerNamePresent"),
+        OWNER_ID_PRESENT("ownerIdPresent"),
+        REGISTRY_VERIFIED("registryVerified"),
+        REGISTRY_PENDING("registryPending"),
+        LOCATION_EXACT_MATCH("locationExactMatch"),
+        ALLOCATION_DATE_PRESENT("allocationDatePresent"),
+        ALLOCATION_AGE("allocationAge"),
+        PROPERTY_SIZE_PRESENT("propertySizePresent"),
+        STAND_NUMBER_WELL_FORMED("standNumberWellFormed"),
+        LOCATION_PROVIDED("locationProvided"),
+        OWNER_STANDS_HELD("ownerStandsHeld"),
+        STAND_OWNER_CHANGES_12M("standOwnerChanges12m");
+
+        private final String modelName;
+
+        Feature(String modelName) {
+            this.modelName = modelName;
+        }
+    }
+
+    public static final List<String> NAMES = Arrays.stream(Feature.values()).map(feature -> feature.modelName).toList();
+
+    // Allocations older than this count as fully established
+    private static final double MAX_ALLOCATION_AGE_YEARS = 30;
+
+    // Holdings and ownership churn at or above these count as the maximum signal
+    private static final double MAX_STANDS_HELD = 10;
+    private static final double MAX_OWNER_CHANGES = 4;
+
+    // Stand numbers such as 4521, 4521B or 4521/B
+    private static final Pattern STAND_NUMBER = Pattern.compile("\\d+[A-Za-z]?(?:/[0-9A-Za-z]+)?");
+
+    private LandVerificationFeatures() {
+    }
+
+    /**
+     * @param land  the matched registry record, or null when the stand was not found
+     * @param owner precomputed counters of the record's owner ID number
+     * @param stand precomputed counters of the requested stand number
+     */
+    public static double[] of(LandVerificationRequest request, Land land, RiskFeatures owner, RiskFeatures stand, LocalDate today) {
+        double[] features = new double[NAMES.size()];
+        String standNumber = request.getStandNumber();
+        String location = request.getLocation();
+        set(features, Feature.STAND_NUMBER_WELL_FORMED, flag(standNumber != null && STAND_NUMBER.matcher(standNumber.trim()).matches()));
+        set(features, Feature.LOCATION_PROVIDED, flag(location != null && !location.isBlank()));
+        set(features, Feature.STAND_OWNER_CHANGES_12M, Math.min(1, stand.lastTwelveMonths(RiskFeatureStore.OWNER_CHANGES, today) / MAX_OWNER_CHANGES));
+        if (land == null) {
+            return features;
+        }
+
+        set(features, Feature.EXISTS, 1);
+        set(features, Feature.ALLOCATED, flag(land.isAllocated()));
+        set(features, Feature.OWNER_NAME_PRESENT, flag(land.getOwnerName() != null && !land.getOwnerName().isBlank()));
+        set(features, Feature.OWNER_ID_PRESENT, flag(land.getOwnerIdNumber() != null && !land.getOwnerIdNumber().isBlank()));
+        set(features, Feature.REGISTRY_VERIFIED, flag("VERIFIED".equalsIgnoreCase(land.getVerificationStatus())));
+        set(features, Feature.REGISTRY_PENDING, flag("PENDING".equalsIgnoreCase(land.getVerificationStatus())));
+        set(features, Feature.LOCATION_EXACT_MATCH, flag(location != null && location.trim().equalsIgnoreCase(land.getLocation())));
+        if (land.getAllocationDate() != null) {
+            set(features, Feature.ALLOCATION_DATE_PRESENT, 1);
+            long years = Math.max(0, ChronoUnit.YEARS.between(land.getAllocationDate(), today));
+            set(features, Feature.ALLOCATION_AGE, Math.min(1, years / MAX_ALLOCATION_AGE_YEARS));
+        }
+        set(features, Feature.PROPERTY_SIZE_PRESENT, flag(land.getPropertySizeSquareMeters() != null));
+        set(features, Feature.OWNER_STANDS_HELD, Math.min(1, owner.total(RiskFeatureStore.STANDS_HELD) / MAX_STANDS_HELD));
+        return features;
+    }
+
+    private static void set(double[] features, Feature feature, double value) {
+        features[feature.ordinal()] = value;
+    }
+
+    private static double flag(boolean value) {
+        return value ? 1 : 0;
+    }
+}
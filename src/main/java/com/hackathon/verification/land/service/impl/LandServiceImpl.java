@@ -1,24 +1,29 @@
 package com.hackathon.verification.land.service.impl;
 
+import com.hackathon.verification.features.service.RiskFeatureStore;
+import com.hackathon.verification.features.service.RiskFeatures;
 import com.hackathon.verification.land.dto.CreateLandRequest;
 import com.hackathon.verification.land.dto.LandDTO;
 import com.hackathon.verification.land.dto.LandVerificationRequest;
 import com.hackathon.verification.land.dto.LandVerificationResponse;
 import com.hackathon.verification.land.entity.Land;
+import com.hackathon.verification.land.mapper.LandMapper;
 import com.hackathon.verification.land.repository.LandRepository;
 import com.hackathon.verification.land.service.LandService;
+import com.hackathon.verification.land.service.LandVerificationFeatures;
+import com.hackathon.verification.metrics.VerificationMetrics;
+import com.hackathon.verification.scoring.ScoringEngine;
 import jakarta.persistence.EntityNotFoundException;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
-import java.util.stream.Collectors;
 
 @Service
 public class LandServiceImpl implements LandService {
@@ -26,18 +31,27 @@ public class LandServiceImpl implements LandService {
     private static final Logger logger = LoggerFactory.getLogger(LandServiceImpl.class);
 
     private final LandRepository landRepository;
-    private final ModelMapper modelMapper;
+    private final LandMapper landMapper;
+    private final ScoringEngine scoringEngine;
+    private final RiskFeatureStore riskFeatureStore;
+    private final VerificationMetrics verificationMetrics;
 
     @Autowired
-    public LandServiceImpl(LandRepository landRepository, ModelMapper modelMapper) {
+    public LandServiceImpl(LandRepository landRepository, LandMapper landMapper, ScoringEngine scoringEngine,
+                           RiskFeatureStore riskFeatureStore, VerificationMetrics verificationMetrics) {
         this.landRepository = landRepository;
-        this.modelMapper = modelMapper;
+        this.landMapper = landMapper;
+        this.scoringEngine = scoringEngine;
+        this.riskFeatureStore = riskFeatureStore;
+        this.verificationMetrics = verificationMetrics;
+        // Fail at startup rather than on the first request if the model file does not match the features
+        scoringEngine.requireFeatures(LandVerificationFeatures.MODEL, LandVerificationFeatures.NAMES);
     }
 
     @Override
     @Transactional
     public LandDTO createLand(CreateLandRequest createLandRequest) {
-        logger.info("Creating land with request: {}", createLandRequest);
+        logger.debug("Creating land for stand number {}", createLandRequest.getStandNumber());
 
         try {
             // Check if land with same stand number already exists
@@ -46,10 +60,6 @@ public class LandServiceImpl implements LandService {
                 throw new IllegalArgumentException("Land with stand number " + createLandRequest.getStandNumber() + " already exists");
             }
 
-            // Pre-process the request to handle potential type conversion issues
-            logger.debug("Pre-processing request to handle type conversions");
-
-            // Create a new Land object manually to avoid ModelMapper conversion issues
             Land land = new Land();
             land.setStandNumber(createLandRequest.getStandNumber());
             land.setLocation(createLandRequest.getLocation());
@@ -62,7 +72,6 @@ public class LandServiceImpl implements LandService {
             land.setPropertyType(createLandRequest.getPropertyType());
             land.setVerificationStatus(createLandRequest.getVerificationStatus());
 
-            logger.debug("Created entity manually: {}", land);
 
             // Set default values for required fields if they're null
             if (land.getStandNumber() == null) {
@@ -85,15 +94,12 @@ public class LandServiceImpl implements LandService {
             }
 
             // Save the land
-            logger.debug("Saving land entity");
             Land savedLand = landRepository.save(land);
-            logger.info("Land saved successfully with ID: {}", savedLand.getId());
+            logger.info("Land saved with ID {} for stand number {}", savedLand.getId(), savedLand.getStandNumber());
+            riskFeatureStore.add(RiskFeatureStore.OWNER, savedLand.getOwnerIdNumber(), RiskFeatureStore.STANDS_HELD, 1);
 
             // Convert entity back to DTO and return
-            logger.debug("Converting saved entity back to DTO");
-            LandDTO landDTO = modelMapper.map(savedLand, LandDTO.class);
-            logger.debug("Returning DTO: {}", landDTO);
-            return landDTO;
+            return landMapper.toDto(savedLand);
         } catch (Exception e) {
             logger.error("Error creating land: {}", e.getMessage(), e);
             throw e;
@@ -106,7 +112,7 @@ public class LandServiceImpl implements LandService {
         Land land = landRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Land not found with id: " + id));
 
-        return modelMapper.map(land, LandDTO.class);
+        return landMapper.toDto(land);
     }
 
     @Override
@@ -115,7 +121,7 @@ public class LandServiceImpl implements LandService {
         Land land = landRepository.findByStandNumber(standNumber)
                 .orElseThrow(() -> new EntityNotFoundException("Land not found with stand number: " + standNumber));
 
-        return modelMapper.map(land, LandDTO.class);
+        return landMapper.toDto(land);
     }
 
     @Override
@@ -124,7 +130,7 @@ public class LandServiceImpl implements LandService {
         Land land = landRepository.findByStandNumberAndLocation(standNumber, location)
                 .orElseThrow(() -> new EntityNotFoundException("Land not found with stand number: " + standNumber + " and location: " + location));
 
-        return modelMapper.map(land, LandDTO.class);
+        return landMapper.toDto(land);
     }
 
     @Override
@@ -132,9 +138,7 @@ public class LandServiceImpl implements LandService {
     public List<LandDTO> getAllLands() {
         List<Land> lands = landRepository.findAll();
 
-        return lands.stream()
-                .map(land -> modelMapper.map(land, LandDTO.class))
-                .collect(Collectors.toList());
+        return landMapper.toDtoList(lands);
     }
 
     @Override
@@ -150,6 +154,9 @@ public class LandServiceImpl implements LandService {
             throw new IllegalArgumentException("Land with stand number " + landDTO.getStandNumber() + " already exists");
         }
 
+        String previousOwnerIdNumber = existingLand.getOwnerIdNumber();
+        String previousStandNumber = existingLand.getStandNumber();
+
         // Update the land properties
         if (landDTO.getStandNumber() != null) {
             existingLand.setStandNumber(landDTO.getStandNumber());
@@ -182,20 +189,28 @@ public class LandServiceImpl implements LandService {
 
         // Save the updated land
         Land updatedLand = landRepository.save(existingLand);
+        riskFeatureStore.move(RiskFeatureStore.STAND, previousStandNumber, updatedLand.getStandNumber());
+        // A reformatted ID number is the same owner; only a different one moves the stand
+        if (!Objects.equals(RiskFeatureStore.normalize(previousOwnerIdNumber), RiskFeatureStore.normalize(updatedLand.getOwnerIdNumber()))) {
+            riskFeatureStore.add(RiskFeatureStore.OWNER, previousOwnerIdNumber, RiskFeatureStore.STANDS_HELD, -1);
+            riskFeatureStore.add(RiskFeatureStore.OWNER, updatedLand.getOwnerIdNumber(), RiskFeatureStore.STANDS_HELD, 1);
+            riskFeatureStore.addMonthly(RiskFeatureStore.STAND, updatedLand.getStandNumber(), RiskFeatureStore.OWNER_CHANGES,
+                    LocalDate.now(), 1);
+        }
 
         // Convert entity back to DTO and return
-        return modelMapper.map(updatedLand, LandDTO.class);
+        return landMapper.toDto(updatedLand);
     }
 
     @Override
     @Transactional
     public void deleteLand(Long id) {
         // Check if land exists
-        if (!landRepository.existsById(id)) {
-            throw new EntityNotFoundException("Land not found with id: " + id);
-        }
+        Land land = landRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Land not found with id: " + id));
 
-        landRepository.deleteById(id);
+        landRepository.delete(land);
+        riskFeatureStore.add(RiskFeatureStore.OWNER, land.getOwnerIdNumber(), RiskFeatureStore.STANDS_HELD, -1);
     }
 
     @Override
@@ -203,9 +218,7 @@ public class LandServiceImpl implements LandService {
     public List<LandDTO> searchLandsByLocation(String location) {
         List<Land> lands = landRepository.findByLocationContainingIgnoreCase(location);
 
-        return lands.stream()
-                .map(land -> modelMapper.map(land, LandDTO.class))
-                .collect(Collectors.toList());
+        return landMapper.toDtoList(lands);
     }
 
     @Override
@@ -213,9 +226,7 @@ public class LandServiceImpl implements LandService {
     public List<LandDTO> searchLandsByOwnerName(String ownerName) {
         List<Land> lands = landRepository.findByOwnerNameContainingIgnoreCase(ownerName);
 
-        return lands.stream()
-                .map(land -> modelMapper.map(land, LandDTO.class))
-                .collect(Collectors.toList());
+        return landMapper.toDtoList(lands);
     }
 
     @Override
@@ -223,9 +234,7 @@ public class LandServiceImpl implements LandService {
     public List<LandDTO> searchLandsByOwnerIdNumber(String ownerIdNumber) {
         List<Land> lands = landRepository.findByOwnerIdNumber(ownerIdNumber);
 
-        return lands.stream()
-                .map(land -> modelMapper.map(land, LandDTO.class))
-                .collect(Collectors.toList());
+        return landMapper.toDtoList(lands);
     }
 
     @Override
@@ -233,9 +242,7 @@ public class LandServiceImpl implements LandService {
     public List<LandDTO> getLandsByAllocationStatus(boolean isAllocated) {
         List<Land> lands = landRepository.findByIsAllocated(isAllocated);
 
-        return lands.stream()
-                .map(land -> modelMapper.map(land, LandDTO.class))
-                .collect(Collectors.toList());
+        return landMapper.toDtoList(lands);
     }
 
     @Override
@@ -243,9 +250,7 @@ public class LandServiceImpl implements LandService {
     public List<LandDTO> getLandsByPropertyType(String propertyType) {
         List<Land> lands = landRepository.findByPropertyType(propertyType);
 
-        return lands.stream()
-                .map(land -> modelMapper.map(land, LandDTO.class))
-                .collect(Collectors.toList());
+        return landMapper.toDtoList(lands);
     }
 
     @Override
@@ -253,21 +258,19 @@ public class LandServiceImpl implements LandService {
     public List<LandDTO> getLandsByVerificationStatus(String verificationStatus) {
         List<Land> lands = landRepository.findByVerificationStatus(verificationStatus);
 
-        return lands.stream()
-                .map(land -> modelMapper.map(land, LandDTO.class))
-                .collect(Collectors.toList());
+        return landMapper.toDtoList(lands);
     }
 
     @Override
     @Transactional(readOnly = true)
     public LandVerificationResponse verifyLand(LandVerificationRequest request) {
+        return toVerificationResponse(request, verificationMetrics.time("land", VerificationMetrics.LOOKUP, () -> findLand(request)));
+    }
+
+    private Optional<Land> findLand(LandVerificationRequest request) {
         String standNumber = request.getStandNumber();
         String location = request.getLocation();
 
-        LandVerificationResponse response = new LandVerificationResponse();
-        response.setStandNumber(standNumber);
-        response.setLocation(location);
-
         // Check if land exists
         Optional<Land> landOptional;
         if (location != null && !location.isEmpty()) {
@@ -291,6 +294,13 @@ public class LandServiceImpl implements LandService {
         } else {
             landOptional = landRepository.findByStandNumber(standNumber);
         }
+        return landOptional;
+    }
+
+    private LandVerificationResponse toVerificationResponse(LandVerificationRequest request, Optional<Land> landOptional) {
+        LandVerificationResponse response = new LandVerificationResponse();
+        response.setStandNumber(request.getStandNumber());
+        response.setLocation(request.getLocation());
 
         if (landOptional.isPresent()) {
             Land land = landOptional.get();
@@ -318,12 +328,19 @@ public class LandServiceImpl implements LandService {
     @Transactional(readOnly = true)
     public LandVerificationResponse verifyLandWithAI(LandVerificationRequest request) {
         // First, perform standard verification
-        LandVerificationResponse response = verifyLand(request);
-
-        // Add AI-enhanced verification (simulated for now)
-        // In a real implementation, this would call an AI service
-        Random random = new Random();
-        double confidenceScore = 0.7 + (random.nextDouble() * 0.3); // Random score between 0.7 and 1.0
+        Optional<Land> landOptional = verificationMetrics.time("land-ai", VerificationMetrics.LOOKUP, () -> findLand(request));
+        LandVerificationResponse response = toVerificationResponse(request, landOptional);
+
+        // Score the registry record with the local model; the same record always gets the same score
+        Land land = landOptional.orElse(null);
+        long enrichmentStart = System.nanoTime();
+        RiskFeatures owner = land != null
+                ? riskFeatureStore.get(RiskFeatureStore.OWNER, land.getOwnerIdNumber()) : RiskFeatures.EMPTY;
+        RiskFeatures stand = riskFeatureStore.get(RiskFeatureStore.STAND, request.getStandNumber());
+        verificationMetrics.record("land-ai", VerificationMetrics.ENRICHMENT, System.nanoTime() - enrichmentStart);
+        double confidenceScore = verificationMetrics.time("land-ai", VerificationMetrics.SCORING,
+                () -> scoringEngine.score(LandVerificationFeatures.MODEL,
+                        LandVerificationFeatures.of(request, land, owner, stand, LocalDate.now())));
         response.setConfidenceScore(confidenceScore);
 
         // Enhance the message with AI insights
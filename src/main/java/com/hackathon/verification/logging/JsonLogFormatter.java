@@ -0,0 +1,42 @@
+package com.hackathon.verification.logging;
+
+import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import org.springframework.boot.json.JsonWriter;
+import org.springframework.boot.logging.structured.StructuredLogFormatter;
+import org.springframework.core.env.Environment;
+
+/**
+ * One JSON object per log line, with ID numbers, phone numbers and emails masked by {@link PiiMasker} in the
+ * message and in exception messages and stack traces. Field names follow Elastic Common Schema so the lines can be
+ * shipped without a parsing pipeline. Selected with {@code logging.structured.format.console}.
+ */
+public class JsonLogFormatter implements StructuredLogFormatter<ILoggingEvent> {
+
+    private final JsonWriter<ILoggingEvent> writer;
+
+    public JsonLogFormatter(Environment environment, ThrowableProxyConverter throwableProxyConverter) {
+        String serviceName = environment.getProperty("spring.application.name");
+        this.writer = JsonWriter.<ILoggingEvent>of(members -> {
+            members.add("@timestamp", ILoggingEvent::getInstant).as(Object::toString);
+            members.add("log.level", ILoggingEvent::getLevel).as(Object::toString);
+            members.add("process.thread.name", ILoggingEvent::getThreadName);
+            members.add("service.name", serviceName).whenHasLength();
+            members.add("log.logger", ILoggingEvent::getLoggerName);
+            members.add("message", event -> PiiMasker.mask(event.getFormattedMessage()));
+            members.addMapEntries(ILoggingEvent::getMDCPropertyMap);
+            members.add().whenNotNull(ILoggingEvent::getThrowableProxy).usingMembers(error -> {
+                error.add("error.type", ILoggingEvent::getThrowableProxy).as(IThrowableProxy::getClassName);
+                error.add("error.message", ILoggingEvent::getThrowableProxy).as(IThrowableProxy::getMessage)
+                        .as(PiiMasker::mask).whenNotNull();
+                error.add("error.stack_trace", event -> PiiMasker.mask(throwableProxyConverter.convert(event)));
+            });
+        }).withNewLineAtEnd();
+    }
+
+    @Override
+    public String format(ILoggingEvent event) {
+        return writer.writeToString(event);
+    }
+}
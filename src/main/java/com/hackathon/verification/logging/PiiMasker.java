@@ -0,0 +1,152 @@
+package com.hackathon.verification.logging;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Masks personal identifiers in log text: Zimbabwean national ID numbers ({@code 63-1234567 X 42}), mobile and
+ * international phone numbers and email addresses. Enough of each is kept to correlate lines about the same person
+ * (district code and check digits, last digits of a phone, first letter and domain of an email), never enough to
+ * recover it.
+ *
+ * <p>This runs on every log line, so the text is scanned once and the patterns are only tried, anchored, where a
+ * number starts; emails are found from their {@code @}. Text without a digit or an {@code @} is returned as is.
+ */
+public final class PiiMasker {
+
+    private static final char MASK = '*';
+
+    // District code, 6 or 7 digit registration number, check letter, district of origin
+    private static final Pattern NATIONAL_ID = Pattern.compile("(\\d{2})([- ]?\\d{6,7}[- ]?[A-Za-z])([- ]?\\d{2})(?!\\w)");
+
+    // Zimbabwean mobiles in local or international form, then any other number with a country code
+    private static final Pattern PHONE = Pattern.compile(
+            "((?:\\+|00)263[ -]?|0)(7\\d(?:[ -]?\\d){5})((?:[ -]?\\d){2})(?!\\w)"
+            + "|(\\+\\d{1,3}[ -]?)(\\d(?:[ -]?\\d){5,10})((?:[ -]?\\d){2})(?!\\w)");
+
+    private PiiMasker() {
+    }
+
+    public static String mask(String text) {
+        if (text == null) {
+            return null;
+        }
+        boolean digits = false;
+        boolean at = false;
+        for (int i = 0; i < text.length() && !(digits && at); i++) {
+            char c = text.charAt(i);
+            digits |= c >= '0' && c <= '9';
+            at |= c == '@';
+        }
+        String masked = at ? maskEmails(text) : text;
+        return digits ? maskNumbers(masked) : masked;
+    }
+
+    private static String maskEmails(String text) {
+        StringBuilder masked = null;
+        int copied = 0;
+        int at = text.indexOf('@');
+        while (at >= 0) {
+            int start = at;
+            while (start > 0 && isLocalPart(text.charAt(start - 1))) {
+                start--;
+            }
+            int end = at + 1;
+            while (end < text.length() && isDomain(text.charAt(end))) {
+                end++;
+            }
+            // A full stop ending the sentence is not part of the domain
+            while (end > at + 1 && text.charAt(end - 1) == '.') {
+                end--;
+            }
+            if (start < at && hasTopLevelDomain(text, at + 1, end)) {
+                if (masked == null) {
+                    masked = new StringBuilder(text.length());
+                }
+                masked.append(text, copied, start + 1).append("***");
+                copied = at;
+            }
+            at = text.indexOf('@', Math.max(end, at + 1));
+        }
+        if (masked == null) {
+            return text;
+        }
+        return masked.append(text, copied, text.length()).toString();
+    }
+
+    private static String maskNumbers(String text) {
+        StringBuilder masked = null;
+        int copied = 0;
+        Matcher nationalId = NATIONAL_ID.matcher(text);
+        Matcher phone = PHONE.matcher(text);
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (!(c == '+' || (c >= '0' && c <= '9')) || (i > 0 && isWordOrPlus(text.charAt(i - 1)))) {
+                continue;
+            }
+            Matcher match = lookingAt(nationalId, i, length) ? nationalId : lookingAt(phone, i, length) ? phone : null;
+            if (match == null) {
+                continue;
+            }
+            int group = match.group(1) != null ? 1 : 4;
+            if (masked == null) {
+                masked = new StringBuilder(length);
+            }
+            masked.append(text, copied, i)
+                    .append(match.group(group))
+                    .append(hide(match.group(group + 1)))
+                    .append(match.group(group + 2));
+            copied = match.end();
+            i = copied - 1;
+        }
+        if (masked == null) {
+            return text;
+        }
+        return masked.append(text, copied, length).toString();
+    }
+
+    private static boolean lookingAt(Matcher matcher, int start, int end) {
+        return matcher.region(start, end).lookingAt();
+    }
+
+    // Letters and digits are hidden, separators kept so the shape of the identifier survives
+    private static String hide(String part) {
+        char[] chars = part.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (Character.isLetterOrDigit(chars[i])) {
+                chars[i] = MASK;
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean hasTopLevelDomain(String text, int start, int end) {
+        int dot = text.lastIndexOf('.', end - 1);
+        if (dot <= start || end - dot < 3) {
+            return false;
+        }
+        for (int i = dot + 1; i < end; i++) {
+            if (!Character.isLetter(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalPart(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomain(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '-';
+    }
+
+    private static boolean isWordOrPlus(char c) {
+        return isAsciiLetterOrDigit(c) || c == '_' || c == '+';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,90 @@
+package com.hackathon.verification.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one INFO line in every N from the configured loggers, and from loggers below them, before the event is
+ * even created. Rates are given as {@code logger=N} pairs separated by commas; the most specific logger wins.
+ * WARN and ERROR always pass, as do lines from loggers without a rate.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Sampler NONE = new Sampler(1);
+
+    private final Map<String, Sampler> configured = new LinkedHashMap<>();
+    // Logger name to the sampler of its closest configured ancestor, or NONE
+    private final Map<String, Sampler> resolved = new ConcurrentHashMap<>();
+
+    public void setRates(String rates) {
+        configured.clear();
+        resolved.clear();
+        if (rates == null || rates.isBlank()) {
+            return;
+        }
+        for (String pair : rates.split(",")) {
+            int separator = pair.indexOf('=');
+            if (separator <= 0) {
+                addWarn("Ignoring log sampling rate without logger=N form: " + pair.trim());
+                continue;
+            }
+            String logger = pair.substring(0, separator).trim();
+            try {
+                int every = Integer.parseInt(pair.substring(separator + 1).trim());
+                if (every > 1) {
+                    configured.put(logger, new Sampler(every));
+                }
+            } catch (NumberFormatException e) {
+                addWarn("Ignoring log sampling rate that is not a whole number: " + pair.trim());
+            }
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isInfoEnabled() checks arrive without a format and must not be sampled
+        if (level != Level.INFO || format == null || configured.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+        Sampler sampler = resolved.computeIfAbsent(logger.getName(), this::samplerFor);
+        return sampler == NONE || sampler.keep() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Sampler samplerFor(String loggerName) {
+        String name = loggerName;
+        while (true) {
+            Sampler sampler = configured.get(name);
+            if (sampler != null) {
+                return sampler;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return NONE;
+            }
+            name = name.substring(0, dot);
+        }
+    }
+
+    private static final class Sampler {
+
+        private final int every;
+        private final AtomicLong seen = new AtomicLong();
+
+        private Sampler(int every) {
+            this.every = every;
+        }
+
+        // The first line is always kept, so a quiet logger is never silenced entirely
+        private boolean keep() {
+            return seen.getAndIncrement() % every == 0;
+        }
+    }
+}
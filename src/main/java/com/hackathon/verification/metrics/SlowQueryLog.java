@@ -0,0 +1,126 @@
+package com.hackathon.verification.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Logs SQL statements that take longer than {@code sql.slow-query.threshold-ms} to execute, with the route of the
+ * request that issued them and the application method that called into the repository, and keeps the slowest
+ * {@code sql.slow-query.top-size} of them in memory for the admin diagnostics API.
+ * <p>
+ * Bind parameter values are never captured, and literals inlined into the SQL text are replaced with {@code ?}
+ * before anything is logged or kept, so identity numbers and names stay out of the logs.
+ */
+@Component
+public class SlowQueryLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String APPLICATION_PACKAGE = "com.hackathon.";
+    private static final String METRICS_PACKAGE = SlowQueryLog.class.getPackageName() + ".";
+
+    @Value("${sql.slow-query.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sql.slow-query.threshold-ms:200}")
+    private long thresholdMillis;
+
+    @Value("${sql.slow-query.top-size:20}")
+    private int topSize;
+
+    // Keyed by route, caller and SQL; bounded to topSize by dropping the fastest, guarded by itself
+    private final Map<String, SlowStatement> slowest = new HashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder slowExecutions = new LongAdder();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Called after every statement execution; anything under the threshold costs one comparison.
+     */
+    public void record(String sql, long nanos) {
+        executions.increment();
+        if (nanos < TimeUnit.MILLISECONDS.toNanos(thresholdMillis) || sql == null) {
+            return;
+        }
+        slowExecutions.increment();
+        String redacted = redact(sql);
+        String route = SqlStatementCounter.currentRoute();
+        String caller = caller();
+        logger.warn("Slow SQL took {} ms in {} from {}: {}", TimeUnit.NANOSECONDS.toMillis(nanos),
+                route != null ? route : "no request", caller, redacted);
+
+        String key = route + '\n' + caller + '\n' + redacted;
+        synchronized (slowest) {
+            SlowStatement statement = slowest.computeIfAbsent(key, ignored -> new SlowStatement(redacted, route, caller));
+            statement.record(nanos);
+            if (slowest.size() > topSize) {
+                slowest.values().stream()
+                        .min(Comparator.comparingLong(SlowStatement::maxNanos))
+                        .ifPresent(fastest -> slowest.values().remove(fastest));
+            }
+        }
+    }
+
+    /**
+     * The slowest statements seen, slowest first.
+     */
+    public List<SlowStatement> getSlowest() {
+        List<SlowStatement> statements;
+        synchronized (slowest) {
+            statements = new ArrayList<>(slowest.values());
+        }
+        statements.sort(Comparator.comparingLong(SlowStatement::maxNanos).reversed());
+        return statements;
+    }
+
+    public void clear() {
+        synchronized (slowest) {
+            slowest.clear();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("thresholdMillis", thresholdMillis);
+        stats.put("executions", executions.sum());
+        stats.put("slowExecutions", slowExecutions.sum());
+        return stats;
+    }
+
+    static String redact(String sql) {
+        String redacted = STRING_LITERAL.matcher(sql).replaceAll("?");
+        redacted = NUMBER_LITERAL.matcher(redacted).replaceAll("?");
+        return WHITESPACE.matcher(redacted).replaceAll(" ").trim();
+    }
+
+    // The innermost application frame outside this package, e.g. the service method that called the repository
+    private static String caller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(METRICS_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.hackathon.verification.metrics;
+
+import java.time.Instant;
+
+/**
+ * Running totals for one redacted SQL statement issued from one route and caller, counting only the executions
+ * that went over the slow-query threshold.
+ */
+public class SlowStatement {
+
+    private final String sql;
+    private final String route;
+    private final String caller;
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+    private Instant lastSeen;
+
+    SlowStatement(String sql, String route, String caller) {
+        this.sql = sql;
+        this.route = route;
+        this.caller = caller;
+    }
+
+    synchronized void record(long nanos) {
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        lastSeen = Instant.now();
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public String getCaller() {
+        return caller;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getMaxMillis() {
+        return maxNanos / 1e6;
+    }
+
+    public synchronized double getAverageMillis() {
+        return count == 0 ? 0 : totalNanos / 1e6 / count;
+    }
+
+    public synchronized Instant getLastSeen() {
+        return lastSeen;
+    }
+
+    synchronized long maxNanos() {
+        return maxNanos;
+    }
+}
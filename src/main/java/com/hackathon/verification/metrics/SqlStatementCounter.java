@@ -0,0 +1,102 @@
+package com.hackathon.verification.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the SQL statements Hibernate prepares while a request is in scope, and remembers which route the request
+ * matched so that slow statements can be charged to it. Hibernate instantiates the inspector itself, so the current
+ * scope lives in a thread local; work handed to another thread carries it along through
+ * {@link #propagate(Runnable)} so that fan-out reads are charged to the request that caused them.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private record Scope(AtomicInteger count, String route) {
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = SCOPE.get();
+        if (scope != null) {
+            scope.count().incrementAndGet();
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting on this thread, replacing any scope left behind by an earlier request.
+     */
+    public static AtomicInteger begin() {
+        return begin(null);
+    }
+
+    /**
+     * Starts counting on this thread for a request to {@code route}, e.g. {@code "POST /api/v1/tenants/verify"}.
+     */
+    public static AtomicInteger begin(String route) {
+        AtomicInteger count = new AtomicInteger();
+        SCOPE.set(new Scope(count, route));
+        return count;
+    }
+
+    /**
+     * Stops counting on this thread and returns the number of statements seen, or -1 when no scope was open.
+     */
+    public static int end() {
+        Scope scope = SCOPE.get();
+        SCOPE.remove();
+        return scope != null ? scope.count().get() : -1;
+    }
+
+    /**
+     * The route of the request this thread is working for, or null outside a request.
+     */
+    public static String currentRoute() {
+        Scope scope = SCOPE.get();
+        return scope != null ? scope.route() : null;
+    }
+
+    public static Runnable propagate(Runnable task) {
+        Scope scope = SCOPE.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            Scope previous = SCOPE.get();
+            SCOPE.set(scope);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Scope scope = SCOPE.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            Scope previous = SCOPE.get();
+            SCOPE.set(scope);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Scope previous) {
+        if (previous != null) {
+            SCOPE.set(previous);
+        } else {
+            SCOPE.remove();
+        }
+    }
+}
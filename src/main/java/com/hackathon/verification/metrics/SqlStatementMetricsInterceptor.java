@@ -0,0 +1,57 @@
+package com.hackathon.verification.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens a {@link SqlStatementCounter} scope around each API request and records how many statements it issued
+ * as {@code verification.sql.statements}, tagged with the matched URI template so it lines up with
+ * {@code http.server.requests}. The scope also names the route for the {@link SlowQueryLog}.
+ */
+public class SqlStatementMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String STATEMENTS_SUMMARY = "verification.sql.statements";
+
+    private final MeterRegistry registry;
+
+    public SqlStatementMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.begin(request.getMethod() + " " + uri(request));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = SqlStatementCounter.end();
+        if (statements < 0) {
+            return;
+        }
+        DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .description("SQL statements issued while handling one request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri(request))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(statements);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    // Streaming responses outlive the request thread, so their statements are not attributed to the request
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.end();
+    }
+}
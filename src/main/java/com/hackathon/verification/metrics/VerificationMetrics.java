@@ -0,0 +1,110 @@
+package com.hackathon.verification.metrics;
+
+import com.hackathon.verification.metrics.jfr.VerificationStageEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-stage timers for the verification paths, published as {@code verification.stage} tagged with the path
+ * (tenant, landlord, land, land-ai, vehicle, vehicle-ai, land-document) and the stage within it.
+ * Timers carry percentile histograms so latency quantiles can be aggregated across instances. Every sample is
+ * also emitted as a {@link VerificationStageEvent} when a flight recording has that event enabled.
+ */
+@Component
+public class VerificationMetrics {
+
+    public static final String STAGE_TIMER = "verification.stage";
+
+    public static final String LOOKUP = "lookup";
+    public static final String ENRICHMENT = "enrichment";
+    public static final String SCORING = "scoring";
+    public static final String PERSIST = "persist";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public VerificationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Starts timing a stage whose entity id or row count is only known once it finishes.
+     */
+    public Stage start(String path, String stage) {
+        return new Stage(path, stage);
+    }
+
+    public <T> T time(String path, String stage, Supplier<T> work) {
+        Stage timed = start(path, stage);
+        try {
+            return work.get();
+        } finally {
+            timed.end();
+        }
+    }
+
+    public void time(String path, String stage, Runnable work) {
+        Stage timed = start(path, stage);
+        try {
+            work.run();
+        } finally {
+            timed.end();
+        }
+    }
+
+    public void record(String path, String stage, long nanos) {
+        timer(path, stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public final class Stage {
+
+        private final String path;
+        private final String stage;
+        private final long start = System.nanoTime();
+        private final VerificationStageEvent event = new VerificationStageEvent();
+
+        private Stage(String path, String stage) {
+            this.path = path;
+            this.stage = stage;
+            event.begin();
+        }
+
+        public void end() {
+            end(null, 0);
+        }
+
+        public void end(Long entityId, int rows) {
+            record(path, stage, System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = path;
+                event.stage = stage;
+                event.entityId = entityId != null ? entityId : 0;
+                event.rows = rows;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Records stage durations already measured in milliseconds, as the land-document pipeline reports them.
+     */
+    public void recordStages(String path, Map<String, Long> stageMillis) {
+        stageMillis.forEach((stage, millis) -> timer(path, stage).record(millis, TimeUnit.MILLISECONDS));
+    }
+
+    private Timer timer(String path, String stage) {
+        return timers.computeIfAbsent(path + '/' + stage, key -> Timer.builder(STAGE_TIMER)
+                .description("Time spent in one stage of a verification")
+                .tag("path", path)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+}
@@ -0,0 +1,105 @@
+package com.hackathon.verification.metrics.controller;
+
+import com.hackathon.verification.metrics.SlowQueryLog;
+import com.hackathon.verification.metrics.jfr.FlightRecordings;
+import com.hackathon.verification.threads.VirtualThreadStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Controller for the diagnostics that expose SQL text, thread state and flight recordings, which carry system
+ * properties, environment variables and stack traces. Admin only, see {@code AdminAccessInterceptor}.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/diagnostics")
+@Tag(name = "Diagnostics", description = "Admin API for slow SQL statements, flight recordings and virtual thread state")
+public class DiagnosticsController {
+
+    private static final String DUMP = "dump";
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private FlightRecordings flightRecordings;
+
+    @Autowired
+    private VirtualThreadStatus virtualThreadStatus;
+
+    @Operation(summary = "Get the slowest SQL statements",
+            description = "Returns the slowest statements seen since startup or the last reset, with the route and caller that issued them")
+    @GetMapping("/slow-queries")
+    public ResponseEntity<Map<String, Object>> getSlowQueries() {
+        Map<String, Object> body = slowQueryLog.getStats();
+        body.put("statements", slowQueryLog.getSlowest());
+        return ResponseEntity.ok(body);
+    }
+
+    @Operation(summary = "Reset the slowest SQL statements")
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<Void> resetSlowQueries() {
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get the flight recording state")
+    @GetMapping("/flight-recording")
+    public ResponseEntity<Map<String, Object>> getFlightRecording() {
+        return ResponseEntity.ok(flightRecordings.getStats());
+    }
+
+    @Operation(summary = "Start a flight recording",
+            description = "Starts a JFR recording with the given settings (default or profile) that keeps the last maxAgeSeconds of events")
+    @PostMapping("/flight-recording")
+    public ResponseEntity<Map<String, Object>> startFlightRecording(@RequestParam(required = false) String settings,
+                                                                    @RequestParam(required = false) Long maxAgeSeconds) {
+        try {
+            return ResponseEntity.ok(flightRecordings.start(settings, maxAgeSeconds));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Download a flight recording",
+            description = "'dump' writes and downloads what the running recording holds so far; any other name downloads an earlier dump")
+    @GetMapping("/flight-recording/{name}")
+    public ResponseEntity<Resource> downloadFlightRecording(@PathVariable String name) throws IOException {
+        Path file;
+        if (DUMP.equals(name)) {
+            file = flightRecordings.isRunning() ? flightRecordings.dump() : null;
+        } else {
+            file = flightRecordings.findDump(name);
+        }
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .body(new FileSystemResource(file));
+    }
+
+    @Operation(summary = "Stop the flight recording")
+    @DeleteMapping("/flight-recording")
+    public ResponseEntity<Void> stopFlightRecording() {
+        return flightRecordings.stop() ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Get virtual thread state",
+            description = "Returns whether requests run on virtual threads, the connection limiter and where threads were pinned")
+    @GetMapping("/virtual-threads")
+    public ResponseEntity<Map<String, Object>> getVirtualThreads() {
+        return ResponseEntity.ok(virtualThreadStatus.getStats());
+    }
+}
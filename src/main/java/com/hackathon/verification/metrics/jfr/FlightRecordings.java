@@ -0,0 +1,171 @@
+package com.hackathon.verification.metrics.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Holds the on-demand flight recording. The application's own events ({@code com.hackathon.*}) are always on in
+ * it; the JDK events follow the chosen settings, {@code default} (about 1% overhead) or {@code profile}. Dumps are
+ * written to a directory that keeps only the most recent few.
+ */
+@Component
+public class FlightRecordings {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecordings.class);
+
+    private static final String RECORDING_NAME = "verification";
+    private static final String DUMP_PREFIX = RECORDING_NAME + "-";
+    private static final String DUMP_SUFFIX = ".jfr";
+    private static final DateTimeFormatter DUMP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    @Value("${jfr.directory:${java.io.tmpdir}/jfr}")
+    private String directory;
+
+    @Value("${jfr.settings:default}")
+    private String defaultSettings;
+
+    @Value("${jfr.max-age-seconds:600}")
+    private long defaultMaxAgeSeconds;
+
+    @Value("${jfr.max-dumps:5}")
+    private int maxDumps;
+
+    private Recording recording;
+    private String settings;
+
+    /**
+     * Starts a recording that keeps the last {@code maxAgeSeconds} of events in its disk repository until dumped.
+     */
+    public synchronized Map<String, Object> start(String settingsName, Long maxAgeSeconds) {
+        if (isRunning()) {
+            throw new IllegalStateException("A flight recording is already running");
+        }
+        String name = settingsName != null && !settingsName.isBlank() ? settingsName : defaultSettings;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown flight recorder settings: " + name, e);
+        }
+
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(Duration.ofSeconds(maxAgeSeconds != null && maxAgeSeconds > 0 ? maxAgeSeconds : defaultMaxAgeSeconds));
+        started.enable(VerificationStageEvent.class);
+        started.enable(RepositoryCallEvent.class);
+        started.enable(OcrPageEvent.class);
+        started.enable(SentimentAnalysisEvent.class);
+        started.start();
+        recording = started;
+        settings = name;
+        logger.info("Started flight recording with {} settings, keeping {}", name, started.getMaxAge());
+        return getStats();
+    }
+
+    /**
+     * Writes everything the running recording holds to a new file and returns it.
+     */
+    public synchronized Path dump() throws IOException {
+        if (!isRunning()) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+        Path root = Files.createDirectories(Paths.get(directory));
+        Path file = root.resolve(DUMP_PREFIX + LocalDateTime.now().format(DUMP_TIMESTAMP) + DUMP_SUFFIX);
+        recording.dump(file);
+        logger.info("Dumped flight recording to {} ({} bytes)", file, Files.size(file));
+        pruneDumps();
+        return file;
+    }
+
+    /**
+     * Resolves a dump by file name; only files this class wrote are served.
+     */
+    public Path findDump(String fileName) {
+        return listDumps().stream()
+                .filter(file -> file.getFileName().toString().equals(fileName))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public synchronized boolean stop() {
+        if (recording == null) {
+            return false;
+        }
+        recording.close();
+        recording = null;
+        logger.info("Stopped flight recording");
+        return true;
+    }
+
+    public synchronized boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("running", isRunning());
+        if (recording != null) {
+            stats.put("settings", settings);
+            stats.put("startTime", recording.getStartTime());
+            stats.put("maxAgeSeconds", recording.getMaxAge().toSeconds());
+        }
+        stats.put("directory", directory);
+        stats.put("dumps", listDumps().stream().map(file -> file.getFileName().toString()).toList());
+        return stats;
+    }
+
+    @PreDestroy
+    public void close() {
+        stop();
+    }
+
+    // Oldest first, since the timestamped names sort chronologically
+    private List<Path> listDumps() {
+        Path root = Paths.get(directory);
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(root)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(DUMP_PREFIX) && name.endsWith(DUMP_SUFFIX);
+            }).sorted().toList();
+        } catch (IOException e) {
+            logger.warn("Could not list flight recording dumps in {}: {}", root, e.toString());
+            return List.of();
+        }
+    }
+
+    private void pruneDumps() {
+        List<Path> dumps = new ArrayList<>(listDumps());
+        while (dumps.size() > Math.max(1, maxDumps)) {
+            Path oldest = dumps.remove(0);
+            try {
+                Files.deleteIfExists(oldest);
+            } catch (IOException e) {
+                logger.debug("Could not delete flight recording dump {}: {}", oldest, e.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.hackathon.verification.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Recognition of one page of an uploaded land document, including rendering when the page came from a PDF.
+ */
+@Name("com.hackathon.OcrPage")
+@Label("OCR Page")
+@Category({"Hackathon", "Land Documents"})
+@Description("Tesseract recognition of one document page")
+@StackTrace(false)
+public class OcrPageEvent extends Event {
+
+    @Label("Document")
+    @Description("Leading characters of the document's SHA-256, as used by the OCR result cache")
+    public String document;
+
+    @Label("Page")
+    public int page;
+
+    @Label("DPI")
+    public int dpi;
+
+    @Label("Mean Confidence")
+    public int meanConfidence;
+
+    @Label("Words")
+    public int words;
+
+    @Label("Characters")
+    public int characters;
+
+    /**
+     * Ends the event begun before the page was rendered or decoded and commits it if the recording wants it.
+     */
+    public void finish(String sha256, int page, int dpi, int meanConfidence, int words, int characters) {
+        end();
+        if (shouldCommit()) {
+            this.document = sha256 == null ? null : sha256.substring(0, Math.min(12, sha256.length()));
+            this.page = page;
+            this.dpi = dpi;
+            this.meanConfidence = meanConfidence;
+            this.words = words;
+            this.characters = characters;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.hackathon.verification.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A repository call made on a verification path, with the number of rows it returned. Stack traces are kept so
+ * a slow call can be traced back to the service method that issued it.
+ */
+@Name("com.hackathon.RepositoryCall")
+@Label("Repository Call")
+@Category({"Hackathon", "Verification"})
+@Description("A Spring Data repository call made while verifying")
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Entity Id")
+    @Description("Id of the tenant, landlord or land record the call was made for, 0 when not known")
+    public long entityId;
+
+    @Label("Rows")
+    public int rows;
+
+    /**
+     * Runs the call inside an event. When the event type is disabled, as it is unless a recording asks for it,
+     * this costs a single flag check.
+     */
+    public static <T> T record(String repository, String method, Long entityId, Supplier<T> call) {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+        event.begin();
+        T result = call.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.repository = repository;
+            event.method = method;
+            event.entityId = entityId != null ? entityId : 0;
+            event.rows = rows(result);
+            event.commit();
+        }
+        return result;
+    }
+
+    static int rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
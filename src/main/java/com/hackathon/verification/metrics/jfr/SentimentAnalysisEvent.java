@@ -0,0 +1,41 @@
+package com.hackathon.verification.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Sentiment scoring and trait extraction for the review text of one rating.
+ */
+@Name("com.hackathon.SentimentAnalysis")
+@Label("Sentiment Analysis")
+@Category({"Hackathon", "Ratings"})
+@Description("Sentiment scoring and trait extraction of a rating's review text")
+@StackTrace(false)
+public class SentimentAnalysisEvent extends Event {
+
+    @Label("Rating Id")
+    @Description("0 while the rating is being created")
+    public long ratingId;
+
+    @Label("Rating Type")
+    public String ratingType;
+
+    @Label("Landlord Id")
+    public long landlordId;
+
+    @Label("Tenant Id")
+    public long tenantId;
+
+    @Label("Text Length")
+    public int textLength;
+
+    @Label("Sentiment Score")
+    public double sentimentScore;
+
+    @Label("Traits")
+    public String traits;
+}
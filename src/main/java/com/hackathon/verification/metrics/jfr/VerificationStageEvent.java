@@ -0,0 +1,34 @@
+package com.hackathon.verification.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stage of a verification (lookup, enrichment, scoring, persist, ...), spanning the same interval as the
+ * matching {@code verification.stage} timer sample.
+ */
+@Name("com.hackathon.VerificationStage")
+@Label("Verification Stage")
+@Category({"Hackathon", "Verification"})
+@Description("One stage of a tenant, landlord, land or vehicle verification")
+@StackTrace(false)
+public class VerificationStageEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Entity Id")
+    @Description("Id of the tenant, landlord or land record being verified, 0 when not yet known")
+    public long entityId;
+
+    @Label("Rows")
+    @Description("Rows read or written by the stage")
+    public int rows;
+}
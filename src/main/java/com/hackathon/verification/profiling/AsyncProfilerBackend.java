@@ -0,0 +1,43 @@
+package com.hackathon.verification.profiling;
+
+import one.profiler.AsyncProfiler;
+
+import java.time.Duration;
+
+/**
+ * async-profiler, loaded into the JVM on first use. Falls back to timer signals where perf events are not
+ * available, as in most containers, and sees native and JVM frames as well as Java ones.
+ */
+class AsyncProfilerBackend implements ProfilerBackend {
+
+    private final AsyncProfiler profiler;
+    private final int intervalMillis;
+    private final long allocIntervalBytes;
+
+    AsyncProfilerBackend(String library, int intervalMillis, long allocIntervalBytes) {
+        this.profiler = library == null || library.isBlank() ? AsyncProfiler.getInstance() : AsyncProfiler.getInstance(library);
+        this.intervalMillis = intervalMillis;
+        this.allocIntervalBytes = allocIntervalBytes;
+    }
+
+    @Override
+    public String getName() {
+        return "async-profiler " + profiler.getVersion();
+    }
+
+    @Override
+    public String capture(ProfileMode mode, Duration duration, boolean html, String title) throws Exception {
+        String start = switch (mode) {
+            case CPU -> "start,event=cpu,interval=" + intervalMillis + "ms";
+            case WALL -> "start,event=wall,interval=" + intervalMillis + "ms";
+            case ALLOC -> "start,event=alloc,alloc=" + allocIntervalBytes;
+        };
+        profiler.execute(start);
+        try {
+            Thread.sleep(duration.toMillis());
+        } finally {
+            profiler.execute("stop");
+        }
+        return profiler.execute(html ? "flamegraph,title=" + title.replace(',', ' ') : "collapsed");
+    }
+}
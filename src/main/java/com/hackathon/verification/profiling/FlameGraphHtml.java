@@ -0,0 +1,122 @@
+package com.hackathon.verification.profiling;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Renders collapsed stacks ({@code root;caller;callee weight}) as a self-contained HTML page holding an SVG flame
+ * graph: the root at the bottom, callees stacked above their callers, siblings in alphabetical order and widths
+ * proportional to weight. Frames narrower than half a pixel are left out. Hovering a frame shows its weight.
+ */
+final class FlameGraphHtml {
+
+    private static final int WIDTH = 1200;
+    private static final int FRAME_HEIGHT = 16;
+    private static final int HEADER_HEIGHT = 24;
+    private static final double MIN_FRAME_WIDTH = 0.5;
+    private static final double CHARACTER_WIDTH = 7;
+
+    private FlameGraphHtml() {
+    }
+
+    static String collapsed(Map<String, Long> stacks) {
+        StringBuilder out = new StringBuilder();
+        stacks.forEach((stack, weight) -> out.append(stack).append(' ').append(weight).append('\n'));
+        return out.toString();
+    }
+
+    static String render(String title, Map<String, Long> stacks, String unit) {
+        Frame root = new Frame("all");
+        stacks.forEach((stack, weight) -> {
+            root.weight += weight;
+            Frame frame = root;
+            for (String name : stack.split(";")) {
+                frame = frame.children.computeIfAbsent(name, Frame::new);
+                frame.weight += weight;
+            }
+        });
+
+        int height = HEADER_HEIGHT + (root.depth() + 1) * FRAME_HEIGHT;
+        StringBuilder svg = new StringBuilder(64 * 1024);
+        svg.append("<!DOCTYPE html>\n<html lang='en'>\n<head>\n<meta charset='utf-8'>\n<title>")
+                .append(escape(title)).append("</title>\n<style>body{margin:0;padding:10px;background:#fff}")
+                .append("text{font:12px Verdana,sans-serif;fill:#000;pointer-events:none}rect:hover{stroke:#000}</style>\n")
+                .append("</head>\n<body>\n<svg xmlns='http://www.w3.org/2000/svg' width='").append(WIDTH)
+                .append("' height='").append(height).append("'>\n<text x='").append(WIDTH / 2)
+                .append("' y='16' text-anchor='middle' style='font-size:15px'>").append(escape(title)).append(" (")
+                .append(root.weight).append(' ').append(unit).append(")</text>\n");
+        if (root.weight > 0) {
+            draw(svg, root, 0, WIDTH, 0, height, root.weight, unit);
+        }
+        return svg.append("</svg>\n</body>\n</html>\n").toString();
+    }
+
+    private static void draw(StringBuilder svg, Frame frame, double x, double width, int level, int height, long total, String unit) {
+        double y = height - (level + 1) * FRAME_HEIGHT;
+        svg.append("<g><title>").append(escape(frame.name)).append(" (").append(frame.weight).append(' ').append(unit)
+                .append(String.format(", %.2f%%", 100.0 * frame.weight / total)).append(")</title><rect x='")
+                .append(String.format("%.1f", x)).append("' y='").append(y).append("' width='")
+                .append(String.format("%.1f", width)).append("' height='").append(FRAME_HEIGHT - 1)
+                .append("' fill='").append(color(frame.name)).append("'/>");
+        int characters = (int) ((width - 6) / CHARACTER_WIDTH);
+        if (characters >= 3) {
+            String label = frame.name.length() <= characters ? frame.name : frame.name.substring(0, characters - 2) + "..";
+            svg.append("<text x='").append(String.format("%.1f", x + 3)).append("' y='").append(y + FRAME_HEIGHT - 4)
+                    .append("'>").append(escape(label)).append("</text>");
+        }
+        svg.append("</g>\n");
+
+        double childX = x;
+        for (Frame child : frame.children.values()) {
+            double childWidth = width * child.weight / frame.weight;
+            if (childWidth >= MIN_FRAME_WIDTH) {
+                draw(svg, child, childX, childWidth, level + 1, height, total, unit);
+            }
+            childX += childWidth;
+        }
+    }
+
+    // Warm colours keyed on the name, so a method keeps its colour across profiles; allocated types in blue
+    private static String color(String name) {
+        int hash = name.hashCode() & 0x7fffffff;
+        if (name.endsWith("_[k]")) {
+            return "hsl(" + (200 + hash % 30) + ",60%,65%)";
+        }
+        return "hsl(" + (5 + hash % 50) + ",80%," + (55 + hash % 10) + "%)";
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '\'' -> escaped.append("&#39;");
+                case '"' -> escaped.append("&quot;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static final class Frame {
+
+        private final String name;
+        private final Map<String, Frame> children = new TreeMap<>();
+        private long weight;
+
+        private Frame(String name) {
+            this.name = name;
+        }
+
+        private int depth() {
+            int depth = 0;
+            for (Frame child : children.values()) {
+                depth = Math.max(depth, child.depth() + 1);
+            }
+            return depth;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hackathon.verification.profiling;
+
+import com.hackathon.verification.exception.VerificationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time-bounded sampling profiles of the running JVM, returned as a flame graph page or as collapsed stacks.
+ * async-profiler is loaded on the first request; if it cannot be (another platform, or disabled), JDK Flight
+ * Recorder samples instead. Only one profile runs at a time and none runs longer than
+ * {@code profiling.max-duration-seconds}.
+ */
+@Component
+public class FlameGraphProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlameGraphProfiler.class);
+
+    @Value("${profiling.enabled:false}")
+    private boolean enabled;
+
+    @Value("${profiling.default-duration-seconds:10}")
+    private int defaultDurationSeconds;
+
+    @Value("${profiling.max-duration-seconds:60}")
+    private int maxDurationSeconds;
+
+    @Value("${profiling.interval-millis:10}")
+    private int intervalMillis;
+
+    @Value("${profiling.alloc-interval-bytes:524288}")
+    private long allocIntervalBytes;
+
+    @Value("${profiling.async-profiler.enabled:true}")
+    private boolean asyncProfilerEnabled;
+
+    // Path to libasyncProfiler.so; empty uses the library bundled with the async-profiler jar
+    @Value("${profiling.async-profiler.library:}")
+    private String asyncProfilerLibrary;
+
+    private final Semaphore running = new Semaphore(1);
+    private final LongAdder captures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile ProfilerBackend backend;
+    private volatile Instant lastCapture;
+
+    /**
+     * Profiles for {@code durationSeconds} (the configured default when null) and returns the result. Blocks the
+     * calling thread for that long.
+     */
+    public String profile(ProfileMode mode, Integer durationSeconds, boolean html) throws Exception {
+        if (!enabled) {
+            throw VerificationException.serviceUnavailable("profile", mode.id(), "profiling is disabled");
+        }
+        int seconds = durationSeconds != null ? durationSeconds : defaultDurationSeconds;
+        if (seconds < 1 || seconds > maxDurationSeconds) {
+            throw new IllegalArgumentException("Profile duration must be between 1 and " + maxDurationSeconds + " seconds");
+        }
+        if (!running.tryAcquire()) {
+            rejected.increment();
+            throw VerificationException.serviceUnavailable("profile", mode.id(), "another profile is being captured");
+        }
+        try {
+            ProfilerBackend profiler = backend();
+            logger.info("Capturing {} profile for {}s with {}", mode.id(), seconds, profiler.getName());
+            String title = mode.id() + " profile, " + seconds + "s, " + Instant.now();
+            String result = profiler.capture(mode, Duration.ofSeconds(seconds), html, title);
+            captures.increment();
+            lastCapture = Instant.now();
+            return result;
+        } finally {
+            running.release();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("backend", backend != null ? backend.getName() : null);
+        stats.put("running", running.availablePermits() == 0);
+        stats.put("defaultDurationSeconds", defaultDurationSeconds);
+        stats.put("maxDurationSeconds", maxDurationSeconds);
+        stats.put("intervalMillis", intervalMillis);
+        stats.put("captures", captures.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("lastCapture", lastCapture);
+        return stats;
+    }
+
+    // Only called while holding the permit, so at most one thread ever loads the library
+    private ProfilerBackend backend() {
+        if (backend == null) {
+            if (asyncProfilerEnabled) {
+                try {
+                    backend = new AsyncProfilerBackend(asyncProfilerLibrary, intervalMillis, allocIntervalBytes);
+                } catch (Throwable e) {
+                    // UnsatisfiedLinkError on platforms without a bundled library
+                    logger.warn("async-profiler could not be loaded, profiling with JFR instead: {}", e.toString());
+                }
+            }
+            if (backend == null) {
+                backend = new JfrProfilerBackend(intervalMillis);
+            }
+        }
+        return backend;
+    }
+}
@@ -0,0 +1,103 @@
+package com.hackathon.verification.profiling;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Flight Recorder sampling, for when async-profiler cannot be loaded. JFR only samples threads running Java or
+ * native code, so wall mode misses threads parked or blocked; allocations are sampled by JFR's own throttle and
+ * weighted by the bytes each sample stands for. Stacks are cut at JFR's stack depth, 64 frames by default.
+ */
+class JfrProfilerBackend implements ProfilerBackend {
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String NATIVE_METHOD_SAMPLE = "jdk.NativeMethodSample";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+
+    private final int intervalMillis;
+
+    JfrProfilerBackend(int intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    @Override
+    public String getName() {
+        return "jfr";
+    }
+
+    @Override
+    public String capture(ProfileMode mode, Duration duration, boolean html, String title) throws Exception {
+        Map<String, Long> stacks = sample(mode, duration);
+        return html ? FlameGraphHtml.render(title, stacks, mode == ProfileMode.ALLOC ? "bytes" : "samples")
+                : FlameGraphHtml.collapsed(stacks);
+    }
+
+    private Map<String, Long> sample(ProfileMode mode, Duration duration) throws IOException, InterruptedException {
+        Path file = Files.createTempFile("profile-", ".jfr");
+        try (Recording recording = new Recording()) {
+            Duration period = Duration.ofMillis(intervalMillis);
+            switch (mode) {
+                case CPU -> recording.enable(EXECUTION_SAMPLE).withPeriod(period);
+                case WALL -> {
+                    recording.enable(EXECUTION_SAMPLE).withPeriod(period);
+                    recording.enable(NATIVE_METHOD_SAMPLE).withPeriod(period);
+                }
+                case ALLOC -> recording.enable(ALLOCATION_SAMPLE).with("throttle", "1000/s");
+            }
+            recording.start();
+            try {
+                Thread.sleep(duration.toMillis());
+            } finally {
+                recording.stop();
+            }
+            recording.dump(file);
+            return collapse(file, mode);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static Map<String, Long> collapse(Path file, ProfileMode mode) throws IOException {
+        Map<String, Long> stacks = new TreeMap<>();
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                RecordedStackTrace stackTrace = event.getStackTrace();
+                if (stackTrace == null) {
+                    continue;
+                }
+                StringBuilder stack = new StringBuilder();
+                List<RecordedFrame> frames = stackTrace.getFrames();
+                // JFR lists the innermost frame first; flame graphs read from the root
+                for (int i = frames.size() - 1; i >= 0; i--) {
+                    RecordedFrame frame = frames.get(i);
+                    if (stack.length() > 0) {
+                        stack.append(';');
+                    }
+                    stack.append(frame.getMethod().getType().getName()).append('.').append(frame.getMethod().getName());
+                }
+                long weight = 1;
+                if (mode == ProfileMode.ALLOC) {
+                    RecordedClass objectClass = event.getClass("objectClass");
+                    String type = objectClass != null ? objectClass.getName() : "";
+                    stack.append(';').append(type.isEmpty() ? "unknown" : type).append("_[k]");
+                    weight = event.getLong("weight");
+                }
+                stacks.merge(stack.toString(), weight, Long::sum);
+            }
+        }
+        return stacks;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hackathon.verification.profiling;
+
+import java.util.Locale;
+
+/**
+ * What a profile samples: on-CPU time, every thread whether running or waiting (wall clock), or heap allocations.
+ */
+public enum ProfileMode {
+
+    CPU,
+    WALL,
+    ALLOC;
+
+    public static ProfileMode parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown profile mode '" + value + "', expected cpu, wall or alloc");
+        }
+    }
+
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
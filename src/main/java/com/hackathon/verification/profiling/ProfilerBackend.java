@@ -0,0 +1,16 @@
+package com.hackathon.verification.profiling;
+
+import java.time.Duration;
+
+/**
+ * A sampling profiler that can be started and stopped inside the running JVM.
+ */
+interface ProfilerBackend {
+
+    String getName();
+
+    /**
+     * Samples for {@code duration} on the calling thread, then returns a flame graph page or collapsed stacks.
+     */
+    String capture(ProfileMode mode, Duration duration, boolean html, String title) throws Exception;
+}
@@ -0,0 +1,66 @@
+package com.hackathon.verification.profiling.controller;
+
+import com.hackathon.verification.exception.VerificationException;
+import com.hackathon.verification.profiling.FlameGraphProfiler;
+import com.hackathon.verification.profiling.ProfileMode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controller for on-demand profiles of the running service. Admin only, see {@code AdminAccessInterceptor}.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/profiling")
+@Tag(name = "Profiling", description = "Admin API for capturing CPU, wall-clock and allocation flame graphs")
+public class ProfilingController {
+
+    @Autowired
+    private FlameGraphProfiler flameGraphProfiler;
+
+    @Operation(summary = "Capture a flame graph",
+            description = "Samples the JVM for the given number of seconds (mode cpu, wall or alloc) and returns an HTML flame graph, "
+                    + "or collapsed stacks with format=collapsed. One profile runs at a time; others get 503")
+    @GetMapping("/flamegraph")
+    public ResponseEntity<String> captureFlameGraph(@RequestParam(defaultValue = "cpu") String mode,
+                                                    @RequestParam(required = false) Integer duration,
+                                                    @RequestParam(defaultValue = "html") String format) throws Exception {
+        boolean html;
+        if ("html".equalsIgnoreCase(format)) {
+            html = true;
+        } else if ("collapsed".equalsIgnoreCase(format)) {
+            html = false;
+        } else {
+            throw new IllegalArgumentException("Unknown profile format '" + format + "', expected html or collapsed");
+        }
+        String profile = flameGraphProfiler.profile(ProfileMode.parse(mode), duration, html);
+        return ResponseEntity.ok()
+                .contentType(html ? MediaType.TEXT_HTML : MediaType.TEXT_PLAIN)
+                .body(profile);
+    }
+
+    @Operation(summary = "Get profiler status", description = "Returns the profiler in use, its limits and whether a profile is running")
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(flameGraphProfiler.getStats());
+    }
+
+    // Handled here rather than by the advice so a busy or disabled profiler answers 503, not 500
+    @ExceptionHandler(VerificationException.class)
+    public ResponseEntity<Map<String, Object>> handleUnavailable(VerificationException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("error", HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase());
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+}
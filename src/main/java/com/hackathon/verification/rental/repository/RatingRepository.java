@@ -3,14 +3,19 @@ package com.hackathon.verification.rental.repository;
 import com.hackathon.verification.rental.entity.Rating;
 import com.hackathon.verification.rental.entity.Landlord;
 import com.hackathon.verification.rental.entity.Tenant;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.time.LocalDateTime;
 
 @Repository
-public interface RatingRepository extends JpaRepository<Rating, Long> {
+public interface RatingRepository extends JpaRepository<Rating, Long>, JpaSpecificationExecutor<Rating> {
     
     // Find ratings by landlord
     List<Rating> findByLandlord(Landlord landlord);
@@ -51,12 +56,34 @@ public interface RatingRepository extends JpaRepository<Rating, Long> {
     // Find ratings by landlord and tenant
     List<Rating> findByLandlordAndTenant(Landlord landlord, Tenant tenant);
     
-    // Find ratings by landlord and rating type
+    // Find ratings by landlord and rating type, with their tenants and landlords in the same query
+    @EntityGraph(attributePaths = {"tenant", "landlord"})
     List<Rating> findByLandlordAndRatingType(Landlord landlord, String ratingType);
     
-    // Find ratings by tenant and rating type
+    // Find ratings by tenant and rating type, with their tenants and landlords in the same query
+    @EntityGraph(attributePaths = {"tenant", "landlord"})
     List<Rating> findByTenantAndRatingType(Tenant tenant, String ratingType);
     
+    // Find ratings matching a specification, with their tenants and landlords in the same query
+    @Override
+    @EntityGraph(attributePaths = {"tenant", "landlord"})
+    List<Rating> findAll(Specification<Rating> specification);
+    
     // Find ratings created after a certain date
     List<Rating> findByCreatedAtAfter(LocalDateTime date);
-}
\ No newline at end of file
+    
+    /**
+     * Ratings whose property address contains any of the given addresses, ignoring case: the union of
+     * {@link #findByPropertyAddressContainingIgnoreCase} over all of them, in one query.
+     */
+    static Specification<Rating> propertyAddressContainsAny(Collection<String> addresses) {
+        return (root, query, builder) -> builder.or(addresses.stream()
+                .map(address -> builder.like(builder.lower(root.get("propertyAddress")),
+                        "%" + escapeLike(address.toLowerCase()) + "%", '\\'))
+                .toArray(Predicate[]::new));
+    }
+    
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -3,6 +3,7 @@ package com.hackathon.verification.rental.repository;
 import com.hackathon.verification.rental.entity.RentalHistory;
 import com.hackathon.verification.rental.entity.Tenant;
 import com.hackathon.verification.rental.entity.Landlord;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,15 +15,17 @@ public interface RentalHistoryRepository extends JpaRepository<RentalHistory, Lo
     /**
      * Find all rental histories for a specific tenant
      * @param tenant The tenant to find histories for
-     * @return List of rental histories
+     * @return List of rental histories, with their tenants and landlords loaded in the same query
      */
+    @EntityGraph(attributePaths = {"tenant", "landlord"})
     List<RentalHistory> findByTenant(Tenant tenant);
     
     /**
      * Find all rental histories for a specific landlord
      * @param landlord The landlord to find histories for
-     * @return List of rental histories
+     * @return List of rental histories, with their tenants and landlords loaded in the same query
      */
+    @EntityGraph(attributePaths = {"tenant", "landlord"})
     List<RentalHistory> findByLandlord(Landlord landlord);
     
     /**
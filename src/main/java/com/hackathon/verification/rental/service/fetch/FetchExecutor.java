@@ -0,0 +1,110 @@
+package com.hackathon.verification.rental.service.fetch;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool that runs the independent repository reads of a verification concurrently.
+ * Each request gets a {@link FetchGroup}; the request thread always works one lane of its own group, so a request
+ * holds at most {@code parallelism-per-request} connections and the pool as a whole at most {@code pool-size} more.
+ * When the pool is saturated, fetches fall back to the request thread rather than queueing without bound.
+ */
+@Component
+public class FetchExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(FetchExecutor.class);
+
+    @Value("${rental.fetch.pool-size:8}")
+    private int poolSize;
+
+    @Value("${rental.fetch.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${rental.fetch.parallelism-per-request:3}")
+    private int parallelismPerRequest;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder groups = new LongAdder();
+    private final LongAdder fetches = new LongAdder();
+    private final LongAdder pooledLanes = new LongAdder();
+    private final LongAdder rejectedLanes = new LongAdder();
+
+    public FetchExecutor() {
+    }
+
+    // For tests without a Spring context
+    public FetchExecutor(int poolSize, int queueCapacity, int parallelismPerRequest) {
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.parallelismPerRequest = parallelismPerRequest;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "verification-fetch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Verification fetch pool started with {} threads, {} per request", poolSize, parallelismPerRequest);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public FetchGroup newGroup() {
+        groups.increment();
+        return new FetchGroup(this, Math.max(1, parallelismPerRequest));
+    }
+
+    /**
+     * Hands a lane to a pool thread; false when the pool is saturated and the caller has to run it itself.
+     */
+    boolean tryExecute(Runnable lane) {
+        try {
+            executor.execute(lane);
+            pooledLanes.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedLanes.increment();
+            return false;
+        }
+    }
+
+    void recordFetches(int count) {
+        fetches.add(count);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolSize", poolSize);
+        stats.put("parallelismPerRequest", parallelismPerRequest);
+        stats.put("activeThreads", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("groups", groups.sum());
+        stats.put("fetches", fetches.sum());
+        stats.put("pooledLanes", pooledLanes.sum());
+        stats.put("rejectedLanes", rejectedLanes.sum());
+        return stats;
+    }
+}
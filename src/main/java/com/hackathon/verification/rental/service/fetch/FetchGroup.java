@@ -0,0 +1,86 @@
+package com.hackathon.verification.rental.service.fetch;
+
+import com.hackathon.verification.metrics.SqlStatementCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * The independent fetches of one request. Fetches are added first, then {@link #run()} works through them on the
+ * calling thread plus up to {@code parallelism - 1} pool threads, each taking the next fetch until none are left,
+ * and returns once all of them have completed.
+ * <p>
+ * Fetches on pool threads run outside the request's persistence context, so the entities they return are detached:
+ * use them for reading only and make changes through entities loaded on the request thread.
+ */
+public class FetchGroup {
+
+    private final FetchExecutor fetchExecutor;
+    private final int parallelism;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+    FetchGroup(FetchExecutor fetchExecutor, int parallelism) {
+        this.fetchExecutor = fetchExecutor;
+        this.parallelism = parallelism;
+    }
+
+    public <T> CompletableFuture<T> add(Supplier<T> fetch) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pending.add(() -> {
+            try {
+                future.complete(fetch.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        futures.add(future);
+        return future;
+    }
+
+    /**
+     * Runs every added fetch and waits for them; the first failure is rethrown.
+     */
+    public void run() {
+        fetchExecutor.recordFetches(futures.size());
+        int lanes = Math.min(parallelism, futures.size());
+        for (int i = 1; i < lanes; i++) {
+            if (!fetchExecutor.tryExecute(SqlStatementCounter.propagate(this::drain))) {
+                break;
+            }
+        }
+        drain();
+        for (CompletableFuture<?> future : futures) {
+            join(future);
+        }
+    }
+
+    /**
+     * The value of a completed fetch, with its own exception rather than a {@link CompletionException}.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void drain() {
+        Runnable fetch;
+        while ((fetch = pending.poll()) != null) {
+            fetch.run();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.hackathon.verification.rental.service.impl;
 
+import com.hackathon.verification.metrics.VerificationMetrics;
+import com.hackathon.verification.metrics.jfr.RepositoryCallEvent;
 import com.hackathon.verification.rental.dto.LandlordVerificationRequest;
 import com.hackathon.verification.rental.dto.LandlordVerificationResponse;
 import com.hackathon.verification.rental.entity.Landlord;
@@ -9,6 +11,8 @@ import com.hackathon.verification.rental.repository.LandlordRepository;
 import com.hackathon.verification.rental.repository.RatingRepository;
 import com.hackathon.verification.rental.repository.RentalHistoryRepository;
 import com.hackathon.verification.rental.service.LandlordVerificationService;
+import com.hackathon.verification.rental.service.fetch.FetchExecutor;
+import com.hackathon.verification.rental.service.fetch.FetchGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,8 +21,9 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +31,10 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
 
     private static final Logger logger = LoggerFactory.getLogger(LandlordVerificationServiceImpl.class);
 
+    private static final String TENANT_TO_LANDLORD = "TENANT_TO_LANDLORD";
+
+    private static final String METRICS_PATH = "landlord";
+
     @Autowired
     private LandlordRepository landlordRepository;
 
@@ -35,34 +44,68 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
     @Autowired
     private RatingRepository ratingRepository;
 
+    @Autowired
+    private FetchExecutor fetchExecutor;
+
+    @Autowired
+    private VerificationMetrics verificationMetrics;
+
     @Override
     public LandlordVerificationResponse verifyLandlord(LandlordVerificationRequest request) {
-        logger.info("Verifying landlord with identifier: {}, type: {}", 
+        logger.debug("Verifying landlord with identifier: {}, type: {}", 
                     request.getIdentifier(), request.getIdentifierType());
 
         // Find landlord by identifier
+        VerificationMetrics.Stage lookup = verificationMetrics.start(METRICS_PATH, VerificationMetrics.LOOKUP);
         Landlord landlord = findLandlordByIdentifier(request.getIdentifier(), request.getIdentifierType());
+        lookup.end(landlord != null ? landlord.getId() : null, landlord != null ? 1 : 0);
 
         // If landlord not found, return not found response
         if (landlord == null) {
             return createNotFoundResponse(request.getIdentifier());
         }
 
+        // Fetch rental history, ratings and, if requested, the ratings of all managed properties concurrently
+        Landlord found = landlord;
+        Long landlordId = found.getId();
+        FetchGroup fetches = fetchExecutor.newGroup();
+        CompletableFuture<List<RentalHistory>> historiesFetch = fetches.add(() -> RepositoryCallEvent.record(
+                "RentalHistoryRepository", "findByLandlord", landlordId, () -> rentalHistoryRepository.findByLandlord(found)));
+        CompletableFuture<List<Rating>> ratingsFetch = fetches.add(() -> RepositoryCallEvent.record(
+                "RatingRepository", "findByLandlordAndRatingType", landlordId,
+                () -> ratingRepository.findByLandlordAndRatingType(found, TENANT_TO_LANDLORD)));
+        List<String> propertyAddresses = Boolean.TRUE.equals(request.getIncludeProperties())
+                ? new ArrayList<>(new LinkedHashSet<>(managedPropertyAddresses(landlord))) : List.of();
+        // One query for every property, however many the landlord manages
+        CompletableFuture<List<Rating>> propertyRatingsFetch = propertyAddresses.isEmpty()
+                ? CompletableFuture.completedFuture(List.of())
+                : fetches.add(() -> RepositoryCallEvent.record("RatingRepository", "findAll(propertyAddressContainsAny)", landlordId,
+                        () -> ratingRepository.findAll(RatingRepository.propertyAddressContainsAny(propertyAddresses))));
+        VerificationMetrics.Stage enrichment = verificationMetrics.start(METRICS_PATH, VerificationMetrics.ENRICHMENT);
+        fetches.run();
+        List<RentalHistory> rentalHistories = FetchGroup.join(historiesFetch);
+        List<Rating> ratings = FetchGroup.join(ratingsFetch);
+        enrichment.end(landlordId, rentalHistories.size() + ratings.size() + FetchGroup.join(propertyRatingsFetch).size());
+
         // Calculate trust score and determine classification
-        Integer trustScore = calculateTrustScore(landlord);
-        String classification = determineClassification(landlord, trustScore);
+        VerificationMetrics.Stage scoring = verificationMetrics.start(METRICS_PATH, VerificationMetrics.SCORING);
+        Integer trustScore = calculateTrustScore(rentalHistories, ratings);
+        String classification = determineClassification(ratings, trustScore);
 
         // Calculate additional scores
-        Integer responsivenessScore = calculateResponsivenessScore(landlord);
-        Integer fairnessScore = calculateFairnessScore(landlord);
-        Double depositReturnRate = calculateDepositReturnRate(landlord);
+        Integer responsivenessScore = calculateResponsivenessScore(ratings);
+        Integer fairnessScore = calculateFairnessScore(ratings);
+        Double depositReturnRate = calculateDepositReturnRate(ratings);
+        scoring.end(landlordId, rentalHistories.size() + ratings.size());
 
         // Update landlord with new scores and classification
-        landlord = updateLandlordTrustScoreAndClassification(landlord, trustScore, classification);
+        VerificationMetrics.Stage persist = verificationMetrics.start(METRICS_PATH, VerificationMetrics.PERSIST);
+        landlord = saveScores(found, trustScore, classification, responsivenessScore, fairnessScore, depositReturnRate);
+        persist.end(landlordId, 1);
 
         // Generate behavioral summary and identify red flags
-        String behavioralSummary = generateBehavioralSummary(landlord);
-        List<String> redFlags = identifyRedFlags(landlord);
+        String behavioralSummary = generateBehavioralSummary(landlord, rentalHistories, ratings);
+        List<String> redFlags = identifyRedFlags(rentalHistories, ratings);
 
         // Create response with landlord details
         LandlordVerificationResponse response = new LandlordVerificationResponse(
@@ -93,12 +136,12 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
 
         // Add property details if requested
         if (Boolean.TRUE.equals(request.getIncludeProperties())) {
-            addPropertiesToResponse(landlord, response);
+            addPropertiesToResponse(rentalHistories, propertyAddresses, FetchGroup.join(propertyRatingsFetch), response);
         }
 
         // Add ratings if requested
         if (Boolean.TRUE.equals(request.getIncludeRatings())) {
-            addRatingsToResponse(landlord, response);
+            addRatingsToResponse(ratings, response);
         }
 
         return response;
@@ -145,12 +188,10 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
             return 0;
         }
 
-        // Get rental histories for this landlord
-        List<RentalHistory> rentalHistories = rentalHistoryRepository.findByLandlord(landlord);
-
-        // Get ratings for this landlord
-        List<Rating> ratings = ratingRepository.findByLandlordAndRatingType(landlord, "TENANT_TO_LANDLORD");
+        return calculateTrustScore(rentalHistoryRepository.findByLandlord(landlord), ratingsOf(landlord));
+    }
 
+    private Integer calculateTrustScore(List<RentalHistory> rentalHistories, List<Rating> ratings) {
         // Base score starts at 70 (neutral)
         int score = 70;
 
@@ -233,9 +274,10 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
             return 50; // Default neutral score
         }
 
-        // Get ratings for this landlord
-        List<Rating> ratings = ratingRepository.findByLandlordAndRatingType(landlord, "TENANT_TO_LANDLORD");
+        return calculateResponsivenessScore(ratingsOf(landlord));
+    }
 
+    private Integer calculateResponsivenessScore(List<Rating> ratings) {
         if (ratings.isEmpty()) {
             return 50; // Default neutral score if no ratings
         }
@@ -259,9 +301,10 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
             return 50; // Default neutral score
         }
 
-        // Get ratings for this landlord
-        List<Rating> ratings = ratingRepository.findByLandlordAndRatingType(landlord, "TENANT_TO_LANDLORD");
+        return calculateFairnessScore(ratingsOf(landlord));
+    }
 
+    private Integer calculateFairnessScore(List<Rating> ratings) {
         if (ratings.isEmpty()) {
             return 50; // Default neutral score if no ratings
         }
@@ -285,9 +328,10 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
             return 0.0;
         }
 
-        // Get ratings for this landlord
-        List<Rating> ratings = ratingRepository.findByLandlordAndRatingType(landlord, "TENANT_TO_LANDLORD");
+        return calculateDepositReturnRate(ratingsOf(landlord));
+    }
 
+    private Double calculateDepositReturnRate(List<Rating> ratings) {
         if (ratings.isEmpty()) {
             return 0.0; // Default if no ratings
         }
@@ -307,9 +351,10 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
             return "Unknown";
         }
 
-        // Get ratings for this landlord
-        List<Rating> ratings = ratingRepository.findByLandlordAndRatingType(landlord, "TENANT_TO_LANDLORD");
+        return determineClassification(ratingsOf(landlord), trustScore);
+    }
 
+    private String determineClassification(List<Rating> ratings, Integer trustScore) {
         // Check for automatic "Avoid" conditions
         boolean hasVeryLowRatings = ratings.stream()
                 .filter(r -> r.getRatingValue() != null && r.getRatingValue() <= 1.5)
@@ -350,12 +395,10 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
             return "No landlord information available.";
         }
 
-        // Get rental histories for this landlord
-        List<RentalHistory> rentalHistories = rentalHistoryRepository.findByLandlord(landlord);
-
-        // Get ratings for this landlord
-        List<Rating> ratings = ratingRepository.findByLandlordAndRatingType(landlord, "TENANT_TO_LANDLORD");
+        return generateBehavioralSummary(landlord, rentalHistoryRepository.findByLandlord(landlord), ratingsOf(landlord));
+    }
 
+    private String generateBehavioralSummary(Landlord landlord, List<RentalHistory> rentalHistories, List<Rating> ratings) {
         // Build behavioral summary
         StringBuilder summary = new StringBuilder();
 
@@ -459,14 +502,15 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
 
     @Override
     public List<String> identifyRedFlags(Landlord landlord) {
-        List<String> redFlags = new ArrayList<>();
-
         if (landlord == null) {
-            return redFlags;
+            return new ArrayList<>();
         }
 
-        // Get rental histories for this landlord
-        List<RentalHistory> rentalHistories = rentalHistoryRepository.findByLandlord(landlord);
+        return identifyRedFlags(rentalHistoryRepository.findByLandlord(landlord), ratingsOf(landlord));
+    }
+
+    private List<String> identifyRedFlags(List<RentalHistory> rentalHistories, List<Rating> ratings) {
+        List<String> redFlags = new ArrayList<>();
 
         // Check for red flags in rental history
         if (!rentalHistories.isEmpty()) {
@@ -489,9 +533,6 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
             }
         }
 
-        // Get ratings for this landlord
-        List<Rating> ratings = ratingRepository.findByLandlordAndRatingType(landlord, "TENANT_TO_LANDLORD");
-
         // Check for red flags in ratings
         if (!ratings.isEmpty()) {
             // Check for low average rating
@@ -558,17 +599,38 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
             return null;
         }
 
+        List<Rating> ratings = ratingsOf(landlord);
+        return saveScores(landlord, trustScore, classification, calculateResponsivenessScore(ratings),
+                calculateFairnessScore(ratings), calculateDepositReturnRate(ratings));
+    }
+
+    private Landlord saveScores(Landlord landlord, Integer trustScore, String classification,
+                                Integer responsivenessScore, Integer fairnessScore, Double depositReturnRate) {
         landlord.setTrustScore(trustScore);
         landlord.setClassification(classification);
 
         // Update additional scores
-        landlord.setResponsivenessScore(calculateResponsivenessScore(landlord));
-        landlord.setFairnessScore(calculateFairnessScore(landlord));
-        landlord.setDepositReturnRate(calculateDepositReturnRate(landlord));
+        landlord.setResponsivenessScore(responsivenessScore);
+        landlord.setFairnessScore(fairnessScore);
+        landlord.setDepositReturnRate(depositReturnRate);
 
         return landlordRepository.save(landlord);
     }
 
+    private List<Rating> ratingsOf(Landlord landlord) {
+        return ratingRepository.findByLandlordAndRatingType(landlord, TENANT_TO_LANDLORD);
+    }
+
+    private static List<String> managedPropertyAddresses(Landlord landlord) {
+        List<String> addresses = new ArrayList<>();
+        if (landlord.getManagedProperties() != null && !landlord.getManagedProperties().isEmpty()) {
+            for (String address : landlord.getManagedProperties().split(",")) {
+                addresses.add(address.trim());
+            }
+        }
+        return addresses;
+    }
+
     // Helper method to create a "not found" response
     private LandlordVerificationResponse createNotFoundResponse(String identifier) {
         LandlordVerificationResponse response = new LandlordVerificationResponse();
@@ -579,22 +641,15 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
     }
 
     // Helper method to add property details to the response
-    private void addPropertiesToResponse(Landlord landlord, LandlordVerificationResponse response) {
-        if (landlord.getManagedProperties() == null || landlord.getManagedProperties().isEmpty()) {
-            return;
-        }
-
-        String[] propertyAddresses = landlord.getManagedProperties().split(",");
-
-        for (String address : propertyAddresses) {
-            String trimmedAddress = address.trim();
+    private void addPropertiesToResponse(List<RentalHistory> allHistories, List<String> propertyAddresses,
+                                         List<Rating> allPropertyRatings, LandlordVerificationResponse response) {
+        for (String trimmedAddress : propertyAddresses) {
 
             // Create property DTO
             LandlordVerificationResponse.PropertyDTO propertyDTO = new LandlordVerificationResponse.PropertyDTO();
             propertyDTO.setPropertyAddress(trimmedAddress);
 
             // Find rental histories for this property
-            List<RentalHistory> allHistories = rentalHistoryRepository.findByLandlord(landlord);
             List<RentalHistory> propertyHistories = allHistories.stream()
                     .filter(rh -> rh.getPropertyAddress() != null && 
                             rh.getPropertyAddress().toLowerCase().contains(trimmedAddress.toLowerCase()))
@@ -640,7 +695,10 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
             }
 
             // Find ratings for this property
-            List<Rating> propertyRatings = ratingRepository.findByPropertyAddressContainingIgnoreCase(trimmedAddress);
+            List<Rating> propertyRatings = allPropertyRatings.stream()
+                    .filter(r -> r.getPropertyAddress() != null &&
+                            r.getPropertyAddress().toLowerCase().contains(trimmedAddress.toLowerCase()))
+                    .collect(Collectors.toList());
 
             if (!propertyRatings.isEmpty()) {
                 // Calculate average rating
@@ -657,9 +715,7 @@ public class LandlordVerificationServiceImpl implements LandlordVerificationServ
     }
 
     // Helper method to add ratings to the response
-    private void addRatingsToResponse(Landlord landlord, LandlordVerificationResponse response) {
-        List<Rating> ratings = ratingRepository.findByLandlordAndRatingType(landlord, "TENANT_TO_LANDLORD");
-
+    private void addRatingsToResponse(List<Rating> ratings, LandlordVerificationResponse response) {
         for (Rating rating : ratings) {
             LandlordVerificationResponse.RatingDTO ratingDTO = new LandlordVerificationResponse.RatingDTO();
             ratingDTO.setTenantName(rating.getTenant().getName());
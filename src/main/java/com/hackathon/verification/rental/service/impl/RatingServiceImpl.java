@@ -1,5 +1,7 @@
 package com.hackathon.verification.rental.service.impl;
 
+import com.hackathon.verification.metrics.jfr.RepositoryCallEvent;
+import com.hackathon.verification.metrics.jfr.SentimentAnalysisEvent;
 import com.hackathon.verification.rental.dto.RatingDTO;
 import com.hackathon.verification.rental.entity.Landlord;
 import com.hackathon.verification.rental.entity.Rating;
@@ -40,10 +42,12 @@ public class RatingServiceImpl implements RatingService {
                 ratingDTO.getRatingType().equals("LANDLORD_TO_TENANT") ? "tenant" : "landlord");
         
         // Find landlord and tenant
-        Landlord landlord = landlordRepository.findById(ratingDTO.getLandlordId())
+        Landlord landlord = RepositoryCallEvent.record("LandlordRepository", "findById", ratingDTO.getLandlordId(),
+                        () -> landlordRepository.findById(ratingDTO.getLandlordId()))
                 .orElseThrow(() -> new IllegalArgumentException("Landlord not found with ID: " + ratingDTO.getLandlordId()));
         
-        Tenant tenant = tenantRepository.findById(ratingDTO.getTenantId())
+        Tenant tenant = RepositoryCallEvent.record("TenantRepository", "findById", ratingDTO.getTenantId(),
+                        () -> tenantRepository.findById(ratingDTO.getTenantId()))
                 .orElseThrow(() -> new IllegalArgumentException("Tenant not found with ID: " + ratingDTO.getTenantId()));
         
         // Create new rating entity
@@ -74,7 +78,7 @@ public class RatingServiceImpl implements RatingService {
             
             // Update tenant's average rating
             tenant.addRating(ratingDTO.getRatingValue());
-            tenantRepository.save(tenant);
+            RepositoryCallEvent.record("TenantRepository", "save", tenant.getId(), () -> tenantRepository.save(tenant));
         } else if ("TENANT_TO_LANDLORD".equals(ratingDTO.getRatingType())) {
             rating.setResponsiveness(ratingDTO.getResponsiveness());
             rating.setMaintenanceQuality(ratingDTO.getMaintenanceQuality());
@@ -84,20 +88,16 @@ public class RatingServiceImpl implements RatingService {
             
             // Update landlord's average rating
             landlord.addRating(ratingDTO.getRatingValue());
-            landlordRepository.save(landlord);
+            RepositoryCallEvent.record("LandlordRepository", "save", landlord.getId(), () -> landlordRepository.save(landlord));
         }
         
         // Analyze sentiment and extract traits if review is provided
         if (ratingDTO.getReview() != null && !ratingDTO.getReview().isEmpty()) {
-            Double sentimentScore = analyzeSentiment(ratingDTO.getReview());
-            String traits = extractTraits(ratingDTO.getReview());
-            
-            rating.setSentimentScore(sentimentScore);
-            rating.setDetectedTraits(traits);
+            analyzeReview(rating, ratingDTO.getReview());
         }
         
         // Save and return the rating
-        return ratingRepository.save(rating);
+        return RepositoryCallEvent.record("RatingRepository", "save", null, () -> ratingRepository.save(rating));
     }
     
     @Override
@@ -178,11 +178,7 @@ public class RatingServiceImpl implements RatingService {
         
         // Re-analyze sentiment and extract traits if review is updated
         if (ratingDTO.getReview() != null && !ratingDTO.getReview().isEmpty()) {
-            Double sentimentScore = analyzeSentiment(ratingDTO.getReview());
-            String traits = extractTraits(ratingDTO.getReview());
-            
-            existingRating.setSentimentScore(sentimentScore);
-            existingRating.setDetectedTraits(traits);
+            analyzeReview(existingRating, ratingDTO.getReview());
         }
         
         // Save and return the updated rating
@@ -194,6 +190,29 @@ public class RatingServiceImpl implements RatingService {
         ratingRepository.deleteById(id);
     }
     
+    // Scores the review and stores sentiment and traits on the rating, inside a SentimentAnalysis event
+    private void analyzeReview(Rating rating, String review) {
+        SentimentAnalysisEvent event = new SentimentAnalysisEvent();
+        event.begin();
+        Double sentimentScore = analyzeSentiment(review);
+        String traits = extractTraits(review);
+        event.end();
+        
+        rating.setSentimentScore(sentimentScore);
+        rating.setDetectedTraits(traits);
+        
+        if (event.shouldCommit()) {
+            event.ratingId = rating.getId() != null ? rating.getId() : 0;
+            event.ratingType = rating.getRatingType();
+            event.landlordId = rating.getLandlord() != null && rating.getLandlord().getId() != null ? rating.getLandlord().getId() : 0;
+            event.tenantId = rating.getTenant() != null && rating.getTenant().getId() != null ? rating.getTenant().getId() : 0;
+            event.textLength = review.length();
+            event.sentimentScore = sentimentScore != null ? sentimentScore : 0;
+            event.traits = traits;
+            event.commit();
+        }
+    }
+    
     @Override
     public Double analyzeSentiment(String reviewText) {
         // In a real implementation, this would use a natural language processing API or library
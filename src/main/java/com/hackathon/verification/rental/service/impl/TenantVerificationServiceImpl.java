@@ -1,5 +1,7 @@
 package com.hackathon.verification.rental.service.impl;
 
+import com.hackathon.verification.metrics.VerificationMetrics;
+import com.hackathon.verification.metrics.jfr.RepositoryCallEvent;
 import com.hackathon.verification.rental.dto.TenantVerificationRequest;
 import com.hackathon.verification.rental.dto.TenantVerificationResponse;
 import com.hackathon.verification.rental.entity.Rating;
@@ -9,6 +11,8 @@ import com.hackathon.verification.rental.repository.RatingRepository;
 import com.hackathon.verification.rental.repository.RentalHistoryRepository;
 import com.hackathon.verification.rental.repository.TenantRepository;
 import com.hackathon.verification.rental.service.TenantVerificationService;
+import com.hackathon.verification.rental.service.fetch.FetchExecutor;
+import com.hackathon.verification.rental.service.fetch.FetchGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +22,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +30,10 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
 
     private static final Logger logger = LoggerFactory.getLogger(TenantVerificationServiceImpl.class);
     
+    private static final String LANDLORD_TO_TENANT = "LANDLORD_TO_TENANT";
+    
+    private static final String METRICS_PATH = "tenant";
+    
     @Autowired
     private TenantRepository tenantRepository;
     
@@ -34,29 +43,56 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
     @Autowired
     private RatingRepository ratingRepository;
     
+    @Autowired
+    private FetchExecutor fetchExecutor;
+    
+    @Autowired
+    private VerificationMetrics verificationMetrics;
+    
     @Override
     public TenantVerificationResponse verifyTenant(TenantVerificationRequest request) {
-        logger.info("Verifying tenant with identifier: {}, type: {}", 
+        logger.debug("Verifying tenant with identifier: {}, type: {}", 
                     request.getIdentifier(), request.getIdentifierType());
         
         // Find tenant by identifier
+        VerificationMetrics.Stage lookup = verificationMetrics.start(METRICS_PATH, VerificationMetrics.LOOKUP);
         Tenant tenant = findTenantByIdentifier(request.getIdentifier(), request.getIdentifierType());
+        lookup.end(tenant != null ? tenant.getId() : null, tenant != null ? 1 : 0);
         
         // If tenant not found, return not found response
         if (tenant == null) {
             return createNotFoundResponse(request.getIdentifier());
         }
         
+        // Fetch rental history and ratings concurrently
+        Tenant found = tenant;
+        Long tenantId = found.getId();
+        FetchGroup fetches = fetchExecutor.newGroup();
+        CompletableFuture<List<RentalHistory>> historiesFetch = fetches.add(() -> RepositoryCallEvent.record(
+                "RentalHistoryRepository", "findByTenant", tenantId, () -> rentalHistoryRepository.findByTenant(found)));
+        CompletableFuture<List<Rating>> ratingsFetch = fetches.add(() -> RepositoryCallEvent.record(
+                "RatingRepository", "findByTenantAndRatingType", tenantId,
+                () -> ratingRepository.findByTenantAndRatingType(found, LANDLORD_TO_TENANT)));
+        VerificationMetrics.Stage enrichment = verificationMetrics.start(METRICS_PATH, VerificationMetrics.ENRICHMENT);
+        fetches.run();
+        List<RentalHistory> rentalHistories = FetchGroup.join(historiesFetch);
+        List<Rating> ratings = FetchGroup.join(ratingsFetch);
+        enrichment.end(tenantId, rentalHistories.size() + ratings.size());
+        
         // Calculate trust score and determine classification
-        Integer trustScore = calculateTrustScore(tenant);
-        String classification = determineClassification(tenant, trustScore);
+        VerificationMetrics.Stage scoring = verificationMetrics.start(METRICS_PATH, VerificationMetrics.SCORING);
+        Integer trustScore = calculateTrustScore(rentalHistories, ratings);
+        String classification = determineClassification(rentalHistories, trustScore);
+        scoring.end(tenantId, rentalHistories.size() + ratings.size());
         
         // Update tenant with new trust score and classification
-        tenant = updateTenantTrustScoreAndClassification(tenant, trustScore, classification);
+        VerificationMetrics.Stage persist = verificationMetrics.start(METRICS_PATH, VerificationMetrics.PERSIST);
+        tenant = updateTenantTrustScoreAndClassification(found, trustScore, classification);
+        persist.end(tenantId, 1);
         
         // Generate behavioral summary and identify red flags
-        String behavioralSummary = generateBehavioralSummary(tenant);
-        List<String> redFlags = identifyRedFlags(tenant);
+        String behavioralSummary = generateBehavioralSummary(rentalHistories, ratings);
+        List<String> redFlags = identifyRedFlags(rentalHistories, ratings);
         
         // Create response with tenant details
         TenantVerificationResponse response = new TenantVerificationResponse(
@@ -78,12 +114,12 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
         
         // Add rental history if requested
         if (Boolean.TRUE.equals(request.getIncludeRentalHistory())) {
-            addRentalHistoryToResponse(tenant, response);
+            addRentalHistoryToResponse(rentalHistories, response);
         }
         
         // Add ratings if requested
         if (Boolean.TRUE.equals(request.getIncludeRatings())) {
-            addRatingsToResponse(tenant, response);
+            addRatingsToResponse(ratings, response);
         }
         
         return response;
@@ -122,12 +158,11 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
             return 0;
         }
         
-        // Get rental histories for this tenant
-        List<RentalHistory> rentalHistories = rentalHistoryRepository.findByTenant(tenant);
-        
-        // Get ratings for this tenant
-        List<Rating> ratings = ratingRepository.findByTenantAndRatingType(tenant, "LANDLORD_TO_TENANT");
-        
+        return calculateTrustScore(rentalHistoryRepository.findByTenant(tenant),
+                ratingRepository.findByTenantAndRatingType(tenant, LANDLORD_TO_TENANT));
+    }
+    
+    private Integer calculateTrustScore(List<RentalHistory> rentalHistories, List<Rating> ratings) {
         // Base score starts at 70 (neutral)
         int score = 70;
         
@@ -196,9 +231,10 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
             return "Unknown";
         }
         
-        // Get rental histories for this tenant
-        List<RentalHistory> rentalHistories = rentalHistoryRepository.findByTenant(tenant);
-        
+        return determineClassification(rentalHistoryRepository.findByTenant(tenant), trustScore);
+    }
+    
+    private String determineClassification(List<RentalHistory> rentalHistories, Integer trustScore) {
         // Check for automatic "Avoid" conditions
         boolean hasEviction = rentalHistories.stream()
                 .anyMatch(rh -> Boolean.TRUE.equals(rh.getEvictionFiled()));
@@ -236,12 +272,11 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
             return "No tenant information available.";
         }
         
-        // Get rental histories for this tenant
-        List<RentalHistory> rentalHistories = rentalHistoryRepository.findByTenant(tenant);
-        
-        // Get ratings for this tenant
-        List<Rating> ratings = ratingRepository.findByTenantAndRatingType(tenant, "LANDLORD_TO_TENANT");
-        
+        return generateBehavioralSummary(rentalHistoryRepository.findByTenant(tenant),
+                ratingRepository.findByTenantAndRatingType(tenant, LANDLORD_TO_TENANT));
+    }
+    
+    private String generateBehavioralSummary(List<RentalHistory> rentalHistories, List<Rating> ratings) {
         // Build behavioral summary
         StringBuilder summary = new StringBuilder();
         
@@ -319,14 +354,16 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
     
     @Override
     public List<String> identifyRedFlags(Tenant tenant) {
-        List<String> redFlags = new ArrayList<>();
-        
         if (tenant == null) {
-            return redFlags;
+            return new ArrayList<>();
         }
         
-        // Get rental histories for this tenant
-        List<RentalHistory> rentalHistories = rentalHistoryRepository.findByTenant(tenant);
+        return identifyRedFlags(rentalHistoryRepository.findByTenant(tenant),
+                ratingRepository.findByTenantAndRatingType(tenant, LANDLORD_TO_TENANT));
+    }
+    
+    private List<String> identifyRedFlags(List<RentalHistory> rentalHistories, List<Rating> ratings) {
+        List<String> redFlags = new ArrayList<>();
         
         // Check for red flags in rental history
         if (!rentalHistories.isEmpty()) {
@@ -367,9 +404,6 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
             }
         }
         
-        // Get ratings for this tenant
-        List<Rating> ratings = ratingRepository.findByTenantAndRatingType(tenant, "LANDLORD_TO_TENANT");
-        
         // Check for red flags in ratings
         if (!ratings.isEmpty()) {
             // Check for low average rating
@@ -419,9 +453,7 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
     }
     
     // Helper method to add rental history to the response
-    private void addRentalHistoryToResponse(Tenant tenant, TenantVerificationResponse response) {
-        List<RentalHistory> rentalHistories = rentalHistoryRepository.findByTenant(tenant);
-        
+    private void addRentalHistoryToResponse(List<RentalHistory> rentalHistories, TenantVerificationResponse response) {
         for (RentalHistory history : rentalHistories) {
             TenantVerificationResponse.RentalHistoryDTO historyDTO = new TenantVerificationResponse.RentalHistoryDTO();
             historyDTO.setPropertyAddress(history.getPropertyAddress());
@@ -443,9 +475,7 @@ public class TenantVerificationServiceImpl implements TenantVerificationService
     }
     
     // Helper method to add ratings to the response
-    private void addRatingsToResponse(Tenant tenant, TenantVerificationResponse response) {
-        List<Rating> ratings = ratingRepository.findByTenantAndRatingType(tenant, "LANDLORD_TO_TENANT");
-        
+    private void addRatingsToResponse(List<Rating> ratings, TenantVerificationResponse response) {
         for (Rating rating : ratings) {
             TenantVerificationResponse.RatingDTO ratingDTO = new TenantVerificationResponse.RatingDTO();
             ratingDTO.setLandlordName(rating.getLandlord().getName());
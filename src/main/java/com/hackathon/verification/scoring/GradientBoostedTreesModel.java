@@ -0,0 +1,98 @@
+package com.hackathon.verification.scoring;
+
+import java.util.List;
+
+/**
+ * An ensemble of regression trees whose leaf values are summed with a base score and passed through a sigmoid,
+ * as exported by gradient boosting libraries for binary classification.
+ * Each tree is stored as parallel node arrays; a node with feature -1 is a leaf, and a row goes left when its
+ * feature value is below the node's threshold. Trees are walked one at a time over the whole batch so a tree's
+ * arrays stay in cache while every row passes through it.
+ */
+public class GradientBoostedTreesModel implements ScoringModel {
+
+    /**
+     * One tree as parallel node arrays, the root at index 0.
+     */
+    public static final class Tree {
+        private final int[] feature;
+        private final double[] threshold;
+        private final int[] left;
+        private final int[] right;
+        private final double[] value;
+
+        public Tree(int[] feature, double[] threshold, int[] left, int[] right, double[] value) {
+            int nodes = feature.length;
+            if (threshold.length != nodes || left.length != nodes || right.length != nodes || value.length != nodes) {
+                throw new IllegalArgumentException("Tree node arrays differ in length");
+            }
+            this.feature = feature.clone();
+            this.threshold = threshold.clone();
+            this.left = left.clone();
+            this.right = right.clone();
+            this.value = value.clone();
+        }
+
+        double leafValue(double[] features, int offset) {
+            int node = 0;
+            while (feature[node] >= 0) {
+                node = features[offset + feature[node]] < threshold[node] ? left[node] : right[node];
+            }
+            return value[node];
+        }
+
+        void validate(String model, int featureCount) {
+            for (int node = 0; node < feature.length; node++) {
+                if (feature[node] >= featureCount) {
+                    throw new IllegalArgumentException("Model " + model + " splits on unknown feature " + feature[node]);
+                }
+                // Children always come after their parent, so every walk terminates
+                if (feature[node] >= 0 && (left[node] <= node || right[node] <= node
+                        || left[node] >= feature.length || right[node] >= feature.length)) {
+                    throw new IllegalArgumentException("Model " + model + " has an invalid child at node " + node);
+                }
+            }
+        }
+    }
+
+    private final String name;
+    private final List<String> featureNames;
+    private final Tree[] trees;
+    private final double baseScore;
+
+    public GradientBoostedTreesModel(String name, List<String> featureNames, List<Tree> trees, double baseScore) {
+        this.name = name;
+        this.featureNames = List.copyOf(featureNames);
+        this.trees = trees.toArray(new Tree[0]);
+        this.baseScore = baseScore;
+        for (Tree tree : this.trees) {
+            tree.validate(name, featureNames.size());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public List<String> getFeatureNames() {
+        return featureNames;
+    }
+
+    @Override
+    public void score(double[] features, int rows, double[] scores) {
+        int width = featureNames.size();
+        for (int row = 0; row < rows; row++) {
+            scores[row] = baseScore;
+        }
+        for (Tree tree : trees) {
+            for (int row = 0, offset = 0; row < rows; row++, offset += width) {
+                scores[row] += tree.leafValue(features, offset);
+            }
+        }
+        for (int row = 0; row < rows; row++) {
+            scores[row] = Sigmoid.of(scores[row]);
+        }
+    }
+}
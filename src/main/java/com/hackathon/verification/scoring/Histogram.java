@@ -0,0 +1,74 @@
+package com.hackathon.verification.scoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram over power-of-two buckets: bucket i counts values up to 2^i, the last bucket everything above.
+ * Percentiles are reported as the upper bound of the bucket they fall in.
+ */
+public class Histogram {
+
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public Histogram(int bucketCount) {
+        buckets = new LongAdder[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        int bucket = clamped <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(clamped - 1);
+        buckets[Math.min(bucket, buckets.length - 1)].increment();
+        count.increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    public Map<String, Object> snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("count", total);
+        snapshot.put("mean", total == 0 ? 0.0 : (double) sum.sum() / count.sum());
+        snapshot.put("max", max.get());
+        snapshot.put("p50", percentile(counts, total, 0.50));
+        snapshot.put("p90", percentile(counts, total, 0.90));
+        snapshot.put("p99", percentile(counts, total, 0.99));
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                buckets.put(i == counts.length - 1 ? ">" + (1L << (i - 1)) : "<=" + (1L << i), counts[i]);
+            }
+        }
+        snapshot.put("buckets", buckets);
+        return snapshot;
+    }
+
+    private long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i == counts.length - 1 ? max.get() : 1L << i;
+            }
+        }
+        return max.get();
+    }
+}
@@ -0,0 +1,47 @@
+package com.hackathon.verification.scoring;
+
+import java.util.List;
+
+/**
+ * Logistic regression: the sigmoid of a weighted sum of the features plus a bias.
+ */
+public class LogisticRegressionModel implements ScoringModel {
+
+    private final String name;
+    private final List<String> featureNames;
+    private final double[] weights;
+    private final double bias;
+
+    public LogisticRegressionModel(String name, List<String> featureNames, double[] weights, double bias) {
+        if (weights.length != featureNames.size()) {
+            throw new IllegalArgumentException("Model " + name + " has " + weights.length + " weights for "
+                    + featureNames.size() + " features");
+        }
+        this.name = name;
+        this.featureNames = List.copyOf(featureNames);
+        this.weights = weights.clone();
+        this.bias = bias;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public List<String> getFeatureNames() {
+        return featureNames;
+    }
+
+    @Override
+    public void score(double[] features, int rows, double[] scores) {
+        int width = weights.length;
+        for (int row = 0, offset = 0; row < rows; row++, offset += width) {
+            double margin = bias;
+            for (int feature = 0; feature < width; feature++) {
+                margin += weights[feature] * features[offset + feature];
+            }
+            scores[row] = Sigmoid.of(margin);
+        }
+    }
+}
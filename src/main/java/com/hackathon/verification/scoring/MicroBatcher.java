@@ -0,0 +1,96 @@
+package com.hackathon.verification.scoring;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Combines concurrent scoring calls into batch evaluations of one model. Every caller queues its row and takes
+ * the lock; whoever holds it scores everything queued so far, up to the batch limit, so callers that arrive
+ * while a batch is running find their score ready when they get the lock. A lone caller scores its own row
+ * straight away: batching adds no delay, batches simply grow with concurrency.
+ */
+public class MicroBatcher {
+
+    private static final class Request {
+        private final double[] features;
+        // Written and read under the lock
+        private double score;
+        private boolean done;
+
+        private Request(double[] features) {
+            this.features = features;
+        }
+    }
+
+    private final ScoringModel model;
+    private final int featureCount;
+    private final int maxBatchSize;
+    private final Queue<Request> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Scratch space of the thread holding the lock
+    private final Request[] batch;
+    private final double[] features;
+    private final double[] scores;
+
+    private final Histogram batchSizes = new Histogram(12);
+    private final Histogram latencyMicros = new Histogram(24);
+
+    public MicroBatcher(ScoringModel model, int maxBatchSize) {
+        this.model = model;
+        this.featureCount = model.getFeatureNames().size();
+        this.maxBatchSize = maxBatchSize;
+        this.batch = new Request[maxBatchSize];
+        this.features = new double[maxBatchSize * featureCount];
+        this.scores = new double[maxBatchSize];
+    }
+
+    public ScoringModel getModel() {
+        return model;
+    }
+
+    public double score(double[] row) {
+        if (row.length != featureCount) {
+            throw new IllegalArgumentException("Model " + model.getName() + " takes " + featureCount
+                    + " features, got " + row.length);
+        }
+        long start = System.nanoTime();
+        Request request = new Request(row);
+        pending.add(request);
+        lock.lock();
+        try {
+            while (!request.done) {
+                scoreNextBatch();
+            }
+        } finally {
+            lock.unlock();
+        }
+        latencyMicros.record((System.nanoTime() - start) / 1_000);
+        return request.score;
+    }
+
+    private void scoreNextBatch() {
+        int rows = 0;
+        Request next;
+        while (rows < maxBatchSize && (next = pending.poll()) != null) {
+            System.arraycopy(next.features, 0, features, rows * featureCount, featureCount);
+            batch[rows++] = next;
+        }
+        model.score(features, rows, scores);
+        for (int row = 0; row < rows; row++) {
+            batch[row].score = scores[row];
+            batch[row].done = true;
+            batch[row] = null;
+        }
+        batchSizes.record(rows);
+    }
+
+    public Histogram getBatchSizes() {
+        return batchSizes;
+    }
+
+    public Histogram getLatencyMicros() {
+        return latencyMicros;
+    }
+}
@@ -0,0 +1,152 @@
+package com.hackathon.verification.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A model as serialized to its JSON file. {@code type} selects which of the other fields apply:
+ * {@code logistic-regression} uses weights and bias, {@code gradient-boosted-trees} uses trees and baseScore.
+ */
+public class ModelDefinition {
+
+    public static final String LOGISTIC_REGRESSION = "logistic-regression";
+    public static final String GRADIENT_BOOSTED_TREES = "gradient-boosted-trees";
+
+    private String name;
+    private String type;
+    private String version;
+    private List<String> features = new ArrayList<>();
+    private double[] weights;
+    private double bias;
+    private List<TreeDefinition> trees = new ArrayList<>();
+    private double baseScore;
+
+    /**
+     * One tree as parallel node arrays; see {@link GradientBoostedTreesModel}.
+     */
+    public static class TreeDefinition {
+        private int[] feature;
+        private double[] threshold;
+        private int[] left;
+        private int[] right;
+        private double[] value;
+
+        public int[] getFeature() {
+            return feature;
+        }
+
+        public void setFeature(int[] feature) {
+            this.feature = feature;
+        }
+
+        public double[] getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(double[] threshold) {
+            this.threshold = threshold;
+        }
+
+        public int[] getLeft() {
+            return left;
+        }
+
+        public void setLeft(int[] left) {
+            this.left = left;
+        }
+
+        public int[] getRight() {
+            return right;
+        }
+
+        public void setRight(int[] right) {
+            this.right = right;
+        }
+
+        public double[] getValue() {
+            return value;
+        }
+
+        public void setValue(double[] value) {
+            this.value = value;
+        }
+    }
+
+    public ScoringModel toModel() {
+        if (LOGISTIC_REGRESSION.equals(type)) {
+            return new LogisticRegressionModel(name, features, weights != null ? weights : new double[0], bias);
+        }
+        if (GRADIENT_BOOSTED_TREES.equals(type)) {
+            List<GradientBoostedTreesModel.Tree> built = new ArrayList<>();
+            for (TreeDefinition tree : trees) {
+                built.add(new GradientBoostedTreesModel.Tree(tree.feature, tree.threshold, tree.left, tree.right, tree.value));
+            }
+            return new GradientBoostedTreesModel(name, features, built, baseScore);
+        }
+        throw new IllegalArgumentException("Unknown model type " + type + " for model " + name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public List<String> getFeatures() {
+        return features;
+    }
+
+    public void setFeatures(List<String> features) {
+        this.features = features;
+    }
+
+    public double[] getWeights() {
+        return weights;
+    }
+
+    public void setWeights(double[] weights) {
+        this.weights = weights;
+    }
+
+    public double getBias() {
+        return bias;
+    }
+
+    public void setBias(double bias) {
+        this.bias = bias;
+    }
+
+    public List<TreeDefinition> getTrees() {
+        return trees;
+    }
+
+    public void setTrees(List<TreeDefinition> trees) {
+        this.trees = trees;
+    }
+
+    public double getBaseScore() {
+        return baseScore;
+    }
+
+    public void setBaseScore(double baseScore) {
+        this.baseScore = baseScore;
+    }
+}
@@ -0,0 +1,99 @@
+package com.hackathon.verification.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process, CPU-only scoring with models read from {@code <scoring.model-location><name>.json}, by default
+ * from the classpath. Each model is loaded on first use and scored through its own {@link MicroBatcher}.
+ * The same features always produce the same score.
+ */
+@Component
+public class ScoringEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringEngine.class);
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${scoring.model-location:classpath:scoring/}")
+    private String modelLocation;
+
+    @Value("${scoring.max-batch-size:64}")
+    private int maxBatchSize;
+
+    private final Map<String, MicroBatcher> models = new ConcurrentHashMap<>();
+
+    public ScoringEngine(ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Scores one feature row with the named model.
+     *
+     * @return a probability between 0 and 1
+     */
+    public double score(String modelName, double[] features) {
+        return model(modelName).score(features);
+    }
+
+    /**
+     * Loads the named model and checks it expects exactly these features, in this order.
+     *
+     * @throws IllegalStateException when the model file is missing, invalid or built for other features
+     */
+    public void requireFeatures(String modelName, List<String> featureNames) {
+        List<String> expected = model(modelName).getModel().getFeatureNames();
+        if (!expected.equals(featureNames)) {
+            throw new IllegalStateException("Model " + modelName + " expects features " + expected + " but is given " + featureNames);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        models.forEach((name, batcher) -> {
+            Map<String, Object> modelStats = new LinkedHashMap<>();
+            modelStats.put("type", batcher.getModel().getClass().getSimpleName());
+            modelStats.put("features", batcher.getModel().getFeatureNames().size());
+            modelStats.put("latencyMicros", batcher.getLatencyMicros().snapshot());
+            modelStats.put("batchSize", batcher.getBatchSizes().snapshot());
+            stats.put(name, modelStats);
+        });
+        return stats;
+    }
+
+    private MicroBatcher model(String modelName) {
+        MicroBatcher batcher = models.get(modelName);
+        return batcher != null ? batcher : models.computeIfAbsent(modelName, this::load);
+    }
+
+    private MicroBatcher load(String modelName) {
+        Resource resource = resourceLoader.getResource(modelLocation + modelName + ".json");
+        try (InputStream input = resource.getInputStream()) {
+            ModelDefinition definition = objectMapper.readValue(input, ModelDefinition.class);
+            if (definition.getName() == null) {
+                definition.setName(modelName);
+            }
+            ScoringModel model = definition.toModel();
+            logger.info("Loaded scoring model {} version {} ({}, {} features) from {}", modelName, definition.getVersion(),
+                    definition.getType(), model.getFeatureNames().size(), resource.getDescription());
+            return new MicroBatcher(model, maxBatchSize);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Could not load scoring model " + modelName + " from " + resource.getDescription()
+                    + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.hackathon.verification.scoring;
+
+import java.util.List;
+
+/**
+ * A model evaluated in process over a batch of feature rows at once.
+ */
+public interface ScoringModel {
+
+    String getName();
+
+    /**
+     * Feature names in the order the model expects them in each row.
+     */
+    List<String> getFeatureNames();
+
+    /**
+     * Scores {@code rows} rows of a row-major matrix, {@code features[row * featureCount + feature]},
+     * writing a probability between 0 and 1 for each row into {@code scores}.
+     */
+    void score(double[] features, int rows, double[] scores);
+}
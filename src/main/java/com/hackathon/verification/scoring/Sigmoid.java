@@ -0,0 +1,11 @@
+package com.hackathon.verification.scoring;
+
+final class Sigmoid {
+
+    private Sigmoid() {
+    }
+
+    static double of(double margin) {
+        return 1.0 / (1.0 + Math.exp(-margin));
+    }
+}
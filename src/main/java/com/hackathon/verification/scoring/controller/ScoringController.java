@@ -0,0 +1,39 @@
+package com.hackathon.verification.scoring.controller;
+
+import com.hackathon.verification.features.service.RiskFeatureStore;
+import com.hackathon.verification.scoring.ScoringEngine;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Controller for the in-process scoring models behind the verify/ai endpoints.
+ */
+@RestController
+@CrossOrigin
+@RequestMapping("/api/scoring")
+@Tag(name = "Scoring", description = "API for inspecting the local models that score AI-assisted verifications")
+public class ScoringController {
+
+    @Autowired
+    private ScoringEngine scoringEngine;
+
+    @Autowired
+    private RiskFeatureStore riskFeatureStore;
+
+    @Operation(summary = "Get scoring statistics", description = "Returns, per loaded model, inference latency and micro-batch size histograms")
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(scoringEngine.getStats());
+    }
+
+    @Operation(summary = "Get feature store statistics", description = "Returns the size and hit ratio of the risk feature cache")
+    @GetMapping("/feature-store")
+    public ResponseEntity<Map<String, Object>> getFeatureStoreStats() {
+        return ResponseEntity.ok(riskFeatureStore.getStats());
+    }
+}
@@ -0,0 +1,143 @@
+package com.hackathon.verification.threads;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets at most as many threads hold a connection as the pool has, queueing the rest fairly on a semaphore. With a
+ * thread per request there is no Tomcat pool to bound how many requests reach the data source at once, and
+ * thousands of virtual threads all waiting inside Hikari would time out together after its connection timeout.
+ * Here they park cheaply in arrival order and give up after {@code acquireTimeoutMillis}. A thread that already
+ * holds a connection is let through for another, so nested transactions cannot deadlock on the limiter itself.
+ */
+public class ConnectionLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMillis;
+    // Connections each thread holds through this data source. The counter is owned by the thread but captured by
+    // its connections, so closing one on another thread still counts it down
+    private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder reentered = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConnectionLimitedDataSource(DataSource target, int maxPermits, long acquireTimeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        AtomicInteger owner = held.get();
+        boolean permit = acquire(owner);
+        try {
+            return limited(obtainTargetDataSource().getConnection(), owner, permit);
+        } catch (SQLException | RuntimeException e) {
+            release(owner, permit);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        AtomicInteger owner = held.get();
+        boolean permit = acquire(owner);
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password), owner, permit);
+        } catch (SQLException | RuntimeException e) {
+            release(owner, permit);
+            throw e;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long count = acquired.sum();
+        stats.put("permits", maxPermits);
+        stats.put("available", permits.availablePermits());
+        stats.put("waiting", permits.getQueueLength());
+        stats.put("acquireTimeoutMillis", acquireTimeoutMillis);
+        stats.put("acquired", count);
+        stats.put("reentered", reentered.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("averageWaitMillis", count == 0 ? 0.0 : waitNanos.sum() / 1e6 / count);
+        stats.put("maxWaitMillis", maxWaitNanos.get() / 1e6);
+        return stats;
+    }
+
+    /**
+     * Takes a permit unless this thread already holds one; returns whether it took one.
+     */
+    private boolean acquire(AtomicInteger owner) throws SQLException {
+        if (owner.get() > 0) {
+            reentered.increment();
+            owner.incrementAndGet();
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException("No database connection became available within "
+                        + acquireTimeoutMillis + " ms (" + permits.getQueueLength() + " threads waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+        long waited = System.nanoTime() - start;
+        acquired.increment();
+        waitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        owner.incrementAndGet();
+        return true;
+    }
+
+    private void release(AtomicInteger owner, boolean permit) {
+        owner.decrementAndGet();
+        if (permit) {
+            permits.release();
+        }
+    }
+
+    // Closing gives the permit back exactly once, even if another thread closes it
+    private Connection limited(Connection connection, AtomicInteger owner, boolean permit) {
+        AtomicBoolean open = new AtomicBoolean(true);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && open.compareAndSet(true, false)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            release(owner, permit);
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,52 @@
+package com.hackathon.verification.threads;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Whether requests run on virtual or platform threads, how the connection limiter in front of the pool is doing
+ * and where virtual threads have been pinned.
+ */
+@Component
+public class VirtualThreadStatus {
+
+    private final Environment environment;
+    private final ObjectProvider<DataSource> dataSource;
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
+    public VirtualThreadStatus(Environment environment, ObjectProvider<DataSource> dataSource,
+                               VirtualThreadPinningMonitor pinningMonitor) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+        this.pinningMonitor = pinningMonitor;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("threads", Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform");
+        body.put("javaVersion", Runtime.version().feature());
+        ConnectionLimitedDataSource limiter = limiter(dataSource.getIfAvailable());
+        if (limiter != null) {
+            body.put("connectionLimiter", limiter.getStats());
+        }
+        body.put("pinning", pinningMonitor.getStats());
+        return body;
+    }
+
+    // The statement timing wrapper may sit outside the limiter; unwrapping goes through it
+    private static ConnectionLimitedDataSource limiter(DataSource dataSource) {
+        try {
+            return dataSource != null && dataSource.isWrapperFor(ConnectionLimitedDataSource.class)
+                    ? dataSource.unwrap(ConnectionLimitedDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.hackathon.verification.vehicle.controller;
 
 import com.hackathon.verification.vehicle.dto.CreateVehicleRequest;
 import com.hackathon.verification.vehicle.dto.VehicleDTO;
+import com.hackathon.verification.vehicle.dto.VehicleEventDTO;
+import com.hackathon.verification.vehicle.dto.VehicleFlagBulkRequest;
+import com.hackathon.verification.vehicle.dto.VehicleFlagResponse;
 import com.hackathon.verification.vehicle.dto.VehicleVerificationRequest;
 import com.hackathon.verification.vehicle.dto.VehicleVerificationResponse;
+import com.hackathon.verification.vehicle.dto.VinDecodeResponse;
 import com.hackathon.verification.vehicle.service.VehicleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -58,6 +62,32 @@ public class VehicleController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Check vehicle flags", description = "Checks whether a chassis or registration number is flagged as stolen or tampered without loading the vehicle record")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Flag check completed",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleFlagResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input - chassis number or registration number must be provided")
+    })
+    @GetMapping("/flags/{identifier}")
+    public ResponseEntity<VehicleFlagResponse> checkVehicleFlags(
+            @Parameter(description = "Chassis or registration number to check", required = true) @PathVariable String identifier) {
+        VehicleFlagResponse response = vehicleService.checkVehicleFlags(identifier);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Bulk check vehicle flags", description = "Checks up to 10000 chassis or registration numbers for stolen or tampered flags in one call")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Flag checks completed",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleFlagResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input - empty or oversized identifier list")
+    })
+    @PostMapping("/flags")
+    public ResponseEntity<List<VehicleFlagResponse>> checkVehicleFlagsBulk(
+            @Parameter(description = "Identifiers to check", required = true) @RequestBody VehicleFlagBulkRequest request) {
+        List<VehicleFlagResponse> response = vehicleService.checkVehicleFlags(request.getIdentifiers());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Report vehicle as stolen", description = "Reports a vehicle as stolen")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Vehicle reported as stolen successfully",
@@ -145,6 +175,21 @@ public class VehicleController {
         return ResponseEntity.ok(vehicle);
     }
 
+    @Operation(summary = "Get vehicle event log", description = "Returns a page of ownership transfers, stolen and tamper reports for a vehicle, newest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Vehicle events retrieved successfully",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleEventDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Vehicle record not found")
+    })
+    @GetMapping("/chassis/{chassisNumber}/events")
+    public ResponseEntity<List<VehicleEventDTO>> getVehicleEvents(
+            @Parameter(description = "Chassis number of the vehicle", required = true) @PathVariable String chassisNumber,
+            @Parameter(description = "Zero-based page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, capped at 50") @RequestParam(defaultValue = "10") int size) {
+        List<VehicleEventDTO> events = vehicleService.getVehicleEvents(chassisNumber, page, size);
+        return ResponseEntity.ok(events);
+    }
+
     @Operation(summary = "Get all vehicle records", description = "Returns a list of all vehicle records in the system")
     @ApiResponse(responseCode = "200", description = "List of vehicle records retrieved successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleDTO.class)))
@@ -218,4 +263,51 @@ public class VehicleController {
         List<VehicleDTO> vehicles = vehicleService.searchVehiclesByModel(model);
         return ResponseEntity.ok(vehicles);
     }
+
+    @Operation(summary = "Decode VIN", description = "Decodes a chassis number into manufacturer, model year and plant and validates its check digit")
+    @ApiResponse(responseCode = "200", description = "VIN decoded successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VinDecodeResponse.class)))
+    @GetMapping("/vin/decode/{chassisNumber}")
+    public ResponseEntity<VinDecodeResponse> decodeVin(
+            @Parameter(description = "Chassis number to decode", required = true) @PathVariable String chassisNumber) {
+        VinDecodeResponse response = vehicleService.decodeVin(chassisNumber);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Search vehicles by manufacturer", description = "Returns vehicles whose decoded VIN matches the given WMI and optional plant code")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search completed successfully",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input - WMI must be exactly 3 characters")
+    })
+    @GetMapping("/search/manufacturer")
+    public ResponseEntity<List<VehicleDTO>> searchVehiclesByManufacturer(
+            @Parameter(description = "World Manufacturer Identifier (first 3 VIN characters)", required = true) @RequestParam String wmi,
+            @Parameter(description = "Assembly plant code (VIN position 11)") @RequestParam(required = false) String plantCode) {
+        List<VehicleDTO> vehicles = vehicleService.searchVehiclesByManufacturer(wmi, plantCode);
+        return ResponseEntity.ok(vehicles);
+    }
+
+    @Operation(summary = "Search vehicles by chassis number prefix", description = "Returns vehicles whose normalized chassis number starts with the given prefix")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search completed successfully",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input - prefix must be at least 3 characters")
+    })
+    @GetMapping("/search/chassis-prefix")
+    public ResponseEntity<List<VehicleDTO>> searchVehiclesByChassisPrefix(
+            @Parameter(description = "Chassis number prefix", required = true) @RequestParam String prefix) {
+        List<VehicleDTO> vehicles = vehicleService.searchVehiclesByChassisPrefix(prefix);
+        return ResponseEntity.ok(vehicles);
+    }
+
+    @Operation(summary = "Search vehicles by VIN model year", description = "Returns vehicles whose model year decoded from the VIN matches")
+    @ApiResponse(responseCode = "200", description = "Search completed successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = VehicleDTO.class)))
+    @GetMapping("/search/model-year")
+    public ResponseEntity<List<VehicleDTO>> searchVehiclesByVinModelYear(
+            @Parameter(description = "Model year decoded from the VIN", required = true) @RequestParam Integer modelYear) {
+        List<VehicleDTO> vehicles = vehicleService.searchVehiclesByVinModelYear(modelYear);
+        return ResponseEntity.ok(vehicles);
+    }
 }
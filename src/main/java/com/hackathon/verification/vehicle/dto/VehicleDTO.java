@@ -20,6 +20,10 @@ public class VehicleDTO {
     private Boolean hasBeenTampered;
     private String verificationStatus;
     private String verificationNotes;
+    private String wmi;
+    private Integer vinModelYear;
+    private String vinPlantCode;
+    private String vinStatus;
     private LocalDate createdAt;
     private LocalDate updatedAt;
     
@@ -184,6 +188,38 @@ public class VehicleDTO {
         this.verificationNotes = verificationNotes;
     }
 
+    public String getWmi() {
+        return wmi;
+    }
+
+    public void setWmi(String wmi) {
+        this.wmi = wmi;
+    }
+
+    public Integer getVinModelYear() {
+        return vinModelYear;
+    }
+
+    public void setVinModelYear(Integer vinModelYear) {
+        this.vinModelYear = vinModelYear;
+    }
+
+    public String getVinPlantCode() {
+        return vinPlantCode;
+    }
+
+    public void setVinPlantCode(String vinPlantCode) {
+        this.vinPlantCode = vinPlantCode;
+    }
+
+    public String getVinStatus() {
+        return vinStatus;
+    }
+
+    public void setVinStatus(String vinStatus) {
+        this.vinStatus = vinStatus;
+    }
+
     public LocalDate getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,97 @@
+package com.hackathon.verification.vehicle.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VehicleEventDTO {
+
+    private Long id;
+    private String eventType;
+    private String previousOwnerName;
+    private String previousOwnerId;
+    private LocalDate previousOwnerSince;
+    private String newOwnerName;
+    private String newOwnerId;
+    private String details;
+    private LocalDateTime occurredAt;
+
+    // Default constructor
+    public VehicleEventDTO() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getPreviousOwnerName() {
+        return previousOwnerName;
+    }
+
+    public void setPreviousOwnerName(String previousOwnerName) {
+        this.previousOwnerName = previousOwnerName;
+    }
+
+    public String getPreviousOwnerId() {
+        return previousOwnerId;
+    }
+
+    public void setPreviousOwnerId(String previousOwnerId) {
+        this.previousOwnerId = previousOwnerId;
+    }
+
+    public LocalDate getPreviousOwnerSince() {
+        return previousOwnerSince;
+    }
+
+    public void setPreviousOwnerSince(LocalDate previousOwnerSince) {
+        this.previousOwnerSince = previousOwnerSince;
+    }
+
+    public String getNewOwnerName() {
+        return newOwnerName;
+    }
+
+    public void setNewOwnerName(String newOwnerName) {
+        this.newOwnerName = newOwnerName;
+    }
+
+    public String getNewOwnerId() {
+        return newOwnerId;
+    }
+
+    public void setNewOwnerId(String newOwnerId) {
+        this.newOwnerId = newOwnerId;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.hackathon.verification.vehicle.dto;
+
+import java.util.List;
+
+public class VehicleFlagBulkRequest {
+
+    private List<String> identifiers; // Chassis or registration numbers
+
+    // Default constructor
+    public VehicleFlagBulkRequest() {
+    }
+
+    // Constructor with fields
+    public VehicleFlagBulkRequest(List<String> identifiers) {
+        this.identifiers = identifiers;
+    }
+
+    // Getters and Setters
+    public List<String> getIdentifiers() {
+        return identifiers;
+    }
+
+    public void setIdentifiers(List<String> identifiers) {
+        this.identifiers = identifiers;
+    }
+}
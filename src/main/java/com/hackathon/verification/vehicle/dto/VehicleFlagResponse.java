@@ -0,0 +1,44 @@
+package com.hackathon.verification.vehicle.dto;
+
+public class VehicleFlagResponse {
+
+    private String identifier;
+    private boolean stolen;
+    private boolean tampered;
+
+    // Default constructor
+    public VehicleFlagResponse() {
+    }
+
+    // Constructor with fields
+    public VehicleFlagResponse(String identifier, boolean stolen, boolean tampered) {
+        this.identifier = identifier;
+        this.stolen = stolen;
+        this.tampered = tampered;
+    }
+
+    // Getters and Setters
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public void setIdentifier(String identifier) {
+        this.identifier = identifier;
+    }
+
+    public boolean isStolen() {
+        return stolen;
+    }
+
+    public void setStolen(boolean stolen) {
+        this.stolen = stolen;
+    }
+
+    public boolean isTampered() {
+        return tampered;
+    }
+
+    public void setTampered(boolean tampered) {
+        this.tampered = tampered;
+    }
+}
@@ -4,6 +4,8 @@ public class VehicleVerificationRequest {
     
     private String chassisNumber;
     private String registrationNumber;
+    private Integer historyPage; // Zero-based page of previous owners, defaults to 0
+    private Integer historySize; // Previous owners per page, defaults to 10 and is capped at 50
     
     // Default constructor
     public VehicleVerificationRequest() {
@@ -31,4 +33,20 @@ public class VehicleVerificationRequest {
     public void setRegistrationNumber(String registrationNumber) {
         this.registrationNumber = registrationNumber;
     }
-}
\ No newline at end of file
+
+    public Integer getHistoryPage() {
+        return historyPage;
+    }
+
+    public void setHistoryPage(Integer historyPage) {
+        this.historyPage = historyPage;
+    }
+
+    public Integer getHistorySize() {
+        return historySize;
+    }
+
+    public void setHistorySize(Integer historySize) {
+        this.historySize = historySize;
+    }
+}
@@ -23,7 +23,9 @@ public class VehicleVerificationResponse {
     private String verificationStatus;
     private String message;
     private Double confidenceScore; // AI-generated confidence score
-    private List<OwnershipHistory> ownershipHistory; // List of previous owners
+    private List<OwnershipHistory> ownershipHistory; // Current owner followed by a page of previous owners
+    private Integer ownershipHistoryPage;
+    private Boolean hasMoreOwnershipHistory;
     
     // Default constructor
     public VehicleVerificationResponse() {
@@ -221,6 +223,22 @@ public class VehicleVerificationResponse {
         this.ownershipHistory = ownershipHistory;
     }
     
+    public Integer getOwnershipHistoryPage() {
+        return ownershipHistoryPage;
+    }
+
+    public void setOwnershipHistoryPage(Integer ownershipHistoryPage) {
+        this.ownershipHistoryPage = ownershipHistoryPage;
+    }
+
+    public Boolean getHasMoreOwnershipHistory() {
+        return hasMoreOwnershipHistory;
+    }
+
+    public void setHasMoreOwnershipHistory(Boolean hasMoreOwnershipHistory) {
+        this.hasMoreOwnershipHistory = hasMoreOwnershipHistory;
+    }
+
     // Helper method to add an ownership history entry
     public void addOwnershipHistory(OwnershipHistory history) {
         if (this.ownershipHistory == null) {
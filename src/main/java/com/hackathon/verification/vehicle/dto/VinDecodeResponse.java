@@ -0,0 +1,99 @@
+package com.hackathon.verification.vehicle.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VinDecodeResponse {
+
+    private String vin; // Normalized chassis number
+    private String vinStatus; // VALID, NOT_A_VIN, MALFORMED or CHECK_DIGIT_MISMATCH
+    private String wmi;
+    private String manufacturer;
+    private String region;
+    private String vds;
+    private Integer modelYear;
+    private String plantCode;
+    private String serialNumber;
+
+    // Default constructor
+    public VinDecodeResponse() {
+    }
+
+    // Getters and Setters
+    public String getVin() {
+        return vin;
+    }
+
+    public void setVin(String vin) {
+        this.vin = vin;
+    }
+
+    public String getVinStatus() {
+        return vinStatus;
+    }
+
+    public void setVinStatus(String vinStatus) {
+        this.vinStatus = vinStatus;
+    }
+
+    public String getWmi() {
+        return wmi;
+    }
+
+    public void setWmi(String wmi) {
+        this.wmi = wmi;
+    }
+
+    public String getManufacturer() {
+        return manufacturer;
+    }
+
+    public void setManufacturer(String manufacturer) {
+        this.manufacturer = manufacturer;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String getVds() {
+        return vds;
+    }
+
+    public void setVds(String vds) {
+        this.vds = vds;
+    }
+
+    public Integer getModelYear() {
+        return modelYear;
+    }
+
+    public void setModelYear(Integer modelYear) {
+        this.modelYear = modelYear;
+    }
+
+    public String getPlantCode() {
+        return plantCode;
+    }
+
+    public void setPlantCode(String plantCode) {
+        this.plantCode = plantCode;
+    }
+
+    public String getSerialNumber() {
+        return serialNumber;
+    }
+
+    public void setSerialNumber(String serialNumber) {
+        this.serialNumber = serialNumber;
+    }
+
+    // Helper method to check whether the VIN failed validation in a way that suggests tampering
+    public boolean isSuspicious() {
+        return "MALFORMED".equals(vinStatus) || "CHECK_DIGIT_MISMATCH".equals(vinStatus);
+    }
+}
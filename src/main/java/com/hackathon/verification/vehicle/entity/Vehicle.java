@@ -1,12 +1,18 @@
 package com.hackathon.verification.vehicle.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "vehicles")
+@DynamicUpdate
+@Table(name = "vehicles", indexes = {
+        @Index(name = "idx_vehicles_normalized_chassis", columnList = "normalized_chassis_number"),
+        @Index(name = "idx_vehicles_wmi_plant", columnList = "wmi, vin_plant_code"),
+        @Index(name = "idx_vehicles_vin_model_year", columnList = "vin_model_year")
+})
 public class Vehicle {
 
     @Id
@@ -52,9 +58,27 @@ public class Vehicle {
     @Column(name = "verification_status")
     private String verificationStatus;
 
+    // Free text that only single-vehicle reads return, loaded on first access (needs bytecode enhancement)
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "verification_notes", columnDefinition = "TEXT")
     private String verificationNotes;
 
+    // Decoded VIN fields, populated at write time
+    @Column(name = "normalized_chassis_number", length = 32)
+    private String normalizedChassisNumber;
+
+    @Column(name = "wmi", length = 3)
+    private String wmi;
+
+    @Column(name = "vin_model_year")
+    private Integer vinModelYear;
+
+    @Column(name = "vin_plant_code", length = 1)
+    private String vinPlantCode;
+
+    @Column(name = "vin_status", length = 24)
+    private String vinStatus;
+
     @Column(name = "created_at")
     private LocalDate createdAt;
 
@@ -233,6 +257,46 @@ public class Vehicle {
         this.verificationNotes = verificationNotes;
     }
 
+    public String getNormalizedChassisNumber() {
+        return normalizedChassisNumber;
+    }
+
+    public void setNormalizedChassisNumber(String normalizedChassisNumber) {
+        this.normalizedChassisNumber = normalizedChassisNumber;
+    }
+
+    public String getWmi() {
+        return wmi;
+    }
+
+    public void setWmi(String wmi) {
+        this.wmi = wmi;
+    }
+
+    public Integer getVinModelYear() {
+        return vinModelYear;
+    }
+
+    public void setVinModelYear(Integer vinModelYear) {
+        this.vinModelYear = vinModelYear;
+    }
+
+    public String getVinPlantCode() {
+        return vinPlantCode;
+    }
+
+    public void setVinPlantCode(String vinPlantCode) {
+        this.vinPlantCode = vinPlantCode;
+    }
+
+    public String getVinStatus() {
+        return vinStatus;
+    }
+
+    public void setVinStatus(String vinStatus) {
+        this.vinStatus = vinStatus;
+    }
+
     public LocalDate getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,172 @@
+package com.hackathon.verification.vehicle.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of something that happened to a vehicle. Rows are inserted once and never updated.
+ */
+@Entity
+@Table(name = "vehicle_events", indexes = {
+        @Index(name = "idx_vehicle_events_vehicle_time", columnList = "vehicle_id, occurred_at"),
+        @Index(name = "idx_vehicle_events_vehicle_type_time", columnList = "vehicle_id, event_type, occurred_at")
+})
+public class VehicleEvent {
+
+    public static final String OWNERSHIP_TRANSFER = "OWNERSHIP_TRANSFER";
+    public static final String STOLEN_REPORT = "STOLEN_REPORT";
+    public static final String TAMPER_REPORT = "TAMPER_REPORT";
+    public static final String VIN_VALIDATION_FAILED = "VIN_VALIDATION_FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "vehicle_id", nullable = false, updatable = false)
+    private Long vehicleId;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 32)
+    private String eventType;
+
+    // Ownership transfer fields (used when event_type is "OWNERSHIP_TRANSFER")
+    @Column(name = "previous_owner_name", updatable = false)
+    private String previousOwnerName;
+
+    @Column(name = "previous_owner_id", updatable = false)
+    private String previousOwnerId;
+
+    @Column(name = "previous_owner_since", updatable = false)
+    private LocalDate previousOwnerSince;
+
+    @Column(name = "new_owner_name", updatable = false)
+    private String newOwnerName;
+
+    @Column(name = "new_owner_id", updatable = false)
+    private String newOwnerId;
+
+    @Column(name = "details", length = 2000, updatable = false)
+    private String details;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (occurredAt == null) occurredAt = LocalDateTime.now();
+    }
+
+    // Default constructor
+    public VehicleEvent() {
+    }
+
+    // Constructor with fields
+    public VehicleEvent(Long vehicleId, String eventType, String details) {
+        this.vehicleId = vehicleId;
+        this.eventType = eventType;
+        this.details = details;
+    }
+
+    // Factory method for an ownership transfer event
+    public static VehicleEvent ownershipTransfer(Vehicle vehicle, String newOwnerName, String newOwnerId) {
+        VehicleEvent event = new VehicleEvent(vehicle.getId(), OWNERSHIP_TRANSFER, null);
+        event.setPreviousOwnerName(vehicle.getCurrentOwnerName());
+        event.setPreviousOwnerId(vehicle.getCurrentOwnerId());
+        event.setPreviousOwnerSince(vehicle.getPurchaseDate());
+        event.setNewOwnerName(newOwnerName);
+        event.setNewOwnerId(newOwnerId);
+        return event;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVehicleId() {
+        return vehicleId;
+    }
+
+    public void setVehicleId(Long vehicleId) {
+        this.vehicleId = vehicleId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getPreviousOwnerName() {
+        return previousOwnerName;
+    }
+
+    public void setPreviousOwnerName(String previousOwnerName) {
+        this.previousOwnerName = previousOwnerName;
+    }
+
+    public String getPreviousOwnerId() {
+        return previousOwnerId;
+    }
+
+    public void setPreviousOwnerId(String previousOwnerId) {
+        this.previousOwnerId = previousOwnerId;
+    }
+
+    public LocalDate getPreviousOwnerSince() {
+        return previousOwnerSince;
+    }
+
+    public void setPreviousOwnerSince(LocalDate previousOwnerSince) {
+        this.previousOwnerSince = previousOwnerSince;
+    }
+
+    public String getNewOwnerName() {
+        return newOwnerName;
+    }
+
+    public void setNewOwnerName(String newOwnerName) {
+        this.newOwnerName = newOwnerName;
+    }
+
+    public String getNewOwnerId() {
+        return newOwnerId;
+    }
+
+    public void setNewOwnerId(String newOwnerId) {
+        this.newOwnerId = newOwnerId;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "VehicleEvent{" +
+                "id=" + id +
+                ", vehicleId=" + vehicleId +
+                ", eventType='" + eventType + '\'' +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
@@ -0,0 +1,33 @@
+package com.hackathon.verification.vehicle.mapper;
+
+import com.hackathon.verification.vehicle.dto.VehicleDTO;
+import com.hackathon.verification.vehicle.dto.VehicleEventDTO;
+import com.hackathon.verification.vehicle.entity.Vehicle;
+import com.hackathon.verification.vehicle.entity.VehicleEvent;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/**
+ * Compile-time generated mapping between vehicle entities and their DTOs.
+ * Any target property without a source fails the build instead of being silently skipped.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface VehicleMapper {
+
+    VehicleDTO toDto(Vehicle vehicle);
+
+    // Lists leave out the lazily loaded notes, which would otherwise cost a query per vehicle
+    @Named("summary")
+    @Mapping(target = "verificationNotes", ignore = true)
+    VehicleDTO toSummaryDto(Vehicle vehicle);
+
+    @IterableMapping(qualifiedByName = "summary")
+    List<VehicleDTO> toDtoList(List<Vehicle> vehicles);
+
+    VehicleEventDTO toEventDto(VehicleEvent event);
+}
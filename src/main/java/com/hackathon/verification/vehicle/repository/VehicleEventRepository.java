@@ -0,0 +1,44 @@
+package com.hackathon.verification.vehicle.repository;
+
+import com.hackathon.verification.vehicle.entity.VehicleEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface VehicleEventRepository extends JpaRepository<VehicleEvent, Long> {
+
+    // Find a window of events for a vehicle, newest first
+    Slice<VehicleEvent> findByVehicleIdOrderByOccurredAtDescIdDesc(Long vehicleId, Pageable pageable);
+
+    // Find a window of events of one type for a vehicle, newest first
+    Slice<VehicleEvent> findByVehicleIdAndEventTypeOrderByOccurredAtDescIdDesc(Long vehicleId, String eventType, Pageable pageable);
+
+    // Count the transfers of a vehicle that name a previous owner, as listed in its ownership history
+    @Query("select count(e) from VehicleEvent e where e.vehicleId = :vehicleId and e.eventType = :eventType "
+            + "and (e.previousOwnerName is not null or e.previousOwnerId is not null)")
+    long countPreviousOwners(@Param("vehicleId") Long vehicleId, @Param("eventType") String eventType);
+
+    // Count events of one type per chassis number, for rebuilding the risk feature store
+    @Query("select v.chassisNumber, count(e) from VehicleEvent e, Vehicle v "
+            + "where e.vehicleId = v.id and e.eventType = :eventType group by v.chassisNumber")
+    List<Object[]> countByChassisNumber(@Param("eventType") String eventType);
+
+    // Count events of one type per chassis number and calendar month since a date
+    @Query("select v.chassisNumber, extract(year from e.occurredAt), extract(month from e.occurredAt), count(e) "
+            + "from VehicleEvent e, Vehicle v where e.vehicleId = v.id and e.eventType = :eventType and e.occurredAt >= :since "
+            + "group by v.chassisNumber, extract(year from e.occurredAt), extract(month from e.occurredAt)")
+    List<Object[]> countByChassisNumberAndMonth(@Param("eventType") String eventType, @Param("since") LocalDateTime since);
+
+    // Count events of one type per make, model and year
+    @Query("select v.make, v.model, v.year, count(e) from VehicleEvent e, Vehicle v "
+            + "where e.vehicleId = v.id and e.eventType = :eventType "
+            + "and v.make is not null and v.model is not null and v.year is not null group by v.make, v.model, v.year")
+    List<Object[]> countByCohort(@Param("eventType") String eventType);
+}
@@ -2,6 +2,7 @@ package com.hackathon.verification.vehicle.repository;
 
 import com.hackathon.verification.vehicle.entity.Vehicle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -43,6 +44,29 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     // Find vehicles by verification status
     List<Vehicle> findByVerificationStatus(String verificationStatus);
     
+    // Find vehicles by normalized chassis number prefix (index range scan)
+    List<Vehicle> findByNormalizedChassisNumberStartingWith(String prefix);
+
+    // Find vehicles by decoded World Manufacturer Identifier
+    List<Vehicle> findByWmi(String wmi);
+
+    // Find vehicles by decoded World Manufacturer Identifier and assembly plant
+    List<Vehicle> findByWmiAndVinPlantCode(String wmi, String vinPlantCode);
+
+    // Find vehicles by decoded VIN model year
+    List<Vehicle> findByVinModelYear(Integer vinModelYear);
+
+    // Count vehicles per make, model and year, for rebuilding the risk feature store
+    @Query("select v.make, v.model, v.year, count(v) from Vehicle v "
+            + "where v.make is not null and v.model is not null and v.year is not null group by v.make, v.model, v.year")
+    List<Object[]> countByCohort();
+
+    // Find vehicles whose VIN has not been decoded yet
+    List<Vehicle> findTop500ByNormalizedChassisNumberIsNull();
+
+    // Find the next vehicles by ID, for walking the whole table in batches
+    List<Vehicle> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
     // Check if a vehicle with the given chassis number exists
     boolean existsByChassisNumber(String chassisNumber);
     
@@ -0,0 +1,176 @@
+package com.hackathon.verification.vehicle.service;
+
+import com.hackathon.verification.vehicle.entity.Vehicle;
+import com.hackathon.verification.vehicle.repository.VehicleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of stolen and tampered vehicles, keyed by normalized chassis
+ * and registration number. Reads never lock; writes are applied once the surrounding
+ * transaction has committed so a rolled-back report never becomes visible. It is filled
+ * once every bean exists and before the web server starts, so no request or commit sees
+ * it half loaded.
+ */
+@Component
+public class VehicleFlagRegistry implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(VehicleFlagRegistry.class);
+
+    public static final int STOLEN = 1;
+    public static final int TAMPERED = 2;
+
+    private final VehicleRepository vehicleRepository;
+    private final ConcurrentHashMap<String, Integer> flags = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VehicleFlagRegistry(VehicleRepository vehicleRepository) {
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    public void load() {
+        for (Vehicle vehicle : vehicleRepository.findByIsStolen(true)) {
+            apply(vehicle.getChassisNumber(), vehicle.getRegistrationNumber(), STOLEN);
+        }
+        for (Vehicle vehicle : vehicleRepository.findByHasBeenTampered(true)) {
+            apply(vehicle.getChassisNumber(), vehicle.getRegistrationNumber(), TAMPERED);
+        }
+        logger.info("Vehicle flag registry loaded with {} flagged identifiers", flags.size());
+    }
+
+    /**
+     * Returns the flag bits for a chassis or registration number, 0 when the vehicle is clean or unknown.
+     */
+    public int getFlags(String identifier) {
+        String key = normalize(identifier);
+        if (key == null) {
+            return 0;
+        }
+        Integer value = flags.get(key);
+        return value != null ? value : 0;
+    }
+
+    public boolean isStolen(String identifier) {
+        return (getFlags(identifier) & STOLEN) != 0;
+    }
+
+    public boolean isTampered(String identifier) {
+        return (getFlags(identifier) & TAMPERED) != 0;
+    }
+
+    /**
+     * Adds the given flag bits to both identifiers of a vehicle after commit.
+     */
+    public void flag(String chassisNumber, String registrationNumber, int flagBits) {
+        afterCommit(() -> apply(chassisNumber, registrationNumber, flagBits));
+    }
+
+    /**
+     * Replaces whatever is recorded for a vehicle's previous identifiers with its current state after commit.
+     */
+    public void refresh(String previousChassisNumber, String previousRegistrationNumber, Vehicle vehicle) {
+        int flagBits = (Boolean.TRUE.equals(vehicle.getIsStolen()) ? STOLEN : 0)
+                | (Boolean.TRUE.equals(vehicle.getHasBeenTampered()) ? TAMPERED : 0);
+        String chassisNumber = vehicle.getChassisNumber();
+        String registrationNumber = vehicle.getRegistrationNumber();
+        afterCommit(() -> {
+            String chassisKey = normalize(chassisNumber);
+            String registrationKey = normalize(registrationNumber);
+            // Each key changes in one step, so a reader never sees a flagged vehicle as clean in between
+            replace(chassisKey, flagBits);
+            replace(registrationKey, flagBits);
+            for (String previousKey : new String[]{normalize(previousChassisNumber), normalize(previousRegistrationNumber)}) {
+                if (previousKey != null && !previousKey.equals(chassisKey) && !previousKey.equals(registrationKey)) {
+                    flags.remove(previousKey);
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes a vehicle's identifiers after commit.
+     */
+    public void remove(String chassisNumber, String registrationNumber) {
+        afterCommit(() -> clear(chassisNumber, registrationNumber));
+    }
+
+    public int size() {
+        return flags.size();
+    }
+
+    public static String normalize(String identifier) {
+        if (identifier == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(identifier.length());
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (c != ' ' && c != '-') {
+                builder.append(c);
+            }
+        }
+        return builder.length() == 0 ? null : builder.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private void apply(String chassisNumber, String registrationNumber, int flagBits) {
+        if (flagBits == 0) {
+            return;
+        }
+        String chassisKey = normalize(chassisNumber);
+        if (chassisKey != null) {
+            flags.merge(chassisKey, flagBits, (existing, added) -> existing | added);
+        }
+        String registrationKey = normalize(registrationNumber);
+        if (registrationKey != null) {
+            flags.merge(registrationKey, flagBits, (existing, added) -> existing | added);
+        }
+    }
+
+    private void replace(String key, int flagBits) {
+        if (key == null) {
+            return;
+        }
+        if (flagBits == 0) {
+            flags.remove(key);
+        } else {
+            flags.put(key, flagBits);
+        }
+    }
+
+    private void clear(String chassisNumber, String registrationNumber) {
+        String chassisKey = normalize(chassisNumber);
+        if (chassisKey != null) {
+            flags.remove(chassisKey);
+        }
+        String registrationKey = normalize(registrationNumber);
+        if (registrationKey != null) {
+            flags.remove(registrationKey);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.hackathon.verification.vehicle.service;
 
 import com.hackathon.verification.vehicle.dto.CreateVehicleRequest;
 import com.hackathon.verification.vehicle.dto.VehicleDTO;
+import com.hackathon.verification.vehicle.dto.VehicleEventDTO;
+import com.hackathon.verification.vehicle.dto.VehicleFlagResponse;
 import com.hackathon.verification.vehicle.dto.VehicleVerificationRequest;
 import com.hackathon.verification.vehicle.dto.VehicleVerificationResponse;
+import com.hackathon.verification.vehicle.dto.VinDecodeResponse;
 
 import java.util.List;
 
@@ -48,6 +51,18 @@ public interface VehicleService {
     // Search vehicles by current owner ID
     List<VehicleDTO> searchVehiclesByCurrentOwnerId(String currentOwnerId);
 
+    // Search vehicles by decoded manufacturer (WMI) and optional assembly plant
+    List<VehicleDTO> searchVehiclesByManufacturer(String wmi, String plantCode);
+
+    // Search vehicles by normalized chassis number prefix
+    List<VehicleDTO> searchVehiclesByChassisPrefix(String prefix);
+
+    // Search vehicles by model year decoded from the VIN
+    List<VehicleDTO> searchVehiclesByVinModelYear(Integer modelYear);
+
+    // Decode a chassis number without looking it up
+    VinDecodeResponse decodeVin(String chassisNumber);
+
     // Get stolen vehicles
     List<VehicleDTO> getStolenVehicles();
 
@@ -71,4 +86,13 @@ public interface VehicleService {
 
     // Update vehicle ownership
     VehicleDTO updateVehicleOwnership(String chassisNumber, String newOwnerName, String newOwnerId);
+
+    // Get a page of the event log of a vehicle, newest first
+    List<VehicleEventDTO> getVehicleEvents(String chassisNumber, int page, int size);
+
+    // Check stolen/tampered flags for a chassis or registration number
+    VehicleFlagResponse checkVehicleFlags(String identifier);
+
+    // Check stolen/tampered flags for many chassis or registration numbers at once
+    List<VehicleFlagResponse> checkVehicleFlags(List<String> identifiers);
 }
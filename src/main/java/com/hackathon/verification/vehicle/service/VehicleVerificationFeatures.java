@@ -0,0 +1,92 @@
+package com.hackathon.verification.vehicle.service;
+
+import com.hackathon.verification.features.service.RiskFeatureStore;
+import com.hackathon.verification.features.service.RiskFeatures;
+import com.hackathon.verification.vehicle.entity.Vehicle;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Features of a vehicle verification scored by the {@value #MODEL} model, derived from the registry record, its
+ * ownership history and the precomputed chassis and make/model/year cohort counters. Every feature is scaled to
+ * 0..1, in the order of {@link #NAMES}.
+ */
+public final class VehicleVerificationFeatures {
+
+    public static final String MODEL = "vehicle-verification";
+
+    /**
+     * The model's inputs. Their order here is the order of the feature vector and of {@link #NAMES}.
+     */
+    private enum Feature {
+        EXISTS("exists"),
+        STOLEN("stolen"),
+        TAMPERED("tampered"),
+        CURRENT_OWNER_PRESENT("currentOwnerPresent"),
+        REGISTRY_VERIFIED("registryVerified"),
+        VIN_VALID("vinValid"),
+        VIN_YEAR_MATCHES("vinYearMatches"),
+        PREVIOUS_OWNERS("previousOwners"),
+        VEHICLE_AGE("vehicleAge"),
+        IDENTIFIER_WELL_FORMED("identifierWellFormed"),
+        OWNER_CHANGES_12M("ownerChanges12m"),
+        COHORT_TAMPER_RATE("cohortTamperRate");
+
+        private final String modelName;
+
+        Feature(String modelName) {
+            this.modelName = modelName;
+        }
+    }
+
+    public static final List<String> NAMES = Arrays.stream(Feature.values()).map(feature -> feature.modelName).toList();
+
+    private static final double MAX_PREVIOUS_OWNERS = 10;
+    private static final double MAX_VEHICLE_AGE_YEARS = 40;
+    private static final double MAX_OWNER_CHANGES = 4;
+
+    private VehicleVerificationFeatures() {
+    }
+
+    /**
+     * @param vehicle              the matched registry record, or null when the vehicle was not found
+     * @param previousOwners       previous owners recorded in the vehicle event log
+     * @param identifierWellFormed whether the chassis number is a valid VIN, or the registration number looks like a plate
+     * @param chassis              precomputed counters of the vehicle's chassis number
+     * @param cohort               precomputed counters of the vehicle's make, model and year
+     */
+    public static double[] of(Vehicle vehicle, long previousOwners, boolean identifierWellFormed, RiskFeatures chassis,
+                              RiskFeatures cohort, LocalDate today) {
+        double[] features = new double[NAMES.size()];
+        set(features, Feature.IDENTIFIER_WELL_FORMED, flag(identifierWellFormed));
+        if (vehicle == null) {
+            return features;
+        }
+
+        set(features, Feature.EXISTS, 1);
+        set(features, Feature.STOLEN, flag(Boolean.TRUE.equals(vehicle.getIsStolen())));
+        set(features, Feature.TAMPERED, flag(Boolean.TRUE.equals(vehicle.getHasBeenTampered())));
+        set(features, Feature.CURRENT_OWNER_PRESENT, flag(vehicle.getCurrentOwnerName() != null && !vehicle.getCurrentOwnerName().isBlank()));
+        set(features, Feature.REGISTRY_VERIFIED, flag("VERIFIED".equalsIgnoreCase(vehicle.getVerificationStatus())));
+        set(features, Feature.VIN_VALID, flag(VinDecoder.VALID.equals(vehicle.getVinStatus())));
+        set(features, Feature.VIN_YEAR_MATCHES, flag(vehicle.getVinModelYear() != null && vehicle.getVinModelYear().equals(vehicle.getYear())));
+        set(features, Feature.PREVIOUS_OWNERS, Math.min(1, previousOwners / MAX_PREVIOUS_OWNERS));
+        if (vehicle.getYear() != null) {
+            set(features, Feature.VEHICLE_AGE, Math.min(1, Math.max(0, today.getYear() - vehicle.getYear()) / MAX_VEHICLE_AGE_YEARS));
+        }
+        set(features, Feature.OWNER_CHANGES_12M, Math.min(1, chassis.lastTwelveMonths(RiskFeatureStore.OWNER_CHANGES, today) / MAX_OWNER_CHANGES));
+        long cohortSize = cohort.total(RiskFeatureStore.VEHICLES);
+        set(features, Feature.COHORT_TAMPER_RATE, Math.min(1, cohort.total(RiskFeatureStore.TAMPER_REPORTS) / (double) Math.max(1, cohortSize)));
+        return features;
+    }
+
+    private static void set(double[] features, Feature feature, double value) {
+        features[feature.ordinal()] = value;
+    }
+
+    private static double flag(boolean value) {
+        return value ? 1 : 0;
+    }
+}
@@ -0,0 +1,173 @@
+package com.hackathon.verification.vehicle.service;
+
+import com.hackathon.verification.vehicle.dto.VinDecodeResponse;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Decodes 17-character ISO 3779 VINs against an embedded WMI table loaded once at startup.
+ * Chassis numbers that are not 17 characters long (e.g. Japanese domestic frame numbers)
+ * are reported as NOT_A_VIN rather than rejected.
+ */
+@Component
+public class VinDecoder {
+
+    public static final String VALID = "VALID";
+    public static final String NOT_A_VIN = "NOT_A_VIN";
+    public static final String MALFORMED = "MALFORMED";
+    public static final String CHECK_DIGIT_MISMATCH = "CHECK_DIGIT_MISMATCH";
+
+    private static final String WMI_TABLE = "vin/wmi.csv";
+    private static final int[] WEIGHTS = {8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2};
+    // Model year codes for 1980-2009; the same codes repeat for 2010-2039
+    private static final String YEAR_CODES = "ABCDEFGHJKLMNPRSTVWXY123456789";
+
+    private final Map<String, String> manufacturers;
+
+    public VinDecoder() {
+        this.manufacturers = loadWmiTable();
+    }
+
+    public VinDecodeResponse decode(String chassisNumber) {
+        String vin = normalize(chassisNumber);
+        VinDecodeResponse response = new VinDecodeResponse();
+        response.setVin(vin);
+
+        if (vin == null || vin.length() != 17) {
+            response.setVinStatus(NOT_A_VIN);
+            return response;
+        }
+
+        int sum = 0;
+        for (int i = 0; i < 17; i++) {
+            int value = transliterate(vin.charAt(i));
+            if (value < 0) {
+                response.setVinStatus(MALFORMED);
+                return response;
+            }
+            sum += value * WEIGHTS[i];
+        }
+
+        String wmi = vin.substring(0, 3);
+        response.setWmi(wmi);
+        response.setManufacturer(lookupManufacturer(wmi));
+        response.setRegion(region(vin.charAt(0)));
+        response.setVds(vin.substring(3, 8));
+        response.setModelYear(modelYear(vin.charAt(9), vin.charAt(6), vin.charAt(0)));
+        response.setPlantCode(vin.substring(10, 11));
+        response.setSerialNumber(vin.substring(11));
+
+        int remainder = sum % 11;
+        char expected = remainder == 10 ? 'X' : (char) ('0' + remainder);
+        if (vin.charAt(8) != expected && isCheckDigitMandatory(vin.charAt(0))) {
+            response.setVinStatus(CHECK_DIGIT_MISMATCH);
+        } else {
+            response.setVinStatus(VALID);
+        }
+        return response;
+    }
+
+    public String lookupManufacturer(String wmi) {
+        if (wmi == null || wmi.length() < 2) {
+            return null;
+        }
+        String manufacturer = manufacturers.get(wmi);
+        return manufacturer != null ? manufacturer : manufacturers.get(wmi.substring(0, 2));
+    }
+
+    public static String normalize(String chassisNumber) {
+        if (chassisNumber == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(chassisNumber.length());
+        for (int i = 0; i < chassisNumber.length(); i++) {
+            char c = chassisNumber.charAt(i);
+            if (!Character.isWhitespace(c) && c != '-') {
+                builder.append(Character.toUpperCase(c));
+            }
+        }
+        return builder.length() == 0 ? null : builder.toString();
+    }
+
+    // Check digits are only mandatory for North American and Chinese VINs
+    private static boolean isCheckDigitMandatory(char first) {
+        return (first >= '1' && first <= '5') || first == 'L';
+    }
+
+    private static Integer modelYear(char yearCode, char seventh, char first) {
+        int index = YEAR_CODES.indexOf(yearCode);
+        if (index < 0) {
+            return null;
+        }
+        int year = 1980 + index;
+        if (first >= '1' && first <= '5') {
+            // North American VINs mark the 2010-2039 cycle with a letter in position 7
+            return Character.isLetter(seventh) ? year + 30 : year;
+        }
+        // Elsewhere take the most recent cycle that is not in the future
+        return year + 30 <= Year.now().getValue() + 1 ? year + 30 : year;
+    }
+
+    private static String region(char first) {
+        if (first >= 'A' && first <= 'H') {
+            return "Africa";
+        } else if (first >= 'J' && first <= 'R') {
+            return "Asia";
+        } else if (first >= 'S' && first <= 'Z') {
+            return "Europe";
+        } else if (first >= '1' && first <= '5') {
+            return "North America";
+        } else if (first == '6' || first == '7') {
+            return "Oceania";
+        }
+        return "South America";
+    }
+
+    private static int transliterate(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        switch (c) {
+            case 'A': case 'J': return 1;
+            case 'B': case 'K': case 'S': return 2;
+            case 'C': case 'L': case 'T': return 3;
+            case 'D': case 'M': case 'U': return 4;
+            case 'E': case 'N': case 'V': return 5;
+            case 'F': case 'W': return 6;
+            case 'G': case 'P': case 'X': return 7;
+            case 'H': case 'Y': return 8;
+            case 'R': case 'Z': return 9;
+            default: return -1; // I, O, Q and anything else are not allowed in a VIN
+        }
+    }
+
+    private static Map<String, String> loadWmiTable() {
+        Map<String, String> table = new HashMap<>();
+        ClassPathResource resource = new ClassPathResource(WMI_TABLE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int comma = line.indexOf(',');
+                if (comma > 0) {
+                    table.put(line.substring(0, comma).trim().toUpperCase(Locale.ROOT), line.substring(comma + 1).trim());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load WMI table " + WMI_TABLE, e);
+        }
+        return table;
+    }
+}
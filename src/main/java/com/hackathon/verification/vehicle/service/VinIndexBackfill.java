@@ -0,0 +1,58 @@
+package com.hackathon.verification.vehicle.service;
+
+import com.hackathon.verification.vehicle.dto.VinDecodeResponse;
+import com.hackathon.verification.vehicle.entity.Vehicle;
+import com.hackathon.verification.vehicle.repository.VehicleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Decodes the VIN of vehicles stored before the VIN index columns existed, in batches of 500.
+ */
+@Component
+public class VinIndexBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(VinIndexBackfill.class);
+
+    private final VehicleRepository vehicleRepository;
+    private final VinDecoder vinDecoder;
+
+    @Autowired
+    public VinIndexBackfill(VehicleRepository vehicleRepository, VinDecoder vinDecoder) {
+        this.vehicleRepository = vehicleRepository;
+        this.vinDecoder = vinDecoder;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int decoded = 0;
+        List<Vehicle> batch;
+        while (!(batch = vehicleRepository.findTop500ByNormalizedChassisNumberIsNull()).isEmpty()) {
+            batch.forEach(this::decode);
+            vehicleRepository.saveAll(batch);
+            decoded += batch.size();
+        }
+        if (decoded > 0) {
+            logger.info("Decoded VIN index columns for {} existing vehicles", decoded);
+        }
+    }
+
+    /**
+     * Sets the VIN index columns of a vehicle from its chassis number.
+     */
+    public void decode(Vehicle vehicle) {
+        VinDecodeResponse decodedVin = vinDecoder.decode(vehicle.getChassisNumber());
+        // Fall back to the raw chassis number so blank values are not picked up again
+        vehicle.setNormalizedChassisNumber(decodedVin.getVin() != null ? decodedVin.getVin() : vehicle.getChassisNumber());
+        vehicle.setWmi(decodedVin.getWmi());
+        vehicle.setVinModelYear(decodedVin.getModelYear());
+        vehicle.setVinPlantCode(decodedVin.getPlantCode());
+        vehicle.setVinStatus(decodedVin.getVinStatus());
+    }
+}
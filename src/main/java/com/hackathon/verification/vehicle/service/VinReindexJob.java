@@ -0,0 +1,53 @@
+package com.hackathon.verification.vehicle.service;
+
+import com.hackathon.verification.jobs.service.JobContext;
+import com.hackathon.verification.jobs.service.JobHandler;
+import com.hackathon.verification.vehicle.entity.Vehicle;
+import com.hackathon.verification.vehicle.repository.VehicleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Re-decodes the VIN index columns of every vehicle, e.g. after the decoder has learned new manufacturers.
+ * Walks the table by ID in batches of 500 and checkpoints the last ID of each batch, so a restart resumes there.
+ */
+@Component
+public class VinReindexJob implements JobHandler {
+
+    public static final String TYPE = "vehicle-vin-reindex";
+
+    private final VehicleRepository vehicleRepository;
+    private final VinIndexBackfill vinIndexBackfill;
+
+    @Autowired
+    public VinReindexJob(VehicleRepository vehicleRepository, VinIndexBackfill vinIndexBackfill) {
+        this.vehicleRepository = vehicleRepository;
+        this.vinIndexBackfill = vinIndexBackfill;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public boolean isRestartable() {
+        return true;
+    }
+
+    @Override
+    public void run(JobContext context) {
+        context.setTotal(vehicleRepository.count());
+        long lastId = context.getCheckpoint() != null ? Long.parseLong(context.getCheckpoint()) : 0L;
+        List<Vehicle> batch;
+        while (!context.isCancelled() && !(batch = vehicleRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId)).isEmpty()) {
+            batch.forEach(vinIndexBackfill::decode);
+            vehicleRepository.saveAll(batch);
+            lastId = batch.get(batch.size() - 1).getId();
+            context.progress(batch.size(), 0);
+            context.checkpoint(Long.toString(lastId));
+        }
+    }
+}
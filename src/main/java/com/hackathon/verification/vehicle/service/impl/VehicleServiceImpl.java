@@ -1,35 +1,77 @@
 package com.hackathon.verification.vehicle.service.impl;
 
+import com.hackathon.verification.features.service.RiskFeatureStore;
+import com.hackathon.verification.features.service.RiskFeatures;
+import com.hackathon.verification.metrics.VerificationMetrics;
+import com.hackathon.verification.scoring.ScoringEngine;
 import com.hackathon.verification.vehicle.dto.CreateVehicleRequest;
 import com.hackathon.verification.vehicle.dto.VehicleDTO;
+import com.hackathon.verification.vehicle.dto.VehicleEventDTO;
+import com.hackathon.verification.vehicle.dto.VehicleFlagResponse;
 import com.hackathon.verification.vehicle.dto.VehicleVerificationRequest;
 import com.hackathon.verification.vehicle.dto.VehicleVerificationResponse;
+import com.hackathon.verification.vehicle.dto.VinDecodeResponse;
 import com.hackathon.verification.vehicle.entity.Vehicle;
+import com.hackathon.verification.vehicle.entity.VehicleEvent;
+import com.hackathon.verification.vehicle.mapper.VehicleMapper;
+import com.hackathon.verification.vehicle.repository.VehicleEventRepository;
 import com.hackathon.verification.vehicle.repository.VehicleRepository;
+import com.hackathon.verification.vehicle.service.VehicleFlagRegistry;
 import com.hackathon.verification.vehicle.service.VehicleService;
+import com.hackathon.verification.vehicle.service.VehicleVerificationFeatures;
+import com.hackathon.verification.vehicle.service.VinDecoder;
 import jakarta.persistence.EntityNotFoundException;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 public class VehicleServiceImpl implements VehicleService {
 
     private final VehicleRepository vehicleRepository;
-    private final ModelMapper modelMapper;
+    private final VehicleEventRepository vehicleEventRepository;
+    private final VehicleMapper vehicleMapper;
+    private final VehicleFlagRegistry vehicleFlagRegistry;
+    private final VinDecoder vinDecoder;
+    private final ScoringEngine scoringEngine;
+    private final RiskFeatureStore riskFeatureStore;
+    private final VerificationMetrics verificationMetrics;
+
+    // Plates such as ABC1234 or AB 12 CD
+    private static final Pattern REGISTRATION_NUMBER = Pattern.compile("[A-Za-z0-9]{2,4}[ -]?[A-Za-z0-9]{2,4}(?:[ -]?[A-Za-z0-9]{1,3})?");
+
+    // Upper bound on identifiers accepted by a single bulk flag check
+    private static final int MAX_BULK_FLAG_CHECK = 10000;
+
+    // Bounds on the window of previous owners returned by verifyVehicle and the event log
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 10;
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
 
     @Autowired
-    public VehicleServiceImpl(VehicleRepository vehicleRepository, ModelMapper modelMapper) {
+    public VehicleServiceImpl(VehicleRepository vehicleRepository, VehicleEventRepository vehicleEventRepository,
+                              VehicleMapper vehicleMapper, VehicleFlagRegistry vehicleFlagRegistry, VinDecoder vinDecoder,
+                              ScoringEngine scoringEngine, RiskFeatureStore riskFeatureStore,
+                              VerificationMetrics verificationMetrics) {
         this.vehicleRepository = vehicleRepository;
-        this.modelMapper = modelMapper;
+        this.vehicleEventRepository = vehicleEventRepository;
+        this.vehicleMapper = vehicleMapper;
+        this.vehicleFlagRegistry = vehicleFlagRegistry;
+        this.vinDecoder = vinDecoder;
+        this.scoringEngine = scoringEngine;
+        this.riskFeatureStore = riskFeatureStore;
+        this.verificationMetrics = verificationMetrics;
+        // Fail at startup rather than on the first request if the model file does not match the features
+        scoringEngine.requireFeatures(VehicleVerificationFeatures.MODEL, VehicleVerificationFeatures.NAMES);
     }
 
     @Override
@@ -46,7 +88,6 @@ public class VehicleServiceImpl implements VehicleService {
                 throw new IllegalArgumentException("Vehicle with registration number " + createVehicleRequest.getRegistrationNumber() + " already exists");
             }
 
-            // Create a new Vehicle object manually to avoid ModelMapper conversion issues
             Vehicle vehicle = new Vehicle();
             vehicle.setChassisNumber(createVehicleRequest.getChassisNumber());
             vehicle.setRegistrationNumber(createVehicleRequest.getRegistrationNumber());
@@ -81,11 +122,23 @@ public class VehicleServiceImpl implements VehicleService {
                 vehicle.setVerificationStatus("PENDING");
             }
 
+            // Decode the VIN and flag chassis numbers that fail validation
+            VinDecodeResponse decodedVin = applyVinDecoding(vehicle);
+            if (decodedVin.isSuspicious()) {
+                vehicle.setVerificationStatus("SUSPECTED_TAMPERING");
+            }
+
             // Save the vehicle
             Vehicle savedVehicle = vehicleRepository.save(vehicle);
+            vehicleFlagRegistry.refresh(null, null, savedVehicle);
+            riskFeatureStore.add(RiskFeatureStore.COHORT, cohortKey(savedVehicle), RiskFeatureStore.VEHICLES, 1);
+            if (decodedVin.isSuspicious()) {
+                vehicleEventRepository.save(new VehicleEvent(savedVehicle.getId(), VehicleEvent.VIN_VALIDATION_FAILED,
+                        "VIN failed validation: " + decodedVin.getVinStatus()));
+            }
 
             // Convert entity back to DTO and return
-            return modelMapper.map(savedVehicle, VehicleDTO.class);
+            return vehicleMapper.toDto(savedVehicle);
         } catch (Exception e) {
             throw new RuntimeException("Error creating vehicle: " + e.getMessage(), e);
         }
@@ -97,7 +150,7 @@ public class VehicleServiceImpl implements VehicleService {
         Vehicle vehicle = vehicleRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with id: " + id));
 
-        return modelMapper.map(vehicle, VehicleDTO.class);
+        return vehicleMapper.toDto(vehicle);
     }
 
     @Override
@@ -106,7 +159,7 @@ public class VehicleServiceImpl implements VehicleService {
         Vehicle vehicle = vehicleRepository.findByChassisNumber(chassisNumber)
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with chassis number: " + chassisNumber));
 
-        return modelMapper.map(vehicle, VehicleDTO.class);
+        return vehicleMapper.toDto(vehicle);
     }
 
     @Override
@@ -115,7 +168,7 @@ public class VehicleServiceImpl implements VehicleService {
         Vehicle vehicle = vehicleRepository.findByRegistrationNumber(registrationNumber)
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with registration number: " + registrationNumber));
 
-        return modelMapper.map(vehicle, VehicleDTO.class);
+        return vehicleMapper.toDto(vehicle);
     }
 
     @Override
@@ -123,9 +176,7 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> getAllVehicles() {
         List<Vehicle> vehicles = vehicleRepository.findAll();
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
     }
 
     @Override
@@ -147,9 +198,14 @@ public class VehicleServiceImpl implements VehicleService {
             throw new IllegalArgumentException("Vehicle with registration number " + vehicleDTO.getRegistrationNumber() + " already exists");
         }
 
+        String previousChassisNumber = existingVehicle.getChassisNumber();
+        String previousRegistrationNumber = existingVehicle.getRegistrationNumber();
+        String previousCohort = cohortKey(existingVehicle);
+
         // Update the vehicle properties
         if (vehicleDTO.getChassisNumber() != null) {
             existingVehicle.setChassisNumber(vehicleDTO.getChassisNumber());
+            applyVinDecoding(existingVehicle);
         }
         if (vehicleDTO.getRegistrationNumber() != null) {
             existingVehicle.setRegistrationNumber(vehicleDTO.getRegistrationNumber());
@@ -193,20 +249,28 @@ public class VehicleServiceImpl implements VehicleService {
 
         // Save the updated vehicle
         Vehicle updatedVehicle = vehicleRepository.save(existingVehicle);
+        vehicleFlagRegistry.refresh(previousChassisNumber, previousRegistrationNumber, updatedVehicle);
+        // Stolen, tamper and ownership counters follow the vehicle to its corrected chassis number
+        riskFeatureStore.move(RiskFeatureStore.CHASSIS, previousChassisNumber, updatedVehicle.getChassisNumber());
+        if (!Objects.equals(previousCohort, cohortKey(updatedVehicle))) {
+            riskFeatureStore.add(RiskFeatureStore.COHORT, previousCohort, RiskFeatureStore.VEHICLES, -1);
+            riskFeatureStore.add(RiskFeatureStore.COHORT, cohortKey(updatedVehicle), RiskFeatureStore.VEHICLES, 1);
+        }
 
         // Convert entity back to DTO and return
-        return modelMapper.map(updatedVehicle, VehicleDTO.class);
+        return vehicleMapper.toDto(updatedVehicle);
     }
 
     @Override
     @Transactional
     public void deleteVehicle(Long id) {
         // Check if vehicle exists
-        if (!vehicleRepository.existsById(id)) {
-            throw new EntityNotFoundException("Vehicle not found with id: " + id);
-        }
+        Vehicle vehicle = vehicleRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with id: " + id));
 
-        vehicleRepository.deleteById(id);
+        vehicleRepository.delete(vehicle);
+        vehicleFlagRegistry.remove(vehicle.getChassisNumber(), vehicle.getRegistrationNumber());
+        riskFeatureStore.add(RiskFeatureStore.COHORT, cohortKey(vehicle), RiskFeatureStore.VEHICLES, -1);
     }
 
     @Override
@@ -214,9 +278,7 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> searchVehiclesByMake(String make) {
         List<Vehicle> vehicles = vehicleRepository.findByMakeContainingIgnoreCase(make);
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
     }
 
     @Override
@@ -224,9 +286,7 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> searchVehiclesByModel(String model) {
         List<Vehicle> vehicles = vehicleRepository.findByModelContainingIgnoreCase(model);
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
     }
 
     @Override
@@ -234,9 +294,7 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> searchVehiclesByYear(Integer year) {
         List<Vehicle> vehicles = vehicleRepository.findByYear(year);
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
     }
 
     @Override
@@ -244,9 +302,7 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> searchVehiclesByMakeAndModel(String make, String model) {
         List<Vehicle> vehicles = vehicleRepository.findByMakeAndModelAllIgnoreCase(make, model);
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
     }
 
     @Override
@@ -254,9 +310,7 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> searchVehiclesByCurrentOwnerName(String currentOwnerName) {
         List<Vehicle> vehicles = vehicleRepository.findByCurrentOwnerNameContainingIgnoreCase(currentOwnerName);
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
     }
 
     @Override
@@ -264,9 +318,48 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> searchVehiclesByCurrentOwnerId(String currentOwnerId) {
         List<Vehicle> vehicles = vehicleRepository.findByCurrentOwnerId(currentOwnerId);
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VehicleDTO> searchVehiclesByManufacturer(String wmi, String plantCode) {
+        String normalizedWmi = VinDecoder.normalize(wmi);
+        if (normalizedWmi == null || normalizedWmi.length() != 3) {
+            throw new IllegalArgumentException("WMI must be exactly 3 characters");
+        }
+
+        List<Vehicle> vehicles = plantCode != null && !plantCode.isBlank()
+                ? vehicleRepository.findByWmiAndVinPlantCode(normalizedWmi, VinDecoder.normalize(plantCode))
+                : vehicleRepository.findByWmi(normalizedWmi);
+
+        return vehicleMapper.toDtoList(vehicles);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VehicleDTO> searchVehiclesByChassisPrefix(String prefix) {
+        String normalizedPrefix = VinDecoder.normalize(prefix);
+        if (normalizedPrefix == null || normalizedPrefix.length() < 3) {
+            throw new IllegalArgumentException("Chassis number prefix must be at least 3 characters");
+        }
+
+        List<Vehicle> vehicles = vehicleRepository.findByNormalizedChassisNumberStartingWith(normalizedPrefix);
+
+        return vehicleMapper.toDtoList(vehicles);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VehicleDTO> searchVehiclesByVinModelYear(Integer modelYear) {
+        List<Vehicle> vehicles = vehicleRepository.findByVinModelYear(modelYear);
+
+        return vehicleMapper.toDtoList(vehicles);
+    }
+
+    @Override
+    public VinDecodeResponse decodeVin(String chassisNumber) {
+        return vinDecoder.decode(chassisNumber);
     }
 
     @Override
@@ -274,9 +367,7 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> getStolenVehicles() {
         List<Vehicle> vehicles = vehicleRepository.findByIsStolen(true);
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
     }
 
     @Override
@@ -284,9 +375,7 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> getTamperedVehicles() {
         List<Vehicle> vehicles = vehicleRepository.findByHasBeenTampered(true);
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
     }
 
     @Override
@@ -294,30 +383,34 @@ public class VehicleServiceImpl implements VehicleService {
     public List<VehicleDTO> getVehiclesByVerificationStatus(String verificationStatus) {
         List<Vehicle> vehicles = vehicleRepository.findByVerificationStatus(verificationStatus);
 
-        return vehicles.stream()
-                .map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class))
-                .collect(Collectors.toList());
+        return vehicleMapper.toDtoList(vehicles);
     }
 
     @Override
     @Transactional(readOnly = true)
     public VehicleVerificationResponse verifyVehicle(VehicleVerificationRequest request) {
+        Optional<Vehicle> vehicleOptional = verificationMetrics.time("vehicle", VerificationMetrics.LOOKUP, () -> findVehicle(request));
+        return verificationMetrics.time("vehicle", VerificationMetrics.ENRICHMENT, () -> toVerificationResponse(request, vehicleOptional));
+    }
+
+    private Optional<Vehicle> findVehicle(VehicleVerificationRequest request) {
         String chassisNumber = request.getChassisNumber();
         String registrationNumber = request.getRegistrationNumber();
 
-        VehicleVerificationResponse response = new VehicleVerificationResponse();
-        response.setChassisNumber(chassisNumber);
-        response.setRegistrationNumber(registrationNumber);
-
         // Check if vehicle exists
-        Optional<Vehicle> vehicleOptional;
         if (chassisNumber != null && !chassisNumber.isEmpty()) {
-            vehicleOptional = vehicleRepository.findByChassisNumber(chassisNumber);
+            return vehicleRepository.findByChassisNumber(chassisNumber);
         } else if (registrationNumber != null && !registrationNumber.isEmpty()) {
-            vehicleOptional = vehicleRepository.findByRegistrationNumber(registrationNumber);
+            return vehicleRepository.findByRegistrationNumber(registrationNumber);
         } else {
             throw new IllegalArgumentException("Either chassis number or registration number must be provided");
         }
+    }
+
+    private VehicleVerificationResponse toVerificationResponse(VehicleVerificationRequest request, Optional<Vehicle> vehicleOptional) {
+        VehicleVerificationResponse response = new VehicleVerificationResponse();
+        response.setChassisNumber(request.getChassisNumber());
+        response.setRegistrationNumber(request.getRegistrationNumber());
 
         if (vehicleOptional.isPresent()) {
             Vehicle vehicle = vehicleOptional.get();
@@ -349,30 +442,32 @@ public class VehicleServiceImpl implements VehicleService {
 
             response.setMessage(messageBuilder.toString());
 
-            // Add simulated ownership history (in a real implementation, this would come from a database)
-            // For now, we'll just add the current owner
+            // Current owner first, followed by a bounded window of previous owners from the event log
             if (vehicle.getCurrentOwnerName() != null) {
-                VehicleVerificationResponse.OwnershipHistory currentOwnership = new VehicleVerificationResponse.OwnershipHistory(
+                response.addOwnershipHistory(new VehicleVerificationResponse.OwnershipHistory(
                         vehicle.getCurrentOwnerName(),
                         vehicle.getCurrentOwnerId(),
                         vehicle.getPurchaseDate(),
                         null
-                );
-                response.addOwnershipHistory(currentOwnership);
-
-                // Add a simulated previous owner
-                LocalDate previousEndDate = vehicle.getPurchaseDate() != null ? 
-                        vehicle.getPurchaseDate().minusDays(1) : LocalDate.now().minusYears(1);
-                LocalDate previousStartDate = previousEndDate.minusYears(2);
-
-                VehicleVerificationResponse.OwnershipHistory previousOwnership = new VehicleVerificationResponse.OwnershipHistory(
-                        "Previous Owner",
-                        "PREV-" + vehicle.getChassisNumber().substring(0, 5),
-                        previousStartDate,
-                        previousEndDate
-                );
-                response.addOwnershipHistory(previousOwnership);
+                ));
             }
+
+            PageRequest historyWindow = historyWindow(request.getHistoryPage(), request.getHistorySize());
+            Slice<VehicleEvent> transfers = vehicleEventRepository.findByVehicleIdAndEventTypeOrderByOccurredAtDescIdDesc(
+                    vehicle.getId(), VehicleEvent.OWNERSHIP_TRANSFER, historyWindow);
+            for (VehicleEvent transfer : transfers) {
+                if (transfer.getPreviousOwnerName() == null && transfer.getPreviousOwnerId() == null) {
+                    continue;
+                }
+                response.addOwnershipHistory(new VehicleVerificationResponse.OwnershipHistory(
+                        transfer.getPreviousOwnerName(),
+                        transfer.getPreviousOwnerId(),
+                        transfer.getPreviousOwnerSince(),
+                        transfer.getOccurredAt().toLocalDate()
+                ));
+            }
+            response.setOwnershipHistoryPage(historyWindow.getPageNumber());
+            response.setHasMoreOwnershipHistory(transfers.hasNext());
         } else {
             response.setExists(false);
             response.setIsStolen(false);
@@ -388,12 +483,23 @@ public class VehicleServiceImpl implements VehicleService {
     @Transactional(readOnly = true)
     public VehicleVerificationResponse verifyVehicleWithAI(VehicleVerificationRequest request) {
         // First, perform standard verification
-        VehicleVerificationResponse response = verifyVehicle(request);
-
-        // Add AI-enhanced verification (simulated for now)
-        // In a real implementation, this would call an AI service
-        Random random = new Random();
-        double confidenceScore = 0.7 + (random.nextDouble() * 0.3); // Random score between 0.7 and 1.0
+        Optional<Vehicle> vehicleOptional = verificationMetrics.time("vehicle-ai", VerificationMetrics.LOOKUP, () -> findVehicle(request));
+        VehicleVerificationResponse response = verificationMetrics.time("vehicle-ai", VerificationMetrics.ENRICHMENT,
+                () -> toVerificationResponse(request, vehicleOptional));
+
+        // Score the registry record with the local model; the same record always gets the same score
+        // Previous owners are counted over the whole event log, not the requested history page
+        Vehicle vehicle = vehicleOptional.orElse(null);
+        long previousOwners = vehicle != null
+                ? vehicleEventRepository.countPreviousOwners(vehicle.getId(), VehicleEvent.OWNERSHIP_TRANSFER) : 0;
+        long scoringStart = System.nanoTime();
+        RiskFeatures chassis = vehicle != null
+                ? riskFeatureStore.get(RiskFeatureStore.CHASSIS, vehicle.getChassisNumber()) : RiskFeatures.EMPTY;
+        RiskFeatures cohort = vehicle != null
+                ? riskFeatureStore.get(RiskFeatureStore.COHORT, cohortKey(vehicle)) : RiskFeatures.EMPTY;
+        double confidenceScore = scoringEngine.score(VehicleVerificationFeatures.MODEL, VehicleVerificationFeatures.of(
+                vehicle, previousOwners, isWellFormedIdentifier(request), chassis, cohort, LocalDate.now()));
+        verificationMetrics.record("vehicle-ai", VerificationMetrics.SCORING, System.nanoTime() - scoringStart);
         response.setConfidenceScore(confidenceScore);
 
         // Enhance the message with AI insights
@@ -419,6 +525,16 @@ public class VehicleServiceImpl implements VehicleService {
         return response;
     }
 
+    // A chassis number that decodes as a valid VIN, or otherwise a plausible registration plate
+    private boolean isWellFormedIdentifier(VehicleVerificationRequest request) {
+        String chassisNumber = request.getChassisNumber();
+        if (chassisNumber != null && !chassisNumber.isEmpty()) {
+            return VinDecoder.VALID.equals(vinDecoder.decode(chassisNumber).getVinStatus());
+        }
+        String registrationNumber = request.getRegistrationNumber();
+        return registrationNumber != null && REGISTRATION_NUMBER.matcher(registrationNumber.trim()).matches();
+    }
+
     @Override
     @Transactional
     public VehicleDTO reportVehicleAsStolen(String chassisNumber, String reportDetails) {
@@ -428,15 +544,12 @@ public class VehicleServiceImpl implements VehicleService {
         vehicle.setIsStolen(true);
         vehicle.setVerificationStatus("REPORTED_STOLEN");
 
-        String notes = vehicle.getVerificationNotes();
-        if (notes == null) {
-            notes = "";
-        }
-        notes += "\n[" + LocalDateTime.now() + "] Reported as stolen: " + reportDetails;
-        vehicle.setVerificationNotes(notes);
+        vehicleEventRepository.save(new VehicleEvent(vehicle.getId(), VehicleEvent.STOLEN_REPORT, reportDetails));
 
         Vehicle updatedVehicle = vehicleRepository.save(vehicle);
-        return modelMapper.map(updatedVehicle, VehicleDTO.class);
+        vehicleFlagRegistry.flag(updatedVehicle.getChassisNumber(), updatedVehicle.getRegistrationNumber(), VehicleFlagRegistry.STOLEN);
+        riskFeatureStore.add(RiskFeatureStore.CHASSIS, updatedVehicle.getChassisNumber(), RiskFeatureStore.STOLEN_REPORTS, 1);
+        return vehicleMapper.toDto(updatedVehicle);
     }
 
     @Override
@@ -448,15 +561,13 @@ public class VehicleServiceImpl implements VehicleService {
         vehicle.setHasBeenTampered(true);
         vehicle.setVerificationStatus("REPORTED_TAMPERED");
 
-        String notes = vehicle.getVerificationNotes();
-        if (notes == null) {
-            notes = "";
-        }
-        notes += "\n[" + LocalDateTime.now() + "] Reported as tampered: " + reportDetails;
-        vehicle.setVerificationNotes(notes);
+        vehicleEventRepository.save(new VehicleEvent(vehicle.getId(), VehicleEvent.TAMPER_REPORT, reportDetails));
 
         Vehicle updatedVehicle = vehicleRepository.save(vehicle);
-        return modelMapper.map(updatedVehicle, VehicleDTO.class);
+        vehicleFlagRegistry.flag(updatedVehicle.getChassisNumber(), updatedVehicle.getRegistrationNumber(), VehicleFlagRegistry.TAMPERED);
+        riskFeatureStore.add(RiskFeatureStore.CHASSIS, updatedVehicle.getChassisNumber(), RiskFeatureStore.TAMPER_REPORTS, 1);
+        riskFeatureStore.add(RiskFeatureStore.COHORT, cohortKey(updatedVehicle), RiskFeatureStore.TAMPER_REPORTS, 1);
+        return vehicleMapper.toDto(updatedVehicle);
     }
 
     @Override
@@ -465,15 +576,8 @@ public class VehicleServiceImpl implements VehicleService {
         Vehicle vehicle = vehicleRepository.findByChassisNumber(chassisNumber)
                 .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with chassis number: " + chassisNumber));
 
-        // Store the previous owner information in verification notes
-        String notes = vehicle.getVerificationNotes();
-        if (notes == null) {
-            notes = "";
-        }
-        notes += "\n[" + LocalDateTime.now() + "] Ownership changed from " + 
-                (vehicle.getCurrentOwnerName() != null ? vehicle.getCurrentOwnerName() : "unknown") + 
-                " to " + newOwnerName;
-        vehicle.setVerificationNotes(notes);
+        // Record the previous owner in the event log before overwriting it
+        vehicleEventRepository.save(VehicleEvent.ownershipTransfer(vehicle, newOwnerName, newOwnerId));
 
         // Update ownership information
         vehicle.setCurrentOwnerName(newOwnerName);
@@ -481,6 +585,73 @@ public class VehicleServiceImpl implements VehicleService {
         vehicle.setPurchaseDate(LocalDate.now());
 
         Vehicle updatedVehicle = vehicleRepository.save(vehicle);
-        return modelMapper.map(updatedVehicle, VehicleDTO.class);
+        riskFeatureStore.addMonthly(RiskFeatureStore.CHASSIS, updatedVehicle.getChassisNumber(), RiskFeatureStore.OWNER_CHANGES,
+                updatedVehicle.getPurchaseDate(), 1);
+        return vehicleMapper.toDto(updatedVehicle);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VehicleEventDTO> getVehicleEvents(String chassisNumber, int page, int size) {
+        Vehicle vehicle = vehicleRepository.findByChassisNumber(chassisNumber)
+                .orElseThrow(() -> new EntityNotFoundException("Vehicle not found with chassis number: " + chassisNumber));
+
+        Slice<VehicleEvent> events = vehicleEventRepository.findByVehicleIdOrderByOccurredAtDescIdDesc(
+                vehicle.getId(), historyWindow(page, size));
+
+        return events.stream()
+                .map(vehicleMapper::toEventDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public VehicleFlagResponse checkVehicleFlags(String identifier) {
+        if (identifier == null || identifier.isBlank()) {
+            throw new IllegalArgumentException("Chassis number or registration number must be provided");
+        }
+        int flags = vehicleFlagRegistry.getFlags(identifier);
+        return new VehicleFlagResponse(identifier,
+                (flags & VehicleFlagRegistry.STOLEN) != 0,
+                (flags & VehicleFlagRegistry.TAMPERED) != 0);
+    }
+
+    @Override
+    public List<VehicleFlagResponse> checkVehicleFlags(List<String> identifiers) {
+        if (identifiers == null || identifiers.isEmpty()) {
+            throw new IllegalArgumentException("At least one chassis number or registration number must be provided");
+        }
+        if (identifiers.size() > MAX_BULK_FLAG_CHECK) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_FLAG_CHECK + " identifiers can be checked per request");
+        }
+
+        List<VehicleFlagResponse> results = new ArrayList<>(identifiers.size());
+        for (String identifier : identifiers) {
+            int flags = vehicleFlagRegistry.getFlags(identifier);
+            results.add(new VehicleFlagResponse(identifier,
+                    (flags & VehicleFlagRegistry.STOLEN) != 0,
+                    (flags & VehicleFlagRegistry.TAMPERED) != 0));
+        }
+        return results;
+    }
+
+    private PageRequest historyWindow(Integer page, Integer size) {
+        int pageNumber = page != null && page > 0 ? page : 0;
+        int pageSize = size != null && size > 0 ? Math.min(size, MAX_HISTORY_PAGE_SIZE) : DEFAULT_HISTORY_PAGE_SIZE;
+        return PageRequest.of(pageNumber, pageSize);
+    }
+
+    private static String cohortKey(Vehicle vehicle) {
+        return RiskFeatureStore.cohortKey(vehicle.getMake(), vehicle.getModel(), vehicle.getYear());
+    }
+
+    // Copy the decoded VIN fields onto the entity so they can be queried through their indexes
+    private VinDecodeResponse applyVinDecoding(Vehicle vehicle) {
+        VinDecodeResponse decodedVin = vinDecoder.decode(vehicle.getChassisNumber());
+        vehicle.setNormalizedChassisNumber(decodedVin.getVin());
+        vehicle.setWmi(decodedVin.getWmi());
+        vehicle.setVinModelYear(decodedVin.getModelYear());
+        vehicle.setVinPlantCode(decodedVin.getPlantCode());
+        vehicle.setVinStatus(decodedVin.getVinStatus());
+        return decodedVin;
     }
 }
@@ -0,0 +1,81 @@
+package com.hackathon.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, baseline first, and lists every benchmark present in both with the relative
+ * change in its score. A change counts only when it is larger than both score errors combined and than the
+ * threshold; the exit status is 1 when anything got slower.
+ * <pre>
+ * java -cp ... com.hackathon.benchmark.BenchmarkComparison target/jmh/results-a.json target/jmh/results-b.json [threshold%]
+ * </pre>
+ */
+public class BenchmarkComparison {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold percent, default 5]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 5.0;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %-10s %9s  %s%n", "Benchmark", "Baseline", "Current", "Unit", "Change", "");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            JsonNode beforeMetric = before.get("primaryMetric");
+            JsonNode afterMetric = after.get("primaryMetric");
+            double beforeScore = beforeMetric.get("score").asDouble();
+            double afterScore = afterMetric.get("score").asDouble();
+            double errors = error(beforeMetric) + error(afterMetric);
+            double change = beforeScore == 0 ? 0 : (afterScore - beforeScore) / beforeScore * 100;
+            // Throughput is better when higher, every other mode when lower
+            boolean higherIsBetter = "thrpt".equals(after.get("mode").asText());
+            String verdict = "";
+            if (Math.abs(afterScore - beforeScore) > errors && Math.abs(change) >= threshold) {
+                boolean better = higherIsBetter == afterScore > beforeScore;
+                verdict = better ? "faster" : "SLOWER";
+                if (!better) {
+                    regressions++;
+                }
+            }
+            System.out.printf("%-70s %14.3f %14.3f %-10s %+8.1f%%  %s%n", entry.getKey(), beforeScore, afterScore,
+                    afterMetric.get("scoreUnit").asText(), change, verdict);
+        }
+        System.out.println(regressions == 0 ? "No regressions." : regressions + " regression(s).");
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    // Results keyed by benchmark name and parameters, e.g. TrustScoreBenchmark.tenantTrustScore{ratingCount=1000}
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            String name = result.get("benchmark").asText();
+            name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+            Map<String, String> params = new TreeMap<>();
+            if (result.has("params")) {
+                result.get("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            }
+            results.put(params.isEmpty() ? name : name + params, result);
+        }
+        return results;
+    }
+
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hackathon.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Runs every benchmark in this package, or those matching the regular expressions given, and writes the results
+ * as JSON to {@code target/jmh/} so that two runs can be compared with {@link BenchmarkComparison}.
+ * Any other JMH command line option is passed through, for example {@code -p ratingCount=1000 -prof gc}.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="TrustScore -f 1"
+ * </pre>
+ */
+public class BenchmarkSuite {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(BenchmarkSuite.class.getPackageName().replace(".", "\\.") + "\\..*Benchmark\\..*");
+        }
+        if (!commandLine.getResult().hasValue()) {
+            Path result = Paths.get("target", "jmh",
+                    "results-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+            Files.createDirectories(result.getParent());
+            options.result(result.toString()).resultFormat(ResultFormatType.JSON);
+            System.out.println("Writing results to " + result.toAbsolutePath());
+        }
+        new Runner(options.build()).run();
+    }
+}
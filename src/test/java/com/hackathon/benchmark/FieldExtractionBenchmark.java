@@ -0,0 +1,147 @@
+package com.hackathon.benchmark;
+
+import com.hackathon.verification.land.extraction.DocumentTemplateRegistry;
+import com.hackathon.verification.land.extraction.ExtractedFields;
+import com.hackathon.verification.land.extraction.FieldExtractor;
+import com.hackathon.verification.land.ocr.OcrResult;
+import com.hackathon.verification.land.service.impl.LandDocumentVerificationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares template-driven field extraction with the original per-call regex parsing on OCR text of each
+ * supported layout. Run with {@code -prof gc} to see allocation per extraction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldExtractionBenchmark {
+
+    static final String DEEDS_OFFICE = "REPUBLIC OF ZIMBABWE\n"
+            + "DEED OF TRANSFER\n"
+            + "Registrar of Deeds, Harare\n"
+            + "BE IT HEREBY MADE KNOWN that the transferor sold and ceded in favour of\n"
+            + "Transferee: Tendai Farai Moyo\n"
+            + "National ID No: 63-1234567 X 42\n"
+            + "certain piece of land being Stand No 4521/B Borrowdale Township\n"
+            + "measuring 2 000 square metres held under Deed of Transfer 1234/1998\n";
+
+    static final String COUNCIL_LEASE = "CITY OF HARARE\n"
+            + "HOUSING AND COMMUNITY SERVICES\n"
+            + "LEASE AGREEMENT\n"
+            + "Name of Lessee\n"
+            + "RUTENDO CHIKWANHA\n"
+            + "ID Number: 29-765432 K 18\n"
+            + "House No: 1182 Budiriro 5\n"
+            + "The lessee shall pay the monthly rentals to the council\n";
+
+    static final String COOPERATIVE_CERTIFICATE = "KUGARA HOUSING CO-OPERATIVE SOCIETY LTD\n"
+            + "CERTIFICATE OF MEMBERSHIP\n"
+            + "This is to certify that Nyasha Gumbo\n"
+            + "is a paid up member and has been allocated\n"
+            + "Plot 77 Southlea Park Housing Scheme\n"
+            + "ID: 08-445566 P 07\n";
+
+    private static final String[] DOCUMENTS = {DEEDS_OFFICE, COUNCIL_LEASE, COOPERATIVE_CERTIFICATE};
+
+    private FieldExtractor extractor;
+    private LandDocumentVerificationServiceImpl documentService;
+    private OcrResult[] ocrResults;
+
+    @Setup
+    public void setUp() {
+        extractor = new FieldExtractor(new DocumentTemplateRegistry());
+        documentService = new LandDocumentVerificationServiceImpl();
+        ReflectionTestUtils.setField(documentService, "fieldExtractor", extractor);
+        ocrResults = new OcrResult[DOCUMENTS.length];
+        for (int i = 0; i < DOCUMENTS.length; i++) {
+            ocrResults[i] = withWords(DOCUMENTS[i]);
+        }
+    }
+
+    @Benchmark
+    public void templateExtraction(Blackhole blackhole) {
+        for (OcrResult ocrResult : ocrResults) {
+            blackhole.consume(extractor.extract(ocrResult));
+        }
+    }
+
+    // Plain text without word confidences, as posted to the parse endpoint
+    @Benchmark
+    public void parseExtractedText(Blackhole blackhole) {
+        for (String document : DOCUMENTS) {
+            blackhole.consume(documentService.parseExtractedText(document));
+        }
+    }
+
+    @Benchmark
+    public void legacyRegexParsing(Blackhole blackhole) {
+        for (String document : DOCUMENTS) {
+            blackhole.consume(legacyParse(document));
+        }
+    }
+
+    // The parser this engine replaced: three patterns compiled on every call, one layout, fixed confidences
+    private static String[] legacyParse(String text) {
+        String[] fields = new String[3];
+        Matcher standMatcher = Pattern.compile("STAND\\s*(?:NUMBER|NO|#)?\\s*[:\\-]?\\s*(\\w+)", Pattern.CASE_INSENSITIVE).matcher(text);
+        if (standMatcher.find()) {
+            fields[0] = standMatcher.group(1);
+        }
+        Matcher ownerMatcher = Pattern.compile("OWNER\\s*[:\\-]?\\s*([\\w\\s]+)", Pattern.CASE_INSENSITIVE).matcher(text);
+        if (ownerMatcher.find()) {
+            fields[1] = ownerMatcher.group(1).trim();
+        }
+        Matcher idMatcher = Pattern.compile("ID\\s*(?:NUMBER)?\\s*[:\\-]?\\s*(\\w+)", Pattern.CASE_INSENSITIVE).matcher(text);
+        if (idMatcher.find()) {
+            fields[2] = idMatcher.group(1);
+        }
+        return fields;
+    }
+
+    // Word spans with a spread of confidences, as Tesseract would report them
+    private static OcrResult withWords(String text) {
+        OcrResult ocrResult = new OcrResult(text, 88, 0);
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean space = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (!space && start < 0) {
+                start = i;
+            } else if (space && start >= 0) {
+                ocrResult.addWord(start, i, 80 + (start % 20));
+                start = -1;
+            }
+        }
+        return ocrResult;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        FieldExtractionBenchmark benchmark = new FieldExtractionBenchmark();
+        benchmark.setUp();
+        for (OcrResult ocrResult : benchmark.ocrResults) {
+            ExtractedFields fields = benchmark.extractor.extract(ocrResult);
+            System.out.printf("%s: stand=%s owner=%s id=%s confidences=%s%n", fields.getTemplate(),
+                    fields.getStandNumber(), fields.getOwnerName(), fields.getIdNumber(), fields.getConfidenceScores());
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(FieldExtractionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
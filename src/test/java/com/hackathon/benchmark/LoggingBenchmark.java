@@ -0,0 +1,154 @@
+package com.hackathon.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.hackathon.verification.logging.JsonLogFormatter;
+import com.hackathon.verification.logging.PiiMasker;
+import com.hackathon.verification.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost on the calling thread of the verify INFO line under the previous logging setup (Spring Boot's default
+ * pattern, written synchronously) and under logback-spring.xml (JSON with PII masking behind an async queue, with
+ * and without 1-in-10 sampling). Both write to a file in the temporary directory rather than the console so the
+ * benchmark output stays readable. A saturating benchmark fills the async queue, after which INFO lines are
+ * discarded, so the async figures are the enqueue cost rather than the cost of writing every line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    static final String IDENTIFIER = "63-2345678 K 42";
+    static final String MESSAGE = "Customer Tendai Moyo (ID 63-2345678 K 42, +263 77 123 4567, tendai.moyo@example.co.zw) "
+            + "asked to verify stand 4521/B";
+
+    private static final String BOOT_FILE_PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+
+    private LoggerContext context;
+    private Path directory;
+    private Logger synchronousPattern;
+    private Logger asyncJson;
+    private Logger asyncJsonSampled;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logging-benchmark");
+        context = new LoggerContext();
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        SamplingTurboFilter sampling = new SamplingTurboFilter();
+        sampling.setContext(context);
+        sampling.setRates("sampled=10");
+        sampling.start();
+        context.addTurboFilter(sampling);
+
+        PatternLayoutEncoder pattern = new PatternLayoutEncoder();
+        pattern.setContext(context);
+        pattern.setPattern(BOOT_FILE_PATTERN);
+        pattern.start();
+        synchronousPattern = logger("synchronous", file("synchronous.log", pattern));
+
+        asyncJson = logger("async", async(file("async.log", jsonEncoder())));
+        asyncJsonSampled = logger("sampled", async(file("sampled.log", jsonEncoder())));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void synchronousPattern() {
+        synchronousPattern.info("Verifying tenant with identifier: {}, type: {}", IDENTIFIER, "ID_NUMBER");
+    }
+
+    @Benchmark
+    public void asyncJson() {
+        asyncJson.info("Verifying tenant with identifier: {}, type: {}", IDENTIFIER, "ID_NUMBER");
+    }
+
+    @Benchmark
+    public void asyncJsonSampled() {
+        asyncJsonSampled.info("Verifying tenant with identifier: {}, type: {}", IDENTIFIER, "ID_NUMBER");
+    }
+
+    // Masking runs on the appender thread; this is its cost per line
+    @Benchmark
+    public void maskMessage(Blackhole blackhole) {
+        blackhole.consume(PiiMasker.mask(MESSAGE));
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat(JsonLogFormatter.class.getName());
+        encoder.start();
+        return encoder;
+    }
+
+    private Appender<ILoggingEvent> file(String name, Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(directory.resolve(name).toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> async(Appender<ILoggingEvent> delegate) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setNeverBlock(true);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(LoggingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,126 @@
+package com.hackathon.benchmark;
+
+import com.hackathon.verification.land.dto.LandDTO;
+import com.hackathon.verification.land.entity.Land;
+import com.hackathon.verification.land.mapper.LandMapper;
+import com.hackathon.verification.land.mapper.LandMapperImpl;
+import com.hackathon.verification.vehicle.dto.VehicleDTO;
+import com.hackathon.verification.vehicle.entity.Vehicle;
+import com.hackathon.verification.vehicle.mapper.VehicleMapper;
+import com.hackathon.verification.vehicle.mapper.VehicleMapperImpl;
+import org.modelmapper.Converter;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.spi.MappingContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the generated MapStruct mappers with the lenient ModelMapper configuration they replaced, on single
+ * entities and on list endpoints of {@code listSize} rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int listSize;
+
+    private ModelMapper modelMapper;
+    private LandMapper landMapper;
+    private VehicleMapper vehicleMapper;
+    private List<Land> lands;
+    private List<Vehicle> vehicles;
+
+    @Setup
+    public void setUp() {
+        modelMapper = lenientModelMapper();
+        landMapper = new LandMapperImpl();
+        vehicleMapper = new VehicleMapperImpl();
+
+        lands = new ArrayList<>(listSize);
+        vehicles = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            Land land = new Land("STAND-" + i, "Harare", "Title " + i, "Owner " + i, "63-" + i + "X42", i % 2 == 0, "RESIDENTIAL");
+            land.setId((long) i);
+            land.setAllocationDate(LocalDate.of(2020, 1, 1).plusDays(i));
+            land.setPropertySizeSquareMeters(300.0 + i);
+            lands.add(land);
+
+            Vehicle vehicle = new Vehicle("AHTBB3CD5F" + String.format("%07d", i), "ABC" + i, "Toyota", "Hilux",
+                    2015, "White", "ENG" + i, "Owner " + i, "63-" + i + "X42");
+            vehicle.setId((long) i);
+            vehicle.setPurchaseDate(LocalDate.of(2018, 6, 1));
+            vehicles.add(vehicle);
+        }
+    }
+
+    @Benchmark
+    public List<LandDTO> landModelMapper() {
+        return lands.stream().map(land -> modelMapper.map(land, LandDTO.class)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<LandDTO> landGenerated() {
+        return landMapper.toDtoList(lands);
+    }
+
+    @Benchmark
+    public List<VehicleDTO> vehicleModelMapper() {
+        return vehicles.stream().map(vehicle -> modelMapper.map(vehicle, VehicleDTO.class)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<VehicleDTO> vehicleGenerated() {
+        return vehicleMapper.toDtoList(vehicles);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MappingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    // The application's former ModelMapper bean
+    private static ModelMapper lenientModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setSkipNullEnabled(true)
+                .setAmbiguityIgnored(true)
+                .setImplicitMappingEnabled(true)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(AccessLevel.PRIVATE)
+                .setMatchingStrategy(MatchingStrategies.LOOSE);
+        // An anonymous class, not a lambda, so ModelMapper can resolve the source and destination types
+        Converter<String, Long> stringToLong = new Converter<String, Long>() {
+            @Override
+            public Long convert(MappingContext<String, Long> context) {
+                if (context.getSource() == null || context.getSource().isEmpty()) {
+                    return null;
+                }
+                try {
+                    return Long.parseLong(context.getSource());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        };
+        modelMapper.addConverter(stringToLong);
+        return modelMapper;
+    }
+}
@@ -0,0 +1,52 @@
+package com.hackathon.benchmark;
+
+import com.hackathon.verification.rental.service.impl.RatingServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyword sentiment scoring and trait detection as run on every submitted rating, over a set of realistic
+ * tenant and landlord reviews.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewAnalysisBenchmark {
+
+    private RatingServiceImpl ratingService;
+
+    @Setup
+    public void setUp() {
+        ratingService = new RatingServiceImpl();
+    }
+
+    @Benchmark
+    public void analyzeSentiment(Blackhole blackhole) {
+        for (String review : RentalFixtures.REVIEWS) {
+            blackhole.consume(ratingService.analyzeSentiment(review));
+        }
+    }
+
+    @Benchmark
+    public void extractTraits(Blackhole blackhole) {
+        for (String review : RentalFixtures.REVIEWS) {
+            blackhole.consume(ratingService.extractTraits(review));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ReviewAnalysisBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
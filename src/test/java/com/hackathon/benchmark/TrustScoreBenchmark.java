@@ -0,0 +1,94 @@
+package com.hackathon.benchmark;
+
+import com.hackathon.verification.rental.entity.Landlord;
+import com.hackathon.verification.rental.entity.Rating;
+import com.hackathon.verification.rental.entity.RentalHistory;
+import com.hackathon.verification.rental.entity.Tenant;
+import com.hackathon.verification.rental.repository.RatingRepository;
+import com.hackathon.verification.rental.repository.RentalHistoryRepository;
+import com.hackathon.verification.rental.service.impl.LandlordVerificationServiceImpl;
+import com.hackathon.verification.rental.service.impl.TenantVerificationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trust score and classification of tenants and landlords over rating and rental history lists of
+ * {@code ratingCount} entries. Repositories return prebuilt lists, so only the scoring itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrustScoreBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int ratingCount;
+
+    private Tenant tenant;
+    private Landlord landlord;
+    private TenantVerificationServiceImpl tenantService;
+    private LandlordVerificationServiceImpl landlordService;
+    private int tenantScore;
+    private int landlordScore;
+
+    @Setup
+    public void setUp() {
+        tenant = RentalFixtures.tenant();
+        landlord = RentalFixtures.landlord();
+        List<RentalHistory> histories = RentalFixtures.histories(landlord, tenant, ratingCount);
+        List<Rating> tenantRatings = RentalFixtures.ratings(landlord, tenant, "LANDLORD_TO_TENANT", ratingCount);
+        List<Rating> landlordRatings = RentalFixtures.ratings(landlord, tenant, "TENANT_TO_LANDLORD", ratingCount);
+
+        RentalHistoryRepository rentalHistoryRepository = RentalFixtures.repository(RentalHistoryRepository.class,
+                Map.of("findByTenant", histories, "findByLandlord", histories));
+        RatingRepository ratingRepository = RentalFixtures.repository(RatingRepository.class,
+                Map.of("findByTenantAndRatingType", tenantRatings, "findByLandlordAndRatingType", landlordRatings));
+
+        tenantService = new TenantVerificationServiceImpl();
+        ReflectionTestUtils.setField(tenantService, "rentalHistoryRepository", rentalHistoryRepository);
+        ReflectionTestUtils.setField(tenantService, "ratingRepository", ratingRepository);
+        landlordService = new LandlordVerificationServiceImpl();
+        ReflectionTestUtils.setField(landlordService, "rentalHistoryRepository", rentalHistoryRepository);
+        ReflectionTestUtils.setField(landlordService, "ratingRepository", ratingRepository);
+
+        tenantScore = tenantService.calculateTrustScore(tenant);
+        landlordScore = landlordService.calculateTrustScore(landlord);
+    }
+
+    @Benchmark
+    public Integer tenantTrustScore() {
+        return tenantService.calculateTrustScore(tenant);
+    }
+
+    @Benchmark
+    public String tenantClassification() {
+        return tenantService.determineClassification(tenant, tenantScore);
+    }
+
+    @Benchmark
+    public Integer landlordTrustScore() {
+        return landlordService.calculateTrustScore(landlord);
+    }
+
+    @Benchmark
+    public String landlordClassification() {
+        return landlordService.determineClassification(landlord, landlordScore);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TrustScoreBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
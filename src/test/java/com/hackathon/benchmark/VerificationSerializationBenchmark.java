@@ -0,0 +1,127 @@
+package com.hackathon.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hackathon.verification.rental.dto.LandlordVerificationResponse;
+import com.hackathon.verification.rental.dto.TenantVerificationResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of landlord and tenant verification responses carrying {@code entryCount} ratings,
+ * properties and rental history entries, with the object mapper configured as Spring Boot configures it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerificationSerializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int entryCount;
+
+    private ObjectMapper objectMapper;
+    private LandlordVerificationResponse landlordResponse;
+    private TenantVerificationResponse tenantResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        landlordResponse = new LandlordVerificationResponse();
+        landlordResponse.setName("Rutendo Chikwanha");
+        landlordResponse.setIdNumber("29-765432K18");
+        landlordResponse.setExists(true);
+        landlordResponse.setVerificationStatus("VERIFIED");
+        landlordResponse.setTrustScore(78);
+        landlordResponse.setClassification("Safe");
+        landlordResponse.setDepositReturnRate(0.92);
+        landlordResponse.setBehavioralSummary("Responsive landlord with consistently positive reviews.");
+        landlordResponse.setRedFlags(List.of("Slow to return deposits in 2021"));
+
+        tenantResponse = new TenantVerificationResponse();
+        tenantResponse.setName("Tendai Moyo");
+        tenantResponse.setIdNumber("63-1234567X42");
+        tenantResponse.setExists(true);
+        tenantResponse.setVerificationStatus("VERIFIED");
+        tenantResponse.setTrustScore(84);
+        tenantResponse.setClassification("Safe");
+        tenantResponse.setBehavioralSummary("Pays on time and leaves properties in good condition.");
+
+        for (int i = 0; i < entryCount; i++) {
+            String address = (i + 1) + " Borrowdale Road";
+            String review = RentalFixtures.REVIEWS[i % RentalFixtures.REVIEWS.length];
+
+            LandlordVerificationResponse.PropertyDTO property = new LandlordVerificationResponse.PropertyDTO();
+            property.setPropertyAddress(address);
+            property.setManagedSince(LocalDate.of(2015, 1, 1).plusDays(i));
+            property.setTotalTenants(1 + i % 4);
+            property.setTotalDisputes(i % 5 == 0 ? 1 : 0);
+            property.setTotalEvictions(0);
+            property.setAverageRating(3.5 + (i % 3) * 0.5);
+            property.setTenantNames(List.of("Tenant " + i));
+            landlordResponse.addProperty(property);
+
+            LandlordVerificationResponse.RatingDTO landlordRating = new LandlordVerificationResponse.RatingDTO();
+            landlordRating.setTenantName("Tenant " + i);
+            landlordRating.setRatingValue(4.0);
+            landlordRating.setReview(review);
+            landlordRating.setPropertyAddress(address);
+            landlordRating.setRatingDate(LocalDate.of(2022, 1, 1).plusDays(i));
+            landlordRating.setResponsiveness(4);
+            landlordRating.setFairness(5);
+            landlordRating.setDetectedTraits(List.of("Responsive", "Reliable"));
+            landlordResponse.addRating(landlordRating);
+
+            TenantVerificationResponse.RentalHistoryDTO history = new TenantVerificationResponse.RentalHistoryDTO();
+            history.setPropertyAddress(address);
+            history.setLandlordName("Landlord " + i);
+            history.setLeaseStartDate(LocalDate.of(2015, 1, 1).plusDays(i));
+            history.setLeaseEndDate(LocalDate.of(2016, 1, 1).plusDays(i));
+            history.setRentAmount(300.0 + i);
+            history.setOnTimePayments(true);
+            history.setLatePaymentsCount(i % 3);
+            tenantResponse.addRentalHistory(history);
+
+            TenantVerificationResponse.RatingDTO tenantRating = new TenantVerificationResponse.RatingDTO();
+            tenantRating.setLandlordName("Landlord " + i);
+            tenantRating.setRatingValue(4.5);
+            tenantRating.setReview(review);
+            tenantRating.setPropertyAddress(address);
+            tenantRating.setRatingDate(LocalDate.of(2022, 1, 1).plusDays(i));
+            tenantRating.setPaymentTimeliness(5);
+            tenantRating.setPropertyCare(4);
+            tenantRating.setDetectedTraits(List.of("Clean"));
+            tenantResponse.addRating(tenantRating);
+        }
+    }
+
+    @Benchmark
+    public byte[] landlordResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(landlordResponse);
+    }
+
+    @Benchmark
+    public byte[] tenantResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(tenantResponse);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(VerificationSerializationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
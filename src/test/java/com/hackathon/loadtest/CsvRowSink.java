@@ -0,0 +1,118 @@
+package com.hackathon.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes one CSV file per table in the form MySQL's {@code LOAD DATA} reads: a header line, an unquoted {@code NULL} for null,
+ * 1 and 0 for booleans. A {@code load.sql} script next to the files imports them in foreign key order, e.g.
+ * {@code mysql --local-infile=1 hackathon_db < load.sql} from that directory.
+ */
+final class CsvRowSink implements RowSink {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path directory;
+    private final List<Writer> writers = new ArrayList<>();
+
+    CsvRowSink(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public TableWriter open(String table, String... columns) {
+        try {
+            BufferedWriter out = new BufferedWriter(Files.newBufferedWriter(directory.resolve(table + ".csv"), StandardCharsets.UTF_8), 1 << 20);
+            out.write(String.join(",", columns));
+            out.write('\n');
+            Writer writer = new Writer(table, columns, out);
+            writers.add(writer);
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void checkpoint() {
+        // Files are written through buffers and need no intermediate flush
+    }
+
+    @Override
+    public void close() {
+        StringBuilder script = new StringBuilder();
+        try {
+            for (Writer writer : writers) {
+                writer.out.close();
+                script.append("LOAD DATA LOCAL INFILE '").append(writer.table).append(".csv' INTO TABLE ").append(writer.table)
+                        .append(" CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''")
+                        .append(" LINES TERMINATED BY '\\n' IGNORE 1 LINES (").append(String.join(", ", writer.columns)).append(");\n");
+            }
+            Files.writeString(directory.resolve("load.sql"), script);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Writer implements TableWriter {
+
+        private final String table;
+        private final String[] columns;
+        private final BufferedWriter out;
+
+        private Writer(String table, String[] columns, BufferedWriter out) {
+            this.table = table;
+            this.columns = columns;
+            this.out = out;
+        }
+
+        @Override
+        public void add(Object... values) {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        out.write(',');
+                    }
+                    write(values[i]);
+                }
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(Object value) throws IOException {
+            if (value == null) {
+                out.write("NULL");
+            } else if (value instanceof Boolean flag) {
+                out.write(flag ? '1' : '0');
+            } else if (value instanceof LocalDateTime dateTime) {
+                out.write(DATE_TIME.format(dateTime));
+            } else if (value instanceof String text) {
+                // Quoted only when needed; with ESCAPED BY '' a doubled quote is a literal one
+                if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) {
+                    out.write('"');
+                    out.write(text.replace("\"", "\"\""));
+                    out.write('"');
+                } else {
+                    out.write(text);
+                }
+            } else {
+                out.write(value.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.hackathon.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes rows through JDBC batch inserts, one prepared statement per table, committing every {@code batchSize}
+ * rows. Batches run in the order the tables were opened, so parents are always inserted before their children.
+ * Rows carry their own ids, which means the tables must start empty; on H2 the identity columns are moved past
+ * the generated ids when the sink is closed, MySQL does that by itself. For MySQL add
+ * {@code rewriteBatchedStatements=true} to the URL, or each batch is still sent one row at a time.
+ */
+final class JdbcRowSink implements RowSink {
+
+    private final Connection connection;
+    private final int batchSize;
+    private final boolean autoCommit;
+    private final List<Writer> writers = new ArrayList<>();
+    private int pending;
+
+    JdbcRowSink(Connection connection, int batchSize) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        try {
+            this.autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not start a transaction", e);
+        }
+    }
+
+    @Override
+    public TableWriter open(String table, String... columns) {
+        try (Statement statement = connection.createStatement();
+             ResultSet count = statement.executeQuery("select count(*) from " + table)) {
+            count.next();
+            if (count.getLong(1) > 0) {
+                throw new IllegalStateException("Table " + table + " already has rows; generated ids start at 1, so it must be empty");
+            }
+            String sql = "insert into " + table + " (" + String.join(", ", columns) + ") values ("
+                    + "?, ".repeat(columns.length - 1) + "?)";
+            Writer writer = new Writer(table, connection.prepareStatement(sql));
+            writers.add(writer);
+            return writer;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not prepare inserts into " + table, e);
+        }
+    }
+
+    @Override
+    public void checkpoint() {
+        if (pending >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+            boolean h2 = connection.getMetaData().getDatabaseProductName().equalsIgnoreCase("H2");
+            for (Writer writer : writers) {
+                writer.statement.close();
+                if (h2 && writer.rows > 0) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("alter table " + writer.table + " alter column id restart with " + (writer.rows + 1));
+                    }
+                }
+            }
+            connection.commit();
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not finish the inserts", e);
+        }
+    }
+
+    private void flush() {
+        try {
+            for (Writer writer : writers) {
+                writer.statement.executeBatch();
+            }
+            connection.commit();
+            pending = 0;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Batch insert failed", e.getNextException() != null ? e.getNextException() : e);
+        }
+    }
+
+    private final class Writer implements TableWriter {
+
+        private final String table;
+        private final PreparedStatement statement;
+        private long rows;
+
+        private Writer(String table, PreparedStatement statement) {
+            this.table = table;
+            this.statement = statement;
+        }
+
+        @Override
+        public void add(Object... values) {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    statement.setObject(i + 1, values[i]);
+                }
+                statement.addBatch();
+                rows++;
+                pending++;
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not add a row to " + table, e);
+            }
+        }
+    }
+}
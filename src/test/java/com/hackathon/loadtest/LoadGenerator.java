@@ -0,0 +1,132 @@
+package com.hackathon.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Open-loop load generator: requests are scheduled at a fixed rate whether or not earlier ones have returned, and
+ * latency is measured from each request's intended start rather than the moment it was actually sent. A stalled
+ * server therefore shows up as a latency spike instead of as a quiet pause in the schedule (coordinated omission).
+ */
+final class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    /**
+     * One kind of request in the mix; {@code request} builds the request for a schedule sequence number.
+     */
+    record Operation(String name, int weight, Function<Long, HttpRequest.Builder> request) {
+    }
+
+    private final List<Operation> mix;
+    private final int totalWeight;
+    private final HttpClient client;
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    LoadGenerator(List<Operation> mix) {
+        this.mix = mix;
+        this.totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : mix) {
+            recorders.put(operation.name(), new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation.name(), new LongAdder());
+        }
+    }
+
+    /**
+     * Runs the schedule for {@code warmup} and then {@code duration}, discarding everything recorded during the
+     * warmup, and waits for the requests still in flight before reporting.
+     */
+    LoadReport run(int ratePerSecond, Duration warmup, Duration duration) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        LongAdder inFlight = new LongAdder();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * interval;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(pick(), i, intendedStart, intendedStart >= measureFrom, inFlight);
+        }
+        awaitQuiet(inFlight);
+
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        for (Operation operation : mix) {
+            histograms.put(operation.name(), recorders.get(operation.name()).getIntervalHistogram());
+            errorCounts.put(operation.name(), errors.get(operation.name()).sum());
+        }
+        return new LoadReport(ratePerSecond, duration, histograms, errorCounts);
+    }
+
+    private Operation pick() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : mix) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private void send(Operation operation, long sequence, long intendedStart, boolean measured, LongAdder inFlight) {
+        HttpRequest request = operation.request().apply(sequence)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        inFlight.increment();
+        CompletableFuture<HttpResponse<Void>> response;
+        try {
+            response = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        } catch (RuntimeException e) {
+            complete(operation, intendedStart, measured, false, inFlight);
+            return;
+        }
+        response.whenComplete((result, error) ->
+                complete(operation, intendedStart, measured, error == null && result.statusCode() / 100 == 2, inFlight));
+    }
+
+    // Requests scheduled during the warmup still occupy the server but are left out of the results
+    private void complete(Operation operation, long intendedStart, boolean measured, boolean success, LongAdder inFlight) {
+        if (measured) {
+            long latency = Math.min(System.nanoTime() - intendedStart, HIGHEST_TRACKABLE_NANOS);
+            recorders.get(operation.name()).recordValue(latency);
+            if (!success) {
+                errors.get(operation.name()).increment();
+            }
+        }
+        inFlight.decrement();
+    }
+
+    private static void awaitQuiet(LongAdder inFlight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.sum() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
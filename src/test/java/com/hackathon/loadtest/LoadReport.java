@@ -0,0 +1,108 @@
+package com.hackathon.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-endpoint results of one load run: request and error counts, achieved throughput and latency percentiles.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final int targetRate;
+    private final Duration duration;
+    private final Map<String, Histogram> histograms;
+    private final Map<String, Long> errors;
+
+    LoadReport(int targetRate, Duration duration, Map<String, Histogram> histograms, Map<String, Long> errors) {
+        this.targetRate = targetRate;
+        this.duration = duration;
+        this.histograms = histograms;
+        this.errors = errors;
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    double totalThroughput() {
+        return throughput(total());
+    }
+
+    double totalMillisAt(double percentile) {
+        return millis(total().getValueAtPercentile(percentile));
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("Target rate %d req/s over %ds, latency in ms from intended start%n",
+                targetRate, duration.toSeconds()));
+        table.append(String.format("%-24s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max"));
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            appendRow(table, entry.getKey(), entry.getValue(), errors.get(entry.getKey()));
+        }
+        appendRow(table, "all", total(), totalErrors());
+        return table.toString();
+    }
+
+    String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"targetRate\":").append(targetRate)
+                .append(",\"durationSeconds\":").append(duration.toSeconds())
+                .append(",\"endpoints\":[");
+        boolean first = true;
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            json.append(first ? "" : ",")
+                    .append("{\"name\":\"").append(entry.getKey()).append('"')
+                    .append(",\"count\":").append(histogram.getTotalCount())
+                    .append(",\"errors\":").append(errors.get(entry.getKey()))
+                    .append(",\"throughput\":").append(String.format("%.2f", throughput(histogram)));
+            for (double percentile : PERCENTILES) {
+                json.append(",\"p").append(String.valueOf(percentile).replace(".0", "").replace('.', '_')).append("Ms\":")
+                        .append(String.format("%.3f", millis(histogram.getValueAtPercentile(percentile))));
+            }
+            json.append(",\"maxMs\":").append(String.format("%.3f", millis(histogram.getMaxValue()))).append('}');
+            first = false;
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Writes the table and the JSON next to each other under {@code directory}, named by {@code timestamp}.
+     */
+    void write(Path directory, String timestamp) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("report-" + timestamp + ".txt"), toTable());
+        Files.writeString(directory.resolve("report-" + timestamp + ".json"), toJson());
+    }
+
+    private void appendRow(StringBuilder table, String name, Histogram histogram, long errorCount) {
+        table.append(String.format("%-24s %8d %7d %9.1f", name, histogram.getTotalCount(), errorCount, throughput(histogram)));
+        for (double percentile : PERCENTILES) {
+            table.append(String.format(" %9.2f", millis(histogram.getValueAtPercentile(percentile))));
+        }
+        table.append(String.format(" %9.2f%n", millis(histogram.getMaxValue())));
+    }
+
+    private Histogram total() {
+        Histogram total = new Histogram(3);
+        histograms.values().forEach(total::add);
+        return total;
+    }
+
+    private double throughput(Histogram histogram) {
+        return histogram.getTotalCount() / (double) Math.max(1, duration.toSeconds());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
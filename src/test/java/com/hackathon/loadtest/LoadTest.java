@@ -0,0 +1,206 @@
+package com.hackathon.loadtest;
+
+import com.hackathon.HackathonApplication;
+import com.hackathon.loadtest.LoadGenerator.Operation;
+import com.hackathon.loadtest.SyntheticDataGenerator.Counts;
+import com.hackathon.loadtest.SyntheticDataGenerator.Settings;
+import com.hackathon.verification.features.service.RiskFeatureBackfill;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+/**
+ * End-to-end load test. Boots the application on a random port against the in-memory {@code perf} profile, seeds
+ * it, drives a weighted mix of verification, search and create requests at a fixed rate and prints per-endpoint
+ * latency percentiles. With {@code --url} it targets an already running server instead, whose data must have been
+ * seeded with the same {@code --scale}.
+ * <p>
+ * {@code mvn -Pperf test-compile exec:exec -Dloadtest.args="--rate=200 --duration=60"}
+ * <p>
+ * Options: {@code --rate} requests per second (100), {@code --duration} measured seconds (30), {@code --warmup}
+ * seconds excluded from the results (10), {@code --scale} seeded landlords, each with ten tenants (200),
+ * {@code --url} base URL of an external server, {@code --threads} {@code platform} (the default), {@code virtual}
+ * or {@code compare}, which runs the same load against a server on each in turn and prints their throughput and
+ * latency side by side. Virtual threads need Java 21. Exits with status 1 if any measured request failed.
+ */
+public class LoadTest {
+
+    private static final String PLATFORM = "platform";
+    private static final String VIRTUAL = "virtual";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int rate = Integer.parseInt(options.getOrDefault("rate", "100"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        int scale = Integer.parseInt(options.getOrDefault("scale", "200"));
+        List<String> modes = switch (options.getOrDefault("threads", PLATFORM)) {
+            case PLATFORM -> List.of(PLATFORM);
+            case VIRTUAL -> List.of(VIRTUAL);
+            case "compare" -> List.of(PLATFORM, VIRTUAL);
+            default -> throw new IllegalArgumentException("--threads must be platform, virtual or compare");
+        };
+        if (options.containsKey("url") && options.containsKey("threads")) {
+            throw new IllegalArgumentException("--threads only applies to the server this harness starts itself");
+        }
+        if (modes.contains(VIRTUAL) && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21 or later, this is Java " + Runtime.version().feature());
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Map<String, LoadReport> reports = new LinkedHashMap<>();
+        for (String mode : modes) {
+            LoadReport report = run(options, mode, rate, duration, warmup, scale);
+            String name = modes.size() > 1 ? timestamp + "-" + mode : timestamp;
+            report.write(Paths.get("target", "loadtest"), name);
+            System.out.print(report.toTable());
+            System.out.printf("Reports written to target/loadtest/report-%s.{txt,json}%n", name);
+            reports.put(mode, report);
+        }
+        if (reports.size() > 1) {
+            System.out.printf("%-10s %9s %9s %9s %7s%n", "threads", "req/s", "p50", "p99", "errors");
+            reports.forEach((mode, report) -> System.out.printf("%-10s %9.1f %9.2f %9.2f %7d%n", mode,
+                    report.totalThroughput(), report.totalMillisAt(50), report.totalMillisAt(99), report.totalErrors()));
+        }
+        if (reports.values().stream().anyMatch(report -> report.totalErrors() > 0)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * One load run, against the {@code --url} server or a freshly seeded in-process one serving requests on
+     * {@code threads} threads.
+     */
+    static LoadReport run(Map<String, String> options, String threads, int rate, Duration duration, Duration warmup,
+                          int scale) throws Exception {
+        ConfigurableApplicationContext context = null;
+        URI baseUri;
+        Counts dataset;
+        if (options.containsKey("url")) {
+            baseUri = URI.create(options.get("url"));
+            dataset = new Counts(scale, scale * 10L, 0, 0, scale * 10L, scale * 10L);
+        } else {
+            context = new SpringApplicationBuilder(HackathonApplication.class)
+                    .profiles("perf")
+                    .properties("server.port=0", "spring.threads.virtual.enabled=" + VIRTUAL.equals(threads))
+                    .run();
+            long seedStart = System.nanoTime();
+            dataset = seed(context, scale);
+            System.out.printf("Seeded %s in %d ms%n", dataset, (System.nanoTime() - seedStart) / 1_000_000);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUri = URI.create("http://localhost:" + port);
+        }
+
+        try {
+            LoadGenerator generator = new LoadGenerator(mix(baseUri, dataset));
+            System.out.printf("Running %d req/s against %s on %s threads: %ds warmup, %ds measured%n",
+                    rate, baseUri, threads, warmup.toSeconds(), duration.toSeconds());
+            return generator.run(rate, warmup, duration);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * Generates {@code scale} landlords with ten tenants each, and as many lands and vehicles as tenants, straight
+     * into the application's database, then builds the risk feature store the way a first start would have.
+     */
+    static Counts seed(ConfigurableApplicationContext context, int scale) throws Exception {
+        Settings settings = new Settings();
+        settings.landlords = scale;
+        settings.tenants = scale * 10;
+        settings.lands = settings.tenants;
+        settings.vehicles = settings.tenants;
+        Counts counts;
+        try (Connection connection = context.getBean(DataSource.class).getConnection();
+             RowSink sink = new JdbcRowSink(connection, settings.batchSize)) {
+            counts = new SyntheticDataGenerator(settings).generate(sink);
+        }
+        context.getBean(RiskFeatureBackfill.class).rebuild();
+        return counts;
+    }
+
+    /**
+     * Mostly verifications, the endpoints that matter, with searches and a trickle of writes alongside.
+     */
+    static List<Operation> mix(URI baseUri, Counts dataset) {
+        return List.of(
+                new Operation("tenant-verify", 20, i -> post(baseUri, "/api/v1/tenants/verify",
+                        "{\"identifier\":\"" + SyntheticDataGenerator.tenantIdNumber(pick(dataset.tenants())) + "\","
+                                + "\"identifierType\":\"ID_NUMBER\",\"includeRentalHistory\":true,\"includeRatings\":true}")),
+                new Operation("landlord-verify", 15, i -> post(baseUri, "/api/v1/landlords/verify",
+                        "{\"identifier\":\"" + SyntheticDataGenerator.landlordIdNumber(pick(dataset.landlords())) + "\","
+                                + "\"identifierType\":\"ID_NUMBER\",\"includeProperties\":true,\"includeRatings\":true}")),
+                new Operation("land-verify", 15, i -> post(baseUri, "/api/lands/verify", landVerification(dataset))),
+                new Operation("land-verify-ai", 5, i -> post(baseUri, "/api/lands/verify/ai", landVerification(dataset))),
+                new Operation("vehicle-verify", 15, i -> post(baseUri, "/api/vehicles/verify",
+                        "{\"chassisNumber\":\"" + SyntheticDataGenerator.chassisNumber(pick(dataset.vehicles())) + "\"}")),
+                new Operation("vehicle-verify-ai", 5, i -> post(baseUri, "/api/vehicles/verify/ai",
+                        "{\"chassisNumber\":\"" + SyntheticDataGenerator.chassisNumber(pick(dataset.vehicles())) + "\"}")),
+                new Operation("tenant-search", 8, i -> get(baseUri, "/api/v1/tenants/search?name="
+                        + encode(SyntheticDataGenerator.tenantName(pick(dataset.tenants()))))),
+                new Operation("land-search", 7, i -> get(baseUri, "/api/lands/search/location?location="
+                        + encode(SyntheticDataGenerator.landLocation(pick(dataset.lands()))))),
+                new Operation("vehicle-search", 7, i -> get(baseUri, "/api/vehicles/search/make?make="
+                        + SyntheticDataGenerator.make(pick(dataset.vehicles())))),
+                // Stand numbers past the seeded range, unique per run
+                new Operation("land-create", 3, i -> post(baseUri, "/api/lands",
+                        "{\"standNumber\":\"PERF-" + System.nanoTime() + "-" + i + "\",\"location\":\"Mabelreign\","
+                                + "\"title\":\"Load test title\",\"ownerName\":\"Load Test\",\"ownerIdNumber\":\"63-0000000T42\","
+                                + "\"isAllocated\":true,\"propertyType\":\"RESIDENTIAL\"}")));
+    }
+
+    private static String landVerification(Counts dataset) {
+        int index = pick(dataset.lands());
+        return "{\"standNumber\":\"" + SyntheticDataGenerator.standNumber(index) + "\",\"location\":\""
+                + SyntheticDataGenerator.landLocation(index) + "\"}";
+    }
+
+    private static HttpRequest.Builder post(URI baseUri, String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private static HttpRequest.Builder get(URI baseUri, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET();
+    }
+
+    private static int pick(long bound) {
+        return ThreadLocalRandom.current().nextInt((int) bound);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+}
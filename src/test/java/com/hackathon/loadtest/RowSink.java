@@ -0,0 +1,24 @@
+package com.hackathon.loadtest;
+
+/**
+ * Destination for generated rows. Tables are opened up front in foreign key order; rows of different tables can be
+ * interleaved, and {@link #checkpoint()} marks a point where every row added so far is self-consistent and may be
+ * written out.
+ */
+interface RowSink extends AutoCloseable {
+
+    TableWriter open(String table, String... columns);
+
+    void checkpoint();
+
+    @Override
+    void close();
+
+    interface TableWriter {
+
+        /**
+         * Adds one row; values line up with the columns the table was opened with and may be null.
+         */
+        void add(Object... values);
+    }
+}
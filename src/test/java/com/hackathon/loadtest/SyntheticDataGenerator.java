@@ -0,0 +1,469 @@
+package com.hackathon.loadtest;
+
+import com.hackathon.verification.vehicle.dto.VinDecodeResponse;
+import com.hackathon.verification.vehicle.service.VinDecoder;
+
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded, deterministic generator of registry data at volume: landlords whose popularity follows a Zipf law,
+ * tenants with one or more tenancies each, ratings in both directions whose dimensions are correlated through a
+ * hidden quality score per tenant and per landlord, evictions concentrated on low-quality tenants, lands, and
+ * vehicles with valid VINs of which a few are stolen or tampered with. The same settings and seed always produce
+ * the same rows.
+ * <p>
+ * Rows are streamed to a {@link RowSink}, so memory grows with the number of landlords but not with the number of
+ * rows. Run standalone, either into an existing schema over JDBC or to CSV files for {@code LOAD DATA}:
+ * <p>
+ * {@code mvn -Pperf test-compile exec:exec -Dloadtest.main=com.hackathon.loadtest.SyntheticDataGenerator
+ * -Dloadtest.args="--csv=target/dataset --tenants=2000000 --landlords=100000"}
+ * <p>
+ * Options: {@code --url}, {@code --user}, {@code --password} or {@code --csv}, then any field of {@link Settings}
+ * in kebab case, e.g. {@code --zipf-exponent=1.2}.
+ */
+public class SyntheticDataGenerator {
+
+    // Fixed rather than today so that reruns produce identical rows
+    static final LocalDate REFERENCE_DATE = LocalDate.of(2025, 6, 30);
+    private static final LocalDateTime CREATED_AT = REFERENCE_DATE.atStartOfDay();
+
+    static final String[] SUBURBS = {"Borrowdale", "Budiriro", "Southlea Park", "Avondale", "Mabelreign", "Glen View",
+            "Highlands", "Mbare", "Greendale", "Kuwadzana", "Marlborough", "Hatfield", "Warren Park", "Chitungwiza"};
+    private static final String[] STREETS = {"Samora Machel Avenue", "Enterprise Road", "Borrowdale Road", "Second Street",
+            "Lomagundi Road", "Churchill Avenue", "Harare Drive", "Simon Mazorodze Road", "Seke Road", "Mutare Road"};
+    private static final String[] FIRST_NAMES = {"Tendai", "Rutendo", "Nyasha", "Tatenda", "Farai", "Chipo", "Tinashe",
+            "Kudzai", "Tafadzwa", "Rumbidzai", "Blessing", "Simbarashe", "Memory", "Tapiwa", "Vimbai", "Takudzwa",
+            "Ruvimbo", "Shingai", "Panashe", "Fadzai"};
+    private static final String[] LAST_NAMES = {"Moyo", "Ncube", "Sibanda", "Dube", "Chikwanha", "Gumbo", "Mpofu",
+            "Ndlovu", "Marufu", "Chinembiri", "Mutasa", "Zvobgo", "Makoni", "Mapfumo", "Chiweshe", "Nyathi", "Mhlanga",
+            "Musoni", "Chirwa", "Banda"};
+    private static final String[] EMPLOYERS = {"Econet Wireless", "Delta Beverages", "City of Harare", "Ministry of Health",
+            "CBZ Bank", "OK Zimbabwe", "Zimplats", "Innscor Africa", "University of Zimbabwe", "ZESA Holdings"};
+    private static final String[] PROPERTY_TYPES = {"RESIDENTIAL", "RESIDENTIAL", "RESIDENTIAL", "COMMERCIAL", "AGRICULTURAL", "INDUSTRIAL"};
+    private static final String[] COLORS = {"White", "Silver", "Black", "Grey", "Blue", "Red"};
+    // WMI, make, model and a descriptor section per manufacturer; 1FA is North American, so its check digit is enforced
+    private static final String[][] VEHICLE_TYPES = {
+            {"AHT", "Toyota", "Hilux", "GB3CD"}, {"JTD", "Toyota", "Corolla", "BZ3EE"}, {"ADN", "Nissan", "NP200", "UC1A2"},
+            {"JN1", "Nissan", "X-Trail", "TA1T3"}, {"JHM", "Honda", "Fit", "GE8H1"}, {"JM1", "Mazda", "Demio", "DE3W5"},
+            {"AFA", "Ford", "Ranger", "PXMJ2"}, {"1FA", "Ford", "Focus", "DP3F2"}, {"WVW", "Volkswagen", "Polo", "ZZZ6R"},
+            {"MA3", "Suzuki", "Swift", "FZ11S"}};
+    private static final String YEAR_CODES = "ABCDEFGHJKLMNPRSTVWXY123456789";
+    private static final String PLANT_CODES = "ABCDEFGHJKLMNPRSTUVWXYZ";
+    private static final int[] VIN_WEIGHTS = {8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    private static final String[] GOOD_TENANT = {"Always paid rent on time.", "Kept the flat spotless and reported repairs early.",
+            "Quiet and respectful with the neighbours.", "Left the property in excellent condition.",
+            "Communicated well throughout the lease.", "Would happily rent to them again."};
+    private static final String[] FAIR_TENANT = {"Rent was sometimes a few days late but always settled.",
+            "Some minor wear at move out.", "Occasionally hard to reach.", "Generally followed the house rules."};
+    private static final String[] POOR_TENANT = {"Rent was repeatedly late and we had to send reminders.",
+            "Caused damage to the kitchen and bathroom.", "Neighbours complained about noise at night.",
+            "Ignored the rules about guests staying over.", "Left owing two months of rent."};
+    private static final String[] GOOD_LANDLORD = {"Fixed problems quickly.", "Returned the full deposit on time.",
+            "Friendly and professional landlord.", "Always gave notice before visiting.", "Fair about the rent increase."};
+    private static final String[] FAIR_LANDLORD = {"Repairs took a while but got done.", "Part of the deposit was kept for cleaning.",
+            "Hard to reach over weekends.", "The property was as advertised."};
+    private static final String[] POOR_LANDLORD = {"Ignored the burst geyser for weeks.", "Kept the whole deposit without explanation.",
+            "Turned up unannounced several times.", "Raised the rent twice in one year.", "Water and power cuts were never addressed."};
+
+    /**
+     * Volumes and distribution parameters. Histories come to about {@code tenants * historiesPerTenant} and ratings
+     * to that times {@code landlordRatingRate + tenantRatingRate}; the defaults give about 700 thousand rows.
+     */
+    static final class Settings {
+        long seed = 42;
+        int landlords = 10_000;
+        int tenants = 100_000;
+        // Mean tenancies per tenant, geometrically distributed from one up to twelve
+        double historiesPerTenant = 2.5;
+        // Skew of landlord popularity; around 1 a few hundred landlords hold most of the tenancies
+        double zipfExponent = 1.1;
+        // How strongly each rating dimension follows the rated party's hidden quality, from 0 (noise) to 1
+        double ratingCorrelation = 0.7;
+        // Share of tenancies the landlord rated the tenant for, and the other way round
+        double landlordRatingRate = 0.8;
+        double tenantRatingRate = 0.6;
+        // Mean share of tenancies ending in an eviction filing
+        double evictionRate = 0.03;
+        int lands = 100_000;
+        int vehicles = 100_000;
+        double stolenRate = 0.005;
+        double tamperedRate = 0.01;
+        int batchSize = 1000;
+
+        static Settings parse(Map<String, String> options) {
+            Settings settings = new Settings();
+            for (Map.Entry<String, String> option : options.entrySet()) {
+                String value = option.getValue();
+                switch (option.getKey()) {
+                    case "seed" -> settings.seed = Long.parseLong(value);
+                    case "landlords" -> settings.landlords = Integer.parseInt(value);
+                    case "tenants" -> settings.tenants = Integer.parseInt(value);
+                    case "histories-per-tenant" -> settings.historiesPerTenant = Double.parseDouble(value);
+                    case "zipf-exponent" -> settings.zipfExponent = Double.parseDouble(value);
+                    case "rating-correlation" -> settings.ratingCorrelation = Double.parseDouble(value);
+                    case "landlord-rating-rate" -> settings.landlordRatingRate = Double.parseDouble(value);
+                    case "tenant-rating-rate" -> settings.tenantRatingRate = Double.parseDouble(value);
+                    case "eviction-rate" -> settings.evictionRate = Double.parseDouble(value);
+                    case "lands" -> settings.lands = Integer.parseInt(value);
+                    case "vehicles" -> settings.vehicles = Integer.parseInt(value);
+                    case "stolen-rate" -> settings.stolenRate = Double.parseDouble(value);
+                    case "tampered-rate" -> settings.tamperedRate = Double.parseDouble(value);
+                    case "batch-size" -> settings.batchSize = Integer.parseInt(value);
+                    case "url", "user", "password", "csv" -> {
+                    }
+                    default -> throw new IllegalArgumentException("Unknown option --" + option.getKey());
+                }
+            }
+            return settings;
+        }
+    }
+
+    /**
+     * Rows written per table. Ids run from 1 to the count, and index {@code i} of the naming helpers below is the
+     * row with id {@code i + 1}.
+     */
+    record Counts(long landlords, long tenants, long histories, long ratings, long lands, long vehicles) {
+
+        long total() {
+            return landlords + tenants + histories + ratings + lands + vehicles;
+        }
+    }
+
+    private final Settings settings;
+    private final VinDecoder vinDecoder = new VinDecoder();
+    private final ZipfSampler landlordPopularity;
+    private final float[] landlordQuality;
+    private final double[] ratingDimensions = new double[5];
+    private long historyId;
+    private long ratingId;
+
+    SyntheticDataGenerator(Settings settings) {
+        this.settings = settings;
+        this.landlordPopularity = new ZipfSampler(settings.landlords, settings.zipfExponent);
+        this.landlordQuality = new float[settings.landlords];
+    }
+
+    static String tenantIdNumber(int index) {
+        return String.format("63-%07d%c%02d", index, 'A' + index % 23, index % 89 + 10);
+    }
+
+    static String tenantName(int index) {
+        return FIRST_NAMES[index % FIRST_NAMES.length] + " " + LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+    }
+
+    static String landlordIdNumber(int index) {
+        return String.format("29-%07d%c%02d", index, 'A' + index % 23, index % 89 + 10);
+    }
+
+    static String standNumber(int index) {
+        return (index + 1) + "/" + (char) ('A' + index % 4);
+    }
+
+    static String landLocation(int index) {
+        return SUBURBS[index % SUBURBS.length];
+    }
+
+    static String make(int index) {
+        return VEHICLE_TYPES[index % VEHICLE_TYPES.length][1];
+    }
+
+    static String chassisNumber(int index) {
+        String[] type = VEHICLE_TYPES[index % VEHICLE_TYPES.length];
+        int serial = index / VEHICLE_TYPES.length;
+        String vin = type[0] + type[3] + '0' + YEAR_CODES.charAt((modelYear(index) - 1980) % 30)
+                + PLANT_CODES.charAt((serial / 1_000_000) % PLANT_CODES.length()) + String.format("%06d", serial % 1_000_000);
+        return vin.substring(0, 8) + checkDigit(vin) + vin.substring(9);
+    }
+
+    /**
+     * Streams every table to the sink, parents first, and returns how many rows each received.
+     */
+    Counts generate(RowSink sink) {
+        SplittableRandom root = new SplittableRandom(settings.seed);
+        RowSink.TableWriter landlords = sink.open("landlords", "id", "name", "id_number", "email", "phone", "address",
+                "verification_status", "average_rating", "total_ratings", "managed_properties", "created_at", "updated_at");
+        RowSink.TableWriter tenants = sink.open("tenants", "id", "name", "id_number", "email", "phone", "current_address",
+                "employment_status", "employer", "monthly_income", "verification_status", "average_rating", "total_ratings",
+                "created_at", "updated_at");
+        RowSink.TableWriter histories = sink.open("rental_histories", "id", "tenant_id", "landlord_id", "property_address",
+                "lease_start_date", "lease_end_date", "rent_amount", "on_time_payments", "late_payments_count", "property_damage",
+                "damage_description", "security_deposit_returned", "deposit_amount", "deposit_deduction_reason", "had_disputes",
+                "dispute_description", "eviction_filed", "eviction_reason", "landlord_responsiveness_rating",
+                "landlord_fairness_rating", "tenant_cleanliness_rating", "tenant_cooperation_rating", "created_at", "updated_at");
+        RowSink.TableWriter ratings = sink.open("ratings", "id", "landlord_id", "tenant_id", "rating_value", "review",
+                "rating_type", "property_address", "lease_start_date", "lease_end_date", "payment_timeliness", "property_care",
+                "communication", "rule_adherence", "cleanliness", "responsiveness", "maintenance_quality", "fairness",
+                "deposit_handling", "privacy_respect", "created_at", "updated_at");
+        RowSink.TableWriter lands = sink.open("lands", "id", "stand_number", "location", "title", "owner_name",
+                "owner_id_number", "is_allocated", "allocation_date", "property_size_sqm", "property_type", "verification_status",
+                "created_at", "updated_at");
+        RowSink.TableWriter vehicles = sink.open("vehicles", "id", "chassis_number", "registration_number", "make", "model",
+                "year", "color", "engine_number", "current_owner_name", "current_owner_id", "purchase_date", "is_stolen",
+                "has_been_tampered", "verification_status", "normalized_chassis_number", "wmi", "vin_model_year",
+                "vin_plant_code", "vin_status", "created_at", "updated_at");
+
+        SplittableRandom random = root.split();
+        for (int i = 0; i < settings.landlords; i++) {
+            landlordQuality[i] = (float) random.nextGaussian();
+            writeLandlord(landlords, i);
+            sink.checkpoint();
+        }
+
+        random = root.split();
+        for (int i = 0; i < settings.tenants; i++) {
+            writeTenant(tenants, histories, ratings, i, random);
+            sink.checkpoint();
+        }
+
+        random = root.split();
+        for (int i = 0; i < settings.lands; i++) {
+            writeLand(lands, i, random);
+            sink.checkpoint();
+        }
+
+        random = root.split();
+        for (int i = 0; i < settings.vehicles; i++) {
+            writeVehicle(vehicles, i, random);
+            sink.checkpoint();
+        }
+        return new Counts(settings.landlords, settings.tenants, historyId, ratingId, settings.lands, settings.vehicles);
+    }
+
+    private void writeLandlord(RowSink.TableWriter landlords, int index) {
+        int properties = propertyCount(index + 1);
+        StringBuilder managed = new StringBuilder();
+        for (int p = 0; p < properties; p++) {
+            managed.append(p > 0 ? "; " : "").append(propertyAddress(index + 1, p));
+        }
+        String name = FIRST_NAMES[(index * 7) % FIRST_NAMES.length] + " " + LAST_NAMES[(index / 3) % LAST_NAMES.length];
+        landlords.add((long) index + 1, name, landlordIdNumber(index), "landlord" + index + "@example.co.zw",
+                String.format("+26377%07d", index), propertyAddress(index + 1, 0), "PENDING", 0.0, 0, managed.toString(),
+                CREATED_AT, CREATED_AT);
+    }
+
+    private void writeTenant(RowSink.TableWriter tenants, RowSink.TableWriter histories, RowSink.TableWriter ratings,
+                             int index, SplittableRandom random) {
+        long tenantId = index + 1L;
+        double quality = random.nextGaussian();
+        int tenancies = Math.min(12, 1 + geometric(random, settings.historiesPerTenant - 1));
+        LocalDate start = REFERENCE_DATE.minusMonths(6 + random.nextInt(150));
+        double ratingSum = 0;
+        int ratingCount = 0;
+
+        for (int t = 0; t < tenancies; t++) {
+            int landlordId = landlordPopularity.sample(random);
+            double landlordQuality = this.landlordQuality[landlordId - 1];
+            String address = propertyAddress(landlordId, random.nextInt(propertyCount(landlordId)));
+            LocalDate end = start.plusMonths(6 + random.nextInt(30));
+            boolean current = t == tenancies - 1 && end.isAfter(REFERENCE_DATE);
+            double rent = Math.round(150 + Math.exp(5.5 + 0.5 * random.nextGaussian() + 0.1 * landlordQuality));
+
+            int late = (int) Math.max(0, Math.round(random.nextGaussian() - 1.5 * quality + 0.3));
+            boolean damage = random.nextDouble() < Math.min(0.6, 0.05 * Math.exp(-1.2 * quality));
+            boolean depositReturned = !current && !damage && random.nextDouble() < 0.6 + 0.3 * sigmoid(landlordQuality);
+            boolean dispute = random.nextDouble() < 0.04 + (landlordQuality < -1 ? 0.12 : 0) + (quality < -1 ? 0.12 : 0);
+            // exp(-1.2 q) averages exp(0.72) over a standard normal quality, so the mean stays at the configured rate
+            boolean eviction = random.nextDouble() < Math.min(0.9, settings.evictionRate * Math.exp(-1.2 * quality - 0.72));
+
+            fillDimensions(random, quality);
+            int cleanliness = (int) ratingDimensions[4];
+            int cooperation = (int) ratingDimensions[3];
+            Object[] tenantDimensions = {(int) ratingDimensions[0], (int) ratingDimensions[1], (int) ratingDimensions[2],
+                    cooperation, cleanliness};
+            double tenantRating = mean(ratingDimensions);
+            fillDimensions(random, landlordQuality);
+            int responsiveness = (int) ratingDimensions[0];
+            int fairness = (int) ratingDimensions[2];
+            Object[] landlordDimensions = {responsiveness, (int) ratingDimensions[1], fairness, (int) ratingDimensions[3],
+                    (int) ratingDimensions[4]};
+            double landlordRating = mean(ratingDimensions);
+
+            histories.add(++historyId, tenantId, (long) landlordId, address, start, current ? null : end, rent, late == 0, late,
+                    damage, damage ? pick(random, "Broken window in the lounge.", "Stained carpets throughout.", "Damaged kitchen cupboards.") : null,
+                    depositReturned, rent, depositReturned || current ? null : damage ? "Repairs after move out" : "Cleaning and repainting",
+                    dispute, dispute ? pick(random, "Disagreement over repairs.", "Dispute about the deposit.", "Rent increase contested.") : null,
+                    eviction, eviction ? (late > 2 ? "Persistent non-payment of rent" : "Breach of lease terms") : null,
+                    responsiveness, fairness, cleanliness, cooperation, CREATED_AT, CREATED_AT);
+
+            LocalDateTime leaseStart = start.atStartOfDay();
+            LocalDateTime leaseEnd = current ? null : end.atStartOfDay();
+            if (!current && random.nextDouble() < settings.landlordRatingRate) {
+                ratings.add(++ratingId, (long) landlordId, tenantId, tenantRating, review(random, tenantRating, GOOD_TENANT, FAIR_TENANT, POOR_TENANT),
+                        "LANDLORD_TO_TENANT", address, leaseStart, leaseEnd, tenantDimensions[0], tenantDimensions[1],
+                        tenantDimensions[2], tenantDimensions[3], tenantDimensions[4], null, null, null, null, null, CREATED_AT, CREATED_AT);
+                ratingSum += tenantRating;
+                ratingCount++;
+            }
+            if (random.nextDouble() < settings.tenantRatingRate) {
+                ratings.add(++ratingId, (long) landlordId, tenantId, landlordRating, review(random, landlordRating, GOOD_LANDLORD, FAIR_LANDLORD, POOR_LANDLORD),
+                        "TENANT_TO_LANDLORD", address, leaseStart, leaseEnd, null, null, null, null, null, landlordDimensions[0],
+                        landlordDimensions[1], landlordDimensions[2], landlordDimensions[3], landlordDimensions[4], CREATED_AT, CREATED_AT);
+            }
+            start = end.plusMonths(random.nextInt(4));
+        }
+
+        String employment = quality < -1.5 && random.nextDouble() < 0.5 ? "UNEMPLOYED"
+                : pick(random, "EMPLOYED", "EMPLOYED", "EMPLOYED", "SELF_EMPLOYED", "STUDENT");
+        String employer = employment.equals("EMPLOYED") ? EMPLOYERS[random.nextInt(EMPLOYERS.length)] : null;
+        double income = employment.equals("UNEMPLOYED") ? 0 : Math.round(Math.exp(6.3 + 0.6 * random.nextGaussian() + 0.2 * quality));
+        String first = FIRST_NAMES[index % FIRST_NAMES.length].toLowerCase();
+        tenants.add(tenantId, tenantName(index), tenantIdNumber(index), first + "." + index + "@example.co.zw",
+                String.format("+26371%07d", index), SUBURBS[random.nextInt(SUBURBS.length)], employment, employer, income,
+                "PENDING", ratingCount == 0 ? 0.0 : Math.round(ratingSum / ratingCount * 100) / 100.0, ratingCount,
+                CREATED_AT, CREATED_AT);
+    }
+
+    private void writeLand(RowSink.TableWriter lands, int index, SplittableRandom random) {
+        boolean allocated = random.nextDouble() < 0.8;
+        int owner = random.nextInt(Math.max(1, settings.tenants));
+        LocalDate allocationDate = allocated ? REFERENCE_DATE.minusDays(random.nextInt(20 * 365)) : null;
+        lands.add(index + 1L, standNumber(index), landLocation(index),
+                "DT " + (1000 + random.nextInt(9000)) + "/" + (1990 + random.nextInt(35)),
+                allocated ? tenantName(owner) : null, allocated ? tenantIdNumber(owner) : null, allocated, allocationDate,
+                (double) Math.round(Math.exp(6.5 + 0.8 * random.nextGaussian())), PROPERTY_TYPES[random.nextInt(PROPERTY_TYPES.length)],
+                "VERIFIED", REFERENCE_DATE, REFERENCE_DATE);
+    }
+
+    private void writeVehicle(RowSink.TableWriter vehicles, int index, SplittableRandom random) {
+        String[] type = VEHICLE_TYPES[index % VEHICLE_TYPES.length];
+        boolean stolen = random.nextDouble() < settings.stolenRate;
+        boolean tampered = random.nextDouble() < settings.tamperedRate;
+        String chassis = chassisNumber(index);
+        if (tampered) {
+            // A re-stamped chassis rarely keeps a valid check digit
+            char check = chassis.charAt(8);
+            chassis = chassis.substring(0, 8) + (check == '9' ? 'X' : check == 'X' ? '0' : (char) (check + 1)) + chassis.substring(9);
+        }
+        VinDecodeResponse decoded = vinDecoder.decode(chassis);
+        int owner = random.nextInt(Math.max(1, settings.tenants));
+        vehicles.add(index + 1L, chassis, registration(index), type[1], type[2], modelYear(index),
+                COLORS[random.nextInt(COLORS.length)], type[1].substring(0, 2).toUpperCase() + String.format("%08d", index),
+                tenantName(owner), tenantIdNumber(owner), REFERENCE_DATE.minusDays(random.nextInt(15 * 365)), stolen, tampered,
+                stolen || tampered ? "FLAGGED" : "VERIFIED", decoded.getVin(), decoded.getWmi(), decoded.getModelYear(),
+                decoded.getPlantCode(), decoded.getVinStatus(), REFERENCE_DATE, REFERENCE_DATE);
+    }
+
+    // Popular landlords manage more properties, roughly one per eight expected tenancies
+    private int propertyCount(int landlordId) {
+        double expectedTenancies = settings.tenants * settings.historiesPerTenant * landlordPopularity.probability(landlordId);
+        return (int) Math.max(1, Math.min(50, Math.round(expectedTenancies / 8)));
+    }
+
+    private static String propertyAddress(int landlordId, int property) {
+        return (property + 1 + (landlordId % 40) * 10) + " " + STREETS[(landlordId + property / 10) % STREETS.length]
+                + ", " + SUBURBS[(landlordId * 7) % SUBURBS.length];
+    }
+
+    // Five 1-5 scores sharing the hidden quality; correlation 1 makes them move together, 0 makes them independent
+    private void fillDimensions(SplittableRandom random, double quality) {
+        double rho = settings.ratingCorrelation;
+        double noise = Math.sqrt(1 - rho * rho);
+        for (int d = 0; d < ratingDimensions.length; d++) {
+            double score = 3.6 + 1.1 * (rho * quality + noise * random.nextGaussian());
+            ratingDimensions[d] = Math.max(1, Math.min(5, Math.round(score)));
+        }
+    }
+
+    // Rounded to the nearest half star, as the rating form allows
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return Math.round(sum / values.length * 2) / 2.0;
+    }
+
+    private static String review(SplittableRandom random, double rating, String[] good, String[] fair, String[] poor) {
+        if (random.nextDouble() < 0.15) {
+            return null;
+        }
+        String[] pool = rating >= 4 ? good : rating >= 2.5 ? fair : poor;
+        String first = pool[random.nextInt(pool.length)];
+        if (random.nextBoolean()) {
+            return first;
+        }
+        String[] second = rating >= 3 ? good : poor;
+        return first + " " + second[random.nextInt(second.length)];
+    }
+
+    private static int geometric(SplittableRandom random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        return (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(mean / (1 + mean)));
+    }
+
+    private static double sigmoid(double x) {
+        return 1 / (1 + Math.exp(-x));
+    }
+
+    private static String pick(SplittableRandom random, String... values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int modelYear(int index) {
+        return 2000 + (index * 7 + index / VEHICLE_TYPES.length) % 25;
+    }
+
+    // Zimbabwean style plates, three letters and four digits
+    private static String registration(int index) {
+        int letters = index / 10_000;
+        return "" + (char) ('A' + letters / 676 % 26) + (char) ('A' + letters / 26 % 26) + (char) ('A' + letters % 26)
+                + " " + String.format("%04d", index % 10_000);
+    }
+
+    private static char checkDigit(String vin) {
+        int sum = 0;
+        for (int i = 0; i < vin.length(); i++) {
+            sum += transliterate(vin.charAt(i)) * VIN_WEIGHTS[i];
+        }
+        int remainder = sum % 11;
+        return remainder == 10 ? 'X' : (char) ('0' + remainder);
+    }
+
+    private static int transliterate(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        // ISO 3779 values for A-Z; I, O and Q never appear
+        return "12345678_12345_7_923456789".charAt(c - 'A') - '0';
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        Settings settings = Settings.parse(options);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(settings);
+
+        long start = System.nanoTime();
+        Counts counts;
+        if (options.containsKey("csv")) {
+            try (RowSink sink = new CsvRowSink(Paths.get(options.get("csv")))) {
+                counts = generator.generate(sink);
+            }
+        } else if (options.containsKey("url")) {
+            try (Connection connection = DriverManager.getConnection(options.get("url"), options.get("user"), options.get("password"));
+                 RowSink sink = new JdbcRowSink(connection, settings.batchSize)) {
+                counts = generator.generate(sink);
+            }
+        } else {
+            throw new IllegalArgumentException("Either --csv=<directory> or --url=<jdbc url> is required");
+        }
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        System.out.printf("Generated %s, %d rows in %.1f s (%d rows/s)%n", counts, counts.total(), millis / 1000.0,
+                counts.total() * 1000 / millis);
+    }
+}
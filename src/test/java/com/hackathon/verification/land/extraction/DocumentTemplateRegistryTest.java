@@ -0,0 +1,45 @@
+package com.hackathon.verification.land.extraction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Detection of the land document layout from the headings at the top of the text.
+ */
+class DocumentTemplateRegistryTest {
+
+    private final DocumentTemplateRegistry registry = new DocumentTemplateRegistry();
+
+    @ParameterizedTest
+    @CsvSource({
+            "'Deed of Transfer', DEEDS_OFFICE",
+            "'Office of the Registrar of Deeds', DEEDS_OFFICE",
+            "'City of Bulawayo', COUNCIL_LEASE",
+            "'Town Council lease agreement', COUNCIL_LEASE",
+            "'Certificate of Membership', COOPERATIVE_CERTIFICATE",
+            "'Sunrise Cooperative', COOPERATIVE_CERTIFICATE",
+            "'Sworn affidavit', GENERIC"
+    })
+    void detectsTemplateFromHeading(String heading, String template) {
+        assertEquals(template, registry.detect(heading + "\nStand 12\n").getName());
+    }
+
+    @Test
+    void prefersTheTemplateWithMostFingerprints() {
+        // A cooperative certificate that mentions the council it is registered with
+        DocumentTemplate template = registry.detect("CITY OF HARARE\nHOUSING CO-OPERATIVE\nCERTIFICATE OF MEMBERSHIP\n");
+
+        assertEquals(DocumentTemplateRegistry.COOPERATIVE_CERTIFICATE, template.getName());
+    }
+
+    @Test
+    void ignoresFingerprintsBelowTheTopOfTheDocument() {
+        String text = "Sworn affidavit\n" + "x".repeat(1500) + "\nDEED OF TRANSFER\n";
+
+        assertSame(registry.getGeneric(), registry.detect(text));
+    }
+}
@@ -0,0 +1,125 @@
+package com.hackathon.verification.land.extraction;
+
+import com.hackathon.verification.land.ocr.OcrResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Field values and confidences extracted from each known land document layout and from unknown ones.
+ */
+class FieldExtractorTest {
+
+    private final FieldExtractor extractor = new FieldExtractor(new DocumentTemplateRegistry());
+
+    @Test
+    void extractsDeedOfTransfer() {
+        ExtractedFields fields = extractor.extract("DEED OF TRANSFER\n"
+                + "Deeds Registry Harare\n"
+                + "Stand No. 1234/5 Borrowdale Township\n"
+                + "Transferee: Tendai Moyo of Harare\n"
+                + "ID Number: 63-123456X42\n", 90);
+
+        assertEquals(DocumentTemplateRegistry.DEEDS_OFFICE, fields.getTemplate());
+        assertField(fields, FieldExtractor.STAND_NUMBER, "1234/5", 81);
+        assertField(fields, FieldExtractor.OWNER_NAME, "Tendai Moyo", 76);
+        assertField(fields, FieldExtractor.ID_NUMBER, "63-123456X42", 90);
+    }
+
+    @Test
+    void extractsCouncilLease() {
+        ExtractedFields fields = extractor.extract("CITY OF HARARE\n"
+                + "LEASE AGREEMENT\n"
+                + "Lessee: Rudo Chikwanha\n"
+                + "House Number: 45-b\n"
+                + "Identity No: 08 2345678 Q 19\n", 90);
+
+        assertEquals(DocumentTemplateRegistry.COUNCIL_LEASE, fields.getTemplate());
+        assertField(fields, FieldExtractor.STAND_NUMBER, "45-B", 81);
+        assertField(fields, FieldExtractor.OWNER_NAME, "Rudo Chikwanha", 76);
+        assertField(fields, FieldExtractor.ID_NUMBER, "082345678Q19", 90);
+    }
+
+    @Test
+    void extractsCooperativeCertificate() {
+        ExtractedFields fields = extractor.extract("ZVANDIRI HOUSING CO-OPERATIVE\n"
+                + "CERTIFICATE OF MEMBERSHIP\n"
+                + "This is to certify that\n"
+                + "\n"
+                + "Farai Ncube\n"
+                + "is a member holding Plot 77 in the Housing Scheme.\n"
+                + "ID: 75-2345678-M-08\n", 90);
+
+        assertEquals(DocumentTemplateRegistry.COOPERATIVE_CERTIFICATE, fields.getTemplate());
+        assertField(fields, FieldExtractor.STAND_NUMBER, "77", 76);
+        assertField(fields, FieldExtractor.OWNER_NAME, "Farai Ncube", 76);
+        assertField(fields, FieldExtractor.ID_NUMBER, "75-2345678-M-08", 90);
+    }
+
+    @Test
+    void extractsUnknownLayoutWithGenericRules() {
+        ExtractedFields fields = extractor.extract("Stand: 998\n"
+                + "Owner's Name: Peter Banda\n"
+                + "ID: ab-12345\n", 90);
+
+        assertEquals(DocumentTemplateRegistry.GENERIC, fields.getTemplate());
+        assertField(fields, FieldExtractor.STAND_NUMBER, "998", 72);
+        assertField(fields, FieldExtractor.OWNER_NAME, "Peter Banda", 67);
+        assertField(fields, FieldExtractor.ID_NUMBER, "AB-12345", 72);
+    }
+
+    @Test
+    void fillsFieldsTheTemplateMissesWithGenericRules() {
+        ExtractedFields fields = extractor.extract("TOWN COUNCIL OF CHITUNGWIZA\n"
+                + "AGREEMENT OF SALE\n"
+                + "Stand 12\n"
+                + "Owner: Grace Dube\n"
+                + "ID 63-123456X42\n", 90);
+
+        assertEquals(DocumentTemplateRegistry.COUNCIL_LEASE, fields.getTemplate());
+        assertField(fields, FieldExtractor.STAND_NUMBER, "12", 81);
+        assertField(fields, FieldExtractor.OWNER_NAME, "Grace Dube", 67);
+        assertField(fields, FieldExtractor.ID_NUMBER, "63-123456X42", 90);
+    }
+
+    @Test
+    void leavesMissingFieldsUnset() {
+        ExtractedFields fields = extractor.extract("DEED OF TRANSFER\nStand No. 1234\n", 90);
+
+        assertField(fields, FieldExtractor.STAND_NUMBER, "1234", 81);
+        assertNull(fields.getOwnerName());
+        assertNull(fields.getIdNumber());
+        assertFalse(fields.getConfidenceScores().containsKey(FieldExtractor.OWNER_NAME));
+        assertFalse(fields.isComplete());
+    }
+
+    @Test
+    void scoresFieldsByTheWordsTheirValuesSpan() {
+        String text = "Stand: 998\nOwner: Peter Banda\nID: 63-123456X42\n";
+        OcrResult ocrResult = new OcrResult(text, 90, 0);
+        addWord(ocrResult, text, "998", 40);
+        addWord(ocrResult, text, "Peter", 80);
+        addWord(ocrResult, text, "Banda", 60);
+
+        ExtractedFields fields = extractor.extract(ocrResult);
+
+        assertField(fields, FieldExtractor.STAND_NUMBER, "998", 32);
+        assertField(fields, FieldExtractor.OWNER_NAME, "Peter Banda", 52);
+        // No word reported for the ID, so the page mean stands in
+        assertField(fields, FieldExtractor.ID_NUMBER, "63-123456X42", 72);
+        assertTrue(fields.isComplete());
+    }
+
+    private static void addWord(OcrResult ocrResult, String text, String word, float confidence) {
+        int start = text.indexOf(word);
+        ocrResult.addWord(start, start + word.length(), confidence);
+    }
+
+    private static void assertField(ExtractedFields fields, String field, String value, int confidence) {
+        assertEquals(value, fields.get(field), field);
+        assertEquals(confidence, fields.getConfidenceScores().get(field), field + " confidence");
+    }
+}
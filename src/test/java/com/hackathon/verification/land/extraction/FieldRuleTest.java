@@ -0,0 +1,67 @@
+package com.hackathon.verification.land.extraction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Label matching and value placement of a single field rule.
+ */
+class FieldRuleTest {
+
+    private static final String NUMBER_SUFFIX = "(?:\\s*(?:NUMBER|NO\\b\\.?|#))?";
+    private static final String NAME_VALUE = "[A-Z][A-Za-z'\\-]*\\.?(?:[ \\t]+[A-Z][A-Za-z'\\-]*\\.?){0,5}";
+
+    private final FieldRule stand = new FieldRule(FieldExtractor.STAND_NUMBER, new String[] {"STAND", "PLOT"},
+            NUMBER_SUFFIX, "(?=[A-Z0-9/\\-]*\\d)[A-Z0-9][A-Z0-9/\\-]*", false, 90);
+    private final FieldRule owner = new FieldRule(FieldExtractor.OWNER_NAME, new String[] {"OWNER"},
+            "(?:'S)?(?:\\s+NAME)?", NAME_VALUE, true, 85);
+
+    @Test
+    void readsValueAfterLabelAndSuffix() {
+        assertEquals("12/B", value(stand, "Stand No. 12/b Mabelreign"));
+        assertEquals("12", value(stand, "STAND NUMBER: 12"));
+        assertEquals("12", value(stand, "Stand # 12"));
+    }
+
+    @Test
+    void ignoresLabelInsideAWord() {
+        assertEquals("7", value(stand, "Outstanding 500 dollars\nStand 7"));
+    }
+
+    @Test
+    void prefersTheEarliestLabel() {
+        assertEquals("3", value(stand, "Plot 3 of Stand 9"));
+    }
+
+    @Test
+    void readsValueFromNextLineWhenLabelEndsItsLine() {
+        assertEquals("Chipo Mutasa", value(owner, "Owner's Name:\n\n  Chipo Mutasa\nAddress: 4 Main"));
+    }
+
+    @Test
+    void keepsCaseOfCaseSensitiveValues() {
+        assertEquals("Chipo Mutasa", value(owner, "OWNER: Chipo Mutasa of Gweru"));
+    }
+
+    @Test
+    void rejectsTheNextLabelAsAValue() {
+        assertNull(value(owner, "Owner: Address: 4 Main Street"));
+    }
+
+    @Test
+    void rejectsValueThatDoesNotMatch() {
+        assertNull(value(stand, "Stand: unknown"));
+        assertNull(value(stand, "No stand here"));
+    }
+
+    private static String value(FieldRule rule, String text) {
+        String upper = new String(FieldExtractor.toUpperAscii(text, new char[text.length()]));
+        long span = rule.find(text, upper);
+        if (span < 0) {
+            return null;
+        }
+        return (rule.isCaseSensitiveValue() ? text : upper).substring((int) (span >>> 32), (int) span);
+    }
+}
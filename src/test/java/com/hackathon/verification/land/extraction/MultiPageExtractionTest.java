@@ -0,0 +1,82 @@
+package com.hackathon.verification.land.extraction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Merging of fields extracted from the pages of one document, completed in any order.
+ */
+class MultiPageExtractionTest {
+
+    @Test
+    void keepsTheMostConfidentValueOfEachField() {
+        MultiPageExtraction extraction = new MultiPageExtraction();
+        extraction.add(1, page(DocumentTemplateRegistry.GENERIC, "12", 60, "Peter Banda", 90, null, 0));
+        extraction.add(0, page(DocumentTemplateRegistry.DEEDS_OFFICE, "1234/5", 81, "Peter Band", 50, "63-123456X42", 90));
+
+        ExtractedFields result = extraction.result();
+
+        assertEquals("1234/5", result.getStandNumber());
+        assertEquals(81, result.getConfidenceScores().get(FieldExtractor.STAND_NUMBER));
+        assertEquals("Peter Banda", result.getOwnerName());
+        assertEquals(90, result.getConfidenceScores().get(FieldExtractor.OWNER_NAME));
+        assertEquals("63-123456X42", result.getIdNumber());
+        assertEquals(90, result.getConfidenceScores().get(FieldExtractor.ID_NUMBER));
+    }
+
+    @Test
+    void takesTemplateFromTheEarliestSpecificPage() {
+        MultiPageExtraction extraction = new MultiPageExtraction();
+        extraction.add(2, page(DocumentTemplateRegistry.COUNCIL_LEASE, null, 0, null, 0, null, 0));
+        extraction.add(0, page(DocumentTemplateRegistry.GENERIC, null, 0, null, 0, null, 0));
+        extraction.add(1, page(DocumentTemplateRegistry.DEEDS_OFFICE, null, 0, null, 0, null, 0));
+
+        assertEquals(DocumentTemplateRegistry.DEEDS_OFFICE, extraction.result().getTemplate());
+    }
+
+    @Test
+    void staysGenericWhenNoPageMatchesALayout() {
+        MultiPageExtraction extraction = new MultiPageExtraction();
+        extraction.add(0, page(DocumentTemplateRegistry.GENERIC, "12", 70, null, 0, null, 0));
+
+        ExtractedFields result = extraction.result();
+
+        assertEquals(DocumentTemplateRegistry.GENERIC, result.getTemplate());
+        assertEquals("12", result.getStandNumber());
+        assertNull(result.getOwnerName());
+        assertFalse(result.getConfidenceScores().containsKey(FieldExtractor.OWNER_NAME));
+    }
+
+    @Test
+    void isConfidentOnlyWhenEveryFieldReachesTheMinimum() {
+        MultiPageExtraction extraction = new MultiPageExtraction();
+        extraction.add(0, page(DocumentTemplateRegistry.DEEDS_OFFICE, "1234/5", 81, "Tendai Moyo", 76, null, 0));
+
+        assertFalse(extraction.isConfident(70));
+
+        extraction.add(1, page(DocumentTemplateRegistry.GENERIC, null, 0, null, 0, "63-123456X42", 90));
+
+        assertTrue(extraction.isConfident(70));
+        assertFalse(extraction.isConfident(80));
+    }
+
+    // Null values are left out of the page, as the extractor does for fields it cannot find
+    private static ExtractedFields page(String template, String standNumber, int standConfidence,
+                                        String ownerName, int ownerConfidence, String idNumber, int idConfidence) {
+        ExtractedFields fields = new ExtractedFields(template);
+        if (standNumber != null) {
+            fields.set(FieldExtractor.STAND_NUMBER, standNumber, standConfidence);
+        }
+        if (ownerName != null) {
+            fields.set(FieldExtractor.OWNER_NAME, ownerName, ownerConfidence);
+        }
+        if (idNumber != null) {
+            fields.set(FieldExtractor.ID_NUMBER, idNumber, idConfidence);
+        }
+        return fields;
+    }
+}
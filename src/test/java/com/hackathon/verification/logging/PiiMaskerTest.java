@@ -0,0 +1,88 @@
+package com.hackathon.verification.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Masking of national ID numbers, phone numbers and email addresses in log text.
+ */
+class PiiMaskerTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "63-1234567 X 42 | 63-******* * 42",
+            "63 1234567 X 42 | 63 ******* * 42",
+            "63-123456-X-42  | 63-******-*-42",
+            "631234567X42    | 63********42",
+            "08-765432 q 13  | 08-****** * 13"
+    })
+    void masksNationalIdKeepingDistrictAndSeparators(String id, String expected) {
+        assertEquals("Owner " + expected + " verified", PiiMasker.mask("Owner " + id + " verified"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "0772123456       | 0*******56",
+            "077-212-3456     | 0**-***-**56",
+            "077 212 3456     | 0** *** **56",
+            "+263772123456    | +263*******56",
+            "+263 77 212 3456 | +263 ** *** **56",
+            "00263772123456   | 00263*******56"
+    })
+    void masksZimbabweanMobileKeepingPrefixAndLastDigits(String phone, String expected) {
+        assertEquals("Call " + expected + ".", PiiMasker.mask("Call " + phone + "."));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "+44 20 7946 0958 | +44 ** **** **58",
+            "+27821234567     | +278******67",
+            "+1-202-555-0143  | +1-***-***-**43"
+    })
+    void masksInternationalNumberKeepingCountryCode(String phone, String expected) {
+        assertEquals("Call " + expected, PiiMasker.mask("Call " + phone));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "tendai.moyo@example.co.zw     | t***@example.co.zw",
+            "a+tag@mail-host.com           | a***@mail-host.com",
+            "jane_doe%x@sub.example.org    | j***@sub.example.org"
+    })
+    void masksEmailKeepingFirstLetterAndDomain(String email, String expected) {
+        assertEquals("Sent to " + expected + ".", PiiMasker.mask("Sent to " + email + "."));
+    }
+
+    @Test
+    void masksEveryIdentifierOnTheLine() {
+        assertEquals("id=63-********42 phone=0*******56 email=a***@c.com",
+                PiiMasker.mask("id=63-1234567X42 phone=0772123456 email=a.b@c.com"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Verified 3 vehicles in 120 ms",
+            "Stand 4521B/2 not found",
+            "Chassis ABC0772123456 flagged",
+            "Order 0772123456789 received",
+            "Reference 0772123456X",
+            "Mail user@localhost or @handle",
+            "Ticket 63-1234567-42"
+    })
+    void leavesTextWithoutIdentifiersUnchanged(String text) {
+        assertSame(text, PiiMasker.mask(text));
+    }
+
+    @Test
+    void returnsTextWithoutDigitsOrAtSignAsIs() {
+        String text = "Land verification completed for stand owner";
+        assertSame(text, PiiMasker.mask(text));
+        assertNull(PiiMasker.mask(null));
+    }
+}
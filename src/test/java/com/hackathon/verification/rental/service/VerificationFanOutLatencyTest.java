@@ -0,0 +1,206 @@
+package com.hackathon.verification.rental.service;
+
+import com.hackathon.verification.metrics.VerificationMetrics;
+import com.hackathon.verification.rental.dto.LandlordVerificationRequest;
+import com.hackathon.verification.rental.dto.LandlordVerificationResponse;
+import com.hackathon.verification.rental.dto.TenantVerificationRequest;
+import com.hackathon.verification.rental.dto.TenantVerificationResponse;
+import com.hackathon.verification.rental.entity.Landlord;
+import com.hackathon.verification.rental.entity.Rating;
+import com.hackathon.verification.rental.entity.RentalHistory;
+import com.hackathon.verification.rental.entity.Tenant;
+import com.hackathon.verification.rental.repository.LandlordRepository;
+import com.hackathon.verification.rental.repository.RatingRepository;
+import com.hackathon.verification.rental.repository.RentalHistoryRepository;
+import com.hackathon.verification.rental.repository.TenantRepository;
+import com.hackathon.verification.rental.service.fetch.FetchExecutor;
+import com.hackathon.verification.rental.service.impl.LandlordVerificationServiceImpl;
+import com.hackathon.verification.rental.service.impl.TenantVerificationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tenant and landlord verification against repositories that take a fixed time per query, comparing the
+ * p99 latency of fetching one query at a time with fetching independent queries concurrently.
+ */
+class VerificationFanOutLatencyTest {
+
+    private static final long QUERY_MILLIS = 20;
+    private static final int WARMUP = 3;
+    private static final int REQUESTS = 30;
+
+    private final List<FetchExecutor> executors = new ArrayList<>();
+
+    private TenantRepository tenantRepository;
+    private LandlordRepository landlordRepository;
+    private RentalHistoryRepository rentalHistoryRepository;
+    private RatingRepository ratingRepository;
+
+    private Tenant tenant;
+    private Landlord landlord;
+
+    @BeforeEach
+    void setUp() {
+        tenant = new Tenant();
+        tenant.setId(1L);
+        tenant.setName("Tendai Moyo");
+        tenant.setIdNumber("63-1234567X42");
+        landlord = new Landlord("Rutendo Chikwanha", "29-765432K18", "rutendo@example.com", "0771000000", "1 Main Road");
+        landlord.setId(2L);
+        landlord.setManagedProperties("12 Borrowdale Road, 1182 Budiriro 5, 77 Southlea Park");
+
+        List<RentalHistory> histories = new ArrayList<>();
+        List<Rating> landlordRatings = new ArrayList<>();
+        List<Rating> tenantRatings = new ArrayList<>();
+        for (String address : landlord.getManagedProperties().split(",")) {
+            RentalHistory history = new RentalHistory(tenant, landlord, address.trim(), LocalDate.of(2020, 1, 1), LocalDate.of(2022, 1, 1), 300.0);
+            history.setOnTimePayments(true);
+            histories.add(history);
+            landlordRatings.add(new Rating(landlord, tenant, 4.0, "Fixes things quickly", "TENANT_TO_LANDLORD", address.trim(), null, null));
+            tenantRatings.add(new Rating(landlord, tenant, 4.5, "Pays on time", "LANDLORD_TO_TENANT", address.trim(), null, null));
+        }
+
+        tenantRepository = mock(TenantRepository.class);
+        landlordRepository = mock(LandlordRepository.class);
+        rentalHistoryRepository = mock(RentalHistoryRepository.class);
+        ratingRepository = mock(RatingRepository.class);
+        when(tenantRepository.findByIdNumber(tenant.getIdNumber())).thenAnswer(slow(() -> tenant));
+        when(tenantRepository.save(any(Tenant.class))).thenAnswer(slowSave());
+        when(landlordRepository.findByIdNumber(landlord.getIdNumber())).thenAnswer(slow(() -> Optional.of(landlord)));
+        when(landlordRepository.save(any(Landlord.class))).thenAnswer(slowSave());
+        when(rentalHistoryRepository.findByTenant(any(Tenant.class))).thenAnswer(slow(() -> histories));
+        when(rentalHistoryRepository.findByLandlord(any(Landlord.class))).thenAnswer(slow(() -> histories));
+        when(ratingRepository.findByTenantAndRatingType(any(Tenant.class), eq("LANDLORD_TO_TENANT"))).thenAnswer(slow(() -> tenantRatings));
+        when(ratingRepository.findByLandlordAndRatingType(any(Landlord.class), eq("TENANT_TO_LANDLORD"))).thenAnswer(slow(() -> landlordRatings));
+        when(ratingRepository.findAll(ArgumentMatchers.<Specification<Rating>>any())).thenAnswer(slow(() -> landlordRatings));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(FetchExecutor::stop);
+    }
+
+    @Test
+    void tenantVerificationFetchesConcurrently() {
+        TenantVerificationRequest request = new TenantVerificationRequest();
+        request.setIdentifier(tenant.getIdNumber());
+        request.setIdentifierType("ID_NUMBER");
+        request.setIncludeRentalHistory(true);
+        request.setIncludeRatings(true);
+
+        TenantVerificationService sequential = tenantService(1);
+        TenantVerificationService concurrent = tenantService(3);
+        TenantVerificationResponse expected = sequential.verifyTenant(request);
+        TenantVerificationResponse actual = concurrent.verifyTenant(request);
+        assertEquals(expected.getTrustScore(), actual.getTrustScore());
+        assertEquals(expected.getClassification(), actual.getClassification());
+        assertEquals(expected.getBehavioralSummary(), actual.getBehavioralSummary());
+        assertEquals(expected.getRatings().size(), actual.getRatings().size());
+
+        long sequentialP99 = p99(() -> sequential.verifyTenant(request));
+        long concurrentP99 = p99(() -> concurrent.verifyTenant(request));
+        // Lookup, save and one round trip for history and ratings together instead of one each
+        assertTrue(concurrentP99 <= sequentialP99 - QUERY_MILLIS / 2,
+                "p99 " + concurrentP99 + " ms concurrent vs " + sequentialP99 + " ms sequential");
+    }
+
+    @Test
+    void landlordVerificationFetchesConcurrently() {
+        LandlordVerificationRequest request = new LandlordVerificationRequest();
+        request.setIdentifier(landlord.getIdNumber());
+        request.setIdentifierType("ID_NUMBER");
+        request.setIncludeProperties(true);
+        request.setIncludeRatings(true);
+
+        LandlordVerificationService sequential = landlordService(1);
+        LandlordVerificationService concurrent = landlordService(3);
+        LandlordVerificationResponse expected = sequential.verifyLandlord(request);
+        LandlordVerificationResponse actual = concurrent.verifyLandlord(request);
+        assertEquals(expected.getTrustScore(), actual.getTrustScore());
+        assertEquals(expected.getDepositReturnRate(), actual.getDepositReturnRate());
+        assertEquals(expected.getBehavioralSummary(), actual.getBehavioralSummary());
+        assertEquals(3, actual.getProperties().size());
+        assertEquals(expected.getProperties().get(2).getAverageRating(), actual.getProperties().get(2).getAverageRating());
+
+        long sequentialP99 = p99(() -> sequential.verifyLandlord(request));
+        long concurrentP99 = p99(() -> concurrent.verifyLandlord(request));
+        // Three independent fetches take one round trip on three lanes instead of three
+        assertTrue(concurrentP99 <= sequentialP99 - 2 * QUERY_MILLIS,
+                "p99 " + concurrentP99 + " ms concurrent vs " + sequentialP99 + " ms sequential");
+    }
+
+    private TenantVerificationService tenantService(int parallelism) {
+        TenantVerificationServiceImpl service = new TenantVerificationServiceImpl();
+        ReflectionTestUtils.setField(service, "tenantRepository", tenantRepository);
+        ReflectionTestUtils.setField(service, "rentalHistoryRepository", rentalHistoryRepository);
+        ReflectionTestUtils.setField(service, "ratingRepository", ratingRepository);
+        ReflectionTestUtils.setField(service, "fetchExecutor", fetchExecutor(parallelism));
+        ReflectionTestUtils.setField(service, "verificationMetrics", new VerificationMetrics(new SimpleMeterRegistry()));
+        return service;
+    }
+
+    private LandlordVerificationService landlordService(int parallelism) {
+        LandlordVerificationServiceImpl service = new LandlordVerificationServiceImpl();
+        ReflectionTestUtils.setField(service, "landlordRepository", landlordRepository);
+        ReflectionTestUtils.setField(service, "rentalHistoryRepository", rentalHistoryRepository);
+        ReflectionTestUtils.setField(service, "ratingRepository", ratingRepository);
+        ReflectionTestUtils.setField(service, "fetchExecutor", fetchExecutor(parallelism));
+        ReflectionTestUtils.setField(service, "verificationMetrics", new VerificationMetrics(new SimpleMeterRegistry()));
+        return service;
+    }
+
+    private FetchExecutor fetchExecutor(int parallelism) {
+        FetchExecutor executor = new FetchExecutor(4, 16, parallelism);
+        executor.start();
+        executors.add(executor);
+        return executor;
+    }
+
+    private static long p99(Runnable verification) {
+        for (int i = 0; i < WARMUP; i++) {
+            verification.run();
+        }
+        long[] millis = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            verification.run();
+            millis[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(millis);
+        return millis[(int) Math.ceil(REQUESTS * 0.99) - 1];
+    }
+
+    private static <T> Answer<T> slow(Supplier<T> result) {
+        return invocation -> {
+            Thread.sleep(QUERY_MILLIS);
+            return result.get();
+        };
+    }
+
+    private static Answer<Object> slowSave() {
+        return invocation -> {
+            Thread.sleep(QUERY_MILLIS);
+            return invocation.getArgument(0);
+        };
+    }
+}
@@ -0,0 +1,146 @@
+package com.hackathon.verification.rental.service;
+
+import com.hackathon.verification.rental.entity.Landlord;
+import com.hackathon.verification.rental.entity.Rating;
+import com.hackathon.verification.rental.entity.RentalHistory;
+import com.hackathon.verification.rental.entity.Tenant;
+import com.hackathon.verification.rental.repository.LandlordRepository;
+import com.hackathon.verification.rental.repository.RatingRepository;
+import com.hackathon.verification.rental.repository.RentalHistoryRepository;
+import com.hackathon.verification.rental.repository.TenantRepository;
+import com.hackathon.verification.support.QueryCapture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets for the tenant and landlord verify endpoints on the embedded database. Each request must
+ * stay within its budget however many properties, tenants and ratings are behind it; an N+1 fails the test with
+ * the repeated statements listed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class VerificationQueryBudgetTest {
+
+    // Lookup, histories, ratings, property ratings and the score update
+    private static final int LANDLORD_BUDGET = 5;
+    // Lookup, histories, ratings and the score update
+    private static final int TENANT_BUDGET = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private LandlordRepository landlordRepository;
+
+    @Autowired
+    private RentalHistoryRepository rentalHistoryRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @AfterEach
+    void tearDown() {
+        ratingRepository.deleteAll();
+        rentalHistoryRepository.deleteAll();
+        tenantRepository.deleteAll();
+        landlordRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 12})
+    void landlordVerificationWithPropertiesStaysWithinBudget(int propertyCount) throws Exception {
+        Landlord landlord = seedLandlord(propertyCount);
+
+        try (QueryCapture capture = QueryCapture.start()) {
+            mockMvc.perform(post("/api/v1/landlords/verify")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"identifier\":\"" + landlord.getIdNumber() + "\",\"identifierType\":\"ID_NUMBER\","
+                                    + "\"includeProperties\":true,\"includeRatings\":true}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.properties.length()").value(propertyCount))
+                    .andExpect(jsonPath("$.ratings.length()").value(propertyCount));
+            capture.assertAtMost(LANDLORD_BUDGET, "verifyLandlord with includeProperties for " + propertyCount + " properties");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 12})
+    void tenantVerificationWithHistoryStaysWithinBudget(int landlordCount) throws Exception {
+        Tenant tenant = seedTenant(landlordCount);
+
+        try (QueryCapture capture = QueryCapture.start()) {
+            mockMvc.perform(post("/api/v1/tenants/verify")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"identifier\":\"" + tenant.getIdNumber() + "\",\"identifierType\":\"ID_NUMBER\","
+                                    + "\"includeRentalHistory\":true,\"includeRatings\":true}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.rentalHistory.length()").value(landlordCount));
+            capture.assertAtMost(TENANT_BUDGET, "verifyTenant with includeRentalHistory for " + landlordCount + " landlords");
+        }
+    }
+
+    // One landlord managing the given number of properties, each let to its own tenant who rated it
+    private Landlord seedLandlord(int propertyCount) {
+        List<String> addresses = new ArrayList<>();
+        for (int i = 0; i < propertyCount; i++) {
+            addresses.add((i + 1) + " Borrowdale Road");
+        }
+        Landlord landlord = new Landlord("Rutendo Chikwanha", "29-765432K18", "rutendo@example.com", "0771000000", "1 Main Road");
+        landlord.setManagedProperties(String.join(", ", addresses));
+        landlord = landlordRepository.save(landlord);
+
+        for (int i = 0; i < propertyCount; i++) {
+            Tenant tenant = tenantRepository.save(tenant(i));
+            rentalHistoryRepository.save(history(tenant, landlord, addresses.get(i)));
+            ratingRepository.save(new Rating(landlord, tenant, 4.0, "Fixes things quickly", "TENANT_TO_LANDLORD", addresses.get(i), null, null));
+        }
+        return landlord;
+    }
+
+    // One tenant who has rented from the given number of landlords, each of whom rated them
+    private Tenant seedTenant(int landlordCount) {
+        Tenant tenant = tenantRepository.save(tenant(0));
+        for (int i = 0; i < landlordCount; i++) {
+            Landlord landlord = landlordRepository.save(new Landlord("Landlord " + i, "29-1000" + i + "K18",
+                    "landlord" + i + "@example.com", "077100000" + i, i + " Main Road"));
+            String address = (i + 1) + " Borrowdale Road";
+            rentalHistoryRepository.save(history(tenant, landlord, address));
+            ratingRepository.save(new Rating(landlord, tenant, 4.5, "Pays on time", "LANDLORD_TO_TENANT", address, null, null));
+        }
+        return tenant;
+    }
+
+    private static Tenant tenant(int index) {
+        Tenant tenant = new Tenant();
+        tenant.setName("Tenant " + index);
+        tenant.setIdNumber("63-123456" + index + "X42");
+        tenant.setEmail("tenant" + index + "@example.com");
+        tenant.setPhone("078200000" + index);
+        return tenant;
+    }
+
+    private static RentalHistory history(Tenant tenant, Landlord landlord, String address) {
+        RentalHistory history = new RentalHistory(tenant, landlord, address, LocalDate.of(2020, 1, 1), LocalDate.of(2022, 1, 1), 300.0);
+        history.setOnTimePayments(true);
+        return history;
+    }
+}
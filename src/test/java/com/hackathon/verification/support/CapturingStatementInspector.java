@@ -0,0 +1,16 @@
+package com.hackathon.verification.support;
+
+import com.hackathon.verification.metrics.SqlStatementCounter;
+
+/**
+ * Statement inspector for the test profile: feeds the open {@link QueryCapture} and keeps the per-request
+ * statement metric working as in production.
+ */
+public class CapturingStatementInspector extends SqlStatementCounter {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCapture.record(sql);
+        return super.inspect(sql);
+    }
+}
@@ -0,0 +1,99 @@
+package com.hackathon.verification.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Records every SQL statement Hibernate prepares, on any thread, while it is open. Tests run one at a time, so a
+ * single global capture also sees the statements issued on fetch pool threads on behalf of the request under test.
+ * <pre>
+ * try (QueryCapture capture = QueryCapture.start()) {
+ *     mockMvc.perform(...);
+ *     capture.assertAtMost(5, "verifyLandlord with includeProperties");
+ * }
+ * </pre>
+ */
+public final class QueryCapture implements AutoCloseable {
+
+    private static volatile QueryCapture active;
+
+    private final List<String> statements = new ArrayList<>();
+
+    private QueryCapture() {
+    }
+
+    public static QueryCapture start() {
+        QueryCapture capture = new QueryCapture();
+        active = capture;
+        return capture;
+    }
+
+    static void record(String sql) {
+        QueryCapture capture = active;
+        if (capture != null) {
+            synchronized (capture.statements) {
+                capture.statements.add(sql.replaceAll("\\s+", " ").trim());
+            }
+        }
+    }
+
+    public List<String> statements() {
+        synchronized (statements) {
+            return new ArrayList<>(statements);
+        }
+    }
+
+    public int count() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    /**
+     * Fails with a report of the repeated and all captured statements when more than {@code budget} were issued.
+     */
+    public void assertAtMost(int budget, String operation) {
+        List<String> captured = statements();
+        if (captured.size() > budget) {
+            fail(report(operation + " issued " + captured.size() + " SQL statements, budget is " + budget, captured));
+        }
+    }
+
+    public void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (active == this) {
+            active = null;
+        }
+    }
+
+    private static String report(String headline, List<String> captured) {
+        StringBuilder report = new StringBuilder(headline).append('\n');
+        // The same statement text run more than once is the signature of an N+1
+        Map<String, Long> repeated = captured.stream()
+                .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting()));
+        repeated.values().removeIf(count -> count < 2);
+        if (!repeated.isEmpty()) {
+            report.append("Repeated statements:\n");
+            repeated.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .forEach(entry -> report.append(String.format("  %3d x %s%n", entry.getValue(), entry.getKey())));
+        }
+        report.append("All statements in order:\n");
+        for (int i = 0; i < captured.size(); i++) {
+            report.append(String.format("  %3d. %s%n", i + 1, captured.get(i)));
+        }
+        return report.toString();
+    }
+}
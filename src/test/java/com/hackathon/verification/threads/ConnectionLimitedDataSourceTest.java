@@ -0,0 +1,65 @@
+package com.hackathon.verification.threads;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Permit accounting of the connection limiter: nested connections, timeouts and connections closed on another thread.
+ */
+class ConnectionLimitedDataSourceTest {
+
+    private ConnectionLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1");
+        dataSource = new ConnectionLimitedDataSource(h2, 1, 50);
+    }
+
+    @Test
+    void nestedConnectionsShareTheThreadsPermit() throws Exception {
+        try (Connection outer = dataSource.getConnection(); Connection inner = dataSource.getConnection()) {
+            assertEquals(0, dataSource.getStats().get("available"));
+            assertEquals(1L, dataSource.getStats().get("reentered"));
+        }
+        assertEquals(1, dataSource.getStats().get("available"));
+    }
+
+    @Test
+    void otherThreadsTimeOutWhileEveryPermitIsHeld() throws Exception {
+        try (Connection held = dataSource.getConnection()) {
+            CompletableFuture<Void> other = CompletableFuture.runAsync(() ->
+                    assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection().close()));
+            other.get();
+        }
+        assertEquals(1L, dataSource.getStats().get("timeouts"));
+    }
+
+    @Test
+    void closingOnAnotherThreadReleasesTheOwnersHold() throws Exception {
+        Connection connection = dataSource.getConnection();
+        CompletableFuture.runAsync(() -> {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        // Had the hold stayed with this thread, the next connection would bypass the limiter as a nested one
+        try (Connection next = dataSource.getConnection()) {
+            assertEquals(0L, dataSource.getStats().get("reentered"));
+            assertEquals(2L, dataSource.getStats().get("acquired"));
+        }
+        assertEquals(1, dataSource.getStats().get("available"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.hackathon.verification.vehicle.service;
+
+import com.hackathon.verification.vehicle.entity.Vehicle;
+import com.hackathon.verification.vehicle.repository.VehicleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Loading, after-commit writes and identifier changes of the stolen and tampered vehicle registry.
+ */
+class VehicleFlagRegistryTest {
+
+    private VehicleRepository vehicleRepository;
+    private VehicleFlagRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        vehicleRepository = mock(VehicleRepository.class);
+        registry = new VehicleFlagRegistry(vehicleRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadsFlagsForBothIdentifiersBeforeServing() {
+        when(vehicleRepository.findByIsStolen(true)).thenReturn(List.of(vehicle("AHT-123 456", "ABC 1234", true, false)));
+        when(vehicleRepository.findByHasBeenTampered(true)).thenReturn(List.of(vehicle("AHT123456", "ABC1234", true, true)));
+
+        registry.afterSingletonsInstantiated();
+
+        assertEquals(VehicleFlagRegistry.STOLEN | VehicleFlagRegistry.TAMPERED, registry.getFlags("aht123456"));
+        assertTrue(registry.isStolen("ABC-1234"));
+        assertTrue(registry.isTampered("abc 1234"));
+        assertEquals(0, registry.getFlags("XYZ999"));
+        assertEquals(0, registry.getFlags(" - "));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    void appliesReportsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        registry.flag("VIN1", "REG1", VehicleFlagRegistry.STOLEN);
+        assertFalse(registry.isStolen("VIN1"));
+
+        commit();
+        assertTrue(registry.isStolen("VIN1"));
+        assertTrue(registry.isStolen("REG1"));
+    }
+
+    @Test
+    void dropsReportsOfRolledBackTransactions() {
+        TransactionSynchronizationManager.initSynchronization();
+        registry.flag("VIN1", "REG1", VehicleFlagRegistry.TAMPERED);
+
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void refreshMovesFlagsToNewIdentifiersAndKeepsUnchangedOnes() {
+        registry.flag("VIN1", "REG1", VehicleFlagRegistry.STOLEN);
+
+        registry.refresh("VIN1", "REG1", vehicle("VIN1", "REG2", true, true));
+
+        assertEquals(VehicleFlagRegistry.STOLEN | VehicleFlagRegistry.TAMPERED, registry.getFlags("VIN1"));
+        assertEquals(VehicleFlagRegistry.STOLEN | VehicleFlagRegistry.TAMPERED, registry.getFlags("REG2"));
+        assertEquals(0, registry.getFlags("REG1"));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    void refreshClearsVehiclesNoLongerFlagged() {
+        registry.flag("VIN1", "REG1", VehicleFlagRegistry.STOLEN | VehicleFlagRegistry.TAMPERED);
+
+        registry.refresh("VIN1", "REG1", vehicle("VIN1", "REG1", false, true));
+        assertFalse(registry.isStolen("VIN1"));
+        assertTrue(registry.isTampered("REG1"));
+
+        registry.refresh("VIN1", "REG1", vehicle("VIN1", "REG1", false, false));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void removeClearsBothIdentifiers() {
+        registry.flag("VIN1", "REG1", VehicleFlagRegistry.STOLEN);
+
+        registry.remove("vin-1", "reg 1");
+
+        assertEquals(0, registry.size());
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static Vehicle vehicle(String chassisNumber, String registrationNumber, boolean stolen, boolean tampered) {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setChassisNumber(chassisNumber);
+        vehicle.setRegistrationNumber(registrationNumber);
+        vehicle.setIsStolen(stolen);
+        vehicle.setHasBeenTampered(tampered);
+        return vehicle;
+    }
+}
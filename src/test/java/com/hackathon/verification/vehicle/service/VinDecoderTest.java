@@ -0,0 +1,90 @@
+package com.hackathon.verification.vehicle.service;
+
+import com.hackathon.verification.vehicle.dto.VinDecodeResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Check digit, transliteration and model year decoding of VINs.
+ */
+class VinDecoderTest {
+
+    private final VinDecoder decoder = new VinDecoder();
+
+    @ParameterizedTest
+    @CsvSource({
+            "1HGCM82633A004352, VALID",
+            "1M8GDM9AXKP042788, VALID",
+            "11111111111111111, VALID",
+            "LVSHCAMB7CE012345, VALID",
+            "1HGCM82643A004352, CHECK_DIGIT_MISMATCH",
+            "1M8GDM9A0KP042788, CHECK_DIGIT_MISMATCH",
+            "LVSHCAMB1CE012345, CHECK_DIGIT_MISMATCH"
+    })
+    void checksDigitWhereItIsMandatory(String vin, String status) {
+        assertEquals(status, decoder.decode(vin).getVinStatus());
+    }
+
+    @Test
+    void acceptsWrongCheckDigitOutsideNorthAmericaAndChina() {
+        VinDecodeResponse response = decoder.decode("JTDBR32E720123456");
+
+        assertEquals(VinDecoder.VALID, response.getVinStatus());
+        assertEquals("Toyota", response.getManufacturer());
+        assertEquals("Asia", response.getRegion());
+    }
+
+    @Test
+    void decodesFieldsOfValidVin() {
+        VinDecodeResponse response = decoder.decode("1HGCM82633A004352");
+
+        assertEquals("1HGCM82633A004352", response.getVin());
+        assertEquals("1HG", response.getWmi());
+        assertEquals("Honda USA", response.getManufacturer());
+        assertEquals("North America", response.getRegion());
+        assertEquals("CM826", response.getVds());
+        assertEquals(2003, response.getModelYear());
+        assertEquals("A", response.getPlantCode());
+        assertEquals("004352", response.getSerialNumber());
+    }
+
+    @Test
+    void readsLetterInPositionSevenAsLaterYearCycle() {
+        VinDecodeResponse response = decoder.decode("1HGCP2F31AA004352");
+
+        assertEquals(VinDecoder.VALID, response.getVinStatus());
+        assertEquals(2010, response.getModelYear());
+    }
+
+    @Test
+    void normalizesCaseSpacesAndHyphens() {
+        VinDecodeResponse response = decoder.decode(" 1hgcm826 33a-004352 ");
+
+        assertEquals("1HGCM82633A004352", response.getVin());
+        assertEquals(VinDecoder.VALID, response.getVinStatus());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1HGCM82633A00435O, MALFORMED",
+            "1HGCM8I633A004352, MALFORMED",
+            "QHGCM82633A004352, MALFORMED",
+            "NZE121-0123456, NOT_A_VIN",
+            "1HGCM82633A0043521, NOT_A_VIN"
+    })
+    void reportsCharactersAndLengthsThatAreNotAVin(String chassisNumber, String status) {
+        assertEquals(status, decoder.decode(chassisNumber).getVinStatus());
+    }
+
+    @Test
+    void reportsMissingChassisNumberAsNotAVin() {
+        VinDecodeResponse response = decoder.decode(null);
+
+        assertEquals(VinDecoder.NOT_A_VIN, response.getVinStatus());
+        assertNull(response.getVin());
+    }
+}